@@ -0,0 +1,84 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.Map;
+
+import org.hibernate.Session;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.orm.benchmark.model.Department;
+import org.hibernate.orm.benchmark.model.Employee;
+
+/**
+ * Bootstraps a {@link SessionFactoryImplementor} against an in-memory H2
+ * database and populates it with the benchmark domain model.
+ */
+public final class BenchmarkSessionFactory {
+	public static final int DEPARTMENT_COUNT = 100;
+
+	private BenchmarkSessionFactory() {
+	}
+
+	public static SessionFactoryImplementor build(String name, Map<String, Object> settings) {
+		final StandardServiceRegistryBuilder registryBuilder = new StandardServiceRegistryBuilder()
+				.applySetting( AvailableSettings.DRIVER, "org.h2.Driver" )
+				.applySetting( AvailableSettings.URL, "jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1" )
+				.applySetting( AvailableSettings.USER, "sa" )
+				.applySetting( AvailableSettings.PASS, "" )
+				.applySetting( AvailableSettings.HBM2DDL_AUTO, "create-drop" )
+				.applySetting( AvailableSettings.STATEMENT_BATCH_SIZE, 50 );
+		registryBuilder.applySettings( settings );
+
+		final StandardServiceRegistry registry = registryBuilder.build();
+		try {
+			return (SessionFactoryImplementor) new MetadataSources( registry )
+					.addAnnotatedClass( Department.class )
+					.addAnnotatedClass( Employee.class )
+					.buildMetadata()
+					.buildSessionFactory();
+		}
+		catch (RuntimeException e) {
+			StandardServiceRegistryBuilder.destroy( registry );
+			throw e;
+		}
+	}
+
+	/**
+	 * Inserts {@link #DEPARTMENT_COUNT} departments and {@code employeeCount}
+	 * employees spread evenly across them.
+	 */
+	public static void populate(SessionFactoryImplementor sessionFactory, int employeeCount) {
+		try ( Session session = sessionFactory.openSession() ) {
+			session.getTransaction().begin();
+			for ( int i = 0; i < DEPARTMENT_COUNT; i++ ) {
+				session.persist( new Department( i, "department-" + i ) );
+			}
+			session.flush();
+			session.clear();
+			for ( int i = 0; i < employeeCount; i++ ) {
+				session.persist(
+						new Employee(
+								(long) i,
+								"employee-" + i,
+								20 + ( i % 45 ),
+								1000d + ( i % 5000 ),
+								session.getReference( Department.class, i % DEPARTMENT_COUNT )
+						)
+				);
+				if ( i % 50 == 0 ) {
+					session.flush();
+					session.clear();
+				}
+			}
+			session.getTransaction().commit();
+		}
+	}
+}
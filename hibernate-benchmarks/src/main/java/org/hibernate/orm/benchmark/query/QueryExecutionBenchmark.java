@@ -0,0 +1,48 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.benchmark.query;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.query.Query;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the full pipeline through the {@link Query} API, i.e. creating a
+ * {@link org.hibernate.query.sqm.internal.QuerySqmImpl} (hitting the
+ * interpretation cache), binding parameters and executing through
+ * {@link org.hibernate.query.sqm.internal.ConcreteSqmSelectQueryPlan}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QueryExecutionBenchmark {
+
+	@Benchmark
+	public List<?> executeQuery(QueryPipelineState state) {
+		final SessionImplementor session = state.getSession();
+		try {
+			final Query<?> query = session.createQuery( state.getHql() );
+			state.bindParameters( query );
+			return query.list();
+		}
+		finally {
+			session.clear();
+		}
+	}
+}
@@ -0,0 +1,218 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.benchmark.query;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.metamodel.mapping.MappingModelExpressable;
+import org.hibernate.orm.benchmark.BenchmarkSessionFactory;
+import org.hibernate.query.Query;
+import org.hibernate.query.spi.QueryParameterImplementor;
+import org.hibernate.query.sqm.internal.DomainParameterXref;
+import org.hibernate.query.sqm.internal.QuerySqmImpl;
+import org.hibernate.query.sqm.internal.SqmJdbcExecutionContextAdapter;
+import org.hibernate.query.sqm.internal.SqmUtil;
+import org.hibernate.query.sqm.sql.SqmTranslation;
+import org.hibernate.query.sqm.sql.SqmTranslator;
+import org.hibernate.query.sqm.tree.expression.SqmParameter;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
+import org.hibernate.sql.ast.SqlAstTranslatorFactory;
+import org.hibernate.sql.ast.spi.FromClauseAccess;
+import org.hibernate.sql.ast.tree.expression.JdbcParameter;
+import org.hibernate.sql.ast.tree.select.SelectStatement;
+import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+import org.hibernate.sql.exec.spi.JdbcSelect;
+import org.hibernate.sql.exec.spi.JdbcSelectExecutor;
+import org.hibernate.sql.results.internal.RowTransformerPassThruImpl;
+import org.hibernate.sql.results.spi.ListResultsConsumer;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Shared state for the query pipeline benchmarks.  Each stage of the pipeline
+ * is computed once during setup so that every benchmark can measure exactly one
+ * stage, using the output of the previous stage as its input:
+ *
+ * <ol>
+ *     <li>HQL string &rarr; SQM ({@link HqlParseBenchmark})</li>
+ *     <li>SQM &rarr; SQL AST ({@link SqmToSqlAstBenchmark})</li>
+ *     <li>SQL AST &rarr; {@link JdbcSelect} ({@link SqlRenderingBenchmark})</li>
+ *     <li>{@link JdbcSelect} &rarr; results ({@link ResultAssemblyBenchmark})</li>
+ * </ol>
+ *
+ * {@link QueryExecutionBenchmark} measures the whole pipeline through the
+ * {@link org.hibernate.query.Query} API, including the query plan cache.
+ */
+@State(Scope.Thread)
+public class QueryPipelineState {
+
+	/**
+	 * The shape of query to benchmark
+	 */
+	public enum QueryShape {
+		SCALAR( "select e.id, e.name, e.age, e.salary from Employee e where e.salary > :minSalary" ),
+		ENTITY( "select e from Employee e where e.salary > :minSalary" ),
+		JOIN( "select e.name, d.name from Employee e join e.department d where e.salary > :minSalary" ),
+		FETCH_JOIN( "select d from Department d join fetch d.employees e where e.salary > :minSalary" );
+
+		private final String hql;
+
+		QueryShape(String hql) {
+			this.hql = hql;
+		}
+
+		public String getHql() {
+			return hql;
+		}
+	}
+
+	@Param({ "1000" })
+	public int employeeCount;
+
+	@Param({ "SCALAR", "ENTITY", "JOIN", "FETCH_JOIN" })
+	public QueryShape shape;
+
+	private SessionFactoryImplementor sessionFactory;
+	private SessionImplementor session;
+
+	private QuerySqmImpl<?> query;
+	private SqmSelectStatement<?> sqm;
+	private SelectStatement sqlAst;
+	private JdbcParameterBindings jdbcParameterBindings;
+	private JdbcSelect jdbcSelect;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactory.build( "pipeline_" + shape, Collections.emptyMap() );
+		BenchmarkSessionFactory.populate( sessionFactory, employeeCount );
+
+		session = (SessionImplementor) sessionFactory.openSession();
+
+		query = (QuerySqmImpl<?>) session.createQuery( getHql() );
+		bindParameters( query );
+
+		sqm = (SqmSelectStatement<?>) query.getSqmStatement();
+
+		final SqmTranslation<SelectStatement> sqmTranslation = createSqmTranslator().translate();
+		sqlAst = sqmTranslation.getSqlAst();
+		jdbcParameterBindings = createJdbcParameterBindings( sqmTranslation );
+		jdbcSelect = createSqlAstTranslatorFactory()
+				.buildSelectTranslator( sessionFactory, sqlAst )
+				.translate( jdbcParameterBindings, query.getQueryOptions() );
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		if ( session != null ) {
+			session.close();
+		}
+		if ( sessionFactory != null ) {
+			sessionFactory.close();
+		}
+	}
+
+	public String getHql() {
+		return shape.getHql();
+	}
+
+	public void bindParameters(Query<?> query) {
+		query.setParameter( "minSalary", 3500d );
+	}
+
+	public SessionFactoryImplementor getSessionFactory() {
+		return sessionFactory;
+	}
+
+	public SessionImplementor getSession() {
+		return session;
+	}
+
+	public SqmSelectStatement<?> getSqm() {
+		return sqm;
+	}
+
+	public DomainParameterXref getDomainParameterXref() {
+		return query.getDomainParameterXref();
+	}
+
+	public SelectStatement getSqlAst() {
+		return sqlAst;
+	}
+
+	public JdbcParameterBindings getJdbcParameterBindings() {
+		return jdbcParameterBindings;
+	}
+
+	public JdbcSelect getJdbcSelect() {
+		return jdbcSelect;
+	}
+
+	public SqmTranslator<SelectStatement> createSqmTranslator() {
+		return sessionFactory.getQueryEngine().getSqmTranslatorFactory().createSelectTranslator(
+				sqm,
+				query.getQueryOptions(),
+				query.getDomainParameterXref(),
+				query.getQueryParameterBindings(),
+				session.getLoadQueryInfluencers(),
+				sessionFactory
+		);
+	}
+
+	public SqlAstTranslatorFactory createSqlAstTranslatorFactory() {
+		return sessionFactory.getJdbcServices().getJdbcEnvironment().getSqlAstTranslatorFactory();
+	}
+
+	public JdbcSelect renderSql() {
+		return createSqlAstTranslatorFactory()
+				.buildSelectTranslator( sessionFactory, sqlAst )
+				.translate( jdbcParameterBindings, query.getQueryOptions() );
+	}
+
+	public List<Object> executeJdbcSelect() {
+		final JdbcSelectExecutor jdbcSelectExecutor = sessionFactory.getJdbcServices().getJdbcSelectExecutor();
+		try {
+			return jdbcSelectExecutor.list(
+					jdbcSelect,
+					jdbcParameterBindings,
+					new SqmJdbcExecutionContextAdapter( query, jdbcSelect ),
+					RowTransformerPassThruImpl.instance(),
+					shape == QueryShape.FETCH_JOIN
+							? ListResultsConsumer.UniqueSemantic.FILTER
+							: ListResultsConsumer.UniqueSemantic.NONE
+			);
+		}
+		finally {
+			session.clear();
+		}
+	}
+
+	private JdbcParameterBindings createJdbcParameterBindings(SqmTranslation<SelectStatement> sqmTranslation) {
+		final Map<QueryParameterImplementor<?>, Map<SqmParameter, List<List<JdbcParameter>>>> jdbcParamsXref =
+				SqmUtil.generateJdbcParamsXref( query.getDomainParameterXref(), sqmTranslation::getJdbcParamsBySqmParam );
+		final FromClauseAccess fromClauseAccess = sqmTranslation.getFromClauseAccess();
+		final Map<SqmParameter, MappingModelExpressable> parameterTypes =
+				sqmTranslation.getSqmParameterMappingModelTypeResolutions();
+		return SqmUtil.createJdbcParameterBindings(
+				query.getQueryParameterBindings(),
+				query.getDomainParameterXref(),
+				jdbcParamsXref,
+				sessionFactory.getDomainModel(),
+				fromClauseAccess::findTableGroup,
+				parameterTypes::get,
+				session
+		);
+	}
+}
@@ -0,0 +1,37 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.benchmark.query;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.query.sqm.sql.SqmTranslation;
+import org.hibernate.sql.ast.tree.select.SelectStatement;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures conversion of an already parsed SQM tree into the SQL AST through
+ * {@link org.hibernate.query.sqm.sql.BaseSqmToSqlAstConverter}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SqmToSqlAstBenchmark {
+
+	@Benchmark
+	public SqmTranslation<SelectStatement> convertSqmToSqlAst(QueryPipelineState state) {
+		return state.createSqmTranslator().translate();
+	}
+}
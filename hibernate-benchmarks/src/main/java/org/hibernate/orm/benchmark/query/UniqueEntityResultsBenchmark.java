@@ -0,0 +1,95 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.benchmark.query;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.orm.benchmark.BenchmarkSessionFactory;
+import org.hibernate.orm.benchmark.model.Department;
+import org.hibernate.orm.benchmark.model.Employee;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the unique-row filtering of {@link org.hibernate.sql.results.spi.ListResultsConsumer}
+ * on large fetch-join results: fetching the employees of each department repeats the
+ * department once per employee, and fetching the department of each employee yields one
+ * distinct entity per row.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UniqueEntityResultsBenchmark {
+
+	@State(Scope.Thread)
+	public static class UniqueEntityResultsState {
+		@Param({ "1000", "10000", "50000" })
+		public int employeeCount;
+
+		private SessionFactoryImplementor sessionFactory;
+		private Session session;
+
+		@Setup(Level.Trial)
+		public void setUp() {
+			sessionFactory = BenchmarkSessionFactory.build( "unique_results", Collections.emptyMap() );
+			BenchmarkSessionFactory.populate( sessionFactory, employeeCount );
+			session = sessionFactory.openSession();
+		}
+
+		@TearDown(Level.Trial)
+		public void tearDown() {
+			if ( session != null ) {
+				session.close();
+			}
+			if ( sessionFactory != null ) {
+				sessionFactory.close();
+			}
+		}
+	}
+
+	@Benchmark
+	public List<Department> repeatedParents(UniqueEntityResultsState state) {
+		try {
+			return state.session
+					.createQuery( "select d from Department d join fetch d.employees", Department.class )
+					.list();
+		}
+		finally {
+			state.session.clear();
+		}
+	}
+
+	@Benchmark
+	public List<Employee> distinctEntities(UniqueEntityResultsState state) {
+		try {
+			return state.session
+					.createQuery( "select e from Employee e join fetch e.department", Employee.class )
+					.list();
+		}
+		finally {
+			state.session.clear();
+		}
+	}
+}
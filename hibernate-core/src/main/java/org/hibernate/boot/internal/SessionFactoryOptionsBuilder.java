@@ -9,6 +9,7 @@ package org.hibernate.boot.internal;
 import java.lang.reflect.Constructor;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -39,6 +40,7 @@ import org.hibernate.cache.internal.NoCachingRegionFactory;
 import org.hibernate.cache.internal.StandardTimestampsCacheFactory;
 import org.hibernate.cache.spi.RegionFactory;
 import org.hibernate.cache.spi.TimestampsCacheFactory;
+import org.hibernate.cache.spi.entry.CacheEntryCodecFactory;
 import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.cfg.BaselineSessionEventsListenerBuilder;
 import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
@@ -84,13 +86,18 @@ import static org.hibernate.cfg.AvailableSettings.ALLOW_UPDATE_OUTSIDE_TRANSACTI
 import static org.hibernate.cfg.AvailableSettings.AUTO_CLOSE_SESSION;
 import static org.hibernate.cfg.AvailableSettings.AUTO_EVICT_COLLECTION_CACHE;
 import static org.hibernate.cfg.AvailableSettings.AUTO_SESSION_EVENTS_LISTENER;
+import static org.hibernate.cfg.AvailableSettings.BATCH_FETCH_ADAPTIVE_MAX_SIZE;
+import static org.hibernate.cfg.AvailableSettings.BATCH_FETCH_ADAPTIVE_MIN_SIZE;
 import static org.hibernate.cfg.AvailableSettings.BATCH_FETCH_STYLE;
+import static org.hibernate.cfg.AvailableSettings.BATCH_INTERLEAVED_STATEMENTS;
 import static org.hibernate.cfg.AvailableSettings.BATCH_VERSIONED_DATA;
+import static org.hibernate.cfg.AvailableSettings.CACHE_ENTRY_CODEC_FACTORY;
 import static org.hibernate.cfg.AvailableSettings.CACHE_REGION_PREFIX;
 import static org.hibernate.cfg.AvailableSettings.CALLABLE_NAMED_PARAMS_ENABLED;
 import static org.hibernate.cfg.AvailableSettings.CHECK_NULLABILITY;
 import static org.hibernate.cfg.AvailableSettings.CONNECTION_HANDLING;
 import static org.hibernate.cfg.AvailableSettings.CONVENTIONAL_JAVA_CONSTANTS;
+import static org.hibernate.cfg.AvailableSettings.COPY_ON_WRITE_COLLECTION_SNAPSHOTS;
 import static org.hibernate.cfg.AvailableSettings.CRITERIA_VALUE_HANDLING_MODE;
 import static org.hibernate.cfg.AvailableSettings.CUSTOM_ENTITY_DIRTINESS_STRATEGY;
 import static org.hibernate.cfg.AvailableSettings.DEFAULT_BATCH_FETCH_SIZE;
@@ -104,7 +111,9 @@ import static org.hibernate.cfg.AvailableSettings.FLUSH_BEFORE_COMPLETION;
 import static org.hibernate.cfg.AvailableSettings.GENERATE_STATISTICS;
 import static org.hibernate.cfg.AvailableSettings.IMMUTABLE_ENTITY_UPDATE_QUERY_HANDLING_MODE;
 import static org.hibernate.cfg.AvailableSettings.INTERCEPTOR;
+import static org.hibernate.cfg.AvailableSettings.IN_CLAUSE_ARRAY_BINDING_THRESHOLD;
 import static org.hibernate.cfg.AvailableSettings.IN_CLAUSE_PARAMETER_PADDING;
+import static org.hibernate.cfg.AvailableSettings.IN_CLAUSE_PARAMETER_PADDING_BUCKETS;
 import static org.hibernate.cfg.AvailableSettings.JDBC_TIME_ZONE;
 import static org.hibernate.cfg.AvailableSettings.JPA_CALLBACKS_ENABLED;
 import static org.hibernate.cfg.AvailableSettings.JTA_TRACK_BY_THREAD;
@@ -117,16 +126,23 @@ import static org.hibernate.cfg.AvailableSettings.OMIT_JOIN_OF_SUPERCLASS_TABLES
 import static org.hibernate.cfg.AvailableSettings.ORDER_INSERTS;
 import static org.hibernate.cfg.AvailableSettings.ORDER_UPDATES;
 import static org.hibernate.cfg.AvailableSettings.PREFER_USER_TRANSACTION;
+import static org.hibernate.cfg.AvailableSettings.QUERY_CACHE_COLUMNAR_ENTRIES;
+import static org.hibernate.cfg.AvailableSettings.QUERY_CACHE_COMPRESS_ENTRIES;
 import static org.hibernate.cfg.AvailableSettings.QUERY_CACHE_FACTORY;
+import static org.hibernate.cfg.AvailableSettings.QUERY_CACHE_TIMESTAMPS_NEAR_CACHE_MAX_SIZE;
+import static org.hibernate.cfg.AvailableSettings.QUERY_CACHE_TIMESTAMPS_NEAR_CACHE_TTL;
 import static org.hibernate.cfg.AvailableSettings.QUERY_STARTUP_CHECKING;
+import static org.hibernate.cfg.AvailableSettings.QUERY_STARTUP_CHECKING_PARALLELISM;
 import static org.hibernate.cfg.AvailableSettings.QUERY_STATISTICS_MAX_SIZE;
 import static org.hibernate.cfg.AvailableSettings.QUERY_SUBSTITUTIONS;
 import static org.hibernate.cfg.AvailableSettings.SESSION_FACTORY_NAME;
 import static org.hibernate.cfg.AvailableSettings.SESSION_FACTORY_NAME_IS_JNDI;
 import static org.hibernate.cfg.AvailableSettings.SESSION_SCOPED_INTERCEPTOR;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_BATCH_SIZE;
+import static org.hibernate.cfg.AvailableSettings.STATEMENT_CACHE_SIZE;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_FETCH_SIZE;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_INSPECTOR;
+import static org.hibernate.cfg.AvailableSettings.STATEMENT_STREAM_FETCH_SIZE;
 import static org.hibernate.cfg.AvailableSettings.USE_DIRECT_REFERENCE_CACHE_ENTRIES;
 import static org.hibernate.cfg.AvailableSettings.USE_GET_GENERATED_KEYS;
 import static org.hibernate.cfg.AvailableSettings.USE_IDENTIFIER_ROLLBACK;
@@ -202,12 +218,15 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private BatchFetchStyle batchFetchStyle;
 	private boolean delayBatchFetchLoaderCreations;
 	private int defaultBatchFetchSize;
+	private int adaptiveBatchFetchMinSize;
+	private int adaptiveBatchFetchMaxSize;
 	private Integer maximumFetchDepth;
 	private NullPrecedence defaultNullPrecedence;
 	private boolean orderUpdatesEnabled;
 	private boolean orderInsertsEnabled;
 	private boolean postInsertIdentifierDelayed;
 	private boolean collectionsInDefaultFetchGroupEnabled;
+	private boolean copyOnWriteCollectionSnapshotsEnabled;
 
 	// JPA callbacks
 	private boolean callbacksEnabled;
@@ -225,6 +244,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private Boolean useOfJdbcNamedParametersEnabled;
 	private Map querySubstitutions;
 	private boolean namedQueryStartupCheckingEnabled;
+	private final int namedQueryStartupCheckingParallelism;
 	private boolean conventionalJavaConstants;
 	private final boolean omitJoinOfSuperclassTablesEnabled;
 	private final int preferredSqlTypeCodeForBoolean;
@@ -234,9 +254,14 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private boolean secondLevelCacheEnabled;
 	private boolean queryCacheEnabled;
 	private TimestampsCacheFactory timestampsCacheFactory;
+	private long timestampsNearCacheTimeToLive;
+	private int timestampsNearCacheMaxSize;
+	private boolean columnarQueryCacheEntriesEnabled;
+	private boolean queryCacheEntryCompressionEnabled;
 	private String cacheRegionPrefix;
 	private boolean minimalPutsEnabled;
 	private boolean structuredCacheEntriesEnabled;
+	private CacheEntryCodecFactory cacheEntryCodecFactory;
 	private boolean directReferenceCacheEntriesEnabled;
 	private boolean autoEvictCollectionCache;
 
@@ -247,7 +272,10 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private boolean getGeneratedKeysEnabled;
 	private int jdbcBatchSize;
 	private boolean jdbcBatchVersionedData;
+	private final boolean jdbcBatchInterleavingEnabled;
 	private Integer jdbcFetchSize;
+	private Integer jdbcStreamFetchSize;
+	private final int jdbcStatementCacheSize;
 	private boolean scrollableResultSetsEnabled;
 	private boolean commentsEnabled;
 	private PhysicalConnectionHandlingMode connectionHandlingMode;
@@ -270,6 +298,8 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 
 	private boolean failOnPaginationOverCollectionFetchEnabled;
 	private boolean inClauseParameterPaddingEnabled;
+	private int[] inClauseParameterPaddingBuckets;
+	private int inClauseArrayBindingThreshold;
 
 	private boolean nativeExceptionHandling51Compliance;
 	private int queryStatisticsMaxSize;
@@ -377,6 +407,8 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		this.batchFetchStyle = BatchFetchStyle.interpret( configurationSettings.get( BATCH_FETCH_STYLE ) );
 		this.delayBatchFetchLoaderCreations = cfgService.getSetting( DELAY_ENTITY_LOADER_CREATIONS, BOOLEAN, true );
 		this.defaultBatchFetchSize = ConfigurationHelper.getInt( DEFAULT_BATCH_FETCH_SIZE, configurationSettings, -1 );
+		this.adaptiveBatchFetchMinSize = ConfigurationHelper.getInt( BATCH_FETCH_ADAPTIVE_MIN_SIZE, configurationSettings, 2 );
+		this.adaptiveBatchFetchMaxSize = ConfigurationHelper.getInt( BATCH_FETCH_ADAPTIVE_MAX_SIZE, configurationSettings, 0 );
 		this.maximumFetchDepth = ConfigurationHelper.getInteger( MAX_FETCH_DEPTH, configurationSettings );
 		final String defaultNullPrecedence = ConfigurationHelper.getString(
 				AvailableSettings.DEFAULT_NULL_ORDERING, configurationSettings, "none", "first", "last"
@@ -384,6 +416,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		this.defaultNullPrecedence = NullPrecedence.parse( defaultNullPrecedence );
 		this.orderUpdatesEnabled = ConfigurationHelper.getBoolean( ORDER_UPDATES, configurationSettings );
 		this.orderInsertsEnabled = ConfigurationHelper.getBoolean( ORDER_INSERTS, configurationSettings );
+		this.copyOnWriteCollectionSnapshotsEnabled = cfgService.getSetting(
+				COPY_ON_WRITE_COLLECTION_SNAPSHOTS,
+				BOOLEAN,
+				false
+		);
 
 		this.callbacksEnabled = ConfigurationHelper.getBoolean( JPA_CALLBACKS_ENABLED, configurationSettings, true );
 
@@ -449,6 +486,14 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 
 		this.querySubstitutions = ConfigurationHelper.toMap( QUERY_SUBSTITUTIONS, " ,=;:\n\t\r\f", configurationSettings );
 		this.namedQueryStartupCheckingEnabled = cfgService.getSetting( QUERY_STARTUP_CHECKING, BOOLEAN, true );
+		final int startupCheckingParallelism = ConfigurationHelper.getInt(
+				QUERY_STARTUP_CHECKING_PARALLELISM,
+				configurationSettings,
+				1
+		);
+		this.namedQueryStartupCheckingParallelism = startupCheckingParallelism < 0
+				? Runtime.getRuntime().availableProcessors()
+				: Math.max( 1, startupCheckingParallelism );
 		this.conventionalJavaConstants = cfgService.getSetting(
 				CONVENTIONAL_JAVA_CONSTANTS, BOOLEAN, true );
 		this.omitJoinOfSuperclassTablesEnabled = cfgService.getSetting( OMIT_JOIN_OF_SUPERCLASS_TABLES, BOOLEAN, true );
@@ -464,6 +509,18 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 					configurationSettings.get( QUERY_CACHE_FACTORY ),
 					StandardTimestampsCacheFactory.INSTANCE
 			);
+			this.timestampsNearCacheTimeToLive = ConfigurationHelper.getLong(
+					QUERY_CACHE_TIMESTAMPS_NEAR_CACHE_TTL,
+					configurationSettings,
+					0
+			);
+			this.timestampsNearCacheMaxSize = ConfigurationHelper.getInt(
+					QUERY_CACHE_TIMESTAMPS_NEAR_CACHE_MAX_SIZE,
+					configurationSettings,
+					1000
+			);
+			this.columnarQueryCacheEntriesEnabled = cfgService.getSetting( QUERY_CACHE_COLUMNAR_ENTRIES, BOOLEAN, false );
+			this.queryCacheEntryCompressionEnabled = cfgService.getSetting( QUERY_CACHE_COMPRESS_ENTRIES, BOOLEAN, false );
 			this.cacheRegionPrefix = ConfigurationHelper.extractPropertyValue(
 					CACHE_REGION_PREFIX,
 					configurationSettings
@@ -474,6 +531,10 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 					regionFactory.isMinimalPutsEnabledByDefault()
 			);
 			this.structuredCacheEntriesEnabled = cfgService.getSetting( USE_STRUCTURED_CACHE, BOOLEAN, false );
+			this.cacheEntryCodecFactory = strategySelector.resolveStrategy(
+					CacheEntryCodecFactory.class,
+					configurationSettings.get( CACHE_ENTRY_CODEC_FACTORY )
+			);
 			this.directReferenceCacheEntriesEnabled = cfgService.getSetting(
 					USE_DIRECT_REFERENCE_CACHE_ENTRIES,
 					BOOLEAN,
@@ -485,9 +546,14 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 			this.secondLevelCacheEnabled = false;
 			this.queryCacheEnabled = false;
 			this.timestampsCacheFactory = null;
+			this.timestampsNearCacheTimeToLive = 0;
+			this.timestampsNearCacheMaxSize = 0;
+			this.columnarQueryCacheEntriesEnabled = false;
+			this.queryCacheEntryCompressionEnabled = false;
 			this.cacheRegionPrefix = null;
 			this.minimalPutsEnabled = false;
 			this.structuredCacheEntriesEnabled = false;
+			this.cacheEntryCodecFactory = null;
 			this.directReferenceCacheEntriesEnabled = false;
 			this.autoEvictCollectionCache = false;
 		}
@@ -518,6 +584,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		}
 
 		this.jdbcBatchVersionedData = ConfigurationHelper.getBoolean( BATCH_VERSIONED_DATA, configurationSettings, true );
+		this.jdbcBatchInterleavingEnabled = ConfigurationHelper.getBoolean( BATCH_INTERLEAVED_STATEMENTS, configurationSettings );
 		this.scrollableResultSetsEnabled = ConfigurationHelper.getBoolean(
 				USE_SCROLLABLE_RESULTSET,
 				configurationSettings,
@@ -534,6 +601,8 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 				meta.supportsGetGeneratedKeys()
 		);
 		this.jdbcFetchSize = ConfigurationHelper.getInteger( STATEMENT_FETCH_SIZE, configurationSettings );
+		this.jdbcStatementCacheSize = ConfigurationHelper.getInt( STATEMENT_CACHE_SIZE, configurationSettings, 0 );
+		this.jdbcStreamFetchSize = ConfigurationHelper.getInteger( STATEMENT_STREAM_FETCH_SIZE, configurationSettings );
 
 		this.connectionHandlingMode = interpretConnectionHandlingMode( configurationSettings, serviceRegistry );
 		this.connectionProviderDisablesAutoCommit = ConfigurationHelper.getBoolean(
@@ -606,6 +675,14 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 				configurationSettings,
 				false
 		);
+		this.inClauseParameterPaddingBuckets = determineInClauseParameterPaddingBuckets(
+				ConfigurationHelper.getString( IN_CLAUSE_PARAMETER_PADDING_BUCKETS, configurationSettings )
+		);
+		this.inClauseArrayBindingThreshold = ConfigurationHelper.getInt(
+				IN_CLAUSE_ARRAY_BINDING_THRESHOLD,
+				configurationSettings,
+				0
+		);
 
 		this.nativeExceptionHandling51Compliance = ConfigurationHelper.getBoolean(
 				NATIVE_EXCEPTION_HANDLING_51_COMPLIANCE,
@@ -830,6 +907,32 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return transactionCoordinatorBuilder.getDefaultConnectionHandlingMode();
 	}
 
+	private static int[] determineInClauseParameterPaddingBuckets(String setting) {
+		if ( StringHelper.isEmpty( setting ) ) {
+			return null;
+		}
+		final String[] tokens = ConfigurationHelper.toStringArray( setting, ", " );
+		final int[] buckets = new int[tokens.length];
+		for ( int i = 0; i < tokens.length; i++ ) {
+			try {
+				buckets[i] = Integer.parseInt( tokens[i] );
+			}
+			catch (NumberFormatException e) {
+				throw new HibernateException(
+						"Illegal value for setting `" + IN_CLAUSE_PARAMETER_PADDING_BUCKETS + "` : " + setting,
+						e
+				);
+			}
+			if ( buckets[i] <= 0 ) {
+				throw new HibernateException(
+						"Illegal value for setting `" + IN_CLAUSE_PARAMETER_PADDING_BUCKETS + "` (buckets must be positive) : " + setting
+				);
+			}
+		}
+		Arrays.sort( buckets );
+		return buckets;
+	}
+
 	private static FormatMapper determineJsonFormatMapper(Object setting, StrategySelector strategySelector) {
 		return strategySelector.resolveDefaultableStrategy(
 				FormatMapper.class,
@@ -1031,6 +1134,16 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return defaultBatchFetchSize;
 	}
 
+	@Override
+	public int getAdaptiveBatchFetchMinSize() {
+		return adaptiveBatchFetchMinSize;
+	}
+
+	@Override
+	public int getAdaptiveBatchFetchMaxSize() {
+		return adaptiveBatchFetchMaxSize;
+	}
+
 	@Override
 	public Integer getMaximumFetchDepth() {
 		return maximumFetchDepth;
@@ -1076,6 +1189,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return namedQueryStartupCheckingEnabled;
 	}
 
+	@Override
+	public int getNamedQueryStartupCheckingParallelism() {
+		return namedQueryStartupCheckingParallelism;
+	}
+
 	@Override
 	public boolean isConventionalJavaConstants() {
 		return conventionalJavaConstants;
@@ -1096,6 +1214,26 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return timestampsCacheFactory;
 	}
 
+	@Override
+	public long getTimestampsNearCacheTimeToLive() {
+		return timestampsNearCacheTimeToLive;
+	}
+
+	@Override
+	public int getTimestampsNearCacheMaxSize() {
+		return timestampsNearCacheMaxSize;
+	}
+
+	@Override
+	public boolean isColumnarQueryCacheEntriesEnabled() {
+		return columnarQueryCacheEntriesEnabled;
+	}
+
+	@Override
+	public boolean isQueryCacheEntryCompressionEnabled() {
+		return queryCacheEntryCompressionEnabled;
+	}
+
 	@Override
 	public String getCacheRegionPrefix() {
 		return cacheRegionPrefix;
@@ -1111,6 +1249,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return structuredCacheEntriesEnabled;
 	}
 
+	@Override
+	public CacheEntryCodecFactory getCacheEntryCodecFactory() {
+		return cacheEntryCodecFactory;
+	}
+
 	@Override
 	public boolean isDirectReferenceCacheEntriesEnabled() {
 		return directReferenceCacheEntriesEnabled;
@@ -1136,6 +1279,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return jdbcBatchVersionedData;
 	}
 
+	@Override
+	public boolean isJdbcBatchInterleavingEnabled() {
+		return jdbcBatchInterleavingEnabled;
+	}
+
 	@Override
 	public boolean isScrollableResultSetsEnabled() {
 		return scrollableResultSetsEnabled;
@@ -1156,6 +1304,16 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return jdbcFetchSize;
 	}
 
+	@Override
+	public int getJdbcStatementCacheSize() {
+		return jdbcStatementCacheSize;
+	}
+
+	@Override
+	public Integer getJdbcStreamFetchSize() {
+		return jdbcStreamFetchSize;
+	}
+
 	@Override
 	public PhysicalConnectionHandlingMode getPhysicalConnectionHandlingMode() {
 		return connectionHandlingMode;
@@ -1246,6 +1404,16 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return this.inClauseParameterPaddingEnabled;
 	}
 
+	@Override
+	public int[] getInClauseParameterPaddingBuckets() {
+		return inClauseParameterPaddingBuckets;
+	}
+
+	@Override
+	public int getInClauseArrayBindingThreshold() {
+		return inClauseArrayBindingThreshold;
+	}
+
 	@Override
 	public JpaCompliance getJpaCompliance() {
 		return jpaCompliance;
@@ -1271,6 +1439,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return collectionsInDefaultFetchGroupEnabled;
 	}
 
+	@Override
+	public boolean isCopyOnWriteCollectionSnapshotsEnabled() {
+		return copyOnWriteCollectionSnapshotsEnabled;
+	}
+
 	@Override
 	public boolean isOmitJoinOfSuperclassTablesEnabled() {
 		return omitJoinOfSuperclassTablesEnabled;
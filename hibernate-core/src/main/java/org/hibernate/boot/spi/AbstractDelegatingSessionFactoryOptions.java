@@ -20,6 +20,7 @@ import org.hibernate.boot.SchemaAutoTooling;
 import org.hibernate.boot.TempTableDdlTransactionHandling;
 import org.hibernate.boot.registry.StandardServiceRegistry;
 import org.hibernate.cache.spi.TimestampsCacheFactory;
+import org.hibernate.cache.spi.entry.CacheEntryCodecFactory;
 import org.hibernate.cfg.BaselineSessionEventsListenerBuilder;
 import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
 import org.hibernate.jpa.spi.JpaCompliance;
@@ -189,6 +190,16 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.getDefaultBatchFetchSize();
 	}
 
+	@Override
+	public int getAdaptiveBatchFetchMinSize() {
+		return delegate.getAdaptiveBatchFetchMinSize();
+	}
+
+	@Override
+	public int getAdaptiveBatchFetchMaxSize() {
+		return delegate.getAdaptiveBatchFetchMaxSize();
+	}
+
 	@Override
 	public Integer getMaximumFetchDepth() {
 		return delegate.getMaximumFetchDepth();
@@ -209,6 +220,11 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.isOrderInsertsEnabled();
 	}
 
+	@Override
+	public boolean isCopyOnWriteCollectionSnapshotsEnabled() {
+		return delegate.isCopyOnWriteCollectionSnapshotsEnabled();
+	}
+
 	@Override
 	public boolean isMultiTenancyEnabled() {
 		return delegate.isMultiTenancyEnabled();
@@ -234,6 +250,11 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.isNamedQueryStartupCheckingEnabled();
 	}
 
+	@Override
+	public int getNamedQueryStartupCheckingParallelism() {
+		return delegate.getNamedQueryStartupCheckingParallelism();
+	}
+
 	@Override
 	public boolean isConventionalJavaConstants() {
 		return delegate.isConventionalJavaConstants();
@@ -264,6 +285,26 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.getTimestampsCacheFactory();
 	}
 
+	@Override
+	public long getTimestampsNearCacheTimeToLive() {
+		return delegate.getTimestampsNearCacheTimeToLive();
+	}
+
+	@Override
+	public int getTimestampsNearCacheMaxSize() {
+		return delegate.getTimestampsNearCacheMaxSize();
+	}
+
+	@Override
+	public boolean isColumnarQueryCacheEntriesEnabled() {
+		return delegate.isColumnarQueryCacheEntriesEnabled();
+	}
+
+	@Override
+	public boolean isQueryCacheEntryCompressionEnabled() {
+		return delegate.isQueryCacheEntryCompressionEnabled();
+	}
+
 	@Override
 	public String getCacheRegionPrefix() {
 		return delegate.getCacheRegionPrefix();
@@ -279,6 +320,11 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.isStructuredCacheEntriesEnabled();
 	}
 
+	@Override
+	public CacheEntryCodecFactory getCacheEntryCodecFactory() {
+		return delegate.getCacheEntryCodecFactory();
+	}
+
 	@Override
 	public boolean isDirectReferenceCacheEntriesEnabled() {
 		return delegate.isDirectReferenceCacheEntriesEnabled();
@@ -304,6 +350,11 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.isJdbcBatchVersionedData();
 	}
 
+	@Override
+	public boolean isJdbcBatchInterleavingEnabled() {
+		return delegate.isJdbcBatchInterleavingEnabled();
+	}
+
 	@Override
 	public boolean isScrollableResultSetsEnabled() {
 		return delegate.isScrollableResultSetsEnabled();
@@ -324,6 +375,16 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.getJdbcFetchSize();
 	}
 
+	@Override
+	public int getJdbcStatementCacheSize() {
+		return delegate.getJdbcStatementCacheSize();
+	}
+
+	@Override
+	public Integer getJdbcStreamFetchSize() {
+		return delegate.getJdbcStreamFetchSize();
+	}
+
 	@Override
 	public PhysicalConnectionHandlingMode getPhysicalConnectionHandlingMode() {
 		return delegate.getPhysicalConnectionHandlingMode();
@@ -440,6 +501,16 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.inClauseParameterPaddingEnabled();
 	}
 
+	@Override
+	public int[] getInClauseParameterPaddingBuckets() {
+		return delegate.getInClauseParameterPaddingBuckets();
+	}
+
+	@Override
+	public int getInClauseArrayBindingThreshold() {
+		return delegate.getInClauseArrayBindingThreshold();
+	}
+
 	@Override
 	public boolean nativeExceptionHandling51Compliance() {
 		return delegate.nativeExceptionHandling51Compliance();
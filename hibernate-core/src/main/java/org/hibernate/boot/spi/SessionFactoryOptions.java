@@ -21,6 +21,7 @@ import org.hibernate.boot.SchemaAutoTooling;
 import org.hibernate.boot.TempTableDdlTransactionHandling;
 import org.hibernate.boot.registry.StandardServiceRegistry;
 import org.hibernate.cache.spi.TimestampsCacheFactory;
+import org.hibernate.cache.spi.entry.CacheEntryCodecFactory;
 import org.hibernate.cfg.BaselineSessionEventsListenerBuilder;
 import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
@@ -165,6 +166,23 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 
 	int getDefaultBatchFetchSize();
 
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#BATCH_FETCH_ADAPTIVE_MIN_SIZE
+	 */
+	default int getAdaptiveBatchFetchMinSize() {
+		return 2;
+	}
+
+	/**
+	 * The largest batch size adaptive batch fetching may choose, or {@code 0} if
+	 * the configured batch sizes are always used as they are
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#BATCH_FETCH_ADAPTIVE_MAX_SIZE
+	 */
+	default int getAdaptiveBatchFetchMaxSize() {
+		return 0;
+	}
+
 	Integer getMaximumFetchDepth();
 
 	NullPrecedence getDefaultNullPrecedence();
@@ -192,6 +210,15 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 
 	boolean isNamedQueryStartupCheckingEnabled();
 
+	/**
+	 * The number of threads used to check named queries during startup.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_STARTUP_CHECKING_PARALLELISM
+	 */
+	default int getNamedQueryStartupCheckingParallelism() {
+		return 1;
+	}
+
 	boolean isConventionalJavaConstants();
 
 	boolean isSecondLevelCacheEnabled();
@@ -200,12 +227,50 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 
 	TimestampsCacheFactory getTimestampsCacheFactory();
 
+	/**
+	 * The time-to-live, in milliseconds, of the last update timestamps kept in the local
+	 * near-cache of the timestamps region, or {@code 0} if there is no near-cache
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_CACHE_TIMESTAMPS_NEAR_CACHE_TTL
+	 */
+	default long getTimestampsNearCacheTimeToLive() {
+		return 0;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_CACHE_TIMESTAMPS_NEAR_CACHE_MAX_SIZE
+	 */
+	default int getTimestampsNearCacheMaxSize() {
+		return 1000;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_CACHE_COLUMNAR_ENTRIES
+	 */
+	default boolean isColumnarQueryCacheEntriesEnabled() {
+		return false;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_CACHE_COMPRESS_ENTRIES
+	 */
+	default boolean isQueryCacheEntryCompressionEnabled() {
+		return false;
+	}
+
 	String getCacheRegionPrefix();
 
 	boolean isMinimalPutsEnabled();
 
 	boolean isStructuredCacheEntriesEnabled();
 
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#CACHE_ENTRY_CODEC_FACTORY
+	 */
+	default CacheEntryCodecFactory getCacheEntryCodecFactory() {
+		return null;
+	}
+
 	boolean isDirectReferenceCacheEntriesEnabled();
 
 	boolean isAutoEvictCollectionCache();
@@ -216,6 +281,13 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 
 	boolean isJdbcBatchVersionedData();
 
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#BATCH_INTERLEAVED_STATEMENTS
+	 */
+	default boolean isJdbcBatchInterleavingEnabled() {
+		return false;
+	}
+
 	boolean isScrollableResultSetsEnabled();
 
 	/**
@@ -228,6 +300,23 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 
 	Integer getJdbcFetchSize();
 
+	/**
+	 * The number of prepared statements cached per JDBC connection, or {@code 0} if
+	 * prepared statements are not cached
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#STATEMENT_CACHE_SIZE
+	 */
+	default int getJdbcStatementCacheSize() {
+		return 0;
+	}
+
+	/**
+	 * The JDBC fetch size to use for streamed and scrolled query results, if any.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#STATEMENT_STREAM_FETCH_SIZE
+	 */
+	Integer getJdbcStreamFetchSize();
+
 	PhysicalConnectionHandlingMode getPhysicalConnectionHandlingMode();
 
 	default boolean doesConnectionProviderDisableAutoCommit() {
@@ -303,6 +392,25 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 		return false;
 	}
 
+	/**
+	 * The ascending IN clause sizes to pad to, or {@code null} to pad to powers of two
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#IN_CLAUSE_PARAMETER_PADDING_BUCKETS
+	 */
+	default int[] getInClauseParameterPaddingBuckets() {
+		return null;
+	}
+
+	/**
+	 * The number of IN clause values from which an array parameter is bound instead, or
+	 * {@code 0} if IN clauses should never be bound as an array
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#IN_CLAUSE_ARRAY_BINDING_THRESHOLD
+	 */
+	default int getInClauseArrayBindingThreshold() {
+		return 0;
+	}
+
 	default boolean nativeExceptionHandling51Compliance() {
 		return false;
 	}
@@ -363,6 +471,13 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 		return false;
 	}
 
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#COPY_ON_WRITE_COLLECTION_SNAPSHOTS
+	 */
+	default boolean isCopyOnWriteCollectionSnapshotsEnabled() {
+		return false;
+	}
+
 	boolean isOmitJoinOfSuperclassTablesEnabled();
 
 	int getPreferredSqlTypeCodeForBoolean();
@@ -0,0 +1,322 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.internal;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.hibernate.internal.util.SerializationHelper;
+
+/**
+ * Column-wise representation of the results of a query, as they are put into the query cache:
+ * an optional leading element (the JDBC values metadata) followed by the JDBC values of each
+ * row, as an {@code Object[]}.
+ * <p/>
+ * Columns of {@link Long}, {@link Integer}, {@link Double} and {@link Boolean} values are
+ * stored as primitive arrays, columns of {@link String} values with few distinct values are
+ * dictionary-encoded, and any other column is stored as an {@code Object[]}.  Optionally, the
+ * columns are compressed when serialized, which is worthwhile for distributed cache regions.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#QUERY_CACHE_COLUMNAR_ENTRIES
+ */
+public final class ColumnarQueryResults implements Serializable {
+	private final Object header;
+	private final int rowCount;
+	private final boolean compressed;
+	private transient Column[] columns;
+
+	private ColumnarQueryResults(Object header, int rowCount, Column[] columns, boolean compressed) {
+		this.header = header;
+		this.rowCount = rowCount;
+		this.columns = columns;
+		this.compressed = compressed;
+	}
+
+	/**
+	 * Encode the given query results column-wise.
+	 *
+	 * @return The encoded results, or {@code null} if the results do not have the expected
+	 * layout, in which case they should be cached as they are
+	 */
+	public static ColumnarQueryResults encode(List<?> results, boolean compress) {
+		if ( results.isEmpty() ) {
+			return null;
+		}
+
+		final Object header;
+		final int start;
+		if ( isRow( results.get( 0 ) ) ) {
+			header = null;
+			start = 0;
+		}
+		else {
+			header = results.get( 0 );
+			start = 1;
+		}
+
+		final int rowCount = results.size() - start;
+		if ( rowCount == 0 || !isRow( results.get( start ) ) ) {
+			return null;
+		}
+
+		final int columnCount = ( (Object[]) results.get( start ) ).length;
+		final Object[][] rows = new Object[rowCount][];
+		for ( int i = 0; i < rowCount; i++ ) {
+			final Object row = results.get( start + i );
+			if ( !isRow( row ) || ( (Object[]) row ).length != columnCount ) {
+				return null;
+			}
+			rows[i] = (Object[]) row;
+		}
+
+		final Column[] columns = new Column[columnCount];
+		for ( int i = 0; i < columnCount; i++ ) {
+			columns[i] = encodeColumn( rows, i );
+		}
+		return new ColumnarQueryResults( header, rowCount, columns, compress );
+	}
+
+	private static boolean isRow(Object element) {
+		return element != null && element.getClass() == Object[].class;
+	}
+
+	private static Column encodeColumn(Object[][] rows, int column) {
+		Class<?> valueType = null;
+		for ( Object[] row : rows ) {
+			final Object value = row[column];
+			if ( value != null ) {
+				if ( valueType == null ) {
+					valueType = value.getClass();
+				}
+				else if ( valueType != value.getClass() ) {
+					return new ObjectColumn( rows, column );
+				}
+			}
+		}
+
+		if ( valueType == Long.class ) {
+			return new LongColumn( rows, column );
+		}
+		else if ( valueType == Integer.class ) {
+			return new IntegerColumn( rows, column );
+		}
+		else if ( valueType == Double.class ) {
+			return new DoubleColumn( rows, column );
+		}
+		else if ( valueType == Boolean.class ) {
+			return new BooleanColumn( rows, column );
+		}
+		else if ( valueType == String.class ) {
+			return StringColumn.encode( rows, column );
+		}
+		else {
+			return new ObjectColumn( rows, column );
+		}
+	}
+
+	/**
+	 * Decode the query results, in the layout they were encoded from.
+	 */
+	public List<Object> decode() {
+		final List<Object> results = new ArrayList<>( rowCount + 1 );
+		if ( header != null ) {
+			results.add( header );
+		}
+		for ( int i = 0; i < rowCount; i++ ) {
+			final Object[] row = new Object[columns.length];
+			for ( int j = 0; j < columns.length; j++ ) {
+				row[j] = columns[j].get( i );
+			}
+			results.add( row );
+		}
+		return results;
+	}
+
+	private void writeObject(ObjectOutputStream out) throws IOException {
+		out.defaultWriteObject();
+		if ( compressed ) {
+			final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			SerializationHelper.serialize( columns, new DeflaterOutputStream( bytes ) );
+			out.writeObject( bytes.toByteArray() );
+		}
+		else {
+			out.writeObject( columns );
+		}
+	}
+
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+		in.defaultReadObject();
+		if ( compressed ) {
+			final byte[] bytes = (byte[]) in.readObject();
+			columns = SerializationHelper.deserialize(
+					new InflaterInputStream( new ByteArrayInputStream( bytes ) )
+			);
+		}
+		else {
+			columns = (Column[]) in.readObject();
+		}
+	}
+
+	private abstract static class Column implements Serializable {
+		abstract Object get(int row);
+	}
+
+	private static final class LongColumn extends Column {
+		private final long[] values;
+		private final BitSet nulls = new BitSet();
+
+		private LongColumn(Object[][] rows, int column) {
+			values = new long[rows.length];
+			for ( int i = 0; i < rows.length; i++ ) {
+				final Long value = (Long) rows[i][column];
+				if ( value == null ) {
+					nulls.set( i );
+				}
+				else {
+					values[i] = value;
+				}
+			}
+		}
+
+		@Override
+		Object get(int row) {
+			return nulls.get( row ) ? null : values[row];
+		}
+	}
+
+	private static final class IntegerColumn extends Column {
+		private final int[] values;
+		private final BitSet nulls = new BitSet();
+
+		private IntegerColumn(Object[][] rows, int column) {
+			values = new int[rows.length];
+			for ( int i = 0; i < rows.length; i++ ) {
+				final Integer value = (Integer) rows[i][column];
+				if ( value == null ) {
+					nulls.set( i );
+				}
+				else {
+					values[i] = value;
+				}
+			}
+		}
+
+		@Override
+		Object get(int row) {
+			return nulls.get( row ) ? null : values[row];
+		}
+	}
+
+	private static final class DoubleColumn extends Column {
+		private final double[] values;
+		private final BitSet nulls = new BitSet();
+
+		private DoubleColumn(Object[][] rows, int column) {
+			values = new double[rows.length];
+			for ( int i = 0; i < rows.length; i++ ) {
+				final Double value = (Double) rows[i][column];
+				if ( value == null ) {
+					nulls.set( i );
+				}
+				else {
+					values[i] = value;
+				}
+			}
+		}
+
+		@Override
+		Object get(int row) {
+			return nulls.get( row ) ? null : values[row];
+		}
+	}
+
+	private static final class BooleanColumn extends Column {
+		private final BitSet values = new BitSet();
+		private final BitSet nulls = new BitSet();
+
+		private BooleanColumn(Object[][] rows, int column) {
+			for ( int i = 0; i < rows.length; i++ ) {
+				final Boolean value = (Boolean) rows[i][column];
+				if ( value == null ) {
+					nulls.set( i );
+				}
+				else if ( value ) {
+					values.set( i );
+				}
+			}
+		}
+
+		@Override
+		Object get(int row) {
+			return nulls.get( row ) ? null : values.get( row );
+		}
+	}
+
+	private static final class StringColumn extends Column {
+		private final String[] dictionary;
+		// -1 for null values
+		private final int[] codes;
+
+		private StringColumn(String[] dictionary, int[] codes) {
+			this.dictionary = dictionary;
+			this.codes = codes;
+		}
+
+		private static Column encode(Object[][] rows, int column) {
+			final Map<String, Integer> codesByValue = new HashMap<>();
+			final int[] codes = new int[rows.length];
+			for ( int i = 0; i < rows.length; i++ ) {
+				final String value = (String) rows[i][column];
+				codes[i] = value == null
+						? -1
+						: codesByValue.computeIfAbsent( value, v -> codesByValue.size() );
+			}
+
+			if ( codesByValue.size() > rows.length / 2 ) {
+				// mostly distinct values, the dictionary would only add to the size
+				return new ObjectColumn( rows, column );
+			}
+
+			final String[] dictionary = new String[codesByValue.size()];
+			codesByValue.forEach( (value, code) -> dictionary[code] = value );
+			return new StringColumn( dictionary, codes );
+		}
+
+		@Override
+		Object get(int row) {
+			final int code = codes[row];
+			return code < 0 ? null : dictionary[code];
+		}
+	}
+
+	private static final class ObjectColumn extends Column {
+		private final Object[] values;
+
+		private ObjectColumn(Object[][] rows, int column) {
+			values = new Object[rows.length];
+			for ( int i = 0; i < rows.length; i++ ) {
+				values[i] = rows[i][column];
+			}
+		}
+
+		@Override
+		Object get(int row) {
+			return values[row];
+		}
+	}
+}
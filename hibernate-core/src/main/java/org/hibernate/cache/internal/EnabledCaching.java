@@ -97,7 +97,9 @@ public class EnabledCaching implements CacheImplementor, DomainDataRegionBuildin
 			regionsByName.put( queryResultsRegion.getName(), queryResultsRegion );
 			defaultQueryResultsCache = new QueryResultsCacheImpl(
 					queryResultsRegion,
-					timestampsCache
+					timestampsCache,
+					sessionFactory.getSessionFactoryOptions().isColumnarQueryCacheEntriesEnabled(),
+					sessionFactory.getSessionFactoryOptions().isQueryCacheEntryCompressionEnabled()
 			);
 		}
 		else {
@@ -511,7 +513,9 @@ public class EnabledCaching implements CacheImplementor, DomainDataRegionBuildin
 		}
 		final QueryResultsCacheImpl regionAccess = new QueryResultsCacheImpl(
 				queryResultsRegion,
-				timestampsCache
+				timestampsCache,
+				getSessionFactory().getSessionFactoryOptions().isColumnarQueryCacheEntriesEnabled(),
+				getSessionFactory().getSessionFactoryOptions().isQueryCacheEntryCompressionEnabled()
 		);
 		namedQueryResultsCacheMap.put( regionName, regionAccess );
 		legacySecondLevelCacheNames.add( regionName );
@@ -0,0 +1,216 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.internal;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.CacheKeysFactory;
+import org.hibernate.cache.spi.DomainDataRegion;
+import org.hibernate.cache.spi.ExtendedStatisticsSupport;
+import org.hibernate.cache.spi.QueryResultsRegion;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cache.spi.support.DomainDataRegionTemplate;
+import org.hibernate.cache.spi.support.QueryResultsRegionTemplate;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+
+/**
+ * RegionFactory which keeps the domain data and the query results in off-heap memory, using
+ * {@link OffHeapStorageAccessImpl}, with the size of each region bounded by
+ * {@value AvailableSettings#CACHE_OFF_HEAP_REGION_MAX_SIZE}.  The small and frequently read
+ * timestamps region is kept on the heap.
+ * <p/>
+ * The regions implement {@link ExtendedStatisticsSupport}: the size in memory reported in the
+ * statistics of a region is the size of its off-heap values.
+ * <p/>
+ * The cached values are serialized, so direct reference cache entries are not supported.
+ */
+public class OffHeapRegionFactory extends RegionFactoryTemplate {
+	/**
+	 * The default maximum size of the off-heap memory of a region: 64 MiB
+	 */
+	public static final long DEFAULT_REGION_MAX_SIZE = 64L * 1024 * 1024;
+
+	/**
+	 * The default size of the off-heap memory segments: 1 MiB
+	 */
+	public static final int DEFAULT_SEGMENT_SIZE = 1024 * 1024;
+
+	private long regionMaxSize;
+	private int segmentSize;
+
+	@Override
+	protected void prepareForUse(SessionFactoryOptions settings, Map configValues) {
+		this.regionMaxSize = ConfigurationHelper.getLong(
+				AvailableSettings.CACHE_OFF_HEAP_REGION_MAX_SIZE,
+				configValues,
+				DEFAULT_REGION_MAX_SIZE
+		);
+		this.segmentSize = ConfigurationHelper.getInt(
+				AvailableSettings.CACHE_OFF_HEAP_SEGMENT_SIZE,
+				configValues,
+				DEFAULT_SEGMENT_SIZE
+		);
+		if ( segmentSize <= 0 || regionMaxSize < segmentSize ) {
+			throw new CacheException(
+					"The off-heap segment size must be positive, and no larger than the maximum size of a region"
+			);
+		}
+	}
+
+	@Override
+	protected void releaseFromUse() {
+	}
+
+	@Override
+	public DomainDataRegion buildDomainDataRegion(
+			DomainDataRegionConfig regionConfig,
+			DomainDataRegionBuildingContext buildingContext) {
+		verifyStarted();
+		return new OffHeapDomainDataRegion(
+				regionConfig,
+				this,
+				createDomainDataStorageAccess( regionConfig, buildingContext ),
+				getImplicitCacheKeysFactory(),
+				buildingContext
+		);
+	}
+
+	@Override
+	protected OffHeapStorageAccessImpl createDomainDataStorageAccess(
+			DomainDataRegionConfig regionConfig,
+			DomainDataRegionBuildingContext buildingContext) {
+		return new OffHeapStorageAccessImpl( regionConfig.getRegionName(), regionMaxSize, segmentSize );
+	}
+
+	@Override
+	public QueryResultsRegion buildQueryResultsRegion(String regionName, SessionFactoryImplementor sessionFactory) {
+		verifyStarted();
+		return new OffHeapQueryResultsRegion(
+				regionName,
+				this,
+				createQueryResultsRegionStorageAccess( regionName, sessionFactory )
+		);
+	}
+
+	@Override
+	protected OffHeapStorageAccessImpl createQueryResultsRegionStorageAccess(
+			String regionName,
+			SessionFactoryImplementor sessionFactory) {
+		return new OffHeapStorageAccessImpl( regionName, regionMaxSize, segmentSize );
+	}
+
+	@Override
+	protected StorageAccess createTimestampsRegionStorageAccess(
+			String regionName,
+			SessionFactoryImplementor sessionFactory) {
+		return new TimestampsStorageAccess();
+	}
+
+	private static class OffHeapDomainDataRegion extends DomainDataRegionTemplate implements ExtendedStatisticsSupport {
+		private final OffHeapStorageAccessImpl storageAccess;
+
+		private OffHeapDomainDataRegion(
+				DomainDataRegionConfig regionConfig,
+				RegionFactory regionFactory,
+				OffHeapStorageAccessImpl storageAccess,
+				CacheKeysFactory defaultKeysFactory,
+				DomainDataRegionBuildingContext buildingContext) {
+			super( regionConfig, regionFactory, storageAccess, defaultKeysFactory, buildingContext );
+			this.storageAccess = storageAccess;
+		}
+
+		@Override
+		public long getElementCountInMemory() {
+			return storageAccess.getElementCount();
+		}
+
+		@Override
+		public long getElementCountOnDisk() {
+			return 0;
+		}
+
+		@Override
+		public long getSizeInMemory() {
+			return storageAccess.getUsedBytes();
+		}
+	}
+
+	private static class OffHeapQueryResultsRegion extends QueryResultsRegionTemplate implements ExtendedStatisticsSupport {
+		private final OffHeapStorageAccessImpl storageAccess;
+
+		private OffHeapQueryResultsRegion(
+				String name,
+				RegionFactory regionFactory,
+				OffHeapStorageAccessImpl storageAccess) {
+			super( name, regionFactory, storageAccess );
+			this.storageAccess = storageAccess;
+		}
+
+		@Override
+		public long getElementCountInMemory() {
+			return storageAccess.getElementCount();
+		}
+
+		@Override
+		public long getElementCountOnDisk() {
+			return 0;
+		}
+
+		@Override
+		public long getSizeInMemory() {
+			return storageAccess.getUsedBytes();
+		}
+	}
+
+	/**
+	 * The timestamps region holds one small value per query space, and is read for every
+	 * cached query, so it is kept on the heap
+	 */
+	private static class TimestampsStorageAccess implements StorageAccess {
+		private final Map<Object, Object> data = new ConcurrentHashMap<>();
+
+		@Override
+		public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+			return data.get( key );
+		}
+
+		@Override
+		public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+			data.put( key, value );
+		}
+
+		@Override
+		public boolean contains(Object key) {
+			return data.containsKey( key );
+		}
+
+		@Override
+		public void evictData() {
+			data.clear();
+		}
+
+		@Override
+		public void evictData(Object key) {
+			data.remove( key );
+		}
+
+		@Override
+		public void release() {
+			data.clear();
+		}
+	}
+}
@@ -0,0 +1,314 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.internal;
+
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.hibernate.cache.spi.SecondLevelCacheLogger;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.type.SerializationException;
+
+/**
+ * DomainDataStorageAccess which keeps the cached values outside of the Java heap, in direct
+ * {@link ByteBuffer}s, so that large caches do not add to the garbage collection pauses.
+ * <p/>
+ * The values are serialized (a {@code byte[]} value, such as the entries encoded by
+ * {@link org.hibernate.cache.spi.entry.BinaryCacheEntry}, is stored as it is) and appended
+ * to the current segment, a direct buffer of fixed size.  When the memory of the region is
+ * exhausted, the oldest segment is evicted as a whole and its buffer is reused.  Replaced or
+ * removed values are not reclaimed until their segment is evicted, so this is best suited
+ * to read-mostly data.  Only the keys and the location of the values are kept on the heap.
+ *
+ * @see OffHeapRegionFactory
+ */
+public class OffHeapStorageAccessImpl implements DomainDataStorageAccess {
+	private final String regionName;
+	private final int segmentSize;
+	private final int maxSegments;
+
+	private final Lock readLock;
+	private final Lock writeLock;
+
+	// all guarded by the lock
+	private final HashMap<Object, Slot> slotsByKey = new HashMap<>();
+	private final ArrayDeque<Segment> segments = new ArrayDeque<>();
+	private final ArrayDeque<ByteBuffer> freeBuffers = new ArrayDeque<>();
+	private Segment currentSegment;
+	private long usedBytes;
+
+	private volatile long evictionCount;
+
+	/**
+	 * @param regionName The name of the region, for logging
+	 * @param maxSize The maximum size, in bytes, of the memory allocated for the region
+	 * @param segmentSize The size, in bytes, of the memory segments, which is also the largest
+	 * size of a value which can be cached
+	 */
+	public OffHeapStorageAccessImpl(String regionName, long maxSize, int segmentSize) {
+		this.regionName = regionName;
+		this.segmentSize = segmentSize;
+		this.maxSegments = (int) Math.max( 1, Math.min( Integer.MAX_VALUE, maxSize / segmentSize ) );
+
+		final ReadWriteLock lock = new ReentrantReadWriteLock();
+		this.readLock = lock.readLock();
+		this.writeLock = lock.writeLock();
+	}
+
+	@Override
+	public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+		final byte[] bytes;
+		final boolean serialized;
+		readLock.lock();
+		try {
+			final Slot slot = slotsByKey.get( key );
+			if ( slot == null ) {
+				return null;
+			}
+			bytes = slot.read();
+			serialized = slot.serialized;
+		}
+		finally {
+			readLock.unlock();
+		}
+		return serialized ? SerializationHelper.deserialize( bytes ) : bytes;
+	}
+
+	@Override
+	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+		final boolean serialized = !( value instanceof byte[] );
+		final byte[] bytes;
+		try {
+			bytes = serialized ? SerializationHelper.serialize( (Serializable) value ) : (byte[]) value;
+		}
+		catch (ClassCastException | SerializationException e) {
+			SecondLevelCacheLogger.INSTANCE.debugf(
+					"Unable to store a value of type %s in off-heap region [%s]",
+					value.getClass().getName(),
+					regionName
+			);
+			evictData( key );
+			return;
+		}
+
+		writeLock.lock();
+		try {
+			final Slot previous = slotsByKey.remove( key );
+			if ( previous != null ) {
+				usedBytes -= previous.length;
+			}
+			if ( bytes.length > segmentSize ) {
+				SecondLevelCacheLogger.INSTANCE.debugf(
+						"Value of %s bytes is larger than the segments of off-heap region [%s]",
+						bytes.length,
+						regionName
+				);
+				return;
+			}
+
+			if ( currentSegment == null || currentSegment.remaining() < bytes.length ) {
+				currentSegment = allocateSegment();
+			}
+			final Slot slot = currentSegment.append( key, bytes, serialized );
+			slotsByKey.put( key, slot );
+			usedBytes += bytes.length;
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	private Segment allocateSegment() {
+		if ( segments.size() >= maxSegments ) {
+			evictSegment( segments.removeFirst() );
+		}
+		final ByteBuffer buffer = freeBuffers.isEmpty()
+				? ByteBuffer.allocateDirect( segmentSize )
+				: freeBuffers.removeFirst();
+		final Segment segment = new Segment( buffer );
+		segments.addLast( segment );
+		return segment;
+	}
+
+	private void evictSegment(Segment segment) {
+		long evicted = 0;
+		for ( Object key : segment.keys ) {
+			final Slot slot = slotsByKey.get( key );
+			// the key may have been removed, or put again into a later segment
+			if ( slot != null && slot.segment == segment ) {
+				slotsByKey.remove( key );
+				usedBytes -= slot.length;
+				evicted++;
+			}
+		}
+		evictionCount += evicted;
+		freeBuffers.addLast( segment.buffer );
+		SecondLevelCacheLogger.INSTANCE.debugf(
+				"Evicted %s entries from off-heap region [%s]",
+				evicted,
+				regionName
+		);
+	}
+
+	@Override
+	public boolean contains(Object key) {
+		readLock.lock();
+		try {
+			return slotsByKey.containsKey( key );
+		}
+		finally {
+			readLock.unlock();
+		}
+	}
+
+	@Override
+	public void evictData() {
+		writeLock.lock();
+		try {
+			slotsByKey.clear();
+			for ( Segment segment : segments ) {
+				freeBuffers.addLast( segment.buffer );
+			}
+			segments.clear();
+			currentSegment = null;
+			usedBytes = 0;
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	@Override
+	public void evictData(Object key) {
+		writeLock.lock();
+		try {
+			final Slot slot = slotsByKey.remove( key );
+			if ( slot != null ) {
+				usedBytes -= slot.length;
+			}
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	@Override
+	public void release() {
+		writeLock.lock();
+		try {
+			evictData();
+			// the direct memory is freed once the buffers are garbage collected
+			freeBuffers.clear();
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	/**
+	 * The number of cached values
+	 */
+	public long getElementCount() {
+		readLock.lock();
+		try {
+			return slotsByKey.size();
+		}
+		finally {
+			readLock.unlock();
+		}
+	}
+
+	/**
+	 * The size, in bytes, of the cached values
+	 */
+	public long getUsedBytes() {
+		readLock.lock();
+		try {
+			return usedBytes;
+		}
+		finally {
+			readLock.unlock();
+		}
+	}
+
+	/**
+	 * The size, in bytes, of the off-heap memory allocated for the region
+	 */
+	public long getAllocatedBytes() {
+		readLock.lock();
+		try {
+			return (long) ( segments.size() + freeBuffers.size() ) * segmentSize;
+		}
+		finally {
+			readLock.unlock();
+		}
+	}
+
+	/**
+	 * The number of values which were evicted because the memory of the region was exhausted
+	 */
+	public long getEvictionCount() {
+		return evictionCount;
+	}
+
+	private static final class Segment {
+		private final ByteBuffer buffer;
+		private final List<Object> keys = new ArrayList<>();
+		private int position;
+
+		private Segment(ByteBuffer buffer) {
+			this.buffer = buffer;
+		}
+
+		private int remaining() {
+			return buffer.capacity() - position;
+		}
+
+		private Slot append(Object key, byte[] bytes, boolean serialized) {
+			final ByteBuffer target = buffer.duplicate();
+			target.position( position );
+			target.put( bytes );
+
+			final Slot slot = new Slot( this, position, bytes.length, serialized );
+			position += bytes.length;
+			keys.add( key );
+			return slot;
+		}
+	}
+
+	private static final class Slot {
+		private final Segment segment;
+		private final int offset;
+		private final int length;
+		private final boolean serialized;
+
+		private Slot(Segment segment, int offset, int length, boolean serialized) {
+			this.segment = segment;
+			this.offset = offset;
+			this.length = length;
+			this.serialized = serialized;
+		}
+
+		private byte[] read() {
+			// a duplicate, since concurrent readers cannot share the position of the buffer
+			final ByteBuffer source = segment.buffer.duplicate();
+			source.position( offset );
+			final byte[] bytes = new byte[length];
+			source.get( bytes );
+			return bytes;
+		}
+	}
+}
@@ -34,12 +34,18 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 
 	private final QueryResultsRegion cacheRegion;
 	private final TimestampsCache timestampsCache;
+	private final boolean columnarEntries;
+	private final boolean compressedEntries;
 
 	QueryResultsCacheImpl(
 			QueryResultsRegion cacheRegion,
-			TimestampsCache timestampsCache) {
+			TimestampsCache timestampsCache,
+			boolean columnarEntries,
+			boolean compressedEntries) {
 		this.cacheRegion = cacheRegion;
 		this.timestampsCache = timestampsCache;
+		this.columnarEntries = columnarEntries;
+		this.compressedEntries = compressedEntries;
 	}
 
 	@Override
@@ -57,10 +63,12 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 			SecondLevelCacheLogger.INSTANCE.debugf( "Caching query results in region: %s; timestamp=%s", cacheRegion.getName(), session.getTransactionStartTimestamp() );
 		}
 
-		final CacheItem cacheItem = new CacheItem(
-				session.getTransactionStartTimestamp(),
-				deepCopy( results )
-		);
+		final ColumnarQueryResults columnarResults = columnarEntries
+				? ColumnarQueryResults.encode( results, compressedEntries )
+				: null;
+		final CacheItem cacheItem = columnarResults == null
+				? new CacheItem( session.getTransactionStartTimestamp(), deepCopy( results ) )
+				: new CacheItem( session.getTransactionStartTimestamp(), columnarResults );
 
 		try {
 			session.getEventListenerManager().cachePutStart();
@@ -106,7 +114,7 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 			SecondLevelCacheLogger.INSTANCE.debug( "Returning cached query results" );
 		}
 
-		return deepCopy( cacheItem.results );
+		return cacheItem.getResults();
 	}
 
 	@Override
@@ -138,7 +146,7 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 			SecondLevelCacheLogger.INSTANCE.debug( "Returning cached query results" );
 		}
 
-		return deepCopy( cacheItem.results );
+		return cacheItem.getResults();
 	}
 
 	private CacheItem getCachedData(QueryKey key, SharedSessionContractImplementor session) {
@@ -161,10 +169,22 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 	public static class CacheItem implements Serializable {
 		private final long timestamp;
 		private final List results;
+		private final ColumnarQueryResults columnarResults;
 
 		CacheItem(long timestamp, List results) {
 			this.timestamp = timestamp;
 			this.results = results;
+			this.columnarResults = null;
+		}
+
+		CacheItem(long timestamp, ColumnarQueryResults columnarResults) {
+			this.timestamp = timestamp;
+			this.results = null;
+			this.columnarResults = columnarResults;
+		}
+
+		private List getResults() {
+			return columnarResults == null ? deepCopy( results ) : columnarResults.decode();
 		}
 	}
 }
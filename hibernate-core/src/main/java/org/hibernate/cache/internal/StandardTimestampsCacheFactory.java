@@ -6,6 +6,7 @@
  */
 package org.hibernate.cache.internal;
 
+import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.cache.spi.CacheImplementor;
 import org.hibernate.cache.spi.TimestampsCache;
 import org.hibernate.cache.spi.TimestampsCacheFactory;
@@ -25,6 +26,14 @@ public class StandardTimestampsCacheFactory implements TimestampsCacheFactory {
 	public TimestampsCache buildTimestampsCache(
 			CacheImplementor cacheManager,
 			TimestampsRegion timestampsRegion) {
+		final SessionFactoryOptions options = cacheManager.getSessionFactory().getSessionFactoryOptions();
+		if ( options.getTimestampsNearCacheTimeToLive() > 0 ) {
+			return new TimestampsCacheNearCacheImpl(
+					timestampsRegion,
+					options.getTimestampsNearCacheTimeToLive(),
+					options.getTimestampsNearCacheMaxSize()
+			);
+		}
 		return new TimestampsCacheEnabledImpl( timestampsRegion );
 	}
 }
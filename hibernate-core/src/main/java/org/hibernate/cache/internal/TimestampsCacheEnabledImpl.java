@@ -65,7 +65,7 @@ public class TimestampsCacheEnabledImpl implements TimestampsCache {
 
 				//put() has nowait semantics, is this really appropriate?
 				//note that it needs to be async replication, never local or sync
-				timestampsRegion.putIntoCache( space, ts, session );
+				putLastUpdateTimestampForSpace( space, ts, session );
 			}
 			finally {
 				eventListenerManager.cachePutEnd();
@@ -95,7 +95,7 @@ public class TimestampsCacheEnabledImpl implements TimestampsCache {
 			final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
 			try {
 				eventListenerManager.cachePutStart();
-				timestampsRegion.putIntoCache( space, ts, session );
+				putLastUpdateTimestampForSpace( space, ts, session );
 			}
 			finally {
 				eventListenerManager.cachePutEnd();
@@ -174,7 +174,10 @@ public class TimestampsCacheEnabledImpl implements TimestampsCache {
 		return true;
 	}
 
-	private Long getLastUpdateTimestampForSpace(Serializable space, SharedSessionContractImplementor session) {
+	/**
+	 * Read the last update timestamp of the given space from the timestamps region
+	 */
+	protected Long getLastUpdateTimestampForSpace(Serializable space, SharedSessionContractImplementor session) {
 		Long ts = null;
 		try {
 			session.getEventListenerManager().cacheGetStart();
@@ -186,4 +189,14 @@ public class TimestampsCacheEnabledImpl implements TimestampsCache {
 		return ts;
 	}
 
+	/**
+	 * Write the last update timestamp of the given space to the timestamps region
+	 */
+	protected void putLastUpdateTimestampForSpace(
+			Serializable space,
+			Long timestamp,
+			SharedSessionContractImplementor session) {
+		timestampsRegion.putIntoCache( space, timestamp, session );
+	}
+
 }
@@ -0,0 +1,113 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.internal;
+
+import java.io.Serializable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.spi.TimestampsRegion;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+/**
+ * TimestampsCache which keeps the last update timestamp of each space in a local near-cache,
+ * so that up-to-date checks of cached query results do not need to access the timestamps
+ * region, which may be remote, for every space of every query.
+ * <p/>
+ * The near-cache is updated whenever this node pre-invalidates or invalidates a space.
+ * Invalidations by other nodes of a cluster are only noticed once the near-cache entry of
+ * the space expires, and the timestamp is read from the region again: the time-to-live of the
+ * entries is the longest time during which a query result cached on this node may be returned
+ * although it was invalidated by another node.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#QUERY_CACHE_TIMESTAMPS_NEAR_CACHE_TTL
+ */
+public class TimestampsCacheNearCacheImpl extends TimestampsCacheEnabledImpl {
+	private final long timeToLiveNanos;
+	private final int maxSize;
+
+	private final ConcurrentHashMap<Serializable, Entry> nearCache = new ConcurrentHashMap<>();
+
+	/**
+	 * @param timeToLive The time-to-live of the near-cache entries, in milliseconds
+	 * @param maxSize The maximum number of spaces kept in the near-cache
+	 */
+	public TimestampsCacheNearCacheImpl(TimestampsRegion timestampsRegion, long timeToLive, int maxSize) {
+		super( timestampsRegion );
+		this.timeToLiveNanos = TimeUnit.MILLISECONDS.toNanos( timeToLive );
+		this.maxSize = maxSize;
+	}
+
+	@Override
+	protected Long getLastUpdateTimestampForSpace(Serializable space, SharedSessionContractImplementor session) {
+		final long now = System.nanoTime();
+		final Entry entry = nearCache.get( space );
+		if ( entry != null && !entry.isExpired( now ) ) {
+			return entry.timestamp;
+		}
+
+		final Long timestamp = super.getLastUpdateTimestampForSpace( space, session );
+		final Entry loaded = new Entry( timestamp, now + timeToLiveNanos );
+		if ( entry != null || ensureCapacity() ) {
+			// never overwrite a timestamp put by a concurrent invalidation with
+			// the timestamp read from the region before that invalidation
+			nearCache.compute(
+					space,
+					(s, current) -> current == null || current.isExpired( now ) ? loaded : current
+			);
+		}
+		return timestamp;
+	}
+
+	@Override
+	protected void putLastUpdateTimestampForSpace(
+			Serializable space,
+			Long timestamp,
+			SharedSessionContractImplementor session) {
+		super.putLastUpdateTimestampForSpace( space, timestamp, session );
+		if ( nearCache.containsKey( space ) || ensureCapacity() ) {
+			nearCache.put( space, new Entry( timestamp, System.nanoTime() + timeToLiveNanos ) );
+		}
+	}
+
+	private boolean ensureCapacity() {
+		if ( nearCache.size() >= maxSize ) {
+			// the spaces are the mapped tables, so the near-cache only gets full when it is
+			// too small for the model: just start over, rather than tracking usage
+			nearCache.clear();
+		}
+		return maxSize > 0;
+	}
+
+	@Override
+	public void clear() throws CacheException {
+		nearCache.clear();
+		super.clear();
+	}
+
+	@Override
+	public void destroy() {
+		nearCache.clear();
+		super.destroy();
+	}
+
+	private static final class Entry {
+		// null if the space was not invalidated since the region was (re)started
+		private final Long timestamp;
+		private final long expiresAt;
+
+		private Entry(Long timestamp, long expiresAt) {
+			this.timestamp = timestamp;
+			this.expiresAt = expiresAt;
+		}
+
+		private boolean isExpired(long now) {
+			return now - expiresAt >= 0;
+		}
+	}
+}
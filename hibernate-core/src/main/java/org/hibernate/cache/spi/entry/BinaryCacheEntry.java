@@ -0,0 +1,437 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi.entry;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.hibernate.cache.CacheException;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.metamodel.mapping.AttributeMapping;
+import org.hibernate.metamodel.mapping.EntityAssociationMapping;
+import org.hibernate.metamodel.mapping.EntityVersionMapping;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.descriptor.java.JavaType;
+
+/**
+ * Binary CacheEntry format for entities.  Used to store the entry into the second-level cache
+ * as a {@code byte[]}, so that cache providers which store the entries remotely or off-heap do
+ * not need to serialize the disassembled state using Java serialization.
+ * <p/>
+ * The encoding of each value is determined by the mapping model of the entity: the values of
+ * basic attributes, identifiers of associated entities and versions of a common type such as
+ * numbers, strings or dates are written directly, any other value is written using Java
+ * serialization.
+ *
+ * @see BinaryCacheEntryCodecFactory
+ */
+public class BinaryCacheEntry implements CacheEntryStructure {
+	private static final byte NULL = 0;
+	private static final byte ENCODED = 1;
+	private static final byte SERIALIZED = 2;
+
+	private final EntityPersister persister;
+
+	// built lazily, since the mapping model is not available yet when the persister is built
+	private volatile Schema schema;
+
+	/**
+	 * Constructs a BinaryCacheEntry strategy
+	 *
+	 * @param persister The persister whose data needs to be encoded.
+	 */
+	public BinaryCacheEntry(EntityPersister persister) {
+		this.persister = persister;
+	}
+
+	@Override
+	public Object structure(Object item) {
+		final CacheEntry entry = (CacheEntry) item;
+		final Schema schema = resolveSchema( entry.getSubclass() );
+		final Serializable[] disassembledState = entry.getDisassembledState();
+
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try ( DataOutputStream out = new DataOutputStream( bytes ) ) {
+			out.writeUTF( entry.getSubclass() );
+			writeValue( out, schema.versionCodec, entry.getVersion() );
+			out.writeInt( disassembledState.length );
+			for ( int i = 0; i < disassembledState.length; i++ ) {
+				writeValue( out, schema.getPropertyCodec( i ), disassembledState[i] );
+			}
+		}
+		catch (IOException e) {
+			throw new CacheException( "Could not encode cache entry of entity " + entry.getSubclass(), e );
+		}
+		return bytes.toByteArray();
+	}
+
+	@Override
+	public Object destructure(Object structured, SessionFactoryImplementor factory) {
+		try ( DataInputStream in = new DataInputStream( new ByteArrayInputStream( (byte[]) structured ) ) ) {
+			final String subclass = in.readUTF();
+			final Schema schema = resolveSchema( subclass );
+			final Object version = readValue( in, schema.versionCodec );
+			final Serializable[] disassembledState = new Serializable[in.readInt()];
+			for ( int i = 0; i < disassembledState.length; i++ ) {
+				disassembledState[i] = (Serializable) readValue( in, schema.getPropertyCodec( i ) );
+			}
+			return new StandardCacheEntryImpl( disassembledState, subclass, version );
+		}
+		catch (IOException e) {
+			throw new CacheException( "Could not decode cache entry of entity " + persister.getEntityName(), e );
+		}
+	}
+
+	private Schema resolveSchema(String entityName) {
+		if ( entityName.equals( persister.getEntityName() ) ) {
+			return getSchema();
+		}
+
+		// the entry of a subclass, encoded using the schema of the subclass
+		final EntityPersister subclassPersister = persister.getFactory().getMetamodel().entityPersister( entityName );
+		final CacheEntryStructure subclassStructure = subclassPersister.getCacheEntryStructure();
+		return subclassStructure instanceof BinaryCacheEntry
+				? ( (BinaryCacheEntry) subclassStructure ).getSchema()
+				: new Schema( subclassPersister );
+	}
+
+	private Schema getSchema() {
+		Schema schema = this.schema;
+		if ( schema == null ) {
+			schema = new Schema( persister );
+			this.schema = schema;
+		}
+		return schema;
+	}
+
+	private static void writeValue(DataOutput out, ValueCodec codec, Object value) throws IOException {
+		if ( value == null ) {
+			out.writeByte( NULL );
+		}
+		else if ( codec != null && codec.javaType == value.getClass() ) {
+			out.writeByte( ENCODED );
+			codec.write( out, value );
+		}
+		else {
+			// e.g. the disassembled state of an embeddable, or the marker of an unfetched property
+			out.writeByte( SERIALIZED );
+			final byte[] bytes = SerializationHelper.serialize( (Serializable) value );
+			out.writeInt( bytes.length );
+			out.write( bytes );
+		}
+	}
+
+	private static Object readValue(DataInput in, ValueCodec codec) throws IOException {
+		final byte marker = in.readByte();
+		switch ( marker ) {
+			case NULL:
+				return null;
+			case ENCODED:
+				if ( codec == null ) {
+					throw new CacheException( "Cache entry does not match the mapping of entity" );
+				}
+				return codec.read( in );
+			case SERIALIZED:
+				final byte[] bytes = new byte[in.readInt()];
+				in.readFully( bytes );
+				return SerializationHelper.deserialize( bytes );
+			default:
+				throw new CacheException( "Unexpected value marker in cache entry: " + marker );
+		}
+	}
+
+	/**
+	 * The codecs of the version and the disassembled state of an entity, by state array position
+	 */
+	private static final class Schema {
+		private final ValueCodec versionCodec;
+		private final ValueCodec[] propertyCodecs;
+
+		private Schema(EntityPersister persister) {
+			final EntityVersionMapping versionMapping = persister.getVersionMapping();
+			this.versionCodec = versionMapping == null
+					? null
+					: ValueCodec.forJavaType( versionMapping.getJavaTypeDescriptor() );
+			this.propertyCodecs = new ValueCodec[persister.getPropertyTypes().length];
+			persister.visitStateArrayContributors(
+					attribute -> {
+						final int position = attribute.getStateArrayPosition();
+						if ( position < propertyCodecs.length ) {
+							propertyCodecs[position] = ValueCodec.forJavaType( disassembledJavaType( attribute ) );
+						}
+					}
+			);
+		}
+
+		private static JavaType<?> disassembledJavaType(AttributeMapping attribute) {
+			if ( attribute instanceof EntityAssociationMapping ) {
+				// associations are disassembled to the identifier of the associated entity
+				return ( (EntityAssociationMapping) attribute ).getAssociatedEntityMappingType()
+						.getIdentifierMapping()
+						.getJavaTypeDescriptor();
+			}
+			return attribute.getJavaTypeDescriptor();
+		}
+
+		private ValueCodec getPropertyCodec(int position) {
+			return position < propertyCodecs.length ? propertyCodecs[position] : null;
+		}
+	}
+
+	private enum ValueCodec {
+		LONG( Long.class ) {
+			@Override
+			void write(DataOutput out, Object value) throws IOException {
+				out.writeLong( (Long) value );
+			}
+
+			@Override
+			Object read(DataInput in) throws IOException {
+				return in.readLong();
+			}
+		},
+		INTEGER( Integer.class ) {
+			@Override
+			void write(DataOutput out, Object value) throws IOException {
+				out.writeInt( (Integer) value );
+			}
+
+			@Override
+			Object read(DataInput in) throws IOException {
+				return in.readInt();
+			}
+		},
+		SHORT( Short.class ) {
+			@Override
+			void write(DataOutput out, Object value) throws IOException {
+				out.writeShort( (Short) value );
+			}
+
+			@Override
+			Object read(DataInput in) throws IOException {
+				return in.readShort();
+			}
+		},
+		BYTE( Byte.class ) {
+			@Override
+			void write(DataOutput out, Object value) throws IOException {
+				out.writeByte( (Byte) value );
+			}
+
+			@Override
+			Object read(DataInput in) throws IOException {
+				return in.readByte();
+			}
+		},
+		BOOLEAN( Boolean.class ) {
+			@Override
+			void write(DataOutput out, Object value) throws IOException {
+				out.writeBoolean( (Boolean) value );
+			}
+
+			@Override
+			Object read(DataInput in) throws IOException {
+				return in.readBoolean();
+			}
+		},
+		CHARACTER( Character.class ) {
+			@Override
+			void write(DataOutput out, Object value) throws IOException {
+				out.writeChar( (Character) value );
+			}
+
+			@Override
+			Object read(DataInput in) throws IOException {
+				return in.readChar();
+			}
+		},
+		DOUBLE( Double.class ) {
+			@Override
+			void write(DataOutput out, Object value) throws IOException {
+				out.writeDouble( (Double) value );
+			}
+
+			@Override
+			Object read(DataInput in) throws IOException {
+				return in.readDouble();
+			}
+		},
+		FLOAT( Float.class ) {
+			@Override
+			void write(DataOutput out, Object value) throws IOException {
+				out.writeFloat( (Float) value );
+			}
+
+			@Override
+			Object read(DataInput in) throws IOException {
+				return in.readFloat();
+			}
+		},
+		STRING( String.class ) {
+			@Override
+			void write(DataOutput out, Object value) throws IOException {
+				// DataOutput#writeUTF is limited to 64K bytes
+				writeBytes( out, ( (String) value ).getBytes( StandardCharsets.UTF_8 ) );
+			}
+
+			@Override
+			Object read(DataInput in) throws IOException {
+				return new String( readBytes( in ), StandardCharsets.UTF_8 );
+			}
+		},
+		BYTES( byte[].class ) {
+			@Override
+			void write(DataOutput out, Object value) throws IOException {
+				writeBytes( out, (byte[]) value );
+			}
+
+			@Override
+			Object read(DataInput in) throws IOException {
+				return readBytes( in );
+			}
+		},
+		BIG_INTEGER( BigInteger.class ) {
+			@Override
+			void write(DataOutput out, Object value) throws IOException {
+				writeBytes( out, ( (BigInteger) value ).toByteArray() );
+			}
+
+			@Override
+			Object read(DataInput in) throws IOException {
+				return new BigInteger( readBytes( in ) );
+			}
+		},
+		BIG_DECIMAL( BigDecimal.class ) {
+			@Override
+			void write(DataOutput out, Object value) throws IOException {
+				final BigDecimal decimal = (BigDecimal) value;
+				out.writeInt( decimal.scale() );
+				writeBytes( out, decimal.unscaledValue().toByteArray() );
+			}
+
+			@Override
+			Object read(DataInput in) throws IOException {
+				final int scale = in.readInt();
+				return new BigDecimal( new BigInteger( readBytes( in ) ), scale );
+			}
+		},
+		UUID_VALUE( UUID.class ) {
+			@Override
+			void write(DataOutput out, Object value) throws IOException {
+				final UUID uuid = (UUID) value;
+				out.writeLong( uuid.getMostSignificantBits() );
+				out.writeLong( uuid.getLeastSignificantBits() );
+			}
+
+			@Override
+			Object read(DataInput in) throws IOException {
+				return new UUID( in.readLong(), in.readLong() );
+			}
+		},
+		INSTANT( Instant.class ) {
+			@Override
+			void write(DataOutput out, Object value) throws IOException {
+				final Instant instant = (Instant) value;
+				out.writeLong( instant.getEpochSecond() );
+				out.writeInt( instant.getNano() );
+			}
+
+			@Override
+			Object read(DataInput in) throws IOException {
+				return Instant.ofEpochSecond( in.readLong(), in.readInt() );
+			}
+		},
+		LOCAL_DATE( LocalDate.class ) {
+			@Override
+			void write(DataOutput out, Object value) throws IOException {
+				out.writeLong( ( (LocalDate) value ).toEpochDay() );
+			}
+
+			@Override
+			Object read(DataInput in) throws IOException {
+				return LocalDate.ofEpochDay( in.readLong() );
+			}
+		},
+		LOCAL_TIME( LocalTime.class ) {
+			@Override
+			void write(DataOutput out, Object value) throws IOException {
+				out.writeLong( ( (LocalTime) value ).toNanoOfDay() );
+			}
+
+			@Override
+			Object read(DataInput in) throws IOException {
+				return LocalTime.ofNanoOfDay( in.readLong() );
+			}
+		},
+		LOCAL_DATE_TIME( LocalDateTime.class ) {
+			@Override
+			void write(DataOutput out, Object value) throws IOException {
+				final LocalDateTime dateTime = (LocalDateTime) value;
+				out.writeLong( dateTime.toLocalDate().toEpochDay() );
+				out.writeLong( dateTime.toLocalTime().toNanoOfDay() );
+			}
+
+			@Override
+			Object read(DataInput in) throws IOException {
+				return LocalDateTime.of(
+						LocalDate.ofEpochDay( in.readLong() ),
+						LocalTime.ofNanoOfDay( in.readLong() )
+				);
+			}
+		};
+
+		private static final Map<Class<?>, ValueCodec> CODECS_BY_TYPE = new HashMap<>();
+
+		static {
+			for ( ValueCodec codec : values() ) {
+				CODECS_BY_TYPE.put( codec.javaType, codec );
+			}
+		}
+
+		private final Class<?> javaType;
+
+		ValueCodec(Class<?> javaType) {
+			this.javaType = javaType;
+		}
+
+		abstract void write(DataOutput out, Object value) throws IOException;
+
+		abstract Object read(DataInput in) throws IOException;
+
+		private static ValueCodec forJavaType(JavaType<?> javaType) {
+			return javaType == null ? null : CODECS_BY_TYPE.get( javaType.getJavaTypeClass() );
+		}
+
+		private static void writeBytes(DataOutput out, byte[] bytes) throws IOException {
+			out.writeInt( bytes.length );
+			out.write( bytes );
+		}
+
+		private static byte[] readBytes(DataInput in) throws IOException {
+			final byte[] bytes = new byte[in.readInt()];
+			in.readFully( bytes );
+			return bytes;
+		}
+	}
+}
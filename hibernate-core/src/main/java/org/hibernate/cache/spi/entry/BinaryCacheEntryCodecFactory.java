@@ -0,0 +1,25 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi.entry;
+
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * CacheEntryCodecFactory which encodes the entity cache entries into a binary form, using
+ * {@link BinaryCacheEntry}.
+ */
+public class BinaryCacheEntryCodecFactory implements CacheEntryCodecFactory {
+	/**
+	 * Singleton access
+	 */
+	public static final BinaryCacheEntryCodecFactory INSTANCE = new BinaryCacheEntryCodecFactory();
+
+	@Override
+	public CacheEntryStructure buildEntityCacheEntryCodec(EntityPersister persister) {
+		return new BinaryCacheEntry( persister );
+	}
+}
@@ -0,0 +1,32 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi.entry;
+
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * Contract for building the codecs which encode the entity cache entries into the form stored
+ * in the second-level cache, for example a compact binary form which avoids Java serialization
+ * of the disassembled state by the cache provider.
+ * <p/>
+ * A codec is a {@link CacheEntryStructure}: it {@linkplain CacheEntryStructure#structure encodes}
+ * {@link CacheEntry} instances, and {@linkplain CacheEntryStructure#destructure decodes} them
+ * back to a {@link CacheEntry}.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#CACHE_ENTRY_CODEC_FACTORY
+ */
+public interface CacheEntryCodecFactory {
+	/**
+	 * Build the codec of the cache entries of the given entity.  Called while the persister is
+	 * being built, so its mapping model is not yet available.
+	 *
+	 * @param persister The persister of the cached entity
+	 *
+	 * @return The codec, or {@code null} to store the cache entries of the entity as they are
+	 */
+	CacheEntryStructure buildEntityCacheEntryCodec(EntityPersister persister);
+}
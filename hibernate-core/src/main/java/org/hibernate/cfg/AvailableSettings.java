@@ -753,6 +753,27 @@ public interface AvailableSettings {
 	 */
 	String DEFAULT_BATCH_FETCH_SIZE = "hibernate.default_batch_fetch_size";
 
+	/**
+	 * Enables adaptive batch fetching of entities, and specifies the largest batch size
+	 * which may be chosen.  The configured batch size of an entity is then only used as
+	 * the initial size: the size is grown when the entities loaded by a full batch are
+	 * all used by the application, and shrunk when most of them are not used.
+	 * <p/>
+	 * Only applies to entities which are batch fetched.  The default is {@code 0}, which
+	 * means the configured batch sizes are always used as they are.
+	 *
+	 * @see #BATCH_FETCH_ADAPTIVE_MIN_SIZE
+	 * @see org.hibernate.stat.EntityStatistics#getBatchFetchSize()
+	 */
+	String BATCH_FETCH_ADAPTIVE_MAX_SIZE = "hibernate.batch_fetch_adaptive_max_size";
+
+	/**
+	 * The smallest batch size adaptive batch fetching may choose.  The default is {@code 2}.
+	 *
+	 * @see #BATCH_FETCH_ADAPTIVE_MAX_SIZE
+	 */
+	String BATCH_FETCH_ADAPTIVE_MIN_SIZE = "hibernate.batch_fetch_adaptive_min_size";
+
 	/**
 	 * Use <tt>java.io</tt> streams to read / write binary data from / to JDBC
 	 */
@@ -777,6 +798,27 @@ public interface AvailableSettings {
 	 */
 	String STATEMENT_FETCH_SIZE = "hibernate.jdbc.fetch_size";
 
+	/**
+	 * The maximum number of prepared statements Hibernate caches per JDBC connection, for
+	 * drivers and connection pools which do not cache prepared statements themselves.
+	 * Released statements are kept open for reuse by later executions of the same SQL, until
+	 * they are evicted as least recently used, or until the connection is released.
+	 * <p/>
+	 * The default is {@code 0}, which disables the cache.  Callable statements are never cached.
+	 */
+	String STATEMENT_CACHE_SIZE = "hibernate.jdbc.statement_cache_size";
+
+	/**
+	 * The JDBC fetch size to use for {@linkplain org.hibernate.query.Query#stream() streamed}
+	 * and {@linkplain org.hibernate.query.Query#scroll() scrolled} query results when no fetch
+	 * size was specified for the query itself.  Many drivers only stream rows from the database,
+	 * rather than materializing the whole result, when a fetch size is given.  If not specified,
+	 * {@value #STATEMENT_FETCH_SIZE} applies.
+	 *
+	 * @since 6.0
+	 */
+	String STATEMENT_STREAM_FETCH_SIZE = "hibernate.jdbc.stream_fetch_size";
+
 	/**
 	 * Maximum JDBC batch size. A nonzero value enables batch updates.
 	 */
@@ -791,6 +833,20 @@ public interface AvailableSettings {
 	 */
 	String BATCH_VERSIONED_DATA = "hibernate.jdbc.batch_versioned_data";
 
+	/**
+	 * Should the JDBC batches of several statements be kept open at the same time, so that
+	 * interleaved statements (for example the inserts of parent and child entities of several
+	 * object graphs) are still batched, without having to {@linkplain #ORDER_INSERTS order} them?
+	 * <p/>
+	 * A statement only joins an already open batch when it cannot depend on the rows written by
+	 * the batches opened after it; otherwise the open batches are executed first.
+	 * <p/>
+	 * Default is {@code false}
+	 *
+	 * @since 6.0
+	 */
+	String BATCH_INTERLEAVED_STATEMENTS = "hibernate.jdbc.batch_interleaved_statements";
+
 	/**
 	 * Default JDBC TimeZone. Unless specified, the JVM default TimeZone is going to be used by the underlying JDBC Driver.
 	 *
@@ -829,6 +885,24 @@ public interface AvailableSettings {
 	 */
 	String USE_REFLECTION_OPTIMIZER = "hibernate.bytecode.use_reflection_optimizer";
 
+	/**
+	 * Should getter/setter access to the attributes of entities and embeddables go through
+	 * accessors spun at boot time with {@link java.lang.invoke.LambdaMetafactory}, rather than
+	 * through reflection?  Unlike {@link #USE_REFLECTION_OPTIMIZER}, this does not require a
+	 * bytecode provider.
+	 * <p/>
+	 * Only attributes using property access ({@link jakarta.persistence.AccessType#PROPERTY})
+	 * benefit.  Attributes using field access, which is the default when the identifier is
+	 * annotated on a field, are still accessed through reflection: {@code LambdaMetafactory}
+	 * can only bind methods, and defining hidden accessor classes for fields requires a newer
+	 * JDK than the one Hibernate is built for.
+	 * <p/>
+	 * Default is {@code false}
+	 *
+	 * @see org.hibernate.property.access.internal.PropertyAccessStrategyMethodHandleImpl
+	 */
+	String USE_METHOD_HANDLE_PROPERTY_ACCESS = "hibernate.property_access.use_method_handles";
+
 	/**
 	 * Configure the global BytecodeProvider implementation to generate class names matching the
 	 * existing naming patterns.
@@ -960,6 +1034,16 @@ public interface AvailableSettings {
 	 */
 	String QUERY_STARTUP_CHECKING = "hibernate.query.startup_check";
 
+	/**
+	 * The number of threads used to check named queries during startup when
+	 * {@link #QUERY_STARTUP_CHECKING} is enabled.  The default, {@code 1}, checks
+	 * the named queries sequentially on the thread building the SessionFactory;
+	 * a negative value uses as many threads as there are available processors.
+	 *
+	 * @since 6.0
+	 */
+	String QUERY_STARTUP_CHECKING_PARALLELISM = "hibernate.query.startup_check_parallelism";
+
 	/**
 	 * Setting which indicates whether or not Java constant follow the Java Naming conventions.
 	 * <p/>
@@ -1009,6 +1093,18 @@ public interface AvailableSettings {
 	 */
 	String ORDER_INSERTS = "hibernate.order_inserts";
 
+	/**
+	 * Should the snapshot of a loaded collection, used to detect its changes on flush, be
+	 * copied only when the collection is first modified, rather than when it is loaded?
+	 * Applies to bags, lists, sets and maps whose elements (and index) are entities or
+	 * immutable values.
+	 * <p/>
+	 * Default is {@code false}
+	 *
+	 * @see org.hibernate.collection.internal.CopyOnWriteSnapshot
+	 */
+	String COPY_ON_WRITE_COLLECTION_SNAPSHOTS = "hibernate.collection.copy_on_write_snapshots";
+
 	/**
 	 * JPA Callbacks are enabled by default. Set this to {@code false} to disable them.
 	 * Mostly useful to save a bit of memory when they are not used.
@@ -1155,6 +1251,24 @@ public interface AvailableSettings {
 	 */
 	String CACHE_REGION_FACTORY = "hibernate.cache.region.factory_class";
 
+	/**
+	 * The maximum size, in bytes, of the off-heap memory of each region of the
+	 * {@link org.hibernate.cache.internal.OffHeapRegionFactory}.  When a region is full,
+	 * its oldest entries are evicted.  The default is 64 MiB.
+	 *
+	 * @see #CACHE_OFF_HEAP_SEGMENT_SIZE
+	 */
+	String CACHE_OFF_HEAP_REGION_MAX_SIZE = "hibernate.cache.off_heap.region_max_size";
+
+	/**
+	 * The size, in bytes, of the off-heap memory segments which are allocated for the regions
+	 * of the {@link org.hibernate.cache.internal.OffHeapRegionFactory}, and evicted as a whole.
+	 * Larger entries are not cached.  The default is 1 MiB.
+	 *
+	 * @see #CACHE_OFF_HEAP_REGION_MAX_SIZE
+	 */
+	String CACHE_OFF_HEAP_SEGMENT_SIZE = "hibernate.cache.off_heap.segment_size";
+
 	/**
 	 * Allow control to specify the {@link org.hibernate.cache.spi.CacheKeysFactory} impl to use.
 	 * Can refer to:<ul>
@@ -1192,6 +1306,45 @@ public interface AvailableSettings {
 	 */
 	String QUERY_CACHE_FACTORY = "hibernate.cache.query_cache_factory";
 
+	/**
+	 * The time-to-live, in milliseconds, of a local near-cache of the last update timestamps of
+	 * the query spaces, used by the standard {@link TimestampsCacheFactory} to avoid reading the
+	 * timestamps region for every space of every cached query.
+	 * <p/>
+	 * Invalidations by this node are applied to the near-cache immediately.  Invalidations by
+	 * other nodes of a cluster are only noticed when the near-cache entry expires, so this is
+	 * the longest time during which a stale query result may be returned from the query cache.
+	 * The default is {@code 0}, which disables the near-cache.
+	 *
+	 * @see #QUERY_CACHE_TIMESTAMPS_NEAR_CACHE_MAX_SIZE
+	 */
+	String QUERY_CACHE_TIMESTAMPS_NEAR_CACHE_TTL = "hibernate.cache.query_timestamps_near_cache_ttl";
+
+	/**
+	 * The maximum number of query spaces kept in the near-cache of the last update timestamps.
+	 * The default is {@code 1000}.
+	 *
+	 * @see #QUERY_CACHE_TIMESTAMPS_NEAR_CACHE_TTL
+	 */
+	String QUERY_CACHE_TIMESTAMPS_NEAR_CACHE_MAX_SIZE = "hibernate.cache.query_timestamps_near_cache_max_size";
+
+	/**
+	 * Enable use of a compact column-wise format for the entries of the query results regions:
+	 * numeric values are stored as primitive arrays, and strings are dictionary-encoded.
+	 * The default is {@code false}.
+	 *
+	 * @see #QUERY_CACHE_COMPRESS_ENTRIES
+	 */
+	String QUERY_CACHE_COLUMNAR_ENTRIES = "hibernate.cache.query_cache_columnar_entries";
+
+	/**
+	 * Enable compression of the column-wise query results cache entries, when they are
+	 * serialized.  Only worthwhile with a query results region which serializes its entries,
+	 * and has no effect unless {@link #QUERY_CACHE_COLUMNAR_ENTRIES} is enabled.
+	 * The default is {@code false}.
+	 */
+	String QUERY_CACHE_COMPRESS_ENTRIES = "hibernate.cache.query_cache_compress_entries";
+
 	/**
 	 * The <tt>CacheProvider</tt> region name prefix
 	 */
@@ -1207,6 +1360,18 @@ public interface AvailableSettings {
 	 */
 	String USE_STRUCTURED_CACHE = "hibernate.cache.use_structured_entries";
 
+	/**
+	 * Names a {@link org.hibernate.cache.spi.entry.CacheEntryCodecFactory}, which builds the
+	 * codecs encoding the entity cache entries into the form stored in the second-level cache,
+	 * for example {@link org.hibernate.cache.spi.entry.BinaryCacheEntryCodecFactory}.  Takes
+	 * precedence over {@link #USE_STRUCTURED_CACHE} for entities.
+	 * <p/>
+	 * Can reference a CacheEntryCodecFactory instance, CacheEntryCodecFactory implementation
+	 * {@link Class} reference or CacheEntryCodecFactory implementation class name
+	 * (fully-qualified class name).
+	 */
+	String CACHE_ENTRY_CODEC_FACTORY = "hibernate.cache.entry_codec_factory";
+
 	/**
 	 * Enables the automatic eviction of a bi-directional association's collection cache when an element in the
 	 * ManyToOne collection is added/updated/removed without properly managing the change on the OneToMany side.
@@ -1280,6 +1445,29 @@ public interface AvailableSettings {
 	 */
 	String QUERY_PLAN_CACHE_MAX_SIZE = "hibernate.query.plan_cache_max_size";
 
+	/**
+	 * The policy used to evict entries from the Hibernate "Query Plan Cache" once
+	 * {@link #QUERY_PLAN_CACHE_MAX_SIZE} is reached, either {@code tiny_lfu} (the default)
+	 * or {@code lirs}.
+	 *
+	 * @see org.hibernate.query.QueryPlanCacheEvictionPolicy
+	 *
+	 * @since 6.0
+	 */
+	String QUERY_PLAN_CACHE_EVICTION_POLICY = "hibernate.query.plan_cache_eviction_policy";
+
+	/**
+	 * The path of a file used to persist the HQL query strings held by the query plan cache
+	 * between restarts.  The snapshot is written when the SessionFactory is closed, and the
+	 * queries it contains are interpreted and cached when the next SessionFactory for the same
+	 * domain model is started.  Not set by default, meaning no snapshot is used.
+	 *
+	 * @see org.hibernate.query.internal.QueryInterpretationCacheSnapshot
+	 *
+	 * @since 6.0
+	 */
+	String QUERY_PLAN_CACHE_SNAPSHOT_FILE = "hibernate.query.plan_cache_snapshot_file";
+
 	/**
 	 * The maximum number of {@link ParameterMetadataImpl} maintained
 	 * by {@link QueryInterpretationCache}. Default is 128.
@@ -2210,6 +2398,31 @@ public interface AvailableSettings {
 	 */
 	String IN_CLAUSE_PARAMETER_PADDING = "hibernate.query.in_clause_parameter_padding";
 
+	/**
+	 * A comma-separated list of IN clause sizes to pad to when {@link #IN_CLAUSE_PARAMETER_PADDING}
+	 * is enabled, e.g. {@code 10,50,100,500}.  An IN clause is padded to the smallest bucket which
+	 * can hold all of its bind parameter values; IN clauses larger than the last bucket are not padded.
+	 * </p>
+	 * By default, IN clauses are padded to the next power of two.
+	 *
+	 * @since 6.0
+	 */
+	String IN_CLAUSE_PARAMETER_PADDING_BUCKETS = "hibernate.query.in_clause_parameter_padding_buckets";
+
+	/**
+	 * The number of bind parameter values from which an IN clause is rendered as a comparison with a
+	 * single array parameter ({@code = any(?)}) rather than as a list of parameters, on databases which
+	 * support it (see {@link org.hibernate.dialect.Dialect#supportsInListArrayBinding()}).
+	 * </p>
+	 * This also applies to {@linkplain org.hibernate.Session#byMultipleIds multi-id loading}, which then
+	 * loads all ids with a single statement rather than in batches.
+	 * </p>
+	 * The default value is {@code 0}, meaning IN clauses are never rendered using an array parameter.
+	 *
+	 * @since 6.0
+	 */
+	String IN_CLAUSE_ARRAY_BINDING_THRESHOLD = "hibernate.query.in_clause_array_binding_threshold";
+
 	/**
 	 * This setting controls the number of {@link org.hibernate.stat.QueryStatistics} entries
 	 * that will be stored by the Hibernate {@link org.hibernate.stat.Statistics} object.
@@ -70,6 +70,8 @@ public abstract class AbstractPersistentCollection<E> implements Serializable, P
 	private boolean dirty;
 	protected boolean elementRemoved;
 	private Serializable storedSnapshot;
+	// the snapshot to copy before the first modification, if any
+	private transient CopyOnWriteSnapshot copyOnWriteSnapshot;
 
 	private String sessionFactoryUuid;
 	private boolean allowLoadOutsideTransaction;
@@ -131,7 +133,7 @@ public abstract class AbstractPersistentCollection<E> implements Serializable, P
 
 	@Override
 	public final Serializable getStoredSnapshot() {
-		return storedSnapshot;
+		return CopyOnWriteSnapshot.resolve( storedSnapshot );
 	}
 
 	//Careful: these methods do not initialize the collection.
@@ -507,6 +509,47 @@ public abstract class AbstractPersistentCollection<E> implements Serializable, P
 		this.key = key;
 		this.role = role;
 		this.storedSnapshot = snapshot;
+		if ( snapshot != copyOnWriteSnapshot ) {
+			copyOnWriteSnapshot = null;
+		}
+	}
+
+	/**
+	 * Take the snapshot of the collection used to detect its changes on flush, as
+	 * {@link #getSnapshot(CollectionPersister)} does, unless the copy can be deferred
+	 * to the first modification of the collection, in which case a {@link CopyOnWriteSnapshot}
+	 * is returned.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#COPY_ON_WRITE_COLLECTION_SNAPSHOTS
+	 */
+	public Serializable takeSnapshot(CollectionPersister persister) {
+		if ( isCopyOnWriteSnapshotPossible( persister ) ) {
+			copyOnWriteSnapshot = new CopyOnWriteSnapshot( this, persister );
+			return copyOnWriteSnapshot;
+		}
+		else {
+			copyOnWriteSnapshot = null;
+			return getSnapshot( persister );
+		}
+	}
+
+	/**
+	 * Does every modification of this collection go through {@link #write()} or
+	 * {@link #initialize(boolean) initialize(true)}, so that the copy of its snapshot
+	 * may be deferred to its first modification?
+	 */
+	protected boolean isCopyOnWriteSnapshotSupported() {
+		return false;
+	}
+
+	private boolean isCopyOnWriteSnapshotPossible(CollectionPersister persister) {
+		return persister.getFactory().getSessionFactoryOptions().isCopyOnWriteCollectionSnapshotsEnabled()
+				&& isCopyOnWriteSnapshotSupported()
+				// the application might modify the wrapped collection directly
+				&& !isDirectlyAccessible()
+				// elements which can be modified in place must be copied
+				&& !persister.getElementType().isMutable()
+				&& ( !persister.hasIndex() || !persister.getIndexType().isMutable() );
 	}
 
 	@Override
@@ -559,21 +602,25 @@ public abstract class AbstractPersistentCollection<E> implements Serializable, P
 	 * Initialize the collection, if possible, wrapping any exceptions
 	 * in a runtime exception
 	 *
-	 * @param writing currently obsolete
+	 * @param writing whether the collection is about to be modified
 	 *
 	 * @throws LazyInitializationException if we cannot initialize
 	 */
 	protected final void initialize(final boolean writing) {
-		if ( initialized ) {
-			return;
+		if ( !initialized ) {
+			withTemporarySessionIfNeeded(
+					() -> {
+						session.initializeCollection( AbstractPersistentCollection.this, writing );
+						return null;
+					}
+			);
 		}
 
-		withTemporarySessionIfNeeded(
-				() -> {
-					session.initializeCollection( AbstractPersistentCollection.this, writing );
-					return null;
-				}
-		);
+		if ( writing && copyOnWriteSnapshot != null ) {
+			// the snapshot must be copied before the first modification
+			copyOnWriteSnapshot.getCopy();
+			copyOnWriteSnapshot = null;
+		}
 	}
 
 	private void throwLazyInitializationExceptionIfNotConnected() {
@@ -775,7 +822,7 @@ public abstract class AbstractPersistentCollection<E> implements Serializable, P
 	 * Get the current snapshot from the session
 	 */
 	protected final Serializable getSnapshot() {
-		return session.getPersistenceContext().getSnapshot( this );
+		return CopyOnWriteSnapshot.resolve( session.getPersistenceContext().getSnapshot( this ) );
 	}
 
 	@Override
@@ -0,0 +1,67 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.collection.internal;
+
+import java.io.Serializable;
+
+import org.hibernate.persister.collection.CollectionPersister;
+
+/**
+ * The snapshot of a collection which has not been modified since it was loaded or flushed,
+ * stored in place of a copy of its elements when
+ * {@value org.hibernate.cfg.AvailableSettings#COPY_ON_WRITE_COLLECTION_SNAPSHOTS} is enabled.
+ * <p/>
+ * While the collection is unmodified, its snapshot is its current state, so the copy is only
+ * taken right before its first modification, or when the snapshot is read.  This is only
+ * safe when the elements (and the index) of the collection cannot be modified in place, that
+ * is, when they are entities or immutable values.
+ * <p/>
+ * The snapshot is shared by the collection and its {@link org.hibernate.engine.spi.CollectionEntry},
+ * and is serialized as the copy.
+ */
+public final class CopyOnWriteSnapshot implements Serializable {
+	private final transient AbstractPersistentCollection<?> collection;
+	private final transient CollectionPersister persister;
+
+	private Serializable copy;
+
+	CopyOnWriteSnapshot(AbstractPersistentCollection<?> collection, CollectionPersister persister) {
+		this.collection = collection;
+		this.persister = persister;
+	}
+
+	/**
+	 * Has the copy of the collection been taken?  If not, the collection was not modified
+	 * since the snapshot.
+	 */
+	public boolean isCopied() {
+		return copy != null;
+	}
+
+	/**
+	 * The copy of the collection, taken if needed
+	 */
+	public Serializable getCopy() {
+		if ( copy == null ) {
+			copy = collection.getSnapshot( persister );
+		}
+		return copy;
+	}
+
+	/**
+	 * Resolve the given snapshot to the copy of the collection, if it is a {@link CopyOnWriteSnapshot}
+	 */
+	public static Serializable resolve(Serializable snapshot) {
+		return snapshot instanceof CopyOnWriteSnapshot
+				? ( (CopyOnWriteSnapshot) snapshot ).getCopy()
+				: snapshot;
+	}
+
+	private Object writeReplace() {
+		return getCopy();
+	}
+}
@@ -117,6 +117,11 @@ public class PersistentBag<E> extends AbstractPersistentCollection<E> implements
 		return bag.isEmpty();
 	}
 
+	@Override
+	protected boolean isCopyOnWriteSnapshotSupported() {
+		return true;
+	}
+
 	@Override
 	public Iterator<E> entries(CollectionPersister persister) {
 		return bag.iterator();
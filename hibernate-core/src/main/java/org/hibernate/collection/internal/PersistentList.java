@@ -400,6 +400,11 @@ public class PersistentList<E> extends AbstractPersistentCollection<E> implement
 		return list.isEmpty();
 	}
 
+	@Override
+	protected boolean isCopyOnWriteSnapshotSupported() {
+		return true;
+	}
+
 	@Override
 	public String toString() {
 		read();
@@ -260,6 +260,11 @@ public class PersistentMap<K,E> extends AbstractPersistentCollection<E> implemen
 		return map.isEmpty();
 	}
 
+	@Override
+	protected boolean isCopyOnWriteSnapshotSupported() {
+		return true;
+	}
+
 	@Override
 	public String toString() {
 		read();
@@ -162,6 +162,11 @@ public class PersistentSet<E> extends AbstractPersistentCollection<E> implements
 		return set.isEmpty();
 	}
 
+	@Override
+	protected boolean isCopyOnWriteSnapshotSupported() {
+		return true;
+	}
+
 	@Override
 	public int size() {
 		return readSize() ? getCachedSize() : set.size();
@@ -2415,6 +2415,19 @@ public abstract class Dialect implements ConversionContext {
 		return supportsUnionAll();
 	}
 
+	/**
+	 * Does this dialect support comparing a value with the elements of an
+	 * array parameter, that is, {@code x = any(?)}, which allows binding
+	 * the values of an IN list as a single array parameter.
+	 *
+	 * @return True if IN lists may be bound as an array; false otherwise.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#IN_CLAUSE_ARRAY_BINDING_THRESHOLD
+	 */
+	public boolean supportsInListArrayBinding() {
+		return false;
+	}
+
 	// miscellaneous support ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
 	/**
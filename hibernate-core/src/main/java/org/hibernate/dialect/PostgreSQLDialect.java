@@ -495,6 +495,11 @@ public class PostgreSQLDialect extends Dialect {
 		return getVersion().isSameOrAfter( 9, 1 );
 	}
 
+	@Override
+	public boolean supportsInListArrayBinding() {
+		return true;
+	}
+
 	@Override
 	public SequenceSupport getSequenceSupport() {
 		return getVersion().isBefore( 8, 2 )
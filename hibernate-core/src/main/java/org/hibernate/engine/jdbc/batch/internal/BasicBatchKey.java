@@ -6,6 +6,8 @@
  */
 package org.hibernate.engine.jdbc.batch.internal;
 
+import java.util.Set;
+
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
 import org.hibernate.jdbc.Expectation;
 
@@ -18,6 +20,8 @@ public class BasicBatchKey implements BatchKey {
 	private final String comparison;
 	private final int statementCount;
 	private final Expectation expectation;
+	private final Set<String> writtenTables;
+	private final Set<String> referencedTables;
 
 	/**
 	 * Constructs a BasicBatchKey
@@ -26,9 +30,28 @@ public class BasicBatchKey implements BatchKey {
 	 * @param expectation The expectation for the batch
 	 */
 	public BasicBatchKey(String comparison, Expectation expectation) {
+		this( comparison, expectation, null, null );
+	}
+
+	/**
+	 * Constructs a BasicBatchKey for a batch whose statements are known to only depend on the rows
+	 * of the given tables.
+	 *
+	 * @param comparison A string used to compare batch keys.
+	 * @param expectation The expectation for the batch
+	 * @param writtenTables The tables written by the statements of the batch
+	 * @param referencedTables The tables referenced by the rows written by the statements of the batch
+	 */
+	public BasicBatchKey(
+			String comparison,
+			Expectation expectation,
+			Set<String> writtenTables,
+			Set<String> referencedTables) {
 		this.comparison = comparison;
 		this.statementCount = 1;
 		this.expectation = expectation;
+		this.writtenTables = writtenTables;
+		this.referencedTables = referencedTables;
 	}
 
 	@Override
@@ -41,6 +64,23 @@ public class BasicBatchKey implements BatchKey {
 		return statementCount;
 	}
 
+	@Override
+	public boolean mayDependOn(BatchKey other) {
+		if ( referencedTables == null || !( other instanceof BasicBatchKey ) ) {
+			return true;
+		}
+		final Set<String> otherWrittenTables = ( (BasicBatchKey) other ).writtenTables;
+		if ( otherWrittenTables == null ) {
+			return true;
+		}
+		for ( String table : referencedTables ) {
+			if ( otherWrittenTables.contains( table ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if ( this == o ) {
@@ -29,4 +29,20 @@ public interface BatchKey {
 	 * @return The expectations
 	 */
 	Expectation getExpectation();
+
+	/**
+	 * Whether the statements of the batch associated with this key may depend on the rows written by
+	 * the statements of the batch associated with the given key, for example through a foreign key.
+	 * <p/>
+	 * Used when {@linkplain org.hibernate.cfg.AvailableSettings#BATCH_INTERLEAVED_STATEMENTS interleaving}
+	 * batches: a statement is only added to an open batch when it does not depend on the batches opened
+	 * after it.  By default, a dependency is assumed.
+	 *
+	 * @param other The key of another batch
+	 *
+	 * @return {@code false} if the statements of this batch can safely be executed before those of the other one
+	 */
+	default boolean mayDependOn(BatchKey other) {
+		return true;
+	}
 }
@@ -13,6 +13,9 @@ import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 
 import org.hibernate.ConnectionReleaseMode;
 import org.hibernate.HibernateException;
@@ -20,6 +23,7 @@ import org.hibernate.TransactionException;
 import org.hibernate.engine.jdbc.batch.spi.Batch;
 import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.batch.spi.BatchObserver;
 import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
 import org.hibernate.engine.jdbc.spi.InvalidatableWrapper;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
@@ -36,6 +40,7 @@ import org.hibernate.jdbc.WorkExecutorVisitable;
 import org.hibernate.resource.jdbc.ResourceRegistry;
 import org.hibernate.resource.jdbc.internal.LogicalConnectionManagedImpl;
 import org.hibernate.resource.jdbc.internal.LogicalConnectionProvidedImpl;
+import org.hibernate.resource.jdbc.internal.PreparedStatementCache;
 import org.hibernate.resource.jdbc.internal.ResourceRegistryStandardImpl;
 import org.hibernate.resource.jdbc.spi.JdbcSessionOwner;
 import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
@@ -60,6 +65,18 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 
 	private transient Batch currentBatch;
 
+	/**
+	 * The batches which are open at the same time, in the order they were opened, when
+	 * {@linkplain org.hibernate.cfg.AvailableSettings#BATCH_INTERLEAVED_STATEMENTS interleaving} batches.
+	 */
+	private transient LinkedHashMap<BatchKey, Batch> openBatches;
+
+	/**
+	 * The prepared statements cached for the logical connection, or null if
+	 * {@linkplain org.hibernate.cfg.AvailableSettings#STATEMENT_CACHE_SIZE statement caching} is disabled.
+	 */
+	private transient PreparedStatementCache statementCache;
+
 	private transient long transactionTimeOutInstant = -1;
 
 	private Statement lastQuery;
@@ -81,8 +98,16 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 			JdbcServices jdbcServices) {
 		this.isUserSuppliedConnection = userSuppliedConnection != null;
 
+		final int statementCacheSize = owner.getJdbcSessionContext()
+				.getSessionFactory()
+				.getSessionFactoryOptions()
+				.getJdbcStatementCacheSize();
+		if ( statementCacheSize > 0 ) {
+			this.statementCache = new PreparedStatementCache( statementCacheSize );
+		}
 		final ResourceRegistry resourceRegistry = new ResourceRegistryStandardImpl(
-				owner.getJdbcSessionContext().getObserver()
+				owner.getJdbcSessionContext().getObserver(),
+				statementCache
 		);
 		if ( isUserSuppliedConnection ) {
 			this.logicalConnection = new LogicalConnectionProvidedImpl( userSuppliedConnection, resourceRegistry );
@@ -165,6 +190,9 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 				LOG.closingUnreleasedBatch();
 				currentBatch.release();
 			}
+			if ( openBatches != null ) {
+				releaseOpenBatches();
+			}
 		}
 		finally {
 			connection = logicalConnection.close();
@@ -174,22 +202,129 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 
 	@Override
 	public Batch getBatch(BatchKey key) {
-		if ( currentBatch != null ) {
-			if ( currentBatch.getKey().equals( key ) ) {
-				return currentBatch;
-			}
-			else {
+		if ( currentBatch != null && currentBatch.getKey().equals( key ) ) {
+			return currentBatch;
+		}
+		if ( isBatchInterleavingEnabled() ) {
+			currentBatch = getOpenBatch( key );
+		}
+		else {
+			if ( currentBatch != null ) {
 				currentBatch.execute();
 				currentBatch.release();
 			}
+			currentBatch = batchBuilder().buildBatch( key, this );
 		}
-		currentBatch = batchBuilder().buildBatch( key, this );
 		return currentBatch;
 	}
 
+	PreparedStatementCache getStatementCache() {
+		return statementCache;
+	}
+
+	boolean isBatchInterleavingEnabled() {
+		return sessionFactory().getSessionFactoryOptions().isJdbcBatchInterleavingEnabled();
+	}
+
+	private Batch getOpenBatch(BatchKey key) {
+		if ( openBatches == null ) {
+			openBatches = new LinkedHashMap<>();
+		}
+		final Batch openBatch = openBatches.get( key );
+		if ( openBatch != null ) {
+			if ( !dependsOnLaterBatches( key ) ) {
+				return openBatch;
+			}
+			// the statement could reference rows which are still pending in the batches opened later
+			executeBatches( removeOpenBatches( null ) );
+		}
+
+		final Batch batch = batchBuilder().buildBatch( key, this );
+		batch.addObserver(
+				new BatchObserver() {
+					@Override
+					public void batchExplicitlyExecuted() {
+					}
+
+					@Override
+					public void batchImplicitlyExecuted() {
+						// the rows of the full batch may reference rows still pending in the batches opened before it
+						executeBatches( removeOpenBatches( key ) );
+					}
+				}
+		);
+		openBatches.put( key, batch );
+		return batch;
+	}
+
+	private boolean dependsOnLaterBatches(BatchKey key) {
+		boolean later = false;
+		for ( BatchKey openBatchKey : openBatches.keySet() ) {
+			if ( later ) {
+				if ( key.mayDependOn( openBatchKey ) ) {
+					return true;
+				}
+			}
+			else if ( openBatchKey.equals( key ) ) {
+				later = true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Removes the open batches opened before the batch with the given key, or all of them if no key is given.
+	 */
+	private List<Batch> removeOpenBatches(BatchKey upTo) {
+		final List<Batch> batches = new ArrayList<>( openBatches.size() );
+		for ( Batch batch : openBatches.values() ) {
+			if ( batch.getKey().equals( upTo ) ) {
+				break;
+			}
+			batches.add( batch );
+		}
+		if ( batches.size() == openBatches.size() ) {
+			openBatches.clear();
+		}
+		else {
+			for ( Batch batch : batches ) {
+				openBatches.remove( batch.getKey() );
+			}
+		}
+		return batches;
+	}
+
+	private void executeBatches(List<Batch> batches) {
+		int executed = 0;
+		try {
+			while ( executed < batches.size() ) {
+				final Batch batch = batches.get( executed++ );
+				batch.execute();
+				batch.release();
+			}
+		}
+		finally {
+			// release the batches which were not executed because of a failure
+			for ( int i = executed; i < batches.size(); i++ ) {
+				batches.get( i ).release();
+			}
+		}
+	}
+
+	private void releaseOpenBatches() {
+		final List<Batch> batches = removeOpenBatches( null );
+		for ( Batch batch : batches ) {
+			batch.release();
+		}
+	}
+
 	@Override
 	public void executeBatch() {
-		if ( currentBatch != null ) {
+		if ( openBatches != null ) {
+			currentBatch = null;
+			executeBatches( removeOpenBatches( null ) );
+		}
+		else if ( currentBatch != null ) {
 			currentBatch.execute();
 			// needed?
 			currentBatch.release();
@@ -201,6 +336,10 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 		if ( currentBatch != null ) {
 			currentBatch.release();
 		}
+		if ( openBatches != null ) {
+			currentBatch = null;
+			releaseOpenBatches();
+		}
 	}
 
 	private transient StatementPreparer statementPreparer;
@@ -18,6 +18,7 @@ import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
 import org.hibernate.engine.jdbc.spi.StatementPreparer;
+import org.hibernate.resource.jdbc.internal.PreparedStatementCache;
 import org.hibernate.resource.jdbc.spi.JdbcObserver;
 import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
 
@@ -81,6 +82,14 @@ class StatementPreparerImpl implements StatementPreparer {
 		return buildPreparedStatementPreparationTemplate( sql, isCallable ).prepareStatement();
 	}
 
+	@Override
+	public PreparedStatement prepareBatchStatement(String sql, boolean isCallable) {
+		if ( !jdbcCoordinator.isBatchInterleavingEnabled() ) {
+			jdbcCoordinator.executeBatch();
+		}
+		return buildPreparedStatementPreparationTemplate( sql, isCallable ).prepareStatement();
+	}
+
 	private StatementPreparationTemplate buildPreparedStatementPreparationTemplate(String sql, final boolean isCallable) {
 		return new StatementPreparationTemplate( sql ) {
 			@Override
@@ -89,6 +98,11 @@ class StatementPreparerImpl implements StatementPreparer {
 						? connection().prepareCall( sql )
 						: connection().prepareStatement( sql );
 			}
+
+			@Override
+			protected PreparedStatementCache.Key cacheKey() {
+				return isCallable ? null : defaultCacheKey( sql );
+			}
 		};
 	}
 
@@ -108,6 +122,11 @@ class StatementPreparerImpl implements StatementPreparer {
 			public PreparedStatement doPrepare() throws SQLException {
 				return connection().prepareStatement( sql, autoGeneratedKeys );
 			}
+
+			@Override
+			protected PreparedStatementCache.Key cacheKey() {
+				return new PreparedStatementCache.Key( sql, autoGeneratedKeys );
+			}
 		}.prepareStatement();
 	}
 
@@ -119,6 +138,11 @@ class StatementPreparerImpl implements StatementPreparer {
 			public PreparedStatement doPrepare() throws SQLException {
 				return connection().prepareStatement( sql, columnNames );
 			}
+
+			@Override
+			protected PreparedStatementCache.Key cacheKey() {
+				return new PreparedStatementCache.Key( sql, columnNames );
+			}
 		}.prepareStatement();
 	}
 
@@ -137,6 +161,13 @@ class StatementPreparerImpl implements StatementPreparer {
 								? connection().prepareCall( sql, scrollMode.toResultSetType(), ResultSet.CONCUR_READ_ONLY )
 								: connection().prepareStatement( sql, scrollMode.toResultSetType(), ResultSet.CONCUR_READ_ONLY );
 				}
+
+				@Override
+				protected PreparedStatementCache.Key cacheKey() {
+					return isCallable
+							? null
+							: new PreparedStatementCache.Key( sql, scrollMode.toResultSetType(), ResultSet.CONCUR_READ_ONLY );
+				}
 			}.prepareStatement();
 			jdbcCoordinator.registerLastQuery( ps );
 			return ps;
@@ -148,6 +179,11 @@ class StatementPreparerImpl implements StatementPreparer {
 								? connection().prepareCall( sql )
 								: connection().prepareStatement( sql );
 				}
+
+				@Override
+				protected PreparedStatementCache.Key cacheKey() {
+					return isCallable ? null : defaultCacheKey( sql );
+				}
 			}.prepareStatement();
 			jdbcCoordinator.registerLastQuery( ps );
 			return ps;
@@ -169,16 +205,23 @@ class StatementPreparerImpl implements StatementPreparer {
 			try {
 				jdbcServices.getSqlStatementLogger().logStatement( sql );
 
-				final PreparedStatement preparedStatement;
-				final JdbcObserver observer = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getObserver();
-				try {
-					observer.jdbcPrepareStatementStart();
-					preparedStatement = doPrepare();
-					setStatementTimeout( preparedStatement );
-				}
-				finally {
-					observer.jdbcPrepareStatementEnd();
+				final PreparedStatementCache statementCache = jdbcCoordinator.getStatementCache();
+				final PreparedStatementCache.Key cacheKey = statementCache == null ? null : cacheKey();
+				PreparedStatement preparedStatement = cacheKey == null ? null : statementCache.take( cacheKey );
+				if ( preparedStatement == null ) {
+					final JdbcObserver observer = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getObserver();
+					try {
+						observer.jdbcPrepareStatementStart();
+						preparedStatement = doPrepare();
+					}
+					finally {
+						observer.jdbcPrepareStatementEnd();
+					}
+					if ( cacheKey != null ) {
+						statementCache.add( cacheKey, preparedStatement );
+					}
 				}
+				setStatementTimeout( preparedStatement );
 				postProcess( preparedStatement );
 				return preparedStatement;
 			}
@@ -189,6 +232,13 @@ class StatementPreparerImpl implements StatementPreparer {
 
 		protected abstract PreparedStatement doPrepare() throws SQLException;
 
+		/**
+		 * The key under which the prepared statement may be cached, or {@code null} if it may not be cached
+		 */
+		protected PreparedStatementCache.Key cacheKey() {
+			return null;
+		}
+
 		public void postProcess(PreparedStatement preparedStatement) throws SQLException {
 			jdbcCoordinator.getResourceRegistry().register( preparedStatement, true );
 //			logicalConnection().notifyObserversStatementPrepared();
@@ -213,6 +263,10 @@ class StatementPreparerImpl implements StatementPreparer {
 		}
 	}
 
+	private static PreparedStatementCache.Key defaultCacheKey(String sql) {
+		return new PreparedStatementCache.Key( sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY );
+	}
+
 	private void setStatementFetchSize(PreparedStatement statement) throws SQLException {
 		if ( settings().getJdbcFetchSize() != null ) {
 			statement.setFetchSize( settings().getJdbcFetchSize() );
@@ -10,14 +10,15 @@ import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
+import java.util.PriorityQueue;
 import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentLinkedQueue;
@@ -1040,40 +1041,26 @@ public class ActionQueue {
 			private final String entityName;
 			private final String rootEntityName;
 
+			// position of the first insertion of the entity, so that independent batches keep their order
+			private final int index;
+
 			private Set<String> parentEntityNames = new HashSet<>( );
 
 			private Set<String> childEntityNames = new HashSet<>( );
 
-			private BatchIdentifier parent;
+			// the batches which have to be inserted after this one
+			private final List<BatchIdentifier> successors = new ArrayList<>();
+
+			// state of the search for dependency cycles
+			private int visitIndex = -1;
+			private int lowLink;
+			private boolean onStack;
+			private BatchGroup group;
 
-			BatchIdentifier(String entityName, String rootEntityName) {
+			BatchIdentifier(String entityName, String rootEntityName, int index) {
 				this.entityName = entityName;
 				this.rootEntityName = rootEntityName;
-			}
-
-			public BatchIdentifier getParent() {
-				return parent;
-			}
-
-			public void setParent(BatchIdentifier parent) {
-				this.parent = parent;
-			}
-
-			@Override
-			public boolean equals(Object o) {
-				if ( this == o ) {
-					return true;
-				}
-				if ( !( o instanceof BatchIdentifier ) ) {
-					return false;
-				}
-				BatchIdentifier that = (BatchIdentifier) o;
-				return Objects.equals( entityName, that.entityName );
-			}
-
-			@Override
-			public int hashCode() {
-				return Objects.hash( entityName );
+				this.index = index;
 			}
 
 			String getEntityName() {
@@ -1091,162 +1078,178 @@ public class ActionQueue {
 			Set<String> getChildEntityNames() {
 				return childEntityNames;
 			}
+		}
 
-			boolean hasAnyParentEntityNames(BatchIdentifier batchIdentifier) {
-				return parentEntityNames.contains( batchIdentifier.getEntityName() ) ||
-						parentEntityNames.contains( batchIdentifier.getRootEntityName() );
-			}
-
-			boolean hasAnyChildEntityNames(BatchIdentifier batchIdentifier) {
-				return childEntityNames.contains( batchIdentifier.getEntityName() );
-			}
-
-			/**
-			 * Check if this {@link BatchIdentifier} has a parent or grand parent
-			 * matching the given {@link BatchIdentifier} reference.
-			 *
-			 * @param batchIdentifier {@link BatchIdentifier} reference
-			 *
-			 * @return This {@link BatchIdentifier} has a parent matching the given {@link BatchIdentifier} reference
-			 */
-			boolean hasParent(BatchIdentifier batchIdentifier) {
-				return (
-					parent == batchIdentifier
-					|| parentEntityNames.contains( batchIdentifier.getEntityName() )
-					|| ( parentEntityNames.contains( batchIdentifier.getRootEntityName() ) && !this.getEntityName().equals( batchIdentifier.getRootEntityName() ) )
-					|| parent != null && parent.hasParent( batchIdentifier, new ArrayList<>() )
-				);
-			}
-
-			private boolean hasParent(BatchIdentifier batchIdentifier, List<BatchIdentifier> stack) {
-				if ( !stack.contains( this ) && parent != null ) {
-					stack.add( this );
-					return parent.hasParent( batchIdentifier, stack );
-				}
-				return (
-					parent == batchIdentifier
-					|| parentEntityNames.contains( batchIdentifier.getEntityName() )
-				);
+		/**
+		 * The batches of the entities which are part of the same dependency cycle, or a single batch.
+		 * The insertions of a cycle cannot be grouped by entity, and keep their original order.
+		 */
+		private static class BatchGroup {
+			private final int index;
+			private final List<AbstractEntityInsertAction> insertions = new ArrayList<>();
+			private final List<BatchGroup> successors = new ArrayList<>();
+			private int predecessorCount;
+
+			BatchGroup(int index) {
+				this.index = index;
 			}
 		}
 
-		// the map of batch numbers to EntityInsertAction lists
-		private Map<BatchIdentifier, List<AbstractEntityInsertAction>> actionBatches;
-
 		public InsertActionSorter() {
 		}
 
 		/**
 		 * Sort the insert actions.
+		 * <p>
+		 * The batches of each entity are ordered topologically (Kahn's algorithm) according to the dependencies
+		 * between the entities, in time linear to the number of insertions and dependencies.
 		 */
 		public void sort(List<AbstractEntityInsertAction> insertions) {
-			// optimize the hash size to eliminate a rehash.
-			this.actionBatches = new HashMap<>();
-
-			// the mapping of entity names to their latest batch numbers.
-			final List<BatchIdentifier> latestBatches = new ArrayList<>();
+			final Map<String, BatchIdentifier> batchesByEntityName = new HashMap<>();
+			final List<BatchIdentifier> batches = new ArrayList<>();
+			final BatchIdentifier[] insertionBatches = new BatchIdentifier[insertions.size()];
 
+			int position = 0;
 			for ( AbstractEntityInsertAction action : insertions ) {
-				BatchIdentifier batchIdentifier = new BatchIdentifier(
-						action.getEntityName(),
-						action.getSession()
-								.getFactory()
-								.getMetamodel()
-								.entityPersister( action.getEntityName() )
-								.getRootEntityName()
-				);
-
-				int index = latestBatches.indexOf( batchIdentifier );
-
-				if ( index != -1 )  {
-					batchIdentifier = latestBatches.get( index );
-				}
-				else {
-					latestBatches.add( batchIdentifier );
+				BatchIdentifier batchIdentifier = batchesByEntityName.get( action.getEntityName() );
+				if ( batchIdentifier == null ) {
+					batchIdentifier = new BatchIdentifier(
+							action.getEntityName(),
+							action.getPersister().getRootEntityName(),
+							batches.size()
+					);
+					batchesByEntityName.put( batchIdentifier.getEntityName(), batchIdentifier );
+					batches.add( batchIdentifier );
 				}
 				addParentChildEntityNames( action, batchIdentifier );
-				addToBatch( batchIdentifier, action );
+				insertionBatches[position++] = batchIdentifier;
 			}
 
-			// Examine each entry in the batch list, and build the dependency graph.
-			for ( int i = 0; i < latestBatches.size(); i++ ) {
-				BatchIdentifier batchIdentifier = latestBatches.get( i );
+			if ( batches.size() < 2 ) {
+				return;
+			}
 
-				for ( int j = i - 1; j >= 0; j-- ) {
-					BatchIdentifier prevBatchIdentifier = latestBatches.get( j );
-					if ( prevBatchIdentifier.hasAnyParentEntityNames( batchIdentifier ) ) {
-						prevBatchIdentifier.parent = batchIdentifier;
-					}
-					else if ( batchIdentifier.hasAnyChildEntityNames( prevBatchIdentifier ) ) {
-						prevBatchIdentifier.parent = batchIdentifier;
+			// Build the dependency graph.  A batch depends on the batches of its parent entities, and of their
+			// subclasses, and on the batches of the entities which have it as a child.
+			final Map<String, List<BatchIdentifier>> batchesByRootEntityName = new HashMap<>();
+			for ( BatchIdentifier batchIdentifier : batches ) {
+				batchesByRootEntityName.computeIfAbsent( batchIdentifier.getRootEntityName(), name -> new ArrayList<>() )
+						.add( batchIdentifier );
+			}
+			for ( BatchIdentifier batchIdentifier : batches ) {
+				for ( String parentEntityName : batchIdentifier.getParentEntityNames() ) {
+					addDependency( batchesByEntityName.get( parentEntityName ), batchIdentifier );
+					final List<BatchIdentifier> hierarchyBatches = batchesByRootEntityName.get( parentEntityName );
+					if ( hierarchyBatches != null ) {
+						for ( BatchIdentifier hierarchyBatch : hierarchyBatches ) {
+							addDependency( hierarchyBatch, batchIdentifier );
+						}
 					}
 				}
-
-				for ( int j = i + 1; j < latestBatches.size(); j++ ) {
-					BatchIdentifier nextBatchIdentifier = latestBatches.get( j );
-
-					if ( nextBatchIdentifier.hasAnyParentEntityNames( batchIdentifier ) ) {
-						nextBatchIdentifier.parent = batchIdentifier;
-						nextBatchIdentifier.getParentEntityNames().add( batchIdentifier.getEntityName() );
-					}
-					else if ( batchIdentifier.hasAnyChildEntityNames( nextBatchIdentifier ) ) {
-						nextBatchIdentifier.parent = batchIdentifier;
-						nextBatchIdentifier.getParentEntityNames().add( batchIdentifier.getEntityName() );
-					}
+				for ( String childEntityName : batchIdentifier.getChildEntityNames() ) {
+					addDependency( batchIdentifier, batchesByEntityName.get( childEntityName ) );
 				}
 			}
 
-			boolean sorted = false;
-
-			long maxIterations = latestBatches.size() * latestBatches.size();
-			long iterations = 0;
-
-			sort:
-			do {
-				// Examine each entry in the batch list, sorting them based on parent/child association
-				// as depicted by the dependency graph.
-				iterations++;
-
-				for ( int i = 0; i < latestBatches.size(); i++ ) {
-					BatchIdentifier batchIdentifier = latestBatches.get( i );
-
-					// Iterate next batches and make sure that children types are after parents.
-					// Since the outer loop looks at each batch entry individually and the prior loop will reorder
-					// entries as well, we need to look and verify if the current batch is a child of the next
-					// batch or if the current batch is seen as a parent or child of the next batch.
-					for ( int j = i + 1; j < latestBatches.size(); j++ ) {
-						BatchIdentifier nextBatchIdentifier = latestBatches.get( j );
+			// Group the batches of each dependency cycle, the dependencies between the groups are acyclic.
+			final List<BatchGroup> groups = new ArrayList<>();
+			final ArrayDeque<BatchIdentifier> stack = new ArrayDeque<>();
+			final int[] visitCounter = new int[1];
+			for ( BatchIdentifier batchIdentifier : batches ) {
+				if ( batchIdentifier.visitIndex < 0 ) {
+					groupCycles( batchIdentifier, stack, visitCounter, groups );
+				}
+			}
 
-						if ( batchIdentifier.hasParent( nextBatchIdentifier ) ) {
-							if ( nextBatchIdentifier.hasParent( batchIdentifier ) ) {
-								//cycle detected, no need to continue
-								break sort;
-							}
+			if ( groups.size() < batches.size() && LOG.isDebugEnabled() ) {
+				LOG.debugf(
+						"Insertions of %s entities which depend on each other are not grouped by entity",
+						batches.size() - groups.size()
+				);
+			}
 
-							latestBatches.remove( batchIdentifier );
-							latestBatches.add( j, batchIdentifier );
+			for ( BatchIdentifier batchIdentifier : batches ) {
+				for ( BatchIdentifier successor : batchIdentifier.successors ) {
+					if ( successor.group != batchIdentifier.group ) {
+						batchIdentifier.group.successors.add( successor.group );
+						successor.group.predecessorCount++;
+					}
+				}
+			}
+			for ( int i = 0; i < insertionBatches.length; i++ ) {
+				insertionBatches[i].group.insertions.add( insertions.get( i ) );
+			}
 
-							continue sort;
-						}
+			// Now, rebuild the insertions list, taking the groups in dependency order, and otherwise in their
+			// original order.
+			insertions.clear();
+			final PriorityQueue<BatchGroup> readyGroups = new PriorityQueue<>(
+					groups.size(),
+					Comparator.comparingInt( (BatchGroup group) -> group.index )
+			);
+			for ( BatchGroup group : groups ) {
+				if ( group.predecessorCount == 0 ) {
+					readyGroups.add( group );
+				}
+			}
+			while ( !readyGroups.isEmpty() ) {
+				final BatchGroup group = readyGroups.poll();
+				insertions.addAll( group.insertions );
+				for ( BatchGroup successor : group.successors ) {
+					if ( --successor.predecessorCount == 0 ) {
+						readyGroups.add( successor );
 					}
 				}
-				sorted = true;
 			}
-			while ( !sorted && iterations <= maxIterations );
+		}
 
-			if ( iterations > maxIterations ) {
-				LOG.warn( "The batch containing " + latestBatches.size() + " statements could not be sorted after " + maxIterations + " iterations. " +
-								"This might indicate a circular entity relationship." );
+		private static void addDependency(BatchIdentifier parent, BatchIdentifier child) {
+			if ( parent != null && child != null && parent != child ) {
+				parent.successors.add( child );
 			}
+		}
 
-			// Now, rebuild the insertions list. There is a batch for each entry in the name list.
-			if ( sorted ) {
-				insertions.clear();
+		/**
+		 * Tarjan's algorithm for finding the strongly connected components of the dependency graph.
+		 */
+		private static void groupCycles(
+				BatchIdentifier batchIdentifier,
+				ArrayDeque<BatchIdentifier> stack,
+				int[] visitCounter,
+				List<BatchGroup> groups) {
+			batchIdentifier.visitIndex = visitCounter[0];
+			batchIdentifier.lowLink = visitCounter[0];
+			visitCounter[0]++;
+			stack.push( batchIdentifier );
+			batchIdentifier.onStack = true;
+
+			for ( BatchIdentifier successor : batchIdentifier.successors ) {
+				if ( successor.visitIndex < 0 ) {
+					groupCycles( successor, stack, visitCounter, groups );
+					batchIdentifier.lowLink = Math.min( batchIdentifier.lowLink, successor.lowLink );
+				}
+				else if ( successor.onStack ) {
+					batchIdentifier.lowLink = Math.min( batchIdentifier.lowLink, successor.visitIndex );
+				}
+			}
+
+			if ( batchIdentifier.lowLink == batchIdentifier.visitIndex ) {
+				final List<BatchIdentifier> members = new ArrayList<>();
+				int index = Integer.MAX_VALUE;
+				BatchIdentifier member;
+				do {
+					member = stack.pop();
+					member.onStack = false;
+					members.add( member );
+					index = Math.min( index, member.index );
+				}
+				while ( member != batchIdentifier );
 
-				for ( BatchIdentifier rootIdentifier : latestBatches ) {
-					List<AbstractEntityInsertAction> batch = actionBatches.get( rootIdentifier );
-					insertions.addAll( batch );
+				final BatchGroup group = new BatchGroup( index );
+				for ( BatchIdentifier groupMember : members ) {
+					groupMember.group = group;
 				}
+				groups.add( group );
 			}
 		}
 
@@ -1337,17 +1340,6 @@ public class ActionQueue {
 				}
 			}
 		}
-
-		private void addToBatch(BatchIdentifier batchIdentifier, AbstractEntityInsertAction action) {
-			List<AbstractEntityInsertAction> actions = actionBatches.get( batchIdentifier );
-
-			if ( actions == null ) {
-				actions = new LinkedList<>();
-				actionBatches.put( batchIdentifier, actions );
-			}
-			actions.add( action );
-		}
-
 	}
 
 	private abstract static class ListProvider<T extends Executable & Comparable & Serializable> {
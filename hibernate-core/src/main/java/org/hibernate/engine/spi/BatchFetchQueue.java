@@ -59,6 +59,12 @@ public class BatchFetchQueue {
 	 */
 	private Map<String, LinkedHashMap<CollectionEntry, PersistentCollection>> batchLoadableCollections;
 
+	/**
+	 * The identifiers of the last batch of entities loaded for each entity type, used to adapt the batch sizes
+	 * to how many of the entities loaded by a batch are actually used.
+	 */
+	private Map<String, Object[]> lastEntityBatches;
+
 	/**
 	 * Constructs a queue for the given context.
 	 *
@@ -77,6 +83,7 @@ public class BatchFetchQueue {
 		batchLoadableEntityKeys = null;
 		batchLoadableCollections = null;
 		subselectsByEntityKey = null;
+		lastEntityBatches = null;
 	}
 
 
@@ -237,6 +244,33 @@ public class BatchFetchQueue {
 		return ids;
 	}
 
+	/**
+	 * Get the identifiers of the batch of entities last loaded for the given type, for adaptive batch fetching.
+	 *
+	 * @param entityDescriptor The type of the loaded entities
+	 * @return The identifiers, as returned by {@link #getBatchLoadableEntityIds}; may return null if no batch
+	 * was loaded for this type.
+	 */
+	public Object[] getLastEntityBatch(EntityMappingType entityDescriptor) {
+		if ( lastEntityBatches == null ) {
+			return null;
+		}
+		return lastEntityBatches.get( entityDescriptor.getEntityName() );
+	}
+
+	/**
+	 * Remember the identifiers of a batch of entities which was just loaded, for adaptive batch fetching.
+	 *
+	 * @param entityDescriptor The type of the loaded entities
+	 * @param ids The identifiers, as returned by {@link #getBatchLoadableEntityIds}
+	 */
+	public void setLastEntityBatch(EntityMappingType entityDescriptor, Object[] ids) {
+		if ( lastEntityBatches == null ) {
+			lastEntityBatches = CollectionHelper.mapOfSize( 12 );
+		}
+		lastEntityBatches.put( entityDescriptor.getEntityName(), ids );
+	}
+
 	private boolean isCached(EntityKey entityKey, EntityPersister persister) {
 		final SharedSessionContractImplementor session = context.getSession();
 		if ( context.getSession().getCacheMode().isGetEnabled() && persister.canReadFromCache() ) {
@@ -11,11 +11,13 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.Collection;
+import java.util.Collections;
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.HibernateException;
 import org.hibernate.MappingException;
 import org.hibernate.collection.internal.AbstractPersistentCollection;
+import org.hibernate.collection.internal.CopyOnWriteSnapshot;
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
@@ -70,9 +72,7 @@ public final class CollectionEntry implements Serializable {
 
 		collection.clearDirty(); //a newly wrapped collection is NOT dirty (or we get unnecessary version updates)
 
-		snapshot = persister.isMutable() ?
-				collection.getSnapshot( persister ) :
-				null;
+		snapshot = takeSnapshot( collection, persister );
 		collection.setSnapshot( loadedKey, role, snapshot );
 	}
 
@@ -198,9 +198,7 @@ public final class CollectionEntry implements Serializable {
 
 	public void postInitialize(PersistentCollection collection) throws HibernateException {
 		final CollectionPersister loadedPersister = getLoadedPersister();
-		snapshot = loadedPersister.isMutable()
-				? collection.getSnapshot( loadedPersister )
-				: null;
+		snapshot = takeSnapshot( collection, loadedPersister );
 		collection.setSnapshot(loadedKey, role, snapshot);
 		if ( loadedPersister.getBatchSize() > 1 ) {
 			( (AbstractPersistentCollection) collection ).getSession()
@@ -233,14 +231,35 @@ public final class CollectionEntry implements Serializable {
 		boolean resnapshot = collection.wasInitialized() &&
 				( isDoremove() || isDorecreate() || isDoupdate() );
 		if ( resnapshot ) {
-			snapshot = loadedPersister == null || !loadedPersister.isMutable() ?
+			snapshot = loadedPersister == null ?
 					null :
-					collection.getSnapshot( loadedPersister ); //re-snapshot
+					takeSnapshot( collection, loadedPersister ); //re-snapshot
 		}
 
 		collection.postAction();
 	}
 
+	private static Serializable takeSnapshot(PersistentCollection collection, CollectionPersister persister) {
+		if ( !persister.isMutable() ) {
+			return null;
+		}
+		else if ( collection instanceof AbstractPersistentCollection ) {
+			return ( (AbstractPersistentCollection) collection ).takeSnapshot( persister );
+		}
+		else {
+			return collection.getSnapshot( persister );
+		}
+	}
+
+	/**
+	 * Is the snapshot a {@link CopyOnWriteSnapshot} which was not copied, that is,
+	 * was the collection not modified since the snapshot?
+	 */
+	public boolean isSnapshotUncopied() {
+		return snapshot instanceof CopyOnWriteSnapshot
+				&& !( (CopyOnWriteSnapshot) snapshot ).isCopied();
+	}
+
 	public Object getKey() {
 		return getLoadedKey();
 	}
@@ -249,8 +268,12 @@ public final class CollectionEntry implements Serializable {
 		return role;
 	}
 
+	/**
+	 * The snapshot of the collection.  A {@link CopyOnWriteSnapshot} is resolved to its copy,
+	 * which is taken if needed.
+	 */
 	public Serializable getSnapshot() {
-		return snapshot;
+		return CopyOnWriteSnapshot.resolve( snapshot );
 	}
 
 	private boolean fromMerge;
@@ -384,7 +407,11 @@ public final class CollectionEntry implements Serializable {
 		if ( snapshot == null ) {
 			throw new AssertionFailure( "no collection snapshot for orphan delete" );
 		}
-		return collection.getOrphans( snapshot, entityName );
+		if ( isSnapshotUncopied() ) {
+			// no element was removed since the snapshot
+			return Collections.emptyList();
+		}
+		return collection.getOrphans( CopyOnWriteSnapshot.resolve( snapshot ), entityName );
 	}
 
 	public boolean isSnapshotEmpty(PersistentCollection collection) {
@@ -392,6 +419,9 @@ public final class CollectionEntry implements Serializable {
 		//      does the collection already have
 		//      it's own up-to-date snapshot?
 		final CollectionPersister loadedPersister = getLoadedPersister();
+		if ( isSnapshotUncopied() ) {
+			return collection.wasInitialized() && collection.empty();
+		}
 		return collection.wasInitialized() &&
 			( loadedPersister ==null || loadedPersister.isMutable() ) &&
 			collection.isSnapshotEmpty( getSnapshot() );
@@ -98,6 +98,16 @@ public final class EntityKey implements Serializable {
 	}
 
 	private boolean sameIdentifier(final EntityKey otherKey) {
+		final Object otherIdentifier = otherKey.identifier;
+		if ( otherIdentifier == identifier ) {
+			return true;
+		}
+		// fast path for the most common identifier types, skipping the dispatch through the identifier Type
+		final Class<?> identifierClass = identifier.getClass();
+		if ( ( identifierClass == Long.class || identifierClass == Integer.class )
+				&& otherIdentifier.getClass() == identifierClass ) {
+			return identifier.equals( otherIdentifier );
+		}
 		return persister.getIdentifierType().isEqual( otherKey.identifier, this.identifier, persister.getFactory() );
 	}
 
@@ -15,6 +15,7 @@ import org.hibernate.action.internal.CollectionRecreateAction;
 import org.hibernate.action.internal.CollectionRemoveAction;
 import org.hibernate.action.internal.CollectionUpdateAction;
 import org.hibernate.action.internal.QueuedOperationCollectionAction;
+import org.hibernate.bytecode.enhance.spi.interceptor.EnhancementAsProxyLazinessInterceptor;
 import org.hibernate.engine.internal.Cascade;
 import org.hibernate.engine.internal.CascadePoint;
 import org.hibernate.engine.internal.Collections;
@@ -25,6 +26,8 @@ import org.hibernate.engine.spi.CascadingActions;
 import org.hibernate.engine.spi.CollectionKey;
 import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.PersistentAttributeInterceptable;
+import org.hibernate.engine.spi.SelfDirtinessTracker;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.Status;
 import org.hibernate.event.service.spi.EventListenerGroup;
@@ -145,6 +148,10 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 			EntityEntry entry = me.getValue();
 			Status status = entry.getStatus();
 			if ( status == Status.MANAGED || status == Status.SAVING || status == Status.READ_ONLY ) {
+				if ( !entry.getPersister().hasCascades() && !getCascadingAction().requiresNoCascadeChecking() ) {
+					// nothing to cascade
+					continue;
+				}
 				cascadeOnFlush( session, entry.getPersister(), me.getKey(), anything );
 			}
 		}
@@ -199,6 +206,10 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 	 * 1. detect any dirty entities
 	 * 2. schedule any entity updates
 	 * 3. search out any reachable collections
+	 *
+	 * Every entity entry is visited, the session does not keep track of possibly dirty entities.
+	 * Entries which are known to be clean without a dirty check are merely skipped cheaply, see
+	 * {@link #isUnequivocallyClean}, while entities which are not enhanced are always dirty checked.
 	 */
 	private int flushEntities(final FlushEvent event, final PersistenceContext persistenceContext) throws HibernateException {
 
@@ -217,6 +228,8 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 		final Map.Entry<Object,EntityEntry>[] entityEntries = persistenceContext.reentrantSafeEntityEntries();
 		final int count = entityEntries.length;
 
+		final boolean skipCleanEntities = isDefaultFlushEntityListenerOnly( flushListeners );
+
 		for ( Map.Entry<Object,EntityEntry> me : entityEntries ) {
 			// Update the status of the object and if necessary, schedule an update
 
@@ -224,6 +237,9 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 			Status status = entry.getStatus();
 
 			if ( status != Status.LOADING && status != Status.GONE ) {
+				if ( skipCleanEntities && isUnequivocallyClean( me.getKey(), entry ) ) {
+					continue;
+				}
 				final FlushEntityEvent entityEvent = new FlushEntityEvent( source, me.getKey(), entry );
 				flushListeners.fireEventOnEachListener( entityEvent, FlushEntityEventListener::onFlushEntity );
 			}
@@ -234,6 +250,46 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 		return count;
 	}
 
+	private static boolean isDefaultFlushEntityListenerOnly(EventListenerGroup<FlushEntityEventListener> flushListeners) {
+		if ( flushListeners.count() != 1 ) {
+			return false;
+		}
+		for ( FlushEntityEventListener listener : flushListeners.listeners() ) {
+			return listener.getClass() == DefaultFlushEntityEventListener.class;
+		}
+		return false;
+	}
+
+	/**
+	 * Is flushing the given entity a no-op for {@link DefaultFlushEntityEventListener}?  That is the
+	 * case for managed entities without collections which either are immutable, or track their own
+	 * dirtiness through bytecode enhancement and have no dirty attribute.  Such entities are skipped
+	 * without creating a {@link FlushEntityEvent}.  Writes to entities which are not enhanced cannot
+	 * be observed, so those are never considered clean here.
+	 *
+	 * @see EntityEntry#requiresDirtyCheck
+	 */
+	private static boolean isUnequivocallyClean(Object entity, EntityEntry entry) {
+		final EntityPersister persister = entry.getPersister();
+		if ( entry.getStatus() != Status.MANAGED
+				|| entry.getLoadedState() == null
+				|| persister.hasCollections() ) {
+			return false;
+		}
+		if ( !entry.isModifiableEntity() ) {
+			return true;
+		}
+		if ( entity instanceof SelfDirtinessTracker && !persister.hasMutableProperties() ) {
+			if ( entity instanceof PersistentAttributeInterceptable
+					&& ( (PersistentAttributeInterceptable) entity ).$$_hibernate_getInterceptor()
+							instanceof EnhancementAsProxyLazinessInterceptor ) {
+				return false;
+			}
+			return !( (SelfDirtinessTracker) entity ).$$_hibernate_hasDirtyAttributes();
+		}
+		return false;
+	}
+
 	/**
 	 * process any unreferenced collections and then inspect all known collections,
 	 * scheduling creates/removes/updates
@@ -0,0 +1,174 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.id.enhanced;
+
+import java.io.Serializable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.hibernate.HibernateException;
+import org.hibernate.id.IdentifierGeneratorHelper;
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.internal.CoreMessageLogger;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Variation of {@link PooledLoOptimizer} for high insert rates: values are handed out from the
+ * current range without locking, and the next range is obtained from the database once half of
+ * the current range has been handed out, so that threads do not have to wait for the database
+ * when the current range is exhausted.
+ * <p/>
+ * The next range is obtained by the thread which happens to hand out the value at the middle of
+ * the current range, through its own {@link AccessCallback}, while other threads keep generating
+ * values from the current range.  Threads only wait on a lock when the current range is exhausted
+ * before the next one was obtained.  Unlike {@link PooledLoThreadLocalOptimizer}, a single range
+ * is shared by all threads.
+ * <p/>
+ * As the next range is obtained ahead of time, at most one range is left unused when the
+ * SessionFactory is closed.
+ *
+ * @see PooledLoOptimizer
+ */
+public class PooledLoConcurrentOptimizer extends AbstractOptimizer {
+	private static final CoreMessageLogger LOG = Logger.getMessageLogger(
+			CoreMessageLogger.class,
+			PooledLoConcurrentOptimizer.class.getName()
+	);
+
+	private final GenerationState noTenantState = new GenerationState();
+	private final ConcurrentHashMap<String, GenerationState> tenantSpecificState = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructs a PooledLoConcurrentOptimizer.
+	 *
+	 * @param returnClass The Java type of the values to be generated
+	 * @param incrementSize The increment size.
+	 */
+	public PooledLoConcurrentOptimizer(Class returnClass, int incrementSize) {
+		super( returnClass, incrementSize );
+		if ( incrementSize < 1 ) {
+			throw new HibernateException( "increment size cannot be less than 1" );
+		}
+		LOG.creatingPooledLoOptimizer( incrementSize, returnClass.getName() );
+	}
+
+	@Override
+	public Serializable generate(AccessCallback callback) {
+		final GenerationState generationState = locateGenerationState( callback.getTenantIdentifier() );
+		while ( true ) {
+			final Range range = generationState.current;
+			if ( range != null ) {
+				final long value = range.next.getAndIncrement();
+				if ( value < range.upperLimit ) {
+					if ( value == range.prefetchValue ) {
+						generationState.prefetch( range, callback, incrementSize );
+					}
+					return makeValue( value );
+				}
+			}
+			generationState.advance( range, callback, incrementSize );
+		}
+	}
+
+	private Serializable makeValue(long value) {
+		if ( returnClass == Long.class ) {
+			return value;
+		}
+		else if ( returnClass == Integer.class ) {
+			return (int) value;
+		}
+		else if ( returnClass == Short.class ) {
+			return (short) value;
+		}
+		else {
+			return IdentifierGeneratorHelper.getIntegralDataTypeHolder( returnClass ).initialize( value ).makeValue();
+		}
+	}
+
+	private GenerationState locateGenerationState(String tenantIdentifier) {
+		if ( tenantIdentifier == null ) {
+			return noTenantState;
+		}
+		else {
+			return tenantSpecificState.computeIfAbsent( tenantIdentifier, t -> new GenerationState() );
+		}
+	}
+
+	@Override
+	public IntegralDataTypeHolder getLastSourceValue() {
+		return noTenantState.lastSourceValue;
+	}
+
+	@Override
+	public boolean applyIncrementSizeToSourceValues() {
+		return true;
+	}
+
+	private static class GenerationState {
+		private final ReentrantLock lock = new ReentrantLock();
+		// the range values are currently handed out from
+		private volatile Range current;
+		// the range obtained ahead of time, guarded by the lock
+		private Range prefetched;
+		// last value read from db source
+		private volatile IntegralDataTypeHolder lastSourceValue;
+
+		private void prefetch(Range range, AccessCallback callback, int incrementSize) {
+			// never wait here: if the lock is held, the next range is already being obtained
+			if ( lock.tryLock() ) {
+				try {
+					if ( current == range && prefetched == null ) {
+						prefetched = fetch( callback, incrementSize );
+					}
+				}
+				finally {
+					lock.unlock();
+				}
+			}
+		}
+
+		private void advance(Range exhausted, AccessCallback callback, int incrementSize) {
+			lock.lock();
+			try {
+				// another thread may already have moved to the next range
+				if ( current == exhausted ) {
+					if ( prefetched != null ) {
+						current = prefetched;
+						prefetched = null;
+					}
+					else {
+						current = fetch( callback, incrementSize );
+					}
+				}
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		private Range fetch(AccessCallback callback, int incrementSize) {
+			final IntegralDataTypeHolder sourceValue = callback.getNextValue();
+			lastSourceValue = sourceValue;
+			return new Range( sourceValue.copy().makeValue().longValue(), incrementSize );
+		}
+	}
+
+	private static class Range {
+		private final AtomicLong next;
+		private final long upperLimit;
+		private final long prefetchValue;
+
+		private Range(long sourceValue, int incrementSize) {
+			// handle cases where initial-value is less that one (hsqldb for instance).
+			this.next = new AtomicLong( Math.max( sourceValue, 1 ) );
+			this.upperLimit = sourceValue + incrementSize;
+			this.prefetchValue = incrementSize > 1 ? sourceValue + incrementSize / 2 : Long.MIN_VALUE;
+		}
+	}
+}
@@ -324,7 +324,10 @@ public class SessionFactoryImpl implements SessionFactoryImplementor {
 			this.queryEngine.prepare( this, bootMetamodel, bootstrapContext );
 
 			if ( options.isNamedQueryStartupCheckingEnabled() ) {
-				final Map<String, HibernateException> errors = queryEngine.getNamedObjectRepository().checkNamedQueries( queryEngine );
+				final Map<String, HibernateException> errors = queryEngine.getNamedObjectRepository().checkNamedQueries(
+						queryEngine,
+						options.getNamedQueryStartupCheckingParallelism()
+				);
 
 				if ( !errors.isEmpty() ) {
 					StringBuilder failingQueries = new StringBuilder( "Errors in named queries: " );
@@ -23,4 +23,25 @@ public final class MathHelper {
 	public static int ceilingPowerOfTwo(int value) {
 		return 1 << -Integer.numberOfLeadingZeros(value - 1);
 	}
+
+	/**
+	 * Returns the smallest of the ascending {@code buckets} that is greater than or equal to {@code value}.
+	 * The result is capped at the largest bucket, so it is smaller than {@code value} if {@code value} is
+	 * greater than all buckets.  If no buckets are given, this is the same as {@link #ceilingPowerOfTwo(int)}.
+	 *
+	 * @param value reference number
+	 * @param buckets ascending bucket sizes, or {@code null}
+	 * @return smallest bucket able to hold {@code value}, or the largest bucket
+	 */
+	public static int ceilingBucket(int value, int[] buckets) {
+		if ( buckets == null ) {
+			return ceilingPowerOfTwo( value );
+		}
+		for ( int bucket : buckets ) {
+			if ( bucket >= value ) {
+				return bucket;
+			}
+		}
+		return buckets.length == 0 ? value : buckets[buckets.length - 1];
+	}
 }
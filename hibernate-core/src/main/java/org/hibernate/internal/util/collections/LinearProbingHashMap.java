@@ -0,0 +1,405 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.internal.util.collections;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * A hash map using open addressing with linear probing, storing keys, values and hashes in
+ * parallel arrays instead of allocating an entry object per mapping.
+ * <p>
+ * Meant for large maps whose keys cache their hash code and may have a costly {@code equals},
+ * such as {@link org.hibernate.engine.spi.EntityKey} and {@link org.hibernate.engine.spi.CollectionKey}:
+ * the hash of each mapping is kept so that {@code equals} is only called for keys with the same hash,
+ * and resizing never calls {@code hashCode}.
+ * <p>
+ * Null keys are not supported.  The views returned by {@link #keySet()}, {@link #values()} and
+ * {@link #entrySet()} do not support removal; their iterators are fail-fast.
+ */
+public final class LinearProbingHashMap<K, V> extends AbstractMap<K, V> {
+	private static final int MINIMUM_CAPACITY = 8;
+	private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+	private Object[] keys;
+	private Object[] values;
+	private int[] hashes;
+	private int size;
+	private int threshold;
+	private int modCount;
+
+	private Set<Entry<K, V>> entrySet;
+
+	public LinearProbingHashMap() {
+		this( MINIMUM_CAPACITY );
+	}
+
+	/**
+	 * @param expectedSize The number of mappings the map should be able to hold without resizing
+	 */
+	public LinearProbingHashMap(int expectedSize) {
+		allocate( capacityFor( expectedSize ) );
+	}
+
+	private static int capacityFor(int expectedSize) {
+		// keep the load factor at or below 2/3
+		final long minimumCapacity = Math.max( MINIMUM_CAPACITY, (long) expectedSize * 3 / 2 + 1 );
+		if ( minimumCapacity >= MAXIMUM_CAPACITY ) {
+			return MAXIMUM_CAPACITY;
+		}
+		return Integer.highestOneBit( (int) minimumCapacity - 1 ) << 1;
+	}
+
+	private void allocate(int capacity) {
+		keys = new Object[capacity];
+		values = new Object[capacity];
+		hashes = new int[capacity];
+		threshold = capacity == MAXIMUM_CAPACITY ? MAXIMUM_CAPACITY - 1 : capacity / 3 * 2;
+	}
+
+	private static int hash(Object key) {
+		// the hash codes of keys such as EntityKey are poorly distributed in the low bits for sequential ids
+		final int h = key.hashCode() * 0x9E3779B9;
+		return h ^ ( h >>> 16 );
+	}
+
+	private int indexOf(Object key) {
+		if ( key == null ) {
+			return -1;
+		}
+		final int hash = hash( key );
+		final int mask = keys.length - 1;
+		int index = hash & mask;
+		while ( true ) {
+			final Object candidate = keys[index];
+			if ( candidate == null ) {
+				return -1;
+			}
+			if ( candidate == key || ( hashes[index] == hash && candidate.equals( key ) ) ) {
+				return index;
+			}
+			index = ( index + 1 ) & mask;
+		}
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return indexOf( key ) >= 0;
+	}
+
+	@Override
+	public boolean containsValue(Object value) {
+		for ( int i = 0; i < keys.length; i++ ) {
+			if ( keys[i] != null && Objects.equals( values[i], value ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V get(Object key) {
+		final int index = indexOf( key );
+		return index < 0 ? null : (V) values[index];
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V put(K key, V value) {
+		Objects.requireNonNull( key );
+		final int hash = hash( key );
+		final int mask = keys.length - 1;
+		int index = hash & mask;
+		while ( true ) {
+			final Object candidate = keys[index];
+			if ( candidate == null ) {
+				break;
+			}
+			if ( candidate == key || ( hashes[index] == hash && candidate.equals( key ) ) ) {
+				final V previous = (V) values[index];
+				values[index] = value;
+				return previous;
+			}
+			index = ( index + 1 ) & mask;
+		}
+
+		keys[index] = key;
+		values[index] = value;
+		hashes[index] = hash;
+		modCount++;
+		if ( ++size > threshold ) {
+			resize();
+		}
+		return null;
+	}
+
+	private void resize() {
+		final Object[] oldKeys = keys;
+		final Object[] oldValues = values;
+		final int[] oldHashes = hashes;
+		if ( oldKeys.length == MAXIMUM_CAPACITY ) {
+			throw new IllegalStateException( "Map is full" );
+		}
+
+		allocate( oldKeys.length << 1 );
+		final int mask = keys.length - 1;
+		for ( int i = 0; i < oldKeys.length; i++ ) {
+			if ( oldKeys[i] != null ) {
+				int index = oldHashes[i] & mask;
+				while ( keys[index] != null ) {
+					index = ( index + 1 ) & mask;
+				}
+				keys[index] = oldKeys[i];
+				values[index] = oldValues[i];
+				hashes[index] = oldHashes[i];
+			}
+		}
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V remove(Object key) {
+		final int index = indexOf( key );
+		if ( index < 0 ) {
+			return null;
+		}
+		final V previous = (V) values[index];
+		removeAt( index );
+		return previous;
+	}
+
+	private void removeAt(int index) {
+		modCount++;
+		size--;
+
+		// shift back the following mappings of the probe sequence, so that lookups never
+		// stop at the freed slot before reaching them (no tombstones needed)
+		final int mask = keys.length - 1;
+		int free = index;
+		int current = index;
+		while ( true ) {
+			current = ( current + 1 ) & mask;
+			final Object key = keys[current];
+			if ( key == null ) {
+				break;
+			}
+			final int ideal = hashes[current] & mask;
+			// move the mapping unless its ideal slot lies cyclically within (free, current]
+			final boolean reachable = free <= current
+					? free < ideal && ideal <= current
+					: free < ideal || ideal <= current;
+			if ( !reachable ) {
+				keys[free] = key;
+				values[free] = values[current];
+				hashes[free] = hashes[current];
+				free = current;
+			}
+		}
+		keys[free] = null;
+		values[free] = null;
+	}
+
+	@Override
+	public void clear() {
+		if ( size > 0 ) {
+			modCount++;
+			size = 0;
+			Arrays.fill( keys, null );
+			Arrays.fill( values, null );
+		}
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void forEach(BiConsumer<? super K, ? super V> action) {
+		final int expectedModCount = modCount;
+		for ( int i = 0; i < keys.length; i++ ) {
+			if ( keys[i] != null ) {
+				action.accept( (K) keys[i], (V) values[i] );
+			}
+		}
+		if ( modCount != expectedModCount ) {
+			throw new ConcurrentModificationException();
+		}
+	}
+
+	@Override
+	public Set<Entry<K, V>> entrySet() {
+		if ( entrySet == null ) {
+			entrySet = new AbstractSet<Entry<K, V>>() {
+				@Override
+				public Iterator<Entry<K, V>> iterator() {
+					return new SlotIterator<Entry<K, V>>() {
+						@Override
+						Entry<K, V> element(int index) {
+							return new SlotEntry( index );
+						}
+					};
+				}
+
+				@Override
+				public int size() {
+					return size;
+				}
+			};
+		}
+		return entrySet;
+	}
+
+	@Override
+	public Set<K> keySet() {
+		return new AbstractSet<K>() {
+			@Override
+			@SuppressWarnings("unchecked")
+			public Iterator<K> iterator() {
+				return new SlotIterator<K>() {
+					@Override
+					K element(int index) {
+						return (K) keys[index];
+					}
+				};
+			}
+
+			@Override
+			public boolean contains(Object o) {
+				return containsKey( o );
+			}
+
+			@Override
+			public int size() {
+				return size;
+			}
+		};
+	}
+
+	@Override
+	public Collection<V> values() {
+		return new AbstractCollection<V>() {
+			@Override
+			@SuppressWarnings("unchecked")
+			public Iterator<V> iterator() {
+				return new SlotIterator<V>() {
+					@Override
+					V element(int index) {
+						return (V) values[index];
+					}
+				};
+			}
+
+			@Override
+			public int size() {
+				return size;
+			}
+		};
+	}
+
+	private abstract class SlotIterator<E> implements Iterator<E> {
+		private final int expectedModCount = modCount;
+		private int next = advance( 0 );
+
+		private int advance(int from) {
+			int index = from;
+			while ( index < keys.length && keys[index] == null ) {
+				index++;
+			}
+			return index;
+		}
+
+		abstract E element(int index);
+
+		@Override
+		public boolean hasNext() {
+			return next < keys.length;
+		}
+
+		@Override
+		public E next() {
+			if ( modCount != expectedModCount ) {
+				throw new ConcurrentModificationException();
+			}
+			if ( next >= keys.length ) {
+				throw new NoSuchElementException();
+			}
+			final E element = element( next );
+			next = advance( next + 1 );
+			return element;
+		}
+	}
+
+	private final class SlotEntry implements Entry<K, V> {
+		private final int index;
+		private final K key;
+
+		@SuppressWarnings("unchecked")
+		private SlotEntry(int index) {
+			this.index = index;
+			this.key = (K) keys[index];
+		}
+
+		@Override
+		public K getKey() {
+			return key;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public V getValue() {
+			return keys[index] == key ? (V) values[index] : get( key );
+		}
+
+		@Override
+		public V setValue(V value) {
+			if ( keys[index] == key ) {
+				@SuppressWarnings("unchecked")
+				final V previous = (V) values[index];
+				values[index] = value;
+				return previous;
+			}
+			return put( key, value );
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( !( o instanceof Map.Entry ) ) {
+				return false;
+			}
+			final Entry<?, ?> other = (Entry<?, ?>) o;
+			return key.equals( other.getKey() ) && Objects.equals( getValue(), other.getValue() );
+		}
+
+		@Override
+		public int hashCode() {
+			return key.hashCode() ^ Objects.hashCode( getValue() );
+		}
+
+		@Override
+		public String toString() {
+			return key + "=" + getValue();
+		}
+	}
+}
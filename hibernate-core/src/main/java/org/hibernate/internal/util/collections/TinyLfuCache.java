@@ -0,0 +1,525 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.internal.util.collections;
+
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import org.hibernate.internal.util.MathHelper;
+
+/**
+ * A bounded concurrent map using the W-TinyLFU eviction policy.
+ * <p/>
+ * New entries are first placed in a small LRU "window".  Entries falling out of the window
+ * are only admitted to the main (segmented LRU) space if they have been requested more often
+ * than the entry which would have to be evicted to make room for them, as estimated by a
+ * compact frequency sketch of recent requests (including requests for absent keys).  This
+ * keeps a burst of one-off entries from flushing frequently used ones.
+ * <p/>
+ * Reads never block: reordering entries on access is skipped when the eviction lock is
+ * contended.  Iteration works on a snapshot of the entries.
+ */
+public class TinyLfuCache<K, V> extends AbstractMap<K, V> implements ConcurrentMap<K, V> {
+	private static final int NEW = 0;
+	private static final int WINDOW = 1;
+	private static final int PROBATION = 2;
+	private static final int PROTECTED = 3;
+	private static final int DEAD = 4;
+
+	private final int maximumSize;
+	private final int maximumWindowSize;
+	private final int maximumProtectedSize;
+	private final Consumer<K> evictionListener;
+
+	private final ConcurrentHashMap<K, Node<K, V>> data;
+	private final FrequencySketch sketch;
+
+	// all guarded by evictionLock
+	private final ReentrantLock evictionLock = new ReentrantLock();
+	private final AccessOrderList<K, V> window = new AccessOrderList<>();
+	private final AccessOrderList<K, V> probation = new AccessOrderList<>();
+	private final AccessOrderList<K, V> protectedSpace = new AccessOrderList<>();
+	private int size;
+	private int windowSize;
+	private int protectedSize;
+
+	public TinyLfuCache(int maximumSize) {
+		this( maximumSize, key -> {} );
+	}
+
+	/**
+	 * @param maximumSize The maximum number of entries
+	 * @param evictionListener Notified of the key of each entry evicted to respect the maximum size
+	 */
+	public TinyLfuCache(int maximumSize, Consumer<K> evictionListener) {
+		if ( maximumSize < 0 ) {
+			throw new IllegalArgumentException( "maximumSize must not be negative : " + maximumSize );
+		}
+		this.maximumSize = maximumSize;
+		this.maximumWindowSize = Math.max( 1, maximumSize / 100 );
+		this.maximumProtectedSize = (int) ( ( maximumSize - Math.min( maximumSize, maximumWindowSize ) ) * 0.8 );
+		this.evictionListener = evictionListener;
+		this.data = new ConcurrentHashMap<>( Math.min( maximumSize, 1 << 16 ) );
+		this.sketch = new FrequencySketch( maximumSize );
+	}
+
+	@Override
+	public V get(Object key) {
+		sketch.increment( key );
+		final Node<K, V> node = data.get( key );
+		if ( node == null ) {
+			return null;
+		}
+		afterRead( node );
+		return node.value;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return data.containsKey( key );
+	}
+
+	@Override
+	public int size() {
+		return data.size();
+	}
+
+	@Override
+	public V put(K key, V value) {
+		return put( key, value, false );
+	}
+
+	@Override
+	public V putIfAbsent(K key, V value) {
+		return put( key, value, true );
+	}
+
+	private V put(K key, V value, boolean onlyIfAbsent) {
+		Objects.requireNonNull( key );
+		Objects.requireNonNull( value );
+
+		Node<K, V> existing = data.get( key );
+		if ( existing == null ) {
+			final Node<K, V> node = new Node<>( key, value );
+			existing = data.putIfAbsent( key, node );
+			if ( existing == null ) {
+				sketch.increment( key );
+				afterWrite( node );
+				return null;
+			}
+		}
+
+		final V previous;
+		synchronized ( existing ) {
+			previous = existing.value;
+			if ( !onlyIfAbsent ) {
+				existing.value = value;
+			}
+		}
+		afterRead( existing );
+		return previous;
+	}
+
+	@Override
+	public V remove(Object key) {
+		final Node<K, V> node = data.remove( key );
+		if ( node == null ) {
+			return null;
+		}
+		afterRemoval( node );
+		return node.value;
+	}
+
+	@Override
+	public boolean remove(Object key, Object value) {
+		final Node<K, V> node = data.get( key );
+		if ( node == null || !Objects.equals( node.value, value ) || !data.remove( key, node ) ) {
+			return false;
+		}
+		afterRemoval( node );
+		return true;
+	}
+
+	@Override
+	public boolean replace(K key, V oldValue, V newValue) {
+		Objects.requireNonNull( newValue );
+		final Node<K, V> node = data.get( key );
+		if ( node == null ) {
+			return false;
+		}
+		synchronized ( node ) {
+			if ( !Objects.equals( node.value, oldValue ) ) {
+				return false;
+			}
+			node.value = newValue;
+		}
+		afterRead( node );
+		return true;
+	}
+
+	@Override
+	public V replace(K key, V value) {
+		Objects.requireNonNull( value );
+		final Node<K, V> node = data.get( key );
+		if ( node == null ) {
+			return null;
+		}
+		final V previous;
+		synchronized ( node ) {
+			previous = node.value;
+			node.value = value;
+		}
+		afterRead( node );
+		return previous;
+	}
+
+	@Override
+	public void clear() {
+		evictionLock.lock();
+		try {
+			data.clear();
+			window.clear();
+			probation.clear();
+			protectedSpace.clear();
+			size = 0;
+			windowSize = 0;
+			protectedSize = 0;
+		}
+		finally {
+			evictionLock.unlock();
+		}
+	}
+
+	/**
+	 * A snapshot of the entries
+	 */
+	@Override
+	public Set<Entry<K, V>> entrySet() {
+		final Set<Entry<K, V>> entries = new HashSet<>( data.size() );
+		for ( Node<K, V> node : data.values() ) {
+			entries.add( new SimpleImmutableEntry<>( node.key, node.value ) );
+		}
+		return Collections.unmodifiableSet( entries );
+	}
+
+	private void afterRead(Node<K, V> node) {
+		// reordering is best effort, never make readers wait
+		if ( evictionLock.tryLock() ) {
+			try {
+				onAccess( node );
+			}
+			finally {
+				evictionLock.unlock();
+			}
+		}
+	}
+
+	private void afterWrite(Node<K, V> node) {
+		evictionLock.lock();
+		try {
+			if ( node.state == NEW ) {
+				node.state = WINDOW;
+				window.addLast( node );
+				windowSize++;
+				size++;
+				evictEntries();
+			}
+		}
+		finally {
+			evictionLock.unlock();
+		}
+	}
+
+	private void afterRemoval(Node<K, V> node) {
+		evictionLock.lock();
+		try {
+			unlink( node );
+		}
+		finally {
+			evictionLock.unlock();
+		}
+	}
+
+	private void onAccess(Node<K, V> node) {
+		switch ( node.state ) {
+			case WINDOW:
+				window.moveToLast( node );
+				break;
+			case PROBATION:
+				// promote to the protected space, demoting the least recently used protected entry if needed
+				probation.remove( node );
+				node.state = PROTECTED;
+				protectedSpace.addLast( node );
+				protectedSize++;
+				if ( protectedSize > maximumProtectedSize ) {
+					final Node<K, V> demoted = protectedSpace.pollFirst();
+					protectedSize--;
+					demoted.state = PROBATION;
+					probation.addLast( demoted );
+				}
+				break;
+			case PROTECTED:
+				protectedSpace.moveToLast( node );
+				break;
+			default:
+				// not linked (yet/anymore)
+		}
+	}
+
+	private void evictEntries() {
+		// entries leaving the window compete with the main space's victim for admission
+		while ( windowSize > maximumWindowSize ) {
+			final Node<K, V> candidate = window.pollFirst();
+			windowSize--;
+			if ( size > maximumSize ) {
+				final Node<K, V> victim = probation.isEmpty() ? protectedSpace.peekFirst() : probation.peekFirst();
+				if ( victim != null ) {
+					if ( sketch.frequency( candidate.key ) > sketch.frequency( victim.key ) ) {
+						evict( victim );
+					}
+					else {
+						candidate.state = DEAD;
+						size--;
+						evicted( candidate );
+						continue;
+					}
+				}
+			}
+			candidate.state = PROBATION;
+			probation.addLast( candidate );
+		}
+
+		while ( size > maximumSize ) {
+			Node<K, V> victim = probation.peekFirst();
+			if ( victim == null ) {
+				victim = protectedSpace.peekFirst();
+			}
+			if ( victim == null ) {
+				victim = window.peekFirst();
+			}
+			evict( victim );
+		}
+	}
+
+	private void evict(Node<K, V> node) {
+		unlink( node );
+		evicted( node );
+	}
+
+	private void evicted(Node<K, V> node) {
+		if ( data.remove( node.key, node ) ) {
+			evictionListener.accept( node.key );
+		}
+	}
+
+	private void unlink(Node<K, V> node) {
+		switch ( node.state ) {
+			case WINDOW:
+				window.remove( node );
+				windowSize--;
+				size--;
+				break;
+			case PROBATION:
+				probation.remove( node );
+				size--;
+				break;
+			case PROTECTED:
+				protectedSpace.remove( node );
+				protectedSize--;
+				size--;
+				break;
+			default:
+				// not linked
+		}
+		node.state = DEAD;
+	}
+
+	private static final class Node<K, V> {
+		private final K key;
+		private volatile V value;
+
+		// guarded by the eviction lock
+		private int state = NEW;
+		private Node<K, V> previous;
+		private Node<K, V> next;
+
+		private Node(K key, V value) {
+			this.key = key;
+			this.value = value;
+		}
+	}
+
+	/**
+	 * Intrusive doubly linked list, least recently used first
+	 */
+	private static final class AccessOrderList<K, V> {
+		private Node<K, V> first;
+		private Node<K, V> last;
+
+		boolean isEmpty() {
+			return first == null;
+		}
+
+		Node<K, V> peekFirst() {
+			return first;
+		}
+
+		Node<K, V> pollFirst() {
+			final Node<K, V> node = first;
+			if ( node != null ) {
+				remove( node );
+			}
+			return node;
+		}
+
+		void addLast(Node<K, V> node) {
+			node.previous = last;
+			node.next = null;
+			if ( last == null ) {
+				first = node;
+			}
+			else {
+				last.next = node;
+			}
+			last = node;
+		}
+
+		void moveToLast(Node<K, V> node) {
+			if ( node != last ) {
+				remove( node );
+				addLast( node );
+			}
+		}
+
+		void remove(Node<K, V> node) {
+			if ( node.previous == null ) {
+				first = node.next;
+			}
+			else {
+				node.previous.next = node.next;
+			}
+			if ( node.next == null ) {
+				last = node.previous;
+			}
+			else {
+				node.next.previous = node.previous;
+			}
+			node.previous = null;
+			node.next = null;
+		}
+
+		void clear() {
+			Node<K, V> node = first;
+			while ( node != null ) {
+				final Node<K, V> next = node.next;
+				node.previous = null;
+				node.next = null;
+				node.state = DEAD;
+				node = next;
+			}
+			first = null;
+			last = null;
+		}
+	}
+
+	/**
+	 * Count-min sketch of 4-bit counters estimating the recent popularity of keys.  All
+	 * counters are halved periodically so that the estimates reflect recent history.
+	 */
+	private static final class FrequencySketch {
+		private static final long[] SEEDS = {
+				0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+		};
+		private static final long RESET_MASK = 0x7777777777777777L;
+
+		// each long holds 16 counters
+		private final AtomicLongArray table;
+		private final int tableMask;
+		private final int sampleSize;
+		private final AtomicInteger additions = new AtomicInteger();
+
+		FrequencySketch(int maximumSize) {
+			final int maximum = Math.max( 1, Math.min( maximumSize, 1 << 30 ) );
+			final int tableSize = MathHelper.ceilingPowerOfTwo( maximum );
+			this.table = new AtomicLongArray( tableSize );
+			this.tableMask = tableSize - 1;
+			this.sampleSize = 10 * Math.min( maximum, Integer.MAX_VALUE / 10 );
+		}
+
+		int frequency(Object key) {
+			final int hash = spread( key.hashCode() );
+			final int start = ( hash & 3 ) << 2;
+			int frequency = Integer.MAX_VALUE;
+			for ( int i = 0; i < 4; i++ ) {
+				final int offset = ( start + i ) << 2;
+				final int count = (int) ( ( table.get( indexOf( hash, i ) ) >>> offset ) & 0xfL );
+				frequency = Math.min( frequency, count );
+			}
+			return frequency;
+		}
+
+		void increment(Object key) {
+			final int hash = spread( key.hashCode() );
+			final int start = ( hash & 3 ) << 2;
+			boolean added = false;
+			for ( int i = 0; i < 4; i++ ) {
+				added |= incrementAt( indexOf( hash, i ), start + i );
+			}
+			if ( added && additions.incrementAndGet() == sampleSize ) {
+				reset();
+			}
+		}
+
+		private boolean incrementAt(int index, int counter) {
+			final int offset = counter << 2;
+			final long mask = 0xfL << offset;
+			while ( true ) {
+				final long value = table.get( index );
+				if ( ( value & mask ) == mask ) {
+					// saturated
+					return false;
+				}
+				if ( table.compareAndSet( index, value, value + ( 1L << offset ) ) ) {
+					return true;
+				}
+			}
+		}
+
+		private void reset() {
+			for ( int i = 0; i < table.length(); i++ ) {
+				while ( true ) {
+					final long value = table.get( i );
+					if ( table.compareAndSet( i, value, ( value >>> 1 ) & RESET_MASK ) ) {
+						break;
+					}
+				}
+			}
+			additions.addAndGet( -sampleSize / 2 );
+		}
+
+		private int indexOf(int hash, int i) {
+			long h = ( hash + SEEDS[i] ) * SEEDS[i];
+			h += h >>> 32;
+			return ( (int) h ) & tableMask;
+		}
+
+		private static int spread(int x) {
+			x = ( ( x >>> 16 ) ^ x ) * 0x45d9f3b;
+			x = ( ( x >>> 16 ) ^ x ) * 0x45d9f3b;
+			return ( x >>> 16 ) ^ x;
+		}
+	}
+}
@@ -0,0 +1,79 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.loader.ast.internal;
+
+import org.jboss.logging.Logger;
+
+/**
+ * The batch size of an entity when adaptive batch fetching is enabled.
+ * <p/>
+ * Each time a batch is fetched, the entities loaded by the previous batch of the same
+ * Session are checked: when a full batch was loaded and (nearly) all of its entities
+ * were used since, the application is walking through a large number of proxies and
+ * the batch size is doubled.  When most of them were never used, the batch size is
+ * halved.  The batch size always stays within the configured bounds.
+ * <p/>
+ * The batch size is shared by all Sessions; concurrent adjustments may get lost, which
+ * only delays the adaptation.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#BATCH_FETCH_ADAPTIVE_MAX_SIZE
+ */
+class AdaptiveBatchSize {
+	private static final Logger log = Logger.getLogger( AdaptiveBatchSize.class );
+
+	private final String entityName;
+	private final int minSize;
+	private final int maxSize;
+
+	private volatile int size;
+
+	AdaptiveBatchSize(String entityName, int initialSize, int minSize, int maxSize) {
+		this.entityName = entityName;
+		// a batch always includes the requested id and at least one other
+		this.minSize = Math.max( minSize, 2 );
+		this.maxSize = Math.max( maxSize, this.minSize );
+		this.size = Math.min( Math.max( initialSize, this.minSize ), this.maxSize );
+	}
+
+	int getSize() {
+		return size;
+	}
+
+	/**
+	 * Adapt the batch size to the usage of the entities loaded by a previous batch
+	 *
+	 * @param batchSize The batch size used for the previous batch
+	 * @param loadedCount The number of entities loaded by the previous batch, including the requested one
+	 * @param usedCount The number of entities loaded by the previous batch which were used since,
+	 * not counting the requested one
+	 */
+	void adapt(int batchSize, int loadedCount, int usedCount) {
+		final int otherCount = loadedCount - 1;
+		if ( otherCount <= 0 ) {
+			return;
+		}
+
+		final int current = size;
+		final int adapted;
+		if ( loadedCount == batchSize && usedCount * 4 >= otherCount * 3 ) {
+			adapted = Math.min( current * 2, maxSize );
+		}
+		else if ( usedCount * 4 < otherCount ) {
+			adapted = Math.max( current / 2, minSize );
+		}
+		else {
+			return;
+		}
+
+		if ( adapted != current ) {
+			size = adapted;
+			if ( log.isDebugEnabled() ) {
+				log.debugf( "Adapted batch size of entity [%s] from %s to %s", entityName, current, adapted );
+			}
+		}
+	}
+}
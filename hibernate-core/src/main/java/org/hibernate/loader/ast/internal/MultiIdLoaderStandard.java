@@ -34,6 +34,7 @@ import org.hibernate.loader.ast.spi.MultiIdLoadOptions;
 import org.hibernate.loader.entity.CacheEntityLoaderHelper;
 import org.hibernate.mapping.PersistentClass;
 import org.hibernate.metamodel.mapping.EntityMappingType;
+import org.hibernate.metamodel.mapping.JdbcMapping;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.query.spi.QueryParameterBindings;
@@ -41,6 +42,7 @@ import org.hibernate.sql.ast.Clause;
 import org.hibernate.sql.ast.SqlAstTranslatorFactory;
 import org.hibernate.sql.ast.tree.expression.JdbcParameter;
 import org.hibernate.sql.ast.tree.select.SelectStatement;
+import org.hibernate.sql.exec.internal.InListArrayParameterBinder;
 import org.hibernate.sql.exec.internal.JdbcParameterBindingsImpl;
 import org.hibernate.sql.exec.internal.JdbcSelectExecutorStandardImpl;
 import org.hibernate.sql.exec.spi.Callback;
@@ -102,26 +104,13 @@ public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
 
 		assert loadOptions.isOrderReturnEnabled();
 
-		final JdbcEnvironment jdbcEnvironment = sessionFactory.getJdbcServices().getJdbcEnvironment();
-		final Dialect dialect = jdbcEnvironment.getDialect();
-
 		final List<Object> result = CollectionHelper.arrayList( ids.length );
 
 		final LockOptions lockOptions = (loadOptions.getLockOptions() == null)
 				? new LockOptions( LockMode.NONE )
 				: loadOptions.getLockOptions();
 
-		final int maxBatchSize;
-		if ( loadOptions.getBatchSize() != null && loadOptions.getBatchSize() > 0 ) {
-			maxBatchSize = loadOptions.getBatchSize();
-		}
-		else {
-			maxBatchSize = dialect.getDefaultBatchLoadSizingStrategy().determineOptimalBatchLoadSize(
-					idJdbcTypeCount,
-					ids.length,
-					sessionFactory.getSessionFactoryOptions().inClauseParameterPaddingEnabled()
-			);
-		}
+		final int maxBatchSize = determineMaxBatchSize( ids.length, loadOptions );
 
 		final List<Object> idsInBatch = new ArrayList<>();
 		final List<Integer> elementPositionsLoadedByBatch = new ArrayList<>();
@@ -227,6 +216,42 @@ public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
 		return (List<T>) result;
 	}
 
+	private int determineMaxBatchSize(int numberOfIds, MultiIdLoadOptions loadOptions) {
+		if ( loadOptions.getBatchSize() != null && loadOptions.getBatchSize() > 0 ) {
+			return loadOptions.getBatchSize();
+		}
+		else if ( isArrayBindingApplicable( numberOfIds ) ) {
+			// all ids are bound as a single array parameter, `id = any(?)`, so the number
+			// of ids is not limited by the maximum number of parameters of a statement
+			return numberOfIds;
+		}
+		else {
+			final Dialect dialect = sessionFactory.getJdbcServices().getJdbcEnvironment().getDialect();
+			return dialect.getDefaultBatchLoadSizingStrategy().determineOptimalBatchLoadSize(
+					idJdbcTypeCount,
+					numberOfIds,
+					sessionFactory.getSessionFactoryOptions().inClauseParameterPaddingEnabled()
+			);
+		}
+	}
+
+	/**
+	 * Whether the IN list restricting the ids is rendered with a single array parameter
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#IN_CLAUSE_ARRAY_BINDING_THRESHOLD
+	 */
+	private boolean isArrayBindingApplicable(int numberOfIds) {
+		final int arrayBindingThreshold = sessionFactory.getSessionFactoryOptions().getInClauseArrayBindingThreshold();
+		if ( arrayBindingThreshold <= 0 || numberOfIds < arrayBindingThreshold || idJdbcTypeCount != 1 ) {
+			return false;
+		}
+		if ( !sessionFactory.getJdbcServices().getJdbcEnvironment().getDialect().supportsInListArrayBinding() ) {
+			return false;
+		}
+		final List<JdbcMapping> jdbcMappings = entityDescriptor.getIdentifierMapping().getJdbcMappings();
+		return jdbcMappings.size() == 1 && InListArrayParameterBinder.isSupportedElementType( jdbcMappings.get( 0 ) );
+	}
+
 	private List<T> loadEntitiesById(
 			List<Object> idsInBatch,
 			LockOptions lockOptions,
@@ -445,17 +470,7 @@ public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
 		}
 
 		int numberOfIdsLeft = ids.length;
-		final int maxBatchSize;
-		if ( loadOptions.getBatchSize() != null && loadOptions.getBatchSize() > 0 ) {
-			maxBatchSize = loadOptions.getBatchSize();
-		}
-		else {
-			maxBatchSize = session.getJdbcServices().getJdbcEnvironment().getDialect().getDefaultBatchLoadSizingStrategy().determineOptimalBatchLoadSize(
-					entityDescriptor.getIdentifierType().getColumnSpan( session.getFactory() ),
-					numberOfIdsLeft,
-					sessionFactory.getSessionFactoryOptions().inClauseParameterPaddingEnabled()
-			);
-		}
+		final int maxBatchSize = determineMaxBatchSize( numberOfIdsLeft, loadOptions );
 
 		int idPosition = 0;
 		while ( numberOfIdsLeft > 0 ) {
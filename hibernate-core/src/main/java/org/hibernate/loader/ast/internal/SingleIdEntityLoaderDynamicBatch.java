@@ -10,15 +10,20 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.hibernate.LockOptions;
+import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.engine.internal.BatchFetchQueueHelper;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.spi.BatchFetchQueue;
 import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.SubselectFetch;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.metamodel.mapping.EntityMappingType;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.query.spi.QueryOptionsAdapter;
 import org.hibernate.query.spi.QueryParameterBindings;
@@ -35,6 +40,7 @@ import org.hibernate.sql.exec.spi.JdbcSelect;
 import org.hibernate.sql.results.graph.entity.LoadingEntityEntry;
 import org.hibernate.sql.results.internal.RowTransformerPassThruImpl;
 import org.hibernate.sql.results.spi.ListResultsConsumer;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
 import org.jboss.logging.Logger;
 
@@ -45,6 +51,7 @@ public class SingleIdEntityLoaderDynamicBatch<T> extends SingleIdEntityLoaderSup
 	private static final Logger log = Logger.getLogger( SingleIdEntityLoaderDynamicBatch.class );
 
 	private final int maxBatchSize;
+	private final AdaptiveBatchSize adaptiveBatchSize;
 
 	private SingleIdEntityLoaderStandardImpl<T> singleIdLoader;
 
@@ -54,6 +61,19 @@ public class SingleIdEntityLoaderDynamicBatch<T> extends SingleIdEntityLoaderSup
 			SessionFactoryImplementor sessionFactory) {
 		super( entityDescriptor, sessionFactory );
 		this.maxBatchSize = maxBatchSize;
+
+		final SessionFactoryOptions options = sessionFactory.getSessionFactoryOptions();
+		if ( options.getAdaptiveBatchFetchMaxSize() > 0 ) {
+			this.adaptiveBatchSize = new AdaptiveBatchSize(
+					entityDescriptor.getEntityName(),
+					maxBatchSize,
+					options.getAdaptiveBatchFetchMinSize(),
+					options.getAdaptiveBatchFetchMaxSize()
+			);
+		}
+		else {
+			this.adaptiveBatchSize = null;
+		}
 	}
 
 	@Override
@@ -68,9 +88,12 @@ public class SingleIdEntityLoaderDynamicBatch<T> extends SingleIdEntityLoaderSup
 			LockOptions lockOptions,
 			Boolean readOnly,
 			SharedSessionContractImplementor session) {
-		final Object[] batchIds = session.getPersistenceContextInternal()
-				.getBatchFetchQueue()
-				.getBatchLoadableEntityIds( getLoadable(), pkValue, maxBatchSize );
+		final BatchFetchQueue batchFetchQueue = session.getPersistenceContextInternal().getBatchFetchQueue();
+		final Object[] batchIds = batchFetchQueue.getBatchLoadableEntityIds(
+				getLoadable(),
+				pkValue,
+				determineBatchSize( batchFetchQueue, session )
+		);
 
 		final int numberOfIds = ArrayHelper.countNonNull( batchIds );
 		if ( numberOfIds <= 1 ) {
@@ -89,6 +112,14 @@ public class SingleIdEntityLoaderDynamicBatch<T> extends SingleIdEntityLoaderSup
 		final Object[] idsToLoad = new Object[numberOfIds];
 		System.arraycopy( batchIds, 0, idsToLoad, 0, numberOfIds );
 
+		if ( adaptiveBatchSize != null ) {
+			batchFetchQueue.setLastEntityBatch( getLoadable(), batchIds );
+			final StatisticsImplementor statistics = session.getFactory().getStatistics();
+			if ( statistics.isStatisticsEnabled() ) {
+				statistics.adaptiveBatchFetchEntity( getLoadable().getEntityName(), batchIds.length );
+			}
+		}
+
 		if ( log.isDebugEnabled() ) {
 			log.debugf( "Batch loading entity [%s] : %s", getLoadable().getEntityName(), idsToLoad );
 		}
@@ -169,6 +200,48 @@ public class SingleIdEntityLoaderDynamicBatch<T> extends SingleIdEntityLoaderSup
 
 	}
 
+	private int determineBatchSize(BatchFetchQueue batchFetchQueue, SharedSessionContractImplementor session) {
+		if ( adaptiveBatchSize == null ) {
+			return maxBatchSize;
+		}
+
+		final Object[] lastBatchIds = batchFetchQueue.getLastEntityBatch( getLoadable() );
+		if ( lastBatchIds != null ) {
+			// only evaluate every batch once
+			batchFetchQueue.setLastEntityBatch( getLoadable(), null );
+			adaptiveBatchSize.adapt(
+					lastBatchIds.length,
+					ArrayHelper.countNonNull( lastBatchIds ),
+					countUsedEntities( lastBatchIds, session )
+			);
+		}
+		return adaptiveBatchSize.getSize();
+	}
+
+	/**
+	 * Count the entities loaded by a batch, other than the requested one, which were used
+	 * since.  Entities which are only referenced through an uninitialized proxy were not.
+	 */
+	private int countUsedEntities(Object[] batchIds, SharedSessionContractImplementor session) {
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		final EntityPersister persister = getLoadable().getEntityPersister();
+		int count = 0;
+		for ( int i = 1; i < batchIds.length && batchIds[i] != null; i++ ) {
+			final EntityKey entityKey = session.generateEntityKey( batchIds[i], persister );
+			if ( persistenceContext.getEntity( entityKey ) == null ) {
+				// not found, or evicted since
+				continue;
+			}
+			final Object proxy = persistenceContext.getProxy( entityKey );
+			if ( proxy instanceof HibernateProxy
+					&& ( (HibernateProxy) proxy ).getHibernateLazyInitializer().isUninitialized() ) {
+				continue;
+			}
+			count++;
+		}
+		return count;
+	}
+
 	private ExecutionContext getExecutionContext(
 			Object entityId,
 			Object entityInstance,
@@ -59,6 +59,7 @@ import org.hibernate.bytecode.spi.ReflectionOptimizer;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.NaturalIdDataAccess;
 import org.hibernate.cache.spi.entry.CacheEntry;
+import org.hibernate.cache.spi.entry.CacheEntryCodecFactory;
 import org.hibernate.cache.spi.entry.CacheEntryStructure;
 import org.hibernate.cache.spi.entry.ReferenceCacheEntryImpl;
 import org.hibernate.cache.spi.entry.StandardCacheEntryImpl;
@@ -1168,8 +1169,16 @@ public abstract class AbstractEntityPersister
 			return new ReferenceCacheEntryHelper( this );
 		}
 
+		final CacheEntryCodecFactory cacheEntryCodecFactory = factory.getSessionFactoryOptions().getCacheEntryCodecFactory();
+		if ( cacheEntryCodecFactory != null ) {
+			final CacheEntryStructure cacheEntryCodec = cacheEntryCodecFactory.buildEntityCacheEntryCodec( this );
+			if ( cacheEntryCodec != null ) {
+				return new StructuredCacheEntryHelper( this, cacheEntryCodec );
+			}
+		}
+
 		return factory.getSessionFactoryOptions().isStructuredCacheEntriesEnabled()
-				? new StructuredCacheEntryHelper( this )
+				? new StructuredCacheEntryHelper( this, new StructuredCacheEntry( this ) )
 				: new StandardCacheEntryHelper( this );
 	}
 
@@ -3266,6 +3275,41 @@ public abstract class AbstractEntityPersister
 
 	private BasicBatchKey insertBatchKey;
 
+	/**
+	 * The tables which the rows inserted for this entity may reference through a foreign key, so that
+	 * interleaved insert batches are executed in a safe order.
+	 */
+	private Set<String> determineReferencedTables() {
+		final Set<String> referencedTables = new HashSet<>();
+		collectReferencedTables( getIdentifierType(), referencedTables );
+		for ( Type propertyType : getPropertyTypes() ) {
+			collectReferencedTables( propertyType, referencedTables );
+		}
+		return referencedTables;
+	}
+
+	private void collectReferencedTables(Type type, Set<String> referencedTables) {
+		if ( type instanceof EntityType ) {
+			final String associatedEntityName = ( (EntityType) type ).getAssociatedEntityName( getFactory() );
+			final EntityPersister associatedPersister = getFactory().getMetamodel()
+					.getEntityDescriptor( associatedEntityName );
+			referencedTables.addAll( toTableNames( associatedPersister.getPropertySpaces() ) );
+		}
+		else if ( type instanceof CompositeType ) {
+			for ( Type subtype : ( (CompositeType) type ).getSubtypes() ) {
+				collectReferencedTables( subtype, referencedTables );
+			}
+		}
+	}
+
+	private static Set<String> toTableNames(Serializable[] spaces) {
+		final Set<String> tableNames = new HashSet<>( spaces.length );
+		for ( Serializable space : spaces ) {
+			tableNames.add( (String) space );
+		}
+		return tableNames;
+	}
+
 	/**
 	 * Perform an SQL INSERT.
 	 * <p/>
@@ -3308,7 +3352,9 @@ public abstract class AbstractEntityPersister
 		if ( useBatch && insertBatchKey == null ) {
 			insertBatchKey = new BasicBatchKey(
 					getEntityName() + "#INSERT",
-					expectation
+					expectation,
+					toTableNames( getPropertySpaces() ),
+					determineReferencedTables()
 			);
 		}
 		final boolean callable = isInsertCallable( j );
@@ -5475,11 +5521,11 @@ public abstract class AbstractEntityPersister
 
 	private static class StructuredCacheEntryHelper implements CacheEntryHelper {
 		private final EntityPersister persister;
-		private final StructuredCacheEntry structure;
+		private final CacheEntryStructure structure;
 
-		private StructuredCacheEntryHelper(EntityPersister persister) {
+		private StructuredCacheEntryHelper(EntityPersister persister, CacheEntryStructure structure) {
 			this.persister = persister;
-			this.structure = new StructuredCacheEntry( persister );
+			this.structure = structure;
 		}
 
 		@Override
@@ -0,0 +1,121 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.property.access.internal;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.hibernate.internal.util.ReflectHelper;
+import org.hibernate.property.access.spi.PropertyAccessBuildingException;
+
+/**
+ * Builds the functional accessors used by {@link org.hibernate.property.access.spi.GetterMethodHandleImpl}
+ * and {@link org.hibernate.property.access.spi.SetterMethodHandleImpl}.
+ * <p/>
+ * Getter and setter methods are bound to a class spun by {@link LambdaMetafactory}, which the
+ * JIT compiler treats like a hand-written accessor.  Fields are not supported: a {@link MethodHandle}
+ * held in an instance field is not a constant, so it could not be inlined and would be no faster
+ * than reflection.  A method which cannot be bound (for example when the entity class is not in
+ * the same module as Hibernate) leads to a {@link PropertyAccessBuildingException}, so that the
+ * caller falls back to reflection.
+ */
+public final class MethodHandleAccessors {
+	private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+	private static final MethodType GETTER_TYPE = MethodType.methodType( Object.class, Object.class );
+	private static final MethodType SETTER_TYPE = MethodType.methodType( void.class, Object.class, Object.class );
+
+	private MethodHandleAccessors() {
+	}
+
+	/**
+	 * Build a function calling the given getter method
+	 *
+	 * @throws PropertyAccessBuildingException if the method cannot be bound
+	 */
+	public static Function<Object, Object> getter(Method method) {
+		final MethodHandles.Lookup lookup = privateLookup( method );
+		final MethodHandle handle = unreflect( lookup, method );
+		try {
+			final CallSite callSite = LambdaMetafactory.metafactory(
+					lookup,
+					"apply",
+					MethodType.methodType( Function.class ),
+					GETTER_TYPE,
+					handle,
+					handle.type().wrap()
+			);
+			//noinspection unchecked
+			return (Function<Object, Object>) callSite.getTarget().invokeExact();
+		}
+		catch (Throwable t) {
+			throw buildingException( method, t );
+		}
+	}
+
+	/**
+	 * Build a function calling the given setter method
+	 *
+	 * @throws PropertyAccessBuildingException if the method cannot be bound
+	 */
+	public static BiConsumer<Object, Object> setter(Method method) {
+		final MethodHandles.Lookup lookup = privateLookup( method );
+		final MethodHandle handle = unreflect( lookup, method );
+		try {
+			final CallSite callSite = LambdaMetafactory.metafactory(
+					lookup,
+					"accept",
+					MethodType.methodType( BiConsumer.class ),
+					SETTER_TYPE,
+					handle,
+					// a fluent setter returns a value, which is discarded
+					handle.type().wrap().changeReturnType( void.class )
+			);
+			//noinspection unchecked
+			return (BiConsumer<Object, Object>) callSite.getTarget().invokeExact();
+		}
+		catch (Throwable t) {
+			throw buildingException( method, t );
+		}
+	}
+
+	/**
+	 * The spun class is defined alongside the declaring class, so that it may call methods which
+	 * are not public.
+	 */
+	private static MethodHandles.Lookup privateLookup(Method method) {
+		try {
+			return MethodHandles.privateLookupIn( method.getDeclaringClass(), LOOKUP );
+		}
+		catch (IllegalAccessException | SecurityException e) {
+			throw buildingException( method, e );
+		}
+	}
+
+	private static MethodHandle unreflect(MethodHandles.Lookup lookup, Method method) {
+		ReflectHelper.ensureAccessibility( method );
+		try {
+			return lookup.unreflect( method );
+		}
+		catch (IllegalAccessException e) {
+			throw buildingException( method, e );
+		}
+	}
+
+	private static PropertyAccessBuildingException buildingException(Method method, Throwable cause) {
+		return new PropertyAccessBuildingException(
+				"Unable to bind an accessor to [" + method.getDeclaringClass().getName() + "#" + method.getName() + "]",
+				cause
+		);
+	}
+}
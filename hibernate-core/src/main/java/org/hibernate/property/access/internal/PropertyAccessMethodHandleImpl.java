@@ -0,0 +1,88 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.property.access.internal;
+
+import java.lang.reflect.Method;
+
+import org.hibernate.internal.util.ReflectHelper;
+import org.hibernate.property.access.spi.Getter;
+import org.hibernate.property.access.spi.GetterMethodHandleImpl;
+import org.hibernate.property.access.spi.GetterMethodImpl;
+import org.hibernate.property.access.spi.PropertyAccess;
+import org.hibernate.property.access.spi.PropertyAccessBuildingException;
+import org.hibernate.property.access.spi.PropertyAccessStrategy;
+import org.hibernate.property.access.spi.Setter;
+import org.hibernate.property.access.spi.SetterMethodHandleImpl;
+import org.hibernate.property.access.spi.SetterMethodImpl;
+
+import org.jboss.logging.Logger;
+
+/**
+ * PropertyAccess for {@link PropertyAccessStrategyMethodHandleImpl}.  Locates the getter/setter
+ * methods the same way as {@link PropertyAccessBasicImpl}, falling back to reflection for any
+ * method which cannot be bound.
+ */
+public class PropertyAccessMethodHandleImpl implements PropertyAccess {
+	private static final Logger log = Logger.getLogger( PropertyAccessMethodHandleImpl.class );
+
+	private final PropertyAccessStrategyMethodHandleImpl strategy;
+	private final Getter getter;
+	private final Setter setter;
+
+	public PropertyAccessMethodHandleImpl(
+			PropertyAccessStrategyMethodHandleImpl strategy,
+			Class<?> containerJavaType,
+			String propertyName,
+			boolean setterRequired) {
+		this.strategy = strategy;
+
+		final Method getterMethod = ReflectHelper.findGetterMethod( containerJavaType, propertyName );
+		this.getter = methodGetter( containerJavaType, propertyName, getterMethod );
+
+		final Method setterMethod = setterRequired
+				? ReflectHelper.findSetterMethod( containerJavaType, propertyName, getterMethod.getReturnType() )
+				: ReflectHelper.setterMethodOrNull( containerJavaType, propertyName, getterMethod.getReturnType() );
+		this.setter = setterMethod != null
+				? methodSetter( containerJavaType, propertyName, setterMethod )
+				: null;
+	}
+
+	private static Getter methodGetter(Class<?> containerJavaType, String propertyName, Method method) {
+		try {
+			return new GetterMethodHandleImpl( containerJavaType, propertyName, method );
+		}
+		catch (PropertyAccessBuildingException e) {
+			log.debugf( e, "Falling back to reflection to read [%s#%s]", containerJavaType.getName(), propertyName );
+			return new GetterMethodImpl( containerJavaType, propertyName, method );
+		}
+	}
+
+	private static Setter methodSetter(Class<?> containerJavaType, String propertyName, Method method) {
+		try {
+			return new SetterMethodHandleImpl( containerJavaType, propertyName, method );
+		}
+		catch (PropertyAccessBuildingException e) {
+			log.debugf( e, "Falling back to reflection to write [%s#%s]", containerJavaType.getName(), propertyName );
+			return new SetterMethodImpl( containerJavaType, propertyName, method );
+		}
+	}
+
+	@Override
+	public PropertyAccessStrategy getPropertyAccessStrategy() {
+		return strategy;
+	}
+
+	@Override
+	public Getter getGetter() {
+		return getter;
+	}
+
+	@Override
+	public Setter getSetter() {
+		return setter;
+	}
+}
@@ -0,0 +1,31 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.property.access.internal;
+
+import org.hibernate.property.access.spi.PropertyAccess;
+import org.hibernate.property.access.spi.PropertyAccessStrategy;
+
+/**
+ * Defines a strategy for accessing property values via getter/setter methods, through accessors
+ * spun once per attribute at boot time with {@link java.lang.invoke.LambdaMetafactory}, rather
+ * than through reflection.
+ * <p/>
+ * Used in place of {@link PropertyAccessStrategyBasicImpl} when
+ * {@value org.hibernate.cfg.AvailableSettings#USE_METHOD_HANDLE_PROPERTY_ACCESS} is enabled.
+ * Field access keeps using {@link PropertyAccessStrategyFieldImpl}.
+ */
+public class PropertyAccessStrategyMethodHandleImpl implements PropertyAccessStrategy {
+	/**
+	 * Singleton access
+	 */
+	public static final PropertyAccessStrategyMethodHandleImpl INSTANCE = new PropertyAccessStrategyMethodHandleImpl();
+
+	@Override
+	public PropertyAccess buildPropertyAccess(Class containerJavaType, String propertyName, boolean setterRequired) {
+		return new PropertyAccessMethodHandleImpl( this, containerJavaType, propertyName, setterRequired );
+	}
+}
@@ -9,6 +9,8 @@ package org.hibernate.property.access.internal;
 import java.util.Map;
 
 import org.hibernate.boot.registry.StandardServiceInitiator;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.property.access.spi.PropertyAccessStrategyResolver;
 import org.hibernate.service.spi.ServiceRegistryImplementor;
 
@@ -28,6 +30,11 @@ public class PropertyAccessStrategyResolverInitiator implements StandardServiceI
 
 	@Override
 	public PropertyAccessStrategyResolver initiateService(Map configurationValues, ServiceRegistryImplementor registry) {
-		return new PropertyAccessStrategyResolverStandardImpl( registry );
+		final boolean useMethodHandles = ConfigurationHelper.getBoolean(
+				AvailableSettings.USE_METHOD_HANDLE_PROPERTY_ACCESS,
+				configurationValues,
+				false
+		);
+		return new PropertyAccessStrategyResolverStandardImpl( registry, useMethodHandles );
 	}
 }
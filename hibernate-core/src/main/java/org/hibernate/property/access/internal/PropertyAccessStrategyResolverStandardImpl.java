@@ -23,9 +23,19 @@ import org.hibernate.service.ServiceRegistry;
  */
 public class PropertyAccessStrategyResolverStandardImpl implements PropertyAccessStrategyResolver {
 	private final ServiceRegistry serviceRegistry;
+	private final boolean useMethodHandles;
 
 	public PropertyAccessStrategyResolverStandardImpl(ServiceRegistry serviceRegistry) {
+		this( serviceRegistry, false );
+	}
+
+	/**
+	 * @param useMethodHandles Whether getter/setter access should go through
+	 * {@link PropertyAccessStrategyMethodHandleImpl} rather than reflection
+	 */
+	public PropertyAccessStrategyResolverStandardImpl(ServiceRegistry serviceRegistry, boolean useMethodHandles) {
 		this.serviceRegistry = serviceRegistry;
+		this.useMethodHandles = useMethodHandles;
 	}
 
 	@Override
@@ -50,6 +60,9 @@ public class PropertyAccessStrategyResolverStandardImpl implements PropertyAcces
 		if ( representationMode == RepresentationMode.MAP ) {
 			return BuiltInPropertyAccessStrategies.MAP.getStrategy();
 		}
+		else if ( useMethodHandles ) {
+			return PropertyAccessStrategyMethodHandleImpl.INSTANCE;
+		}
 		else {
 			return BuiltInPropertyAccessStrategies.BASIC.getStrategy();
 		}
@@ -60,6 +73,9 @@ public class PropertyAccessStrategyResolverStandardImpl implements PropertyAcces
 				explicitAccessStrategyName
 		);
 		if ( builtInStrategyEnum != null ) {
+			if ( useMethodHandles && builtInStrategyEnum == BuiltInPropertyAccessStrategies.BASIC ) {
+				return PropertyAccessStrategyMethodHandleImpl.INSTANCE;
+			}
 			return builtInStrategyEnum.getStrategy();
 		}
 
@@ -0,0 +1,127 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.property.access.spi;
+
+import java.io.Serializable;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.hibernate.PropertyAccessException;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.ReflectHelper;
+import org.hibernate.property.access.internal.MethodHandleAccessors;
+
+/**
+ * Getter calling a getter method through an accessor built with
+ * {@link java.lang.invoke.LambdaMetafactory} rather than through reflection.
+ */
+public class GetterMethodHandleImpl implements Getter {
+	private final Class containerClass;
+	private final String propertyName;
+	private final Method getterMethod;
+
+	private final transient Function<Object, Object> accessor;
+
+	/**
+	 * @throws PropertyAccessBuildingException if the method cannot be bound
+	 */
+	public GetterMethodHandleImpl(Class containerClass, String propertyName, Method getterMethod) {
+		this.containerClass = containerClass;
+		this.propertyName = propertyName;
+		this.getterMethod = getterMethod;
+
+		this.accessor = MethodHandleAccessors.getter( getterMethod );
+	}
+
+	@Override
+	public Object get(Object owner) {
+		try {
+			return accessor.apply( owner );
+		}
+		// the bound method may throw checked exceptions as well, which are wrapped
+		// just like GetterMethodImpl wraps the target of an InvocationTargetException
+		catch (Exception e) {
+			throw new PropertyAccessException(
+					e,
+					"Exception occurred inside",
+					false,
+					containerClass,
+					propertyName
+			);
+		}
+	}
+
+	@Override
+	public Object getForInsert(Object owner, Map mergeMap, SharedSessionContractImplementor session) {
+		return get( owner );
+	}
+
+	@Override
+	public Class<?> getReturnTypeClass() {
+		return getterMethod.getReturnType();
+	}
+
+	@Override
+	public Type getReturnType() {
+		return getterMethod.getGenericReturnType();
+	}
+
+	@Override
+	public Member getMember() {
+		return getterMethod;
+	}
+
+	@Override
+	public String getMethodName() {
+		return getterMethod.getName();
+	}
+
+	@Override
+	public Method getMethod() {
+		return getterMethod;
+	}
+
+	private Object writeReplace() {
+		return new SerialForm( containerClass, propertyName, getterMethod );
+	}
+
+	private static class SerialForm implements Serializable {
+		private final Class containerClass;
+		private final String propertyName;
+
+		private final Class declaringClass;
+		private final String methodName;
+
+		private SerialForm(Class containerClass, String propertyName, Method method) {
+			this.containerClass = containerClass;
+			this.propertyName = propertyName;
+			this.declaringClass = method.getDeclaringClass();
+			this.methodName = method.getName();
+		}
+
+		private Object readResolve() {
+			return new GetterMethodHandleImpl( containerClass, propertyName, resolveMethod() );
+		}
+
+		@SuppressWarnings("unchecked")
+		private Method resolveMethod() {
+			try {
+				final Method method = declaringClass.getDeclaredMethod( methodName );
+				ReflectHelper.ensureAccessibility( method );
+				return method;
+			}
+			catch (NoSuchMethodException e) {
+				throw new PropertyAccessSerializationException(
+						"Unable to resolve getter method on deserialization : " + declaringClass.getName() + "#" + methodName
+				);
+			}
+		}
+	}
+}
@@ -0,0 +1,129 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.property.access.spi;
+
+import java.io.Serializable;
+import java.lang.reflect.Method;
+import java.util.function.BiConsumer;
+
+import org.hibernate.PropertyAccessException;
+import org.hibernate.PropertySetterAccessException;
+import org.hibernate.internal.util.ReflectHelper;
+import org.hibernate.property.access.internal.MethodHandleAccessors;
+
+/**
+ * Setter calling a setter method through an accessor built with
+ * {@link java.lang.invoke.LambdaMetafactory} rather than through reflection.
+ */
+public class SetterMethodHandleImpl implements Setter {
+	private final Class containerClass;
+	private final String propertyName;
+	private final Method setterMethod;
+	private final Class<?> propertyType;
+
+	private final transient BiConsumer<Object, Object> accessor;
+
+	/**
+	 * @throws PropertyAccessBuildingException if the method cannot be bound
+	 */
+	public SetterMethodHandleImpl(Class containerClass, String propertyName, Method setterMethod) {
+		this.containerClass = containerClass;
+		this.propertyName = propertyName;
+		this.setterMethod = setterMethod;
+		this.propertyType = setterMethod.getParameterTypes()[0];
+
+		this.accessor = MethodHandleAccessors.setter( setterMethod );
+	}
+
+	@Override
+	public void set(Object target, Object value) {
+		try {
+			accessor.accept( target, value );
+		}
+		// the bound method may throw checked exceptions as well, which are wrapped
+		// just like SetterMethodImpl wraps the target of an InvocationTargetException
+		catch (Exception e) {
+			if ( value == null && propertyType.isPrimitive() ) {
+				throw new PropertyAccessException(
+						e,
+						"Null value was assigned to a property of primitive type",
+						true,
+						containerClass,
+						propertyName
+				);
+			}
+			else if ( e instanceof ClassCastException && !propertyType.isInstance( value ) ) {
+				throw new PropertySetterAccessException(
+						e,
+						containerClass,
+						propertyName,
+						propertyType,
+						target,
+						value
+				);
+			}
+			else {
+				throw new PropertyAccessException(
+						e,
+						"Exception occurred inside",
+						true,
+						containerClass,
+						propertyName
+				);
+			}
+		}
+	}
+
+	@Override
+	public String getMethodName() {
+		return setterMethod.getName();
+	}
+
+	@Override
+	public Method getMethod() {
+		return setterMethod;
+	}
+
+	private Object writeReplace() {
+		return new SerialForm( containerClass, propertyName, setterMethod );
+	}
+
+	private static class SerialForm implements Serializable {
+		private final Class containerClass;
+		private final String propertyName;
+
+		private final Class declaringClass;
+		private final String methodName;
+		private final Class argumentType;
+
+		private SerialForm(Class containerClass, String propertyName, Method method) {
+			this.containerClass = containerClass;
+			this.propertyName = propertyName;
+			this.declaringClass = method.getDeclaringClass();
+			this.methodName = method.getName();
+			this.argumentType = method.getParameterTypes()[0];
+		}
+
+		private Object readResolve() {
+			return new SetterMethodHandleImpl( containerClass, propertyName, resolveMethod() );
+		}
+
+		@SuppressWarnings("unchecked")
+		private Method resolveMethod() {
+			try {
+				final Method method = declaringClass.getDeclaredMethod( methodName, argumentType );
+				ReflectHelper.ensureAccessibility( method );
+				return method;
+			}
+			catch (NoSuchMethodException e) {
+				throw new PropertyAccessSerializationException(
+						"Unable to resolve setter method on deserialization : " + declaringClass.getName() + "#" + methodName
+				);
+			}
+		}
+	}
+}
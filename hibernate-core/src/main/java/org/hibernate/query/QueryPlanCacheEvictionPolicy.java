@@ -0,0 +1,63 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query;
+
+import org.hibernate.HibernateException;
+
+/**
+ * The policy used to evict entries from the query plan cache once it reached its maximum size.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#QUERY_PLAN_CACHE_EVICTION_POLICY
+ */
+public enum QueryPlanCacheEvictionPolicy {
+	/**
+	 * Recency based eviction using the Low Inter-reference Recency Set algorithm
+	 */
+	LIRS,
+
+	/**
+	 * Recency based eviction of recently added entries, combined with frequency based
+	 * admission to the rest of the cache (W-TinyLFU).  Resists large numbers of rarely
+	 * used queries flushing the frequently used ones.
+	 */
+	TINY_LFU;
+
+	/**
+	 * The policy used when none is configured
+	 */
+	public static final QueryPlanCacheEvictionPolicy DEFAULT = TINY_LFU;
+
+	/**
+	 * Interpret the configured {@link QueryPlanCacheEvictionPolicy} value.
+	 * Valid values are either a {@link QueryPlanCacheEvictionPolicy} object or its String representation.
+	 * For string values, the matching is case insensitive, so you can use either {@code lirs} or
+	 * {@code tiny_lfu} (or {@code tiny-lfu}).
+	 *
+	 * @param policy configured {@link QueryPlanCacheEvictionPolicy} representation
+	 * @return associated {@link QueryPlanCacheEvictionPolicy} object
+	 */
+	public static QueryPlanCacheEvictionPolicy interpret(Object policy) {
+		if ( policy == null ) {
+			return DEFAULT;
+		}
+		else if ( policy instanceof QueryPlanCacheEvictionPolicy ) {
+			return (QueryPlanCacheEvictionPolicy) policy;
+		}
+		else if ( policy instanceof String ) {
+			final String name = ( (String) policy ).trim().replace( '-', '_' );
+			for ( QueryPlanCacheEvictionPolicy value : values() ) {
+				if ( value.name().equalsIgnoreCase( name ) ) {
+					return value;
+				}
+			}
+		}
+		throw new HibernateException(
+				"Unrecognized plan_cache_eviction_policy value : " + policy
+						+ ".  Supported values include 'lirs' and 'tiny_lfu'."
+		);
+	}
+}
@@ -6,8 +6,14 @@
  */
 package org.hibernate.query.internal;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import java.util.function.Consumer;
 
 import org.hibernate.HibernateException;
@@ -18,13 +24,11 @@ import org.hibernate.boot.spi.BootstrapContext;
 import org.hibernate.boot.spi.MetadataImplementor;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.procedure.spi.NamedCallableQueryMemento;
-import org.hibernate.query.hql.HqlTranslator;
 import org.hibernate.query.hql.spi.NamedHqlQueryMemento;
 import org.hibernate.query.named.NamedObjectRepository;
 import org.hibernate.query.named.NamedQueryMemento;
 import org.hibernate.query.named.NamedResultSetMappingMemento;
 import org.hibernate.query.spi.QueryEngine;
-import org.hibernate.query.spi.QueryInterpretationCache;
 import org.hibernate.query.sql.spi.NamedNativeQueryMemento;
 
 import org.jboss.logging.Logger;
@@ -210,26 +214,27 @@ public class NamedObjectRepositoryImpl implements NamedObjectRepository {
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Named query checking
 
+	@Override
 	public Map<String, HibernateException> checkNamedQueries(QueryEngine queryEngine) {
-		Map<String,HibernateException> errors = new HashMap<>();
+		return checkNamedQueries( queryEngine, 1 );
+	}
 
-		final HqlTranslator sqmProducer = queryEngine.getHqlTranslator();
-		final QueryInterpretationCache interpretationCache = queryEngine.getInterpretationCache();
-		final boolean cachingEnabled = interpretationCache.isEnabled();
+	@Override
+	public Map<String, HibernateException> checkNamedQueries(QueryEngine queryEngine, int parallelism) {
+		// sorted by query name, so that the reported errors do not depend on the order in which queries were checked
+		final Map<String,HibernateException> errors = new TreeMap<>();
 
 		// Check named HQL queries
 		log.debugf( "Checking %s named HQL queries", hqlMementoMap.size() );
-		for ( NamedHqlQueryMemento hqlMemento : hqlMementoMap.values() ) {
-			try {
-				log.debugf( "Checking named HQL query: %s", hqlMemento.getRegistrationName() );
-				String queryString = hqlMemento.getHqlString();
-				interpretationCache.resolveHqlInterpretation(
-						queryString,
-						s -> queryEngine.getHqlTranslator().translate( queryString )
-				);
-			}
-			catch ( HibernateException e ) {
-				errors.put( hqlMemento.getRegistrationName(), e );
+		if ( parallelism > 1 && hqlMementoMap.size() > 1 ) {
+			checkNamedHqlQueriesInParallel( queryEngine, parallelism, errors );
+		}
+		else {
+			for ( NamedHqlQueryMemento hqlMemento : hqlMementoMap.values() ) {
+				final HibernateException error = checkNamedHqlQuery( hqlMemento, queryEngine );
+				if ( error != null ) {
+					errors.put( hqlMemento.getRegistrationName(), error );
+				}
 			}
 		}
 
@@ -271,6 +276,61 @@ public class NamedObjectRepositoryImpl implements NamedObjectRepository {
 		return errors;
 	}
 
+	private void checkNamedHqlQueriesInParallel(
+			QueryEngine queryEngine,
+			int parallelism,
+			Map<String, HibernateException> errors) {
+		// building the SQM of each query is independent of the others, and both the
+		// translator and the interpretation cache are safe for concurrent use
+		final List<NamedHqlQueryMemento> hqlMementos = new ArrayList<>( hqlMementoMap.values() );
+		final List<Callable<HibernateException>> checks = new ArrayList<>( hqlMementos.size() );
+		for ( NamedHqlQueryMemento hqlMemento : hqlMementos ) {
+			checks.add( () -> checkNamedHqlQuery( hqlMemento, queryEngine ) );
+		}
+
+		final ForkJoinPool pool = new ForkJoinPool( parallelism );
+		try {
+			final List<Future<HibernateException>> results = pool.invokeAll( checks );
+			for ( int i = 0; i < results.size(); i++ ) {
+				final HibernateException error = results.get( i ).get();
+				if ( error != null ) {
+					errors.put( hqlMementos.get( i ).getRegistrationName(), error );
+				}
+			}
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new HibernateException( "Interrupted while checking named HQL queries", e );
+		}
+		catch (ExecutionException e) {
+			if ( e.getCause() instanceof RuntimeException ) {
+				throw (RuntimeException) e.getCause();
+			}
+			if ( e.getCause() instanceof Error ) {
+				throw (Error) e.getCause();
+			}
+			throw new HibernateException( "Unable to check named HQL queries", e.getCause() );
+		}
+		finally {
+			pool.shutdown();
+		}
+	}
+
+	private static HibernateException checkNamedHqlQuery(NamedHqlQueryMemento hqlMemento, QueryEngine queryEngine) {
+		try {
+			log.debugf( "Checking named HQL query: %s", hqlMemento.getRegistrationName() );
+			final String queryString = hqlMemento.getHqlString();
+			queryEngine.getInterpretationCache().resolveHqlInterpretation(
+					queryString,
+					s -> queryEngine.getHqlTranslator().translate( queryString )
+			);
+			return null;
+		}
+		catch ( HibernateException e ) {
+			return e;
+		}
+	}
+
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Shutdown
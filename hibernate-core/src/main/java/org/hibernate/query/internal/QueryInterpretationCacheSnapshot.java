@@ -0,0 +1,189 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.internal;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.TreeSet;
+
+import org.hibernate.HibernateException;
+import org.hibernate.Version;
+import org.hibernate.metamodel.model.domain.JpaMetamodel;
+import org.hibernate.metamodel.model.domain.ManagedDomainType;
+import org.hibernate.query.QueryLogging;
+
+import org.jboss.logging.Logger;
+
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.ManagedType;
+
+/**
+ * Persistent snapshot of the HQL query strings held by the {@link org.hibernate.query.spi.QueryInterpretationCache},
+ * written when the SessionFactory is closed and used to re-populate the cache when the next SessionFactory
+ * is started, so that the first executions of those queries do not pay the parsing cost.
+ * <p>
+ * SQM trees are bound to the metamodel and node builder of the SessionFactory which created them, so
+ * only the query strings are stored; they are re-interpreted at startup.  The snapshot records a hash of
+ * the domain model and is ignored when it was written for a different domain model or Hibernate version.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#QUERY_PLAN_CACHE_SNAPSHOT_FILE
+ */
+public final class QueryInterpretationCacheSnapshot {
+	private static final Logger log = QueryLogging.subLogger( "plan.cache.snapshot" );
+
+	private static final int MAGIC = 0x48514C53;
+	private static final int FORMAT_VERSION = 1;
+
+	private QueryInterpretationCacheSnapshot() {
+	}
+
+	/**
+	 * Determine a hash identifying the given domain model, including the names and
+	 * Java types of all attributes of all managed types
+	 */
+	public static String determineMetamodelHash(JpaMetamodel jpaMetamodel) {
+		final TreeSet<String> descriptions = new TreeSet<>();
+		for ( ManagedType<?> managedType : jpaMetamodel.getManagedTypes() ) {
+			final String typeName = managedType instanceof ManagedDomainType
+					? ( (ManagedDomainType<?>) managedType ).getTypeName()
+					: managedType.getJavaType().getName();
+			descriptions.add( typeName );
+			for ( Attribute<?, ?> attribute : managedType.getAttributes() ) {
+				descriptions.add(
+						typeName + '#' + attribute.getName() + ':' + attribute.getPersistentAttributeType()
+								+ ':' + ( attribute.getJavaType() == null ? null : attribute.getJavaType().getName() )
+				);
+			}
+		}
+
+		final MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance( "SHA-256" );
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new HibernateException( "Unable to determine metamodel hash", e );
+		}
+		digest.update( Version.getVersionString().getBytes( StandardCharsets.UTF_8 ) );
+		for ( String description : descriptions ) {
+			digest.update( (byte) '\n' );
+			digest.update( description.getBytes( StandardCharsets.UTF_8 ) );
+		}
+
+		final StringBuilder hash = new StringBuilder();
+		for ( byte b : digest.digest() ) {
+			hash.append( Character.forDigit( ( b >> 4 ) & 0xF, 16 ) );
+			hash.append( Character.forDigit( b & 0xF, 16 ) );
+		}
+		return hash.toString();
+	}
+
+	/**
+	 * Read the query strings stored in the snapshot.  Returns an empty list if the file does
+	 * not exist, was written for a different domain model, or cannot be read for any reason,
+	 * such as being truncated or corrupt.
+	 */
+	public static List<String> read(Path file, String metamodelHash) {
+		if ( !Files.isRegularFile( file ) ) {
+			log.debugf( "No query interpretation cache snapshot found at %s", file );
+			return Collections.emptyList();
+		}
+
+		try {
+			if ( Files.size( file ) > Integer.MAX_VALUE ) {
+				throw new IOException( "Snapshot file is too large" );
+			}
+			// the snapshot is read into memory completely, so that any length read from it can be
+			// checked against the number of remaining bytes before allocating anything
+			try ( DataInputStream input = new DataInputStream( new ByteArrayInputStream( Files.readAllBytes( file ) ) ) ) {
+				if ( input.readInt() != MAGIC || input.readInt() != FORMAT_VERSION ) {
+					log.debugf( "Ignoring query interpretation cache snapshot %s with unknown format", file );
+					return Collections.emptyList();
+				}
+				if ( !metamodelHash.equals( input.readUTF() ) ) {
+					log.debugf( "Ignoring query interpretation cache snapshot %s written for a different domain model", file );
+					return Collections.emptyList();
+				}
+
+				// each query string takes at least the 4 bytes of its length
+				final int count = readLength( input, Integer.BYTES );
+				final List<String> queryStrings = new ArrayList<>( count );
+				for ( int i = 0; i < count; i++ ) {
+					final byte[] bytes = new byte[ readLength( input, 1 ) ];
+					input.readFully( bytes );
+					queryStrings.add( new String( bytes, StandardCharsets.UTF_8 ) );
+				}
+				log.debugf( "Read %s query strings from query interpretation cache snapshot %s", count, file );
+				return queryStrings;
+			}
+		}
+		catch (IOException | RuntimeException e) {
+			log.warnf( "Discarding unreadable query interpretation cache snapshot %s : %s", file, e.getMessage() );
+			log.debugf( e, "Unable to read query interpretation cache snapshot %s", file );
+			return Collections.emptyList();
+		}
+	}
+
+	/**
+	 * Read a length, verifying that the remaining input can hold that many elements of the given size
+	 */
+	private static int readLength(DataInputStream input, int elementSize) throws IOException {
+		final int length = input.readInt();
+		if ( length < 0 || length > input.available() / elementSize ) {
+			throw new IOException( "Invalid length " + length + " with " + input.available() + " bytes remaining" );
+		}
+		return length;
+	}
+
+	/**
+	 * Write the given query strings to the snapshot, replacing the previous snapshot if one exists.
+	 * Failures are logged, but otherwise ignored.
+	 */
+	public static void write(Path file, String metamodelHash, Collection<String> queryStrings) {
+		try {
+			final Path directory = file.toAbsolutePath().getParent();
+			if ( directory != null ) {
+				Files.createDirectories( directory );
+			}
+			// write to a temporary file first, so that a concurrently starting SessionFactory never sees a partial snapshot
+			final Path temporaryFile = Files.createTempFile( directory, file.getFileName().toString(), ".tmp" );
+			try {
+				try ( DataOutputStream output = new DataOutputStream( new BufferedOutputStream( Files.newOutputStream( temporaryFile ) ) ) ) {
+					output.writeInt( MAGIC );
+					output.writeInt( FORMAT_VERSION );
+					output.writeUTF( metamodelHash );
+					output.writeInt( queryStrings.size() );
+					for ( String queryString : queryStrings ) {
+						final byte[] bytes = queryString.getBytes( StandardCharsets.UTF_8 );
+						output.writeInt( bytes.length );
+						output.write( bytes );
+					}
+				}
+				Files.move( temporaryFile, file, StandardCopyOption.REPLACE_EXISTING );
+			}
+			finally {
+				Files.deleteIfExists( temporaryFile );
+			}
+			log.debugf( "Wrote %s query strings to query interpretation cache snapshot %s", queryStrings.size(), file );
+		}
+		catch (IOException | RuntimeException e) {
+			log.warnf( "Unable to write query interpretation cache snapshot %s : %s", file, e.getMessage() );
+		}
+	}
+}
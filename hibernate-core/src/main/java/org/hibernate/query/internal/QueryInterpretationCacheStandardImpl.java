@@ -6,12 +6,18 @@
  */
 package org.hibernate.query.internal;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
 import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
+import org.hibernate.internal.util.collections.TinyLfuCache;
 import org.hibernate.query.QueryLogging;
+import org.hibernate.query.QueryPlanCacheEvictionPolicy;
 import org.hibernate.query.spi.HqlInterpretation;
 import org.hibernate.query.spi.NonSelectQueryPlan;
 import org.hibernate.query.spi.ParameterMetadataImplementor;
@@ -50,19 +56,60 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 	/**
 	 * the cache of the actual plans...
 	 */
-	private final BoundedConcurrentHashMap<Key, QueryPlan> queryPlanCache;
+	private final ConcurrentMap<Key, QueryPlan> queryPlanCache;
 
-	private final BoundedConcurrentHashMap<String, ImmutableHqlInterpretation> hqlInterpretationCache;
-	private final BoundedConcurrentHashMap<String, ParameterInterpretation> nativeQueryParamCache;
+	private final ConcurrentMap<String, ImmutableHqlInterpretation> hqlInterpretationCache;
+	private final ConcurrentMap<String, ParameterInterpretation> nativeQueryParamCache;
 	private final Supplier<StatisticsImplementor> statisticsSupplier;
 
 	public QueryInterpretationCacheStandardImpl(int maxQueryPlanCount, Supplier<StatisticsImplementor> statisticsSupplier) {
-		log.debugf( "Starting QueryPlanCache(%s)", maxQueryPlanCount );
+		this( maxQueryPlanCount, QueryPlanCacheEvictionPolicy.DEFAULT, statisticsSupplier );
+	}
+
+	public QueryInterpretationCacheStandardImpl(
+			int maxQueryPlanCount,
+			QueryPlanCacheEvictionPolicy evictionPolicy,
+			Supplier<StatisticsImplementor> statisticsSupplier) {
+		log.debugf( "Starting QueryPlanCache(%s, %s)", maxQueryPlanCount, evictionPolicy );
 
-		this.queryPlanCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
-		this.hqlInterpretationCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
-		this.nativeQueryParamCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
 		this.statisticsSupplier = statisticsSupplier;
+		this.queryPlanCache = createCache( maxQueryPlanCount, evictionPolicy );
+		this.hqlInterpretationCache = createCache( maxQueryPlanCount, evictionPolicy );
+		this.nativeQueryParamCache = createCache( maxQueryPlanCount, evictionPolicy );
+	}
+
+	private <K, V> ConcurrentMap<K, V> createCache(int maxSize, QueryPlanCacheEvictionPolicy evictionPolicy) {
+		switch ( evictionPolicy ) {
+			case TINY_LFU: {
+				return new TinyLfuCache<>( maxSize, key -> evicted( 1 ) );
+			}
+			default: {
+				return new BoundedConcurrentHashMap<>(
+						maxSize,
+						20,
+						BoundedConcurrentHashMap.Eviction.LIRS,
+						new BoundedConcurrentHashMap.EvictionListener<K, V>() {
+							@Override
+							public void onEntryEviction(Map<K, V> evicted) {
+								evicted( evicted.size() );
+							}
+
+							@Override
+							public void onEntryChosenForEviction(V internalCacheEntry) {
+							}
+						}
+				);
+			}
+		}
+	}
+
+	private void evicted(int count) {
+		final StatisticsImplementor statistics = statisticsSupplier.get();
+		if ( statistics.isStatisticsEnabled() ) {
+			for ( int i = 0; i < count; i++ ) {
+				statistics.queryPlanCacheEviction();
+			}
+		}
 	}
 
 	@Override
@@ -156,6 +203,11 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 				domainParameterXref);
 	}
 
+	@Override
+	public Collection<String> getCachedHqlQueryStrings() {
+		return new ArrayList<>( hqlInterpretationCache.keySet() );
+	}
+
 	@Override
 	public ParameterInterpretation resolveNativeQueryParameters(
 			String queryString,
@@ -69,6 +69,16 @@ public interface NamedObjectRepository {
 	 */
 	Map<String, HibernateException> checkNamedQueries(QueryEngine queryPlanCache);
 
+	/**
+	 * Perform a validity check on all named queries, checking the named HQL queries
+	 * using the given number of threads
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_STARTUP_CHECKING_PARALLELISM
+	 */
+	default Map<String, HibernateException> checkNamedQueries(QueryEngine queryPlanCache, int parallelism) {
+		return checkNamedQueries( queryPlanCache );
+	}
+
 	/**
 	 * Resolve the named query with the given name.
 	 */
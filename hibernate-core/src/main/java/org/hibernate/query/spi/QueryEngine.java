@@ -6,6 +6,8 @@
  */
 package org.hibernate.query.spi;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
@@ -27,11 +29,13 @@ import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.jpa.spi.JpaCompliance;
 import org.hibernate.metamodel.model.domain.JpaMetamodel;
+import org.hibernate.query.QueryPlanCacheEvictionPolicy;
 import org.hibernate.query.criteria.ValueHandlingMode;
 import org.hibernate.query.hql.HqlTranslator;
 import org.hibernate.query.hql.internal.StandardHqlTranslator;
 import org.hibernate.query.hql.spi.SqmCreationOptions;
 import org.hibernate.query.internal.QueryInterpretationCacheDisabledImpl;
+import org.hibernate.query.internal.QueryInterpretationCacheSnapshot;
 import org.hibernate.query.internal.QueryInterpretationCacheStandardImpl;
 import org.hibernate.query.named.NamedObjectRepository;
 import org.hibernate.query.sqm.NodeBuilder;
@@ -56,6 +60,7 @@ import org.jboss.logging.Logger;
  */
 @Incubating
 public class QueryEngine {
+	private static final Logger LOG = CoreLogging.logger( QueryEngine.class );
 	private static final Logger LOG_HQL_FUNCTIONS = CoreLogging.logger( "org.hibernate.LOG_HQL_FUNCTIONS" );
 
 	public static QueryEngine from(SessionFactoryImplementor sessionFactory, MetadataImplementor metadata) {
@@ -115,6 +120,9 @@ public class QueryEngine {
 	private final TypeConfiguration typeConfiguration;
 	private final int preferredSqlTypeCodeForBoolean;
 
+	private Path interpretationCacheSnapshotFile;
+	private String metamodelHash;
+
 	public QueryEngine(
 			String uuid,
 			String name,
@@ -363,7 +371,11 @@ public class QueryEngine {
 					? explicitMaxPlanSize
 					: QueryInterpretationCacheStandardImpl.DEFAULT_QUERY_PLAN_MAX_COUNT;
 
-			return new QueryInterpretationCacheStandardImpl( size, statisticsSupplier );
+			final QueryPlanCacheEvictionPolicy evictionPolicy = QueryPlanCacheEvictionPolicy.interpret(
+					properties.get( AvailableSettings.QUERY_PLAN_CACHE_EVICTION_POLICY )
+			);
+
+			return new QueryInterpretationCacheStandardImpl( size, evictionPolicy, statisticsSupplier );
 		}
 		else {
 			// disabled
@@ -376,6 +388,31 @@ public class QueryEngine {
 			MetadataImplementor bootMetamodel,
 			BootstrapContext bootstrapContext) {
 		namedObjectRepository.prepare( sessionFactory, bootMetamodel, bootstrapContext );
+
+		final String snapshotFile = ConfigurationHelper.getString(
+				AvailableSettings.QUERY_PLAN_CACHE_SNAPSHOT_FILE,
+				sessionFactory.getProperties()
+		);
+		if ( snapshotFile != null && interpretationCache.isEnabled() ) {
+			this.interpretationCacheSnapshotFile = Paths.get( snapshotFile );
+			this.metamodelHash = QueryInterpretationCacheSnapshot.determineMetamodelHash( sessionFactory.getJpaMetamodel() );
+			warmInterpretationCache( QueryInterpretationCacheSnapshot.read( interpretationCacheSnapshotFile, metamodelHash ) );
+		}
+	}
+
+	private void warmInterpretationCache(List<String> queryStrings) {
+		for ( String queryString : queryStrings ) {
+			try {
+				interpretationCache.resolveHqlInterpretation(
+						queryString,
+						s -> hqlTranslator.translate( queryString )
+				);
+			}
+			catch (RuntimeException e) {
+				// the query will simply be interpreted (and fail) again when it is actually used
+				LOG.debugf( e, "Unable to interpret query from query interpretation cache snapshot : %s", queryString );
+			}
+		}
 	}
 
 	public NamedObjectRepository getNamedObjectRepository() {
@@ -424,6 +461,13 @@ public class QueryEngine {
 		}
 
 		if ( interpretationCache != null ) {
+			if ( interpretationCacheSnapshotFile != null ) {
+				QueryInterpretationCacheSnapshot.write(
+						interpretationCacheSnapshotFile,
+						metamodelHash,
+						interpretationCache.getCachedHqlQueryStrings()
+				);
+			}
 			interpretationCache.close();
 		}
 
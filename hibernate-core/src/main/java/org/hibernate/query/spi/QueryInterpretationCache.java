@@ -6,6 +6,8 @@
  */
 package org.hibernate.query.spi;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -35,6 +37,13 @@ public interface QueryInterpretationCache {
 
 	HqlInterpretation resolveHqlInterpretation(String queryString, Function<String, SqmStatement<?>> creator);
 
+	/**
+	 * The query strings of the HQL interpretations currently held by this cache
+	 */
+	default Collection<String> getCachedHqlQueryStrings() {
+		return Collections.emptyList();
+	}
+
 	<R> SelectQueryPlan<R> resolveSelectQueryPlan(Key key, Supplier<SelectQueryPlan<R>> creator);
 
 	NonSelectQueryPlan getNonSelectQueryPlan(Key key);
@@ -7,17 +7,22 @@
 package org.hibernate.query.spi;
 
 import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.hibernate.Incubating;
 import org.hibernate.ScrollMode;
 import org.hibernate.query.Query;
+import org.hibernate.query.internal.ScrollableResultsIterator;
 
 /**
  * General contract for performing execution of a query returning results.  These
  * are the methods delegated to by the Query impls in response to {@link Query#list()},
  * {@link Query#uniqueResult}, {@link Query#uniqueResultOptional},
- * {@link Query#getResultList}, {@link Query#getSingleResult} and
- * {@link Query#scroll}.
+ * {@link Query#getResultList}, {@link Query#getSingleResult},
+ * {@link Query#scroll} and {@link Query#stream}.
  *
  * todo (6.0) : ? - can this be re-used for handling entity and collection loads as well?
  *
@@ -42,4 +47,17 @@ public interface SelectQueryPlan<R> extends QueryPlan {
 	 */
 	ScrollableResultsImplementor<R> performScroll(ScrollMode scrollMode, DomainQueryExecutionContext executionContext);
 
+	/**
+	 * Perform (execute) the query returning a Stream.  By default the Stream
+	 * is backed by a {@linkplain ScrollMode#FORWARD_ONLY forward-only}
+	 * {@link #performScroll scroll}
+	 */
+	default Stream<R> performStream(DomainQueryExecutionContext executionContext) {
+		final ScrollableResultsImplementor<R> scrollableResults = performScroll( ScrollMode.FORWARD_ONLY, executionContext );
+		final ScrollableResultsIterator<R> iterator = new ScrollableResultsIterator<>( scrollableResults );
+		final Spliterator<R> spliterator = Spliterators.spliteratorUnknownSize( iterator, Spliterator.NONNULL );
+
+		final Stream<R> stream = StreamSupport.stream( spliterator, false );
+		return stream.onClose( scrollableResults::close );
+	}
 }
@@ -30,6 +30,7 @@ import org.hibernate.LockOptions;
 import org.hibernate.MappingException;
 import org.hibernate.QueryException;
 import org.hibernate.ScrollMode;
+import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.query.spi.NativeQueryInterpreter;
@@ -580,20 +581,20 @@ public class NativeQueryImpl<R>
 	}
 
 	private SelectQueryPlan<R> resolveSelectQueryPlan() {
-		final QueryInterpretationCache.Key cacheKey = generateSelectInterpretationsKey( resultSetMapping );
+		final String sqlString = expandParameterLists();
+		final QueryInterpretationCache.Key cacheKey = generateSelectInterpretationsKey( sqlString, resultSetMapping );
 		if ( cacheKey != null ) {
 			return getSession().getFactory().getQueryEngine().getInterpretationCache().resolveSelectQueryPlan(
 					cacheKey,
-					() -> createQueryPlan( resultSetMapping )
+					() -> createQueryPlan( resultSetMapping, sqlString )
 			);
 		}
 		else {
-			return createQueryPlan( resultSetMapping );
+			return createQueryPlan( resultSetMapping, sqlString );
 		}
 	}
 
-	private NativeSelectQueryPlan<R> createQueryPlan(ResultSetMapping resultSetMapping) {
-		final String sqlString = expandParameterLists();
+	private NativeSelectQueryPlan<R> createQueryPlan(ResultSetMapping resultSetMapping, String sqlString) {
 		final NativeSelectQueryDefinition<R> queryDefinition = new NativeSelectQueryDefinition<R>() {
 			@Override
 			public String getSqlString() {
@@ -633,7 +634,9 @@ public class NativeQueryImpl<R>
 		// HHH-1123
 		// Some DBs limit number of IN expressions.  For now, warn...
 		final Dialect dialect = getSessionFactory().getServiceRegistry().getService( JdbcServices.class ).getJdbcEnvironment().getDialect();
-		final boolean paddingEnabled = getSessionFactory().getSessionFactoryOptions().inClauseParameterPaddingEnabled();
+		final SessionFactoryOptions options = getSessionFactory().getSessionFactoryOptions();
+		final boolean paddingEnabled = options.inClauseParameterPaddingEnabled();
+		final int[] paddingBuckets = options.getInClauseParameterPaddingBuckets();
 		final int inExprLimit = dialect.getInExpressionCountLimit();
 
 		StringBuilder sb = null;
@@ -649,7 +652,7 @@ public class NativeQueryImpl<R>
 			final Collection<?> bindValues = binding.getBindValues();
 
 			int bindValueCount = bindValues.size();
-			int bindValueMaxCount = determineBindValueMaxCount( paddingEnabled, inExprLimit, bindValueCount );
+			int bindValueMaxCount = determineBindValueMaxCount( paddingEnabled, paddingBuckets, inExprLimit, bindValueCount );
 
 			if ( inExprLimit > 0 && bindValueCount > inExprLimit ) {
 				log.tooManyInExpressions(
@@ -744,12 +747,20 @@ public class NativeQueryImpl<R>
 	}
 
 	public static int determineBindValueMaxCount(boolean paddingEnabled, int inExprLimit, int bindValueCount) {
+		return determineBindValueMaxCount( paddingEnabled, null, inExprLimit, bindValueCount );
+	}
+
+	public static int determineBindValueMaxCount(
+			boolean paddingEnabled,
+			int[] paddingBuckets,
+			int inExprLimit,
+			int bindValueCount) {
 		int bindValueMaxCount = bindValueCount;
 
 		final boolean inClauseParameterPaddingEnabled = paddingEnabled && bindValueCount > 2;
 
 		if ( inClauseParameterPaddingEnabled ) {
-			int bindValuePaddingCount = MathHelper.ceilingPowerOfTwo( bindValueCount );
+			int bindValuePaddingCount = MathHelper.ceilingBucket( bindValueCount, paddingBuckets );
 
 			if ( inExprLimit > 0 && bindValuePaddingCount > inExprLimit ) {
 				bindValuePaddingCount = inExprLimit;
@@ -762,9 +773,22 @@ public class NativeQueryImpl<R>
 		return bindValueMaxCount;
 	}
 
-	private SelectInterpretationsKey generateSelectInterpretationsKey(JdbcValuesMappingProducer resultSetMapping) {
+	private SelectInterpretationsKey generateSelectInterpretationsKey(
+			String expandedSqlString,
+			JdbcValuesMappingProducer resultSetMapping) {
 		if ( !isCacheable( this ) ) {
-			return null;
+			// With padding, parameter lists only expand to a handful of distinct sizes,
+			// so the plans are still worth caching - one per expansion
+			if ( !getSessionFactory().getSessionFactoryOptions().inClauseParameterPaddingEnabled() ) {
+				return null;
+			}
+			return new SelectInterpretationsKey(
+					getQueryString(),
+					expandedSqlString,
+					resultSetMapping,
+					getQueryOptions().getTupleTransformer(),
+					getQueryOptions().getResultListTransformer()
+			);
 		}
 
 		return new SelectInterpretationsKey(
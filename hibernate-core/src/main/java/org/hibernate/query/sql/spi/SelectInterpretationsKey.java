@@ -18,6 +18,7 @@ import org.hibernate.sql.results.jdbc.spi.JdbcValuesMappingProducer;
  */
 public class SelectInterpretationsKey implements QueryInterpretationCache.Key {
 	private final String sql;
+	private final String expandedSql;
 	private final JdbcValuesMappingProducer jdbcValuesMappingProducer;
 	private final TupleTransformer tupleTransformer;
 	private final ResultListTransformer resultListTransformer;
@@ -27,7 +28,22 @@ public class SelectInterpretationsKey implements QueryInterpretationCache.Key {
 			JdbcValuesMappingProducer jdbcValuesMappingProducer,
 			TupleTransformer tupleTransformer,
 			ResultListTransformer resultListTransformer) {
+		this( sql, null, jdbcValuesMappingProducer, tupleTransformer, resultListTransformer );
+	}
+
+	/**
+	 * Key for a plan specific to one expansion of the query's parameter lists
+	 *
+	 * @param expandedSql The SQL after expansion of the parameter lists
+	 */
+	public SelectInterpretationsKey(
+			String sql,
+			String expandedSql,
+			JdbcValuesMappingProducer jdbcValuesMappingProducer,
+			TupleTransformer tupleTransformer,
+			ResultListTransformer resultListTransformer) {
 		this.sql = sql;
+		this.expandedSql = expandedSql;
 		this.jdbcValuesMappingProducer = jdbcValuesMappingProducer;
 		this.tupleTransformer = tupleTransformer;
 		this.resultListTransformer = resultListTransformer;
@@ -50,6 +66,7 @@ public class SelectInterpretationsKey implements QueryInterpretationCache.Key {
 		SelectInterpretationsKey that = (SelectInterpretationsKey) o;
 
 		return sql.equals( that.sql )
+				&& Objects.equals( expandedSql, that.expandedSql )
 				&& Objects.equals( jdbcValuesMappingProducer, that.jdbcValuesMappingProducer )
 				&& Objects.equals( tupleTransformer, that.tupleTransformer )
 				&& Objects.equals( resultListTransformer, that.resultListTransformer );
@@ -59,6 +76,7 @@ public class SelectInterpretationsKey implements QueryInterpretationCache.Key {
 	@Override
 	public int hashCode() {
 		int result = sql.hashCode();
+		result = 31 * result + ( expandedSql != null ? expandedSql.hashCode() : 0 );
 		result = 31 * result + jdbcValuesMappingProducer.hashCode();
 		result = 31 * result + ( tupleTransformer != null ? tupleTransformer.hashCode() : 0 );
 		result = 31 * result + ( resultListTransformer != null ? resultListTransformer.hashCode() : 0 );
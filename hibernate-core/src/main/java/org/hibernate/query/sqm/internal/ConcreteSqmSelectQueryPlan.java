@@ -7,11 +7,16 @@
 package org.hibernate.query.sqm.internal;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
 
+import org.hibernate.LockMode;
 import org.hibernate.ScrollMode;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
@@ -21,12 +26,16 @@ import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.SubselectFetch;
 import org.hibernate.internal.EmptyScrollableResults;
 import org.hibernate.internal.util.collections.ArrayHelper;
+import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
 import org.hibernate.metamodel.mapping.MappingModelExpressable;
 import org.hibernate.query.IllegalQueryOperationException;
+import org.hibernate.query.Limit;
 import org.hibernate.query.criteria.JpaSelection;
 import org.hibernate.query.spi.DomainQueryExecutionContext;
 import org.hibernate.query.spi.QueryEngine;
 import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.query.spi.QueryParameterBinding;
+import org.hibernate.query.spi.QueryParameterBindings;
 import org.hibernate.query.spi.QueryParameterImplementor;
 import org.hibernate.query.spi.ScrollableResultsImplementor;
 import org.hibernate.query.spi.SelectQueryPlan;
@@ -68,14 +77,30 @@ import static org.hibernate.query.sqm.internal.QuerySqmImpl.CRITERIA_HQL_STRING;
  * @author Steve Ebersole
  */
 public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
+	/**
+	 * The maximum number of interpretations (one per {@link InterpretationShape}) kept per plan
+	 */
+	private static final int MAX_CACHED_INTERPRETATIONS = 16;
+
 	private final SqmSelectStatement sqm;
 	private final String hql;
 	private final DomainParameterXref domainParameterXref;
 	private final RowTransformer<R> rowTransformer;
 	private final SqmInterpreter<List<R>, Void> listInterpreter;
 	private final SqmInterpreter<ScrollableResultsImplementor<R>, ScrollMode> scrollInterpreter;
+	private final SqmInterpreter<Stream<R>, Void> streamInterpreter;
+
+	private final Map<InterpretationShape, CacheableSqmInterpretation> cacheableSqmInterpretations = new BoundedConcurrentHashMap<>(
+			MAX_CACHED_INTERPRETATIONS,
+			1,
+			BoundedConcurrentHashMap.Eviction.LRU
+	);
 
-	private volatile CacheableSqmInterpretation cacheableSqmInterpretation;
+	/**
+	 * The multi-valued parameters which were expanded to exactly the number of bound values,
+	 * rather than the padded IN list size, by any of the translations so far
+	 */
+	private final Set<QueryParameterImplementor<?>> unpaddedExpansions = ConcurrentHashMap.newKeySet();
 
 	@SuppressWarnings("WeakerAccess")
 	public ConcreteSqmSelectQueryPlan(
@@ -93,85 +118,85 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 		this.listInterpreter = (unused, executionContext, sqmInterpretation, jdbcParameterBindings) -> {
 			final SharedSessionContractImplementor session = executionContext.getSession();
 			final JdbcSelect jdbcSelect = sqmInterpretation.getJdbcSelect();
-			try {
-				final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler = SubselectFetch.createRegistrationHandler(
-						session.getPersistenceContext().getBatchFetchQueue(),
-						sqmInterpretation.selectStatement,
-						Collections.emptyList(),
-						jdbcParameterBindings
-				);
-
-				session.autoFlushIfRequired( jdbcSelect.getAffectedTableNames() );
-
-				return session.getFactory().getJdbcServices().getJdbcSelectExecutor().list(
-						jdbcSelect,
-						jdbcParameterBindings,
-						new SqmJdbcExecutionContextAdapter( executionContext, jdbcSelect ) {
-							@Override
-							public void registerLoadingEntityEntry(EntityKey entityKey, LoadingEntityEntry entry) {
-								subSelectFetchKeyHandler.addKey( entityKey );
-							}
-
-							@Override
-							public String getQueryIdentifier(String sql) {
-								if ( CRITERIA_HQL_STRING.equals( hql ) ) {
-									return "[CRITERIA] " + sql;
-								}
-								return hql;
-							}
+			final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler = SubselectFetch.createRegistrationHandler(
+					session.getPersistenceContext().getBatchFetchQueue(),
+					sqmInterpretation.selectStatement,
+					Collections.emptyList(),
+					jdbcParameterBindings
+			);
 
-							@Override
-							public boolean hasQueryExecutionToBeAddedToStatistics() {
-								return true;
+			session.autoFlushIfRequired( jdbcSelect.getAffectedTableNames() );
+
+			return session.getFactory().getJdbcServices().getJdbcSelectExecutor().list(
+					jdbcSelect,
+					jdbcParameterBindings,
+					new SqmJdbcExecutionContextAdapter( executionContext, jdbcSelect ) {
+						@Override
+						public void registerLoadingEntityEntry(EntityKey entityKey, LoadingEntityEntry entry) {
+							subSelectFetchKeyHandler.addKey( entityKey );
+						}
+
+						@Override
+						public String getQueryIdentifier(String sql) {
+							if ( CRITERIA_HQL_STRING.equals( hql ) ) {
+								return "[CRITERIA] " + sql;
 							}
-						},
-						rowTransformer,
-						ListResultsConsumer.UniqueSemantic.FILTER
-				);
-			}
-			finally {
-				domainParameterXref.clearExpansions();
-			}
+							return hql;
+						}
+
+						@Override
+						public boolean hasQueryExecutionToBeAddedToStatistics() {
+							return true;
+						}
+					},
+					rowTransformer,
+					ListResultsConsumer.UniqueSemantic.FILTER
+			);
 		};
 
 		this.scrollInterpreter = (scrollMode, executionContext, sqmInterpretation, jdbcParameterBindings) -> {
-			try {
-				final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler = SubselectFetch.createRegistrationHandler(
-						executionContext.getSession().getPersistenceContext().getBatchFetchQueue(),
-						sqmInterpretation.selectStatement,
-						Collections.emptyList(),
-						jdbcParameterBindings
-				);
+			final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler = SubselectFetch.createRegistrationHandler(
+					executionContext.getSession().getPersistenceContext().getBatchFetchQueue(),
+					sqmInterpretation.selectStatement,
+					Collections.emptyList(),
+					jdbcParameterBindings
+			);
 
-				final JdbcSelectExecutor jdbcSelectExecutor = executionContext.getSession()
-						.getFactory()
-						.getJdbcServices()
-						.getJdbcSelectExecutor();
-				final ScrollableResultsImplementor<R> result = jdbcSelectExecutor.scroll(
-						sqmInterpretation.getJdbcSelect(),
-						scrollMode,
-						jdbcParameterBindings,
-						new SqmJdbcExecutionContextAdapter( executionContext, sqmInterpretation.jdbcSelect ),
-						rowTransformer
-				);
+			final JdbcSelectExecutor jdbcSelectExecutor = executionContext.getSession()
+					.getFactory()
+					.getJdbcServices()
+					.getJdbcSelectExecutor();
+			final ScrollableResultsImplementor<R> result = jdbcSelectExecutor.scroll(
+					sqmInterpretation.getJdbcSelect(),
+					scrollMode,
+					jdbcParameterBindings,
+					new SqmJdbcExecutionContextAdapter( executionContext, sqmInterpretation.jdbcSelect ),
+					rowTransformer
+			);
 
-				return result;
-			}
-			finally {
-				domainParameterXref.clearExpansions();
-			}
+			return result;
+		};
+
+		this.streamInterpreter = (unused, executionContext, sqmInterpretation, jdbcParameterBindings) -> {
+			final JdbcSelectExecutor jdbcSelectExecutor = executionContext.getSession()
+					.getFactory()
+					.getJdbcServices()
+					.getJdbcSelectExecutor();
+			return jdbcSelectExecutor.stream(
+					sqmInterpretation.getJdbcSelect(),
+					jdbcParameterBindings,
+					new SqmJdbcExecutionContextAdapter( executionContext, sqmInterpretation.jdbcSelect ),
+					rowTransformer
+			);
 		};
 
 		// todo (6.0) : we should do as much of the building as we can here
 		//  	since this is the thing cached, all the work we do here will
 		//  	be cached as well.
-		// NOTE : this statement ^^ is not affected by load-query-influencers,
-		//		multi-valued parameter expansion, etc - because those all
-		//		cause the plan to not be cached.
-		// NOTE2 (regarding NOTE) : not sure multi-valued parameter expansion, in
-		//		particular, should veto caching of the plan.  The expansion happens
-		//		for each execution - see creation of `JdbcParameterBindings` in
-		//		`#performList` and `#performScroll`.
+		// NOTE : this statement ^^ is not affected by load-query-influencers
+		//		etc - because those cause the plan to not be cached.  Multi-valued
+		//		parameters are expanded per interpretation into a copy of the
+		//		DomainParameterXref, see `#buildCacheableSqmInterpretation`
 	}
 
 	@SuppressWarnings("unchecked")
@@ -273,18 +298,31 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 		return withCacheableSqmInterpretation( executionContext, scrollMode, scrollInterpreter );
 	}
 
+	@Override
+	public Stream<R> performStream(DomainQueryExecutionContext executionContext) {
+		if ( executionContext.getQueryOptions().getEffectiveLimit().getMaxRowsJpa() == 0 ) {
+			return Stream.empty();
+		}
+		return withCacheableSqmInterpretation( executionContext, null, streamInterpreter );
+	}
+
 	private <T, X> T withCacheableSqmInterpretation(DomainQueryExecutionContext executionContext, X context, SqmInterpreter<T, X> interpreter) {
 		// NOTE : VERY IMPORTANT - intentional double-lock checking
 		//		The other option would be to leverage `java.util.concurrent.locks.ReadWriteLock`
 		//		to protect access.  However, synchronized is much simpler here.  We will verify
 		// 		during throughput testing whether this is an issue and consider changes then
 
-		CacheableSqmInterpretation localCopy = cacheableSqmInterpretation;
+		// The rendered SQL depends on the "shape" of the execution (number of values bound to
+		// multi-valued parameters, presence of limit/offset, lock mode) - keep one interpretation
+		// per shape so that alternating between shapes does not re-translate on every execution
+		final InterpretationShape shape = determineShape( executionContext );
+
+		CacheableSqmInterpretation localCopy = cacheableSqmInterpretations.get( shape );
 		JdbcParameterBindings jdbcParameterBindings = null;
 
 		if ( localCopy == null ) {
 			synchronized ( this ) {
-				localCopy = cacheableSqmInterpretation;
+				localCopy = cacheableSqmInterpretations.get( shape );
 				if ( localCopy == null ) {
 					localCopy = buildCacheableSqmInterpretation(
 							sqm,
@@ -293,18 +331,18 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 					);
 					jdbcParameterBindings = localCopy.firstParameterBindings;
 					localCopy.firstParameterBindings = null;
-					cacheableSqmInterpretation = localCopy;
+					cacheableSqmInterpretations.put( determineShape( shape, localCopy, executionContext ), localCopy );
 				}
 			}
 		}
 		else {
-			// If the translation depends on parameter bindings or it isn't compatible with the current query options,
-			// we have to rebuild the JdbcSelect, which is still better than having to translate from SQM to SQL AST again
+			// If the translation depends on parameter bindings we have to check the JdbcSelect
+			// is still compatible with the current values
 			if ( localCopy.jdbcSelect.dependsOnParameterBindings() ) {
 				jdbcParameterBindings = createJdbcParameterBindings( localCopy, executionContext );
 			}
-			// If the translation depends on the limit or lock options, we have to rebuild the JdbcSelect
-			// We could avoid this by putting the lock options into the cache key
+			// The shape covers the presence of limit/offset and the lock mode, but not the
+			// values of parameters which were inlined into the SQL - rebuild in that case
 			if ( !localCopy.jdbcSelect.isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() ) ) {
 				localCopy = buildCacheableSqmInterpretation(
 						sqm,
@@ -313,7 +351,7 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 				);
 				jdbcParameterBindings = localCopy.firstParameterBindings;
 				localCopy.firstParameterBindings = null;
-				cacheableSqmInterpretation = localCopy;
+				cacheableSqmInterpretations.put( determineShape( shape, localCopy, executionContext ), localCopy );
 			}
 		}
 
@@ -324,11 +362,34 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 		return interpreter.interpret( context, executionContext, localCopy, jdbcParameterBindings );
 	}
 
+	private InterpretationShape determineShape(DomainQueryExecutionContext executionContext) {
+		return InterpretationShape.from( executionContext, domainParameterXref, unpaddedExpansions );
+	}
+
+	/**
+	 * The shape to store a new interpretation under.  The shape of the execution assumed that all
+	 * multi-valued parameters, which are not yet known to be expanded without padding, only make up
+	 * IN lists - if the translation proved otherwise, the interpretation is only valid for the exact
+	 * number of bound values
+	 */
+	private InterpretationShape determineShape(
+			InterpretationShape executionShape,
+			CacheableSqmInterpretation sqmInterpretation,
+			DomainQueryExecutionContext executionContext) {
+		final Set<QueryParameterImplementor<?>> translationUnpaddedExpansions = sqmInterpretation.getDomainParameterXref()
+				.getUnpaddedExpansions();
+		if ( translationUnpaddedExpansions.isEmpty() ) {
+			return executionShape;
+		}
+		unpaddedExpansions.addAll( translationUnpaddedExpansions );
+		return determineShape( executionContext );
+	}
+
 	private JdbcParameterBindings createJdbcParameterBindings(CacheableSqmInterpretation sqmInterpretation, DomainQueryExecutionContext executionContext) {
 		final SharedSessionContractImplementor session = executionContext.getSession();
 		final JdbcParameterBindings jdbcParameterBindings = SqmUtil.createJdbcParameterBindings(
 				executionContext.getQueryParameterBindings(),
-				domainParameterXref,
+				sqmInterpretation.getDomainParameterXref(),
 				sqmInterpretation.getJdbcParamsXref(),
 				session.getFactory().getDomainModel(),
 				sqmInterpretation.getTableGroupAccess()::findTableGroup,
@@ -341,8 +402,11 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 
 	private static CacheableSqmInterpretation buildCacheableSqmInterpretation(
 			SqmSelectStatement sqm,
-			DomainParameterXref domainParameterXref,
+			DomainParameterXref planDomainParameterXref,
 			DomainQueryExecutionContext executionContext) {
+		// The expansions of multi-valued parameters belong to this interpretation only,
+		// the xref of the plan is shared by concurrent executions
+		final DomainParameterXref domainParameterXref = planDomainParameterXref.copy();
 		final SharedSessionContractImplementor session = executionContext.getSession();
 		final SessionFactoryImplementor sessionFactory = session.getFactory();
 		final QueryEngine queryEngine = sessionFactory.getQueryEngine();
@@ -389,12 +453,119 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 				sqmInterpretation.getSqlAst(),
 				jdbcSelect,
 				tableGroupAccess,
+				domainParameterXref,
 				jdbcParamsXref,
 				sqmInterpretation.getSqmParameterMappingModelTypeResolutions(),
 				jdbcParameterBindings
 		);
 	}
 
+	/**
+	 * The aspects of an execution which influence the SQL rendered for the plan, other
+	 * than the values of parameters inlined into the SQL (see {@link JdbcSelect#isCompatibleWith})
+	 */
+	private static class InterpretationShape {
+		private final int[] valueCounts;
+		private final boolean hasFirstRow;
+		private final boolean hasMaxRows;
+		private final LockMode lockMode;
+		private final int hashCode;
+
+		private InterpretationShape(int[] valueCounts, boolean hasFirstRow, boolean hasMaxRows, LockMode lockMode) {
+			this.valueCounts = valueCounts;
+			this.hasFirstRow = hasFirstRow;
+			this.hasMaxRows = hasMaxRows;
+			this.lockMode = lockMode;
+
+			int result = Arrays.hashCode( valueCounts );
+			result = 31 * result + ( hasFirstRow ? 1 : 0 );
+			result = 31 * result + ( hasMaxRows ? 1 : 0 );
+			result = 31 * result + ( lockMode == null ? 0 : lockMode.hashCode() );
+			this.hashCode = result;
+		}
+
+		static InterpretationShape from(
+				DomainQueryExecutionContext executionContext,
+				DomainParameterXref domainParameterXref,
+				Set<QueryParameterImplementor<?>> unpaddedExpansions) {
+			final QueryOptions queryOptions = executionContext.getQueryOptions();
+			final Limit limit = queryOptions.getLimit();
+			return new InterpretationShape(
+					determineValueCounts(
+							executionContext.getQueryParameterBindings(),
+							domainParameterXref,
+							unpaddedExpansions,
+							executionContext.getSession().getFactory()
+					),
+					limit != null && limit.getFirstRow() != null,
+					limit != null && limit.getMaxRows() != null,
+					queryOptions.getLockOptions().findGreatestLockMode()
+			);
+		}
+
+		/**
+		 * The number of values bound to each parameter which allows multi-valued binding,
+		 * in the iteration order of the (immutable) query parameters of the xref, or -1 for
+		 * a single-valued binding.  The number of values determines the expansions of the
+		 * parameter and thereby the JDBC parameters of the translation.  IN lists are padded
+		 * when expanded, so unless the parameter is also expanded elsewhere, the padded size
+		 * is what matters.
+		 */
+		private static int[] determineValueCounts(
+				QueryParameterBindings bindings,
+				DomainParameterXref domainParameterXref,
+				Set<QueryParameterImplementor<?>> unpaddedExpansions,
+				SessionFactoryImplementor factory) {
+			if ( !domainParameterXref.hasParameters() ) {
+				return ArrayHelper.EMPTY_INT_ARRAY;
+			}
+
+			int[] valueCounts = null;
+			int i = 0;
+			for ( QueryParameterImplementor<?> queryParameter : domainParameterXref.getQueryParameters().keySet() ) {
+				if ( !queryParameter.allowsMultiValuedBinding() ) {
+					continue;
+				}
+				if ( valueCounts == null ) {
+					valueCounts = new int[domainParameterXref.getQueryParameterCount()];
+				}
+				final QueryParameterBinding<?> binding = bindings.getBinding( queryParameter );
+				if ( !binding.isMultiValued() ) {
+					valueCounts[i++] = -1;
+				}
+				else if ( unpaddedExpansions.contains( queryParameter ) ) {
+					valueCounts[i++] = binding.getBindValues().size();
+				}
+				else {
+					valueCounts[i++] = SqmUtil.determineInListExpansionCount( binding.getBindValues().size(), factory );
+				}
+			}
+
+			return valueCounts == null ? ArrayHelper.EMPTY_INT_ARRAY : Arrays.copyOf( valueCounts, i );
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( o == null || getClass() != o.getClass() ) {
+				return false;
+			}
+
+			final InterpretationShape that = (InterpretationShape) o;
+			return Arrays.equals( valueCounts, that.valueCounts )
+					&& hasFirstRow == that.hasFirstRow
+					&& hasMaxRows == that.hasMaxRows
+					&& lockMode == that.lockMode;
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+
 	private interface SqmInterpreter<T, X> {
 		T interpret(
 				X context,
@@ -407,6 +578,7 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 		private final SelectStatement selectStatement;
 		private final JdbcSelect jdbcSelect;
 		private final FromClauseAccess tableGroupAccess;
+		private final DomainParameterXref domainParameterXref;
 		private final Map<QueryParameterImplementor<?>, Map<SqmParameter, List<List<JdbcParameter>>>> jdbcParamsXref;
 		private final Map<SqmParameter, MappingModelExpressable> sqmParameterMappingModelTypes;
 		private transient JdbcParameterBindings firstParameterBindings;
@@ -415,12 +587,14 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 				SelectStatement selectStatement,
 				JdbcSelect jdbcSelect,
 				FromClauseAccess tableGroupAccess,
+				DomainParameterXref domainParameterXref,
 				Map<QueryParameterImplementor<?>, Map<SqmParameter, List<List<JdbcParameter>>>> jdbcParamsXref,
 				Map<SqmParameter,MappingModelExpressable> sqmParameterMappingModelTypes,
 				JdbcParameterBindings firstParameterBindings) {
 			this.selectStatement = selectStatement;
 			this.jdbcSelect = jdbcSelect;
 			this.tableGroupAccess = tableGroupAccess;
+			this.domainParameterXref = domainParameterXref;
 			this.jdbcParamsXref = jdbcParamsXref;
 			this.sqmParameterMappingModelTypes = sqmParameterMappingModelTypes;
 			this.firstParameterBindings = firstParameterBindings;
@@ -438,6 +612,10 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 			return tableGroupAccess;
 		}
 
+		DomainParameterXref getDomainParameterXref() {
+			return domainParameterXref;
+		}
+
 		Map<QueryParameterImplementor<?>, Map<SqmParameter, List<List<JdbcParameter>>>> getJdbcParamsXref() {
 			return jdbcParamsXref;
 		}
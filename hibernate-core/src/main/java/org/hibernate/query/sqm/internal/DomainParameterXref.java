@@ -11,6 +11,7 @@ import java.util.Collections;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.TreeMap;
 
 import org.hibernate.HibernateException;
@@ -151,6 +152,7 @@ public class DomainParameterXref {
 	private final Map<SqmParameter, QueryParameterImplementor<?>> queryParamBySqmParam;
 
 	private Map<SqmParameter,List<SqmParameter>> expansions;
+	private Set<QueryParameterImplementor<?>> unpaddedExpansions;
 
 	/**
 	 * @implSpec Constructor is defined as public for
@@ -235,6 +237,25 @@ public class DomainParameterXref {
 		expansions.computeIfAbsent( originalSqmParameter, p -> new ArrayList<>() ).add( expansion );
 	}
 
+	/**
+	 * Registers that a multi-valued parameter was expanded to exactly the number of bound values
+	 * somewhere in the translation.  Only the expansion of a parameter which makes up an IN list
+	 * is padded, see {@link SqmUtil#determineInListExpansionCount}
+	 */
+	public void addUnpaddedExpansion(QueryParameterImplementor<?> domainParam) {
+		if ( unpaddedExpansions == null ) {
+			unpaddedExpansions = Collections.newSetFromMap( new IdentityHashMap<>() );
+		}
+		unpaddedExpansions.add( domainParam );
+	}
+
+	/**
+	 * The multi-valued parameters which were registered by {@link #addUnpaddedExpansion}
+	 */
+	public Set<QueryParameterImplementor<?>> getUnpaddedExpansions() {
+		return unpaddedExpansions == null ? Collections.emptySet() : unpaddedExpansions;
+	}
+
 	public List<SqmParameter> getExpansions(SqmParameter sqmParameter) {
 		if ( expansions == null ) {
 			return Collections.emptyList();
@@ -244,7 +265,24 @@ public class DomainParameterXref {
 		return sqmParameters == null ? Collections.emptyList() : sqmParameters;
 	}
 
+	/**
+	 * Creates a copy of this xref to be used for a single translation.  Expansions of
+	 * multi-valued parameters added to the copy are not visible through this xref, which
+	 * allows the copy to be kept alongside the translation it was used for.
+	 */
+	public DomainParameterXref copy() {
+		return new DomainParameterXref(
+				sqmParamsByQueryParam,
+				new IdentityHashMap<>( queryParamBySqmParam ),
+				parameterResolutions
+		);
+	}
+
 	public void clearExpansions() {
+		if ( unpaddedExpansions != null ) {
+			unpaddedExpansions.clear();
+		}
+
 		if ( expansions == null ) {
 			return;
 		}
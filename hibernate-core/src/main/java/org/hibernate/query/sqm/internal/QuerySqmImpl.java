@@ -15,6 +15,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import org.hibernate.HibernateException;
 import org.hibernate.LockMode;
@@ -828,6 +829,14 @@ public class QuerySqmImpl<R>
 		return resolveSelectQueryPlan().performScroll( scrollMode, this );
 	}
 
+	@Override
+	public Stream<R> stream() {
+		SqmUtil.verifyIsSelectStatement( getSqmStatement(), hqlString );
+		getSession().prepareForQueryExecution( requiresTxn( getLockOptions().findGreatestLockMode() ) );
+
+		return resolveSelectQueryPlan().performStream( this );
+	}
+
 	@Override
 	protected int doExecuteUpdate() {
 		SqmUtil.verifyIsNonSelectStatement( getSqmStatement(), hqlString );
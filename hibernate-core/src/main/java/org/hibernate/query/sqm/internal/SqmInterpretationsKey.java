@@ -7,7 +7,6 @@
 package org.hibernate.query.sqm.internal;
 
 import org.hibernate.LockOptions;
-import org.hibernate.query.QueryParameter;
 import org.hibernate.query.ResultListTransformer;
 import org.hibernate.query.TupleTransformer;
 import org.hibernate.query.spi.QueryInterpretationCache;
@@ -62,16 +61,9 @@ public class SqmInterpretationsKey implements QueryInterpretationCache.Key {
 			return false;
 		}
 
-		if ( query.getQueryParameterBindings().hasAnyMultiValuedBindings()
-				|| query.getParameterMetadata().hasAnyMatching( QueryParameter::allowsMultiValuedBinding ) ) {
-			// cannot cache query plans if there are multi-valued param bindings
-			// todo (6.0) : this one may be ok because of how I implemented multi-valued param handling
-			//		- the expansion is done per-execution based on the "static" SQM
-			//  - Note from Christian: The call to domainParameterXref.clearExpansions() in ConcreteSqmSelectQueryPlan is a concurrency issue when cached
-			//  - This could be solved by using a method-local clone of domainParameterXref when multi-valued params exist
-			return false;
-		}
-
+		// NOTE : multi-valued parameter bindings do not prevent caching - the expansion
+		//		is done per interpretation of the plan into a copy of the DomainParameterXref,
+		//		and the plan keeps one interpretation per number of bound values
 		return true;
 	}
 
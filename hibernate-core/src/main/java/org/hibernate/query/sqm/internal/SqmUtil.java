@@ -20,6 +20,7 @@ import java.util.function.Function;
 import java.util.function.Supplier;
 
 import org.hibernate.NotYetImplementedFor6Exception;
+import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.internal.util.collections.CollectionHelper;
@@ -39,6 +40,7 @@ import org.hibernate.query.NavigablePath;
 import org.hibernate.query.spi.QueryParameterBinding;
 import org.hibernate.query.spi.QueryParameterBindings;
 import org.hibernate.query.spi.QueryParameterImplementor;
+import org.hibernate.query.sql.internal.NativeQueryImpl;
 import org.hibernate.query.sqm.SqmQuerySource;
 import org.hibernate.query.sqm.spi.JdbcParameterBySqmParameterAccess;
 import org.hibernate.query.sqm.spi.SqmParameterMappingModelResolutionAccess;
@@ -232,36 +234,43 @@ public class SqmUtil {
 					final Collection<?> bindValues = domainParamBinding.getBindValues();
 					final Iterator<?> valueItr = bindValues.iterator();
 
+					Object bindValue = null;
+
 					// the original SqmParameter is the one we are processing.. create a binding for it..
 					for ( int i = 0; i < jdbcParamsBinds.size(); i++ ) {
 						final List<JdbcParameter> jdbcParams = jdbcParamsBinds.get( i );
+						bindValue = valueItr.next();
 						createValueBindings(
 								jdbcParameterBindings,
 								queryParam,
 								domainParamBinding,
 								parameterType,
 								jdbcParams,
-								valueItr.next(),
+								bindValue,
 								tableGroupLocator,
 								session
 						);
 					}
 
-					// an then one for each of the expansions
+					// an then one for each of the expansions.  An IN list might have been padded
+					// with more expansions than values, see #determineInListExpansionCount - those
+					// are bound to the last value
 					final List<SqmParameter> expansions = domainParameterXref.getExpansions( sqmParameter );
-					assert expansions.size() == bindValues.size() - 1;
-					int expansionPosition = 0;
-					while ( valueItr.hasNext() ) {
-						final SqmParameter expansionSqmParam = expansions.get( expansionPosition++ );
+					assert expansions.size() >= bindValues.size() - 1;
+					for ( int expansionPosition = 0; expansionPosition < expansions.size(); expansionPosition++ ) {
+						final SqmParameter expansionSqmParam = expansions.get( expansionPosition );
 						final List<List<JdbcParameter>> jdbcParamBinds = jdbcParamMap.get( expansionSqmParam );
 						for ( int i = 0; i < jdbcParamBinds.size(); i++ ) {
 							List<JdbcParameter> expansionJdbcParams = jdbcParamBinds.get( i );
+							if ( valueItr.hasNext() ) {
+								bindValue = valueItr.next();
+							}
 							createValueBindings(
 									jdbcParameterBindings,
 									queryParam, domainParamBinding,
 									parameterType,
 									expansionJdbcParams,
-									valueItr.next(),
+									bindValue,
 									tableGroupLocator,
 									session
 							);
@@ -391,6 +400,21 @@ public class SqmUtil {
 		assert offset == jdbcParams.size();
 	}
 
+	/**
+	 * The number of expansions of a multi-valued parameter which makes up an IN list, that is
+	 * the number of bound values padded according to the IN clause parameter padding settings.
+	 * Translations for all numbers of values with the same expansion count are interchangeable.
+	 */
+	public static int determineInListExpansionCount(int bindValueCount, SessionFactoryImplementor factory) {
+		final SessionFactoryOptions options = factory.getSessionFactoryOptions();
+		return NativeQueryImpl.determineBindValueMaxCount(
+				options.inClauseParameterPaddingEnabled(),
+				options.getInClauseParameterPaddingBuckets(),
+				factory.getJdbcServices().getDialect().getInExpressionCountLimit(),
+				bindValueCount
+		);
+	}
+
 	public static Bindable determineParameterType(
 			QueryParameterBinding<?> binding,
 			QueryParameterImplementor<?> parameter,
@@ -16,7 +16,6 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.IdentityHashMap;
-import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
@@ -135,6 +134,7 @@ import org.hibernate.query.sqm.function.SelfRenderingAggregateFunctionSqlAstExpr
 import org.hibernate.query.sqm.function.SelfRenderingFunctionSqlAstExpression;
 import org.hibernate.query.sqm.internal.DomainParameterXref;
 import org.hibernate.query.sqm.internal.SqmMappingModelHelper;
+import org.hibernate.query.sqm.internal.SqmUtil;
 import org.hibernate.query.sqm.produce.function.internal.PatternRenderer;
 import org.hibernate.query.sqm.spi.BaseSemanticQueryWalker;
 import org.hibernate.query.sqm.sql.internal.BasicValuedPathInterpretation;
@@ -3845,6 +3845,7 @@ public abstract class BaseSqmToSqlAstConverter<T extends Statement> extends Base
 
 			final Collection bindValues = domainParamBinding.getBindValues();
 			final List<Expression> expressions = new ArrayList<>( bindValues.size());
+			domainParameterXref.addUnpaddedExpansion( domainParam );
 			boolean first = true;
 			for ( Object bindValue : bindValues ) {
 				final SqmParameter sqmParamToConsume;
@@ -5378,14 +5379,14 @@ public abstract class BaseSqmToSqlAstConverter<T extends Statement> extends Base
 			SqmParameter<?> sqmParameter,
 			QueryParameterImplementor<?> domainParam,
 			QueryParameterBinding<?> domainParamBinding) {
-		final Iterator<?> iterator = domainParamBinding.getBindValues().iterator();
+		final Collection<?> bindValues = domainParamBinding.getBindValues();
 
 		final InListPredicate inListPredicate = new InListPredicate(
 				(Expression) sqmPredicate.getTestExpression().accept( this ),
 				sqmPredicate.isNegated(),
 				getBooleanType()
 		);
-		if ( !iterator.hasNext() ) {
+		if ( bindValues.isEmpty() ) {
 			return inListPredicate;
 		}
 
@@ -5395,10 +5396,14 @@ public abstract class BaseSqmToSqlAstConverter<T extends Statement> extends Base
 
 		try {
 			inListPredicate.addExpression( consumeSingleSqmParameter( sqmParameter ) );
-			iterator.next();
-			while ( iterator.hasNext() ) {
-				iterator.next();
-				// for each bind value create an "expansion"
+			// for each bind value create an "expansion".  With IN clause parameter padding the
+			// list is padded right away, so that the translation serves all lists of the same
+			// padded size - the surplus expansions are bound to the last value
+			final int expansionCount = SqmUtil.determineInListExpansionCount(
+					bindValues.size(),
+					creationContext.getSessionFactory()
+			);
+			for ( int i = 1; i < expansionCount; i++ ) {
 				final SqmParameter<?> sqmParamToConsume = sqmParameter.copy();
 				domainParameterXref.addExpansion( domainParam, sqmParameter, sqmParamToConsume );
 				inListPredicate.addExpression( consumeSingleSqmParameter( sqmParamToConsume ) );
@@ -5912,6 +5917,7 @@ public abstract class BaseSqmToSqlAstConverter<T extends Statement> extends Base
 		final Collection bindValues = domainParamBinding.getBindValues();
 		final int bindValuesSize = bindValues.size();
 		final List<Expression> result = new ArrayList<>( bindValuesSize );
+		domainParameterXref.addUnpaddedExpansion( domainParam );
 
 		boolean first = true;
 		for ( int i = 0; i < bindValuesSize; i++ ) {
@@ -6,6 +6,7 @@
  */
 package org.hibernate.resource.jdbc;
 
+import java.sql.Array;
 import java.sql.Blob;
 import java.sql.Clob;
 import java.sql.NClob;
@@ -27,6 +28,13 @@ public interface ResourceRegistry {
 
 	void releaseResources();
 
+	/**
+	 * Close the prepared statements which were released into a statement cache.  Called
+	 * when the physical connection they belong to is released.
+	 */
+	default void releaseCachedStatements() {
+	}
+
 	/**
 	 * Register a JDBC statement.
 	 *
@@ -63,6 +71,17 @@ public interface ResourceRegistry {
 	 */
 	void release(ResultSet resultSet, Statement statement);
 
+	/**
+	 * Register a JDBC array bound as a parameter of the given statement.  The array is freed when
+	 * the statement is released.  Registries which do not track arrays leave it to the driver
+	 * to free the array along with the statement.
+	 *
+	 * @param array The array to register.
+	 * @param statement The statement the array is bound to.
+	 */
+	default void register(Array array, Statement statement) {
+	}
+
 	void register(Blob blob);
 	void release(Blob blob);
 
@@ -58,6 +58,7 @@ public class LogicalConnectionProvidedImpl extends AbstractLogicalConnectionImpl
 		log.trace( "Closing logical connection" );
 
 		getResourceRegistry().releaseResources();
+		getResourceRegistry().releaseCachedStatements();
 
 		try {
 			return providedConnection;
@@ -98,6 +99,7 @@ public class LogicalConnectionProvidedImpl extends AbstractLogicalConnectionImpl
 		errorIfClosed();
 		try {
 			resourceRegistry.releaseResources();
+			resourceRegistry.releaseCachedStatements();
 			return providedConnection;
 		}
 		finally {
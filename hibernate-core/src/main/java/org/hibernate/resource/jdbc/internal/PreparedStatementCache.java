@@ -0,0 +1,223 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.resource.jdbc.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Objects;
+
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+
+/**
+ * A least-recently-used cache of the prepared statements of a physical JDBC connection, for
+ * drivers and connection pools which do not cache statements themselves.
+ * <p/>
+ * A statement obtained from the cache is in use until it is released through the
+ * {@link ResourceRegistryStandardImpl}, which then returns it to the cache instead of closing
+ * it.  Statements which are idle for longest are closed when the cache is full, and all idle
+ * statements are closed when the physical connection is released.
+ * This class is not threadsafe.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#STATEMENT_CACHE_SIZE
+ */
+public final class PreparedStatementCache {
+	private static final CoreMessageLogger log = CoreLogging.messageLogger( PreparedStatementCache.class );
+
+	private final int maxSize;
+
+	// a statement may only be cached once per key, so this is also the
+	// number of statements which are cached
+	private final LinkedHashMap<Key, CachedStatement> idleStatements;
+	private final IdentityHashMap<PreparedStatement, CachedStatement> statementsInUse = new IdentityHashMap<>();
+
+	public PreparedStatementCache(int maxSize) {
+		this.maxSize = maxSize;
+		this.idleStatements = new LinkedHashMap<>( 16, 0.75f, true );
+	}
+
+	/**
+	 * Take an idle statement for the given key out of the cache.
+	 *
+	 * @return The statement, which is then in use; or {@code null} if none is cached
+	 */
+	public PreparedStatement take(Key key) {
+		final CachedStatement cachedStatement = idleStatements.remove( key );
+		if ( cachedStatement == null ) {
+			return null;
+		}
+		log.tracef( "Reusing cached prepared statement [%s]", key.sql );
+		statementsInUse.put( cachedStatement.statement, cachedStatement );
+		return cachedStatement.statement;
+	}
+
+	/**
+	 * Track a newly prepared statement, so that it is returned to the cache once released.
+	 */
+	public void add(Key key, PreparedStatement statement) {
+		try {
+			statementsInUse.put( statement, new CachedStatement( key, statement, statement.getFetchSize() ) );
+		}
+		catch (SQLException e) {
+			log.debugf( "Unable to cache JDBC statement [%s]", e.getMessage() );
+		}
+	}
+
+	/**
+	 * Return a released statement to the cache, after resetting it.
+	 *
+	 * @return {@code true} if the statement was returned to the cache; {@code false} if the
+	 * statement is not cached, or could not be reset, and should be closed instead
+	 */
+	public boolean offer(PreparedStatement statement) {
+		final CachedStatement cachedStatement = statementsInUse.remove( statement );
+		if ( cachedStatement == null ) {
+			return false;
+		}
+		if ( idleStatements.containsKey( cachedStatement.key ) || !reset( cachedStatement ) ) {
+			return false;
+		}
+
+		idleStatements.put( cachedStatement.key, cachedStatement );
+		if ( idleStatements.size() > maxSize ) {
+			final Iterator<CachedStatement> iterator = idleStatements.values().iterator();
+			final CachedStatement eldest = iterator.next();
+			iterator.remove();
+			ResourceRegistryStandardImpl.close( eldest.statement );
+		}
+		return true;
+	}
+
+	/**
+	 * Forget about a statement which is closed while in use.
+	 */
+	public void remove(PreparedStatement statement) {
+		statementsInUse.remove( statement );
+	}
+
+	/**
+	 * Close all idle statements, and forget about the ones in use.  Called when the physical
+	 * connection is released.
+	 */
+	public void clear() {
+		if ( !idleStatements.isEmpty() ) {
+			log.tracef( "Closing %s cached prepared statements", idleStatements.size() );
+			final List<CachedStatement> statements = new ArrayList<>( idleStatements.values() );
+			idleStatements.clear();
+			statements.forEach( cachedStatement -> ResourceRegistryStandardImpl.close( cachedStatement.statement ) );
+		}
+		statementsInUse.clear();
+	}
+
+	private static boolean reset(CachedStatement cachedStatement) {
+		final PreparedStatement statement = cachedStatement.statement;
+		try {
+			statement.clearParameters();
+			statement.clearBatch();
+			statement.clearWarnings();
+			if ( statement.getMaxRows() != 0 ) {
+				statement.setMaxRows( 0 );
+			}
+			if ( statement.getQueryTimeout() != 0 ) {
+				statement.setQueryTimeout( 0 );
+			}
+			if ( statement.getFetchSize() != cachedStatement.fetchSize ) {
+				statement.setFetchSize( cachedStatement.fetchSize );
+			}
+			return true;
+		}
+		catch (SQLException e) {
+			log.debugf( "Unable to reset JDBC statement for caching [%s]", e.getMessage() );
+			return false;
+		}
+	}
+
+	private static final class CachedStatement {
+		private final Key key;
+		private final PreparedStatement statement;
+		private final int fetchSize;
+
+		private CachedStatement(Key key, PreparedStatement statement, int fetchSize) {
+			this.key = key;
+			this.statement = statement;
+			this.fetchSize = fetchSize;
+		}
+	}
+
+	/**
+	 * Identifies the statements which are interchangeable: the same SQL, prepared with the same
+	 * result set type and concurrency, and the same way of returning generated keys.
+	 */
+	public static final class Key {
+		private final String sql;
+		private final int resultSetType;
+		private final int resultSetConcurrency;
+		private final int autoGeneratedKeys;
+		private final String[] columnNames;
+		private final int hashCode;
+
+		public Key(String sql, int resultSetType, int resultSetConcurrency) {
+			this( sql, resultSetType, resultSetConcurrency, PreparedStatement.NO_GENERATED_KEYS, null );
+		}
+
+		public Key(String sql, int autoGeneratedKeys) {
+			this( sql, -1, -1, autoGeneratedKeys, null );
+		}
+
+		public Key(String sql, String[] columnNames) {
+			this( sql, -1, -1, PreparedStatement.RETURN_GENERATED_KEYS, columnNames );
+		}
+
+		private Key(
+				String sql,
+				int resultSetType,
+				int resultSetConcurrency,
+				int autoGeneratedKeys,
+				String[] columnNames) {
+			this.sql = sql;
+			this.resultSetType = resultSetType;
+			this.resultSetConcurrency = resultSetConcurrency;
+			this.autoGeneratedKeys = autoGeneratedKeys;
+			this.columnNames = columnNames;
+
+			int result = sql.hashCode();
+			result = 31 * result + resultSetType;
+			result = 31 * result + resultSetConcurrency;
+			result = 31 * result + autoGeneratedKeys;
+			result = 31 * result + Arrays.hashCode( columnNames );
+			this.hashCode = result;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( o == null || getClass() != o.getClass() ) {
+				return false;
+			}
+			final Key key = (Key) o;
+			return hashCode == key.hashCode
+					&& resultSetType == key.resultSetType
+					&& resultSetConcurrency == key.resultSetConcurrency
+					&& autoGeneratedKeys == key.autoGeneratedKeys
+					&& Objects.equals( sql, key.sql )
+					&& Arrays.equals( columnNames, key.columnNames );
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+}
@@ -6,9 +6,11 @@
  */
 package org.hibernate.resource.jdbc.internal;
 
+import java.sql.Array;
 import java.sql.Blob;
 import java.sql.Clob;
 import java.sql.NClob;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
@@ -50,10 +52,12 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 	private static final HashMap<ResultSet,Object> EMPTY = new HashMap<>( 1, 0.2f );
 
 	private final JdbcObserver jdbcObserver;
+	private final PreparedStatementCache statementCache;
 
 	private final HashMap<Statement, HashMap<ResultSet,Object>> xref = new HashMap<>();
 	private HashMap<ResultSet,Object> unassociatedResultSets;
 
+	private HashMap<Statement, ArrayList<Array>> arrays;
 	private ArrayList<Blob> blobs;
 	private ArrayList<Clob> clobs;
 	private ArrayList<NClob> nclobs;
@@ -65,13 +69,23 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 	}
 
 	public ResourceRegistryStandardImpl(JdbcObserver jdbcObserver) {
+		this( jdbcObserver, null );
+	}
+
+	/**
+	 * @param statementCache The cache to which released prepared statements are returned, or
+	 * {@code null} if they should be closed
+	 */
+	public ResourceRegistryStandardImpl(JdbcObserver jdbcObserver, PreparedStatementCache statementCache) {
 		this.jdbcObserver = jdbcObserver;
+		this.statementCache = statementCache;
 	}
 
 	@Override
 	public boolean hasRegisteredResources() {
 		return hasRegistered( xref )
 				|| hasRegistered( unassociatedResultSets )
+				|| hasRegistered( arrays )
 				|| hasRegistered( blobs )
 				|| hasRegistered( clobs )
 				|| hasRegistered( nclobs );
@@ -106,7 +120,18 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 			log.unregisteredStatement();
 		}
 
-		close( statement );
+		if ( arrays != null ) {
+			final ArrayList<Array> statementArrays = arrays.remove( statement );
+			if ( statementArrays != null ) {
+				statementArrays.forEach( ResourceRegistryStandardImpl::free );
+			}
+		}
+
+		if ( statementCache == null
+				|| !( statement instanceof PreparedStatement )
+				|| !statementCache.offer( (PreparedStatement) statement ) ) {
+			close( statement );
+		}
 
 		if ( lastQuery == statement ) {
 			lastQuery = null;
@@ -154,8 +179,11 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 		resultSets.clear();
 	}
 
-	private static void releaseXref(final Statement s, final HashMap<ResultSet, Object> r) {
+	private void releaseXref(final Statement s, final HashMap<ResultSet, Object> r) {
 		closeAll( r );
+		if ( statementCache != null && s instanceof PreparedStatement ) {
+			statementCache.remove( (PreparedStatement) s );
+		}
 		close( s );
 	}
 
@@ -248,6 +276,23 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 		return new JDBCException( s, e );
 	}
 
+	@Override
+	public void register(Array array, Statement statement) {
+		if ( arrays == null ) {
+			arrays = new HashMap<>();
+		}
+		arrays.computeIfAbsent( statement, s -> new ArrayList<>() ).add( array );
+	}
+
+	private static void free(Array array) {
+		try {
+			array.free();
+		}
+		catch (SQLException e) {
+			log.debugf( "Unable to free JDBC Array reference [%s]", e.getMessage() );
+		}
+	}
+
 	@Override
 	public void register(Blob blob) {
 		if ( blobs == null ) {
@@ -325,11 +370,16 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 			jdbcObserver.jdbcReleaseRegistryResourcesStart();
 		}
 
-		xref.forEach( ResourceRegistryStandardImpl::releaseXref );
+		xref.forEach( this::releaseXref );
 		xref.clear();
 
 		closeAll( unassociatedResultSets );
 
+		if ( arrays != null ) {
+			arrays.values().forEach( statementArrays -> statementArrays.forEach( ResourceRegistryStandardImpl::free ) );
+			arrays = null;
+		}
+
 		if ( blobs != null ) {
 			blobs.forEach( blob -> {
 				try {
@@ -368,6 +418,13 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 		}
 	}
 
+	@Override
+	public void releaseCachedStatements() {
+		if ( statementCache != null ) {
+			statementCache.clear();
+		}
+	}
+
 	private boolean hasRegistered(final HashMap resource) {
 		return resource != null && !resource.isEmpty();
 	}
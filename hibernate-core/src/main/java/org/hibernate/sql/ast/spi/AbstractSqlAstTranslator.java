@@ -25,6 +25,7 @@ import java.util.function.Function;
 
 import org.hibernate.LockMode;
 import org.hibernate.QueryException;
+import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.dialect.RowLockStrategy;
 import org.hibernate.dialect.SelectItemReferenceStrategy;
 import org.hibernate.internal.util.MathHelper;
@@ -142,6 +143,7 @@ import org.hibernate.sql.ast.tree.select.SortSpecification;
 import org.hibernate.sql.ast.tree.update.Assignment;
 import org.hibernate.sql.ast.tree.update.UpdateStatement;
 import org.hibernate.sql.exec.ExecutionException;
+import org.hibernate.sql.exec.internal.InListArrayParameterBinder;
 import org.hibernate.sql.exec.internal.JdbcParameterBindingImpl;
 import org.hibernate.sql.exec.internal.JdbcParameterImpl;
 import org.hibernate.sql.exec.internal.JdbcParametersImpl;
@@ -4365,6 +4367,10 @@ public abstract class AbstractSqlAstTranslator<T extends JdbcOperation> implemen
 			}
 		}
 
+		if ( renderInListAsArrayParameter( inListPredicate, itemAccessor ) ) {
+			return;
+		}
+
 		inListPredicate.getTestExpression().accept( this );
 		if ( inListPredicate.isNegated() ) {
 			appendSql( " not" );
@@ -4378,14 +4384,15 @@ public abstract class AbstractSqlAstTranslator<T extends JdbcOperation> implemen
 		final Dialect dialect = getSessionFactory().getJdbcServices().getDialect();
 		int inExprLimit = dialect.getInExpressionCountLimit();
 
-		final boolean inClauseParameterPaddingEnabled = getSessionFactory().
-				getSessionFactoryOptions().inClauseParameterPaddingEnabled()
+		final SessionFactoryOptions sessionFactoryOptions = getSessionFactory().getSessionFactoryOptions();
+		final boolean inClauseParameterPaddingEnabled = sessionFactoryOptions.inClauseParameterPaddingEnabled()
 				&& bindValueCount > 2;
+		final int[] paddingBuckets = sessionFactoryOptions.getInClauseParameterPaddingBuckets();
 
 		if ( inClauseParameterPaddingEnabled ) {
 			// bindValueCount: 1005
 			// bindValuePaddingCount: 1024
-			int bindValuePaddingCount = MathHelper.ceilingPowerOfTwo( bindValueCount );
+			int bindValuePaddingCount = MathHelper.ceilingBucket( bindValueCount, paddingBuckets );
 
 			// inExprLimit: 1000
 			if ( inExprLimit > 0 ) {
@@ -4396,7 +4403,7 @@ public abstract class AbstractSqlAstTranslator<T extends JdbcOperation> implemen
 						bindValueMaxCount = inExprLimit;
 					}
 					else {
-						bindValueMaxCount = MathHelper.ceilingPowerOfTwo( bindValueCount % inExprLimit );
+						bindValueMaxCount = MathHelper.ceilingBucket( bindValueCount % inExprLimit, paddingBuckets );
 					}
 				}
 				else if ( bindValueCount < bindValuePaddingCount ) {
@@ -4465,6 +4472,71 @@ public abstract class AbstractSqlAstTranslator<T extends JdbcOperation> implemen
 		appendSql( CLOSE_PARENTHESIS );
 	}
 
+	/**
+	 * Renders the IN list as a comparison with a single array parameter holding
+	 * all values, if the IN list is large enough and the dialect supports it.
+	 *
+	 * @return Whether the IN list was rendered
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#IN_CLAUSE_ARRAY_BINDING_THRESHOLD
+	 */
+	protected boolean renderInListAsArrayParameter(
+			InListPredicate inListPredicate,
+			Function<Expression, Expression> itemAccessor) {
+		final List<Expression> listExpressions = inListPredicate.getListExpressions();
+		final int arrayBindingThreshold = getSessionFactory().getSessionFactoryOptions()
+				.getInClauseArrayBindingThreshold();
+		if ( arrayBindingThreshold <= 0
+				|| listExpressions.size() < arrayBindingThreshold
+				|| parameterRenderingMode != SqlAstNodeRenderingMode.DEFAULT
+				|| !getDialect().supportsInListArrayBinding() ) {
+			return false;
+		}
+
+		final List<JdbcParameter> elementParameters = new ArrayList<>( listExpressions.size() );
+		JdbcMapping elementJdbcMapping = null;
+		for ( Expression listExpression : listExpressions ) {
+			Expression item = itemAccessor.apply( listExpression );
+			if ( item instanceof SqmParameterInterpretation ) {
+				item = ( (SqmParameterInterpretation) item ).getResolvedExpression();
+			}
+			if ( !( item instanceof JdbcParameter ) ) {
+				return false;
+			}
+			final JdbcParameter parameter = (JdbcParameter) item;
+			final List<JdbcMapping> jdbcMappings = parameter.getExpressionType().getJdbcMappings();
+			if ( jdbcMappings.size() != 1 ) {
+				return false;
+			}
+			if ( elementJdbcMapping == null ) {
+				elementJdbcMapping = jdbcMappings.get( 0 );
+				if ( !InListArrayParameterBinder.isSupportedElementType( elementJdbcMapping ) ) {
+					return false;
+				}
+			}
+			else if ( elementJdbcMapping != jdbcMappings.get( 0 ) ) {
+				return false;
+			}
+			elementParameters.add( parameter );
+		}
+
+		itemAccessor.apply( inListPredicate.getTestExpression() ).accept( this );
+		appendSql( inListPredicate.isNegated() ? "<>all(" : "=any(" );
+		appendSql( PARAM_MARKER );
+		appendSql( CLOSE_PARENTHESIS );
+
+		parameterBinders.add(
+				new InListArrayParameterBinder(
+						elementParameters,
+						InListArrayParameterBinder.determineElementTypeName( elementJdbcMapping, getDialect() )
+				)
+		);
+		for ( JdbcParameter elementParameter : elementParameters ) {
+			jdbcParameters.addParameter( elementParameter );
+		}
+		return true;
+	}
+
 	@Override
 	public void visitInSubQueryPredicate(InSubQueryPredicate inSubQueryPredicate) {
 		final SqlTuple lhsTuple;
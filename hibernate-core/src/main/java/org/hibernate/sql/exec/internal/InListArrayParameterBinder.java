@@ -0,0 +1,93 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.exec.internal;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.List;
+
+import org.hibernate.dialect.Dialect;
+import org.hibernate.metamodel.mapping.JdbcMapping;
+import org.hibernate.sql.ast.tree.expression.JdbcParameter;
+import org.hibernate.sql.exec.spi.ExecutionContext;
+import org.hibernate.sql.exec.spi.JdbcParameterBinder;
+import org.hibernate.sql.exec.spi.JdbcParameterBinding;
+import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+
+/**
+ * Binds the values of the parameters of an IN list as a single JDBC {@link Array}, for
+ * IN lists rendered as {@code x = any(?)}.
+ *
+ * @see Dialect#supportsInListArrayBinding()
+ * @see org.hibernate.cfg.AvailableSettings#IN_CLAUSE_ARRAY_BINDING_THRESHOLD
+ */
+public class InListArrayParameterBinder implements JdbcParameterBinder {
+	private final List<JdbcParameter> elementParameters;
+	private final String elementTypeName;
+
+	public InListArrayParameterBinder(List<JdbcParameter> elementParameters, String elementTypeName) {
+		this.elementParameters = elementParameters;
+		this.elementTypeName = elementTypeName;
+	}
+
+	/**
+	 * Whether values of the given mapping can be bound as array elements.  Only simple types,
+	 * whose domain value is the value expected by the driver, are supported
+	 */
+	public static boolean isSupportedElementType(JdbcMapping jdbcMapping) {
+		final Class<?> javaTypeClass = jdbcMapping.getJavaTypeDescriptor().getJavaTypeClass();
+		switch ( jdbcMapping.getJdbcTypeDescriptor().getJdbcTypeCode() ) {
+			case Types.BIGINT:
+				return javaTypeClass == Long.class;
+			case Types.INTEGER:
+				return javaTypeClass == Integer.class;
+			case Types.SMALLINT:
+				return javaTypeClass == Short.class;
+			case Types.CHAR:
+			case Types.VARCHAR:
+			case Types.LONGVARCHAR:
+			case Types.NCHAR:
+			case Types.NVARCHAR:
+			case Types.LONGNVARCHAR:
+				return javaTypeClass == String.class;
+			default:
+				return false;
+		}
+	}
+
+	/**
+	 * The name of the SQL type of the array elements, as expected by
+	 * {@link java.sql.Connection#createArrayOf}
+	 */
+	public static String determineElementTypeName(JdbcMapping jdbcMapping, Dialect dialect) {
+		return dialect.getRawTypeName( jdbcMapping.getJdbcTypeDescriptor() );
+	}
+
+	@Override
+	public void bindParameterValue(
+			PreparedStatement statement,
+			int startPosition,
+			JdbcParameterBindings jdbcParameterBindings,
+			ExecutionContext executionContext) throws SQLException {
+		final Object[] values = new Object[ elementParameters.size() ];
+		for ( int i = 0; i < values.length; i++ ) {
+			final JdbcParameterBinding binding = jdbcParameterBindings.getBinding( elementParameters.get( i ) );
+			values[i] = binding == null ? null : binding.getBindValue();
+		}
+
+		final Array array = statement.getConnection().createArrayOf( elementTypeName, values );
+		statement.setArray( startPosition, array );
+		// the array is freed along with the statement
+		executionContext.getSession()
+				.getJdbcCoordinator()
+				.getLogicalConnection()
+				.getResourceRegistry()
+				.register( array, statement );
+	}
+}
@@ -10,12 +10,9 @@ import java.io.Serializable;
 import java.sql.PreparedStatement;
 import java.util.List;
 import java.util.Set;
-import java.util.Spliterator;
-import java.util.Spliterators;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
 
 import org.hibernate.CacheMode;
 import org.hibernate.FlushMode;
@@ -31,7 +28,6 @@ import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.query.Limit;
 import org.hibernate.query.ResultListTransformer;
 import org.hibernate.query.TupleTransformer;
-import org.hibernate.query.internal.ScrollableResultsIterator;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.query.spi.QueryParameterBindings;
 import org.hibernate.query.spi.ScrollableResultsImplementor;
@@ -61,6 +57,7 @@ import org.hibernate.sql.results.spi.ResultsConsumer;
 import org.hibernate.sql.results.spi.RowReader;
 import org.hibernate.sql.results.spi.RowTransformer;
 import org.hibernate.sql.results.spi.ScrollableResultsConsumer;
+import org.hibernate.sql.results.spi.StreamResultsConsumer;
 import org.hibernate.stat.spi.StatisticsImplementor;
 import org.hibernate.type.BasicType;
 import org.hibernate.type.descriptor.java.JavaType;
@@ -134,18 +131,20 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 			JdbcParameterBindings jdbcParameterBindings,
 			ExecutionContext executionContext,
 			RowTransformer<R> rowTransformer) {
-		final ScrollableResultsImplementor<R> scrollableResults = scroll(
+		final SharedSessionContractImplementor session = executionContext.getSession();
+		session.autoFlushIfRequired( jdbcSelect.getAffectedTableNames() );
+		return executeQueryScroll(
 				jdbcSelect,
-				ScrollMode.FORWARD_ONLY,
 				jdbcParameterBindings,
 				executionContext,
-				rowTransformer
+				rowTransformer,
+				(sql) -> session.getJdbcCoordinator().getStatementPreparer().prepareQueryStatement(
+						sql,
+						false,
+						ScrollMode.FORWARD_ONLY
+				),
+				StreamResultsConsumer.instance()
 		);
-		final ScrollableResultsIterator<R> iterator = new ScrollableResultsIterator<>( scrollableResults );
-		final Spliterator<R> spliterator = Spliterators.spliteratorUnknownSize( iterator, Spliterator.NONNULL );
-
-		final Stream<R> stream = StreamSupport.stream( spliterator, false );
-		return stream.onClose( scrollableResults::close );
 	}
 
 	private <T, R> T executeQuery(
@@ -222,7 +221,10 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 		final LockOptions lockOptions = queryOptions.getLockOptions();
 		final String comment = queryOptions.getComment();
 		final List<String> databaseHints = queryOptions.getDatabaseHints();
-		final Integer fetchSize = queryOptions.getFetchSize();
+		// results are consumed incrementally, so apply the streaming fetch size if none was given
+		final Integer fetchSize = queryOptions.getFetchSize() == null
+				? context.getSession().getFactory().getSessionFactoryOptions().getJdbcStreamFetchSize()
+				: queryOptions.getFetchSize();
 		final Limit limit = queryOptions.getLimit();
 
 		return new ExecutionContext() {
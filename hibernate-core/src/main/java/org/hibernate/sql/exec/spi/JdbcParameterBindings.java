@@ -118,6 +118,7 @@ public interface JdbcParameterBindings {
 			SessionFactoryImplementor factory) {
 		final Dialect dialect = factory.getServiceRegistry().getService( JdbcServices.class ).getJdbcEnvironment().getDialect();
 		final boolean paddingEnabled = factory.getSessionFactoryOptions().inClauseParameterPaddingEnabled();
+		final int[] paddingBuckets = factory.getSessionFactoryOptions().getInClauseParameterPaddingBuckets();
 		final int inExprLimit = dialect.getInExpressionCountLimit();
 
 		for ( ParameterOccurrence occurrence : parameterList ) {
@@ -144,6 +145,7 @@ public interface JdbcParameterBindings {
 				}
 				final int bindValueMaxCount = NativeQueryImpl.determineBindValueMaxCount(
 						paddingEnabled,
+						paddingBuckets,
 						inExprLimit,
 						bindValueCount
 				);
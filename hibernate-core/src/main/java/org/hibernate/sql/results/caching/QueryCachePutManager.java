@@ -12,6 +12,12 @@ import org.hibernate.engine.spi.SharedSessionContractImplementor;
  * @author Steve Ebersole
  */
 public interface QueryCachePutManager {
+	/**
+	 * Whether the rows are put into the query cache.  When not, the
+	 * rows need not be passed to {@link #registerJdbcRow}.
+	 */
+	boolean isEnabled();
+
 	void registerJdbcRow(Object[] values);
 
 	void finishUp(SharedSessionContractImplementor session);
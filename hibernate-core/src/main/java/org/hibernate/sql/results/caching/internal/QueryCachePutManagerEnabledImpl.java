@@ -45,6 +45,11 @@ public class QueryCachePutManagerEnabledImpl implements QueryCachePutManager {
 		}
 	}
 
+	@Override
+	public boolean isEnabled() {
+		return true;
+	}
+
 	@Override
 	public void registerJdbcRow(Object[] values) {
 
@@ -58,7 +58,9 @@ public class BasicResultAssembler<J> implements DomainResultAssembler<J> {
 			JdbcValuesSourceProcessingOptions options) {
 		final Object jdbcValue = extractRawValue( rowProcessingState );
 
-		ResultsLogger.LOGGER.debugf( "Extracted JDBC value [%d] - [%s]", valuesArrayPosition, jdbcValue );
+		if ( ResultsLogger.DEBUG_ENABLED ) {
+			ResultsLogger.LOGGER.debugf( "Extracted JDBC value [%d] - [%s]", valuesArrayPosition, jdbcValue );
+		}
 
 		if ( valueConverter != null ) {
 			if ( jdbcValue != null ) {
@@ -84,6 +86,30 @@ public class BasicResultAssembler<J> implements DomainResultAssembler<J> {
 		return (J) jdbcValue;
 	}
 
+	/**
+	 * Whether the assembled value would be null.  Unless a converter
+	 * applies, this is answered without creating the value.
+	 */
+	public boolean isNull(RowProcessingState rowProcessingState) {
+		if ( valueConverter != null ) {
+			return assemble( rowProcessingState ) == null;
+		}
+		return rowProcessingState.isJdbcValueNull( valuesArrayPosition );
+	}
+
+	/**
+	 * Assemble a numeric value as a primitive {@code long}, avoiding boxing
+	 * unless a converter applies.  A null value is returned as {@code 0}, use
+	 * {@link #isNull} to distinguish it.
+	 */
+	public long assembleLong(RowProcessingState rowProcessingState) {
+		if ( valueConverter != null ) {
+			final Object value = assemble( rowProcessingState );
+			return value == null ? 0L : ( (Number) value ).longValue();
+		}
+		return rowProcessingState.getJdbcLongValue( valuesArrayPosition );
+	}
+
 	@Override
 	public JavaType<J> getAssembledJavaTypeDescriptor() {
 		return assembledJavaTypeDescriptor;
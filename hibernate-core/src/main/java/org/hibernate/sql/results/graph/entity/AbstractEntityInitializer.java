@@ -48,6 +48,7 @@ import org.hibernate.sql.results.graph.AssemblerCreationState;
 import org.hibernate.sql.results.graph.DomainResult;
 import org.hibernate.sql.results.graph.DomainResultAssembler;
 import org.hibernate.sql.results.graph.Fetch;
+import org.hibernate.sql.results.graph.basic.BasicResultAssembler;
 import org.hibernate.sql.results.internal.NullValueAssembler;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingState;
 import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
@@ -461,9 +462,7 @@ public abstract class AbstractEntityInitializer extends AbstractFetchParentAcces
 
 		if ( version != null ) {
 			// null version means the object is in the process of being loaded somewhere else in the ResultSet
-			final BasicType<?> versionType = concreteDescriptor.getVersionType();
-			final Object currentVersion = versionAssembler.assemble( rowProcessingState );
-			if ( !versionType.isEqual( version, currentVersion ) ) {
+			if ( !isCurrentVersion( version, rowProcessingState ) ) {
 				final StatisticsImplementor statistics = rowProcessingState.getSession().getFactory().getStatistics();
 				if ( statistics.isStatisticsEnabled() ) {
 					statistics.optimisticFailure( concreteDescriptor.getEntityName() );
@@ -474,6 +473,24 @@ public abstract class AbstractEntityInitializer extends AbstractFetchParentAcces
 
 	}
 
+	private boolean isCurrentVersion(Object version, RowProcessingState rowProcessingState) {
+		if ( versionAssembler instanceof BasicResultAssembler && isIntegral( version ) ) {
+			// integral versions are compared without creating the version value of the row
+			final BasicResultAssembler<?> assembler = (BasicResultAssembler<?>) versionAssembler;
+			return !assembler.isNull( rowProcessingState )
+					&& assembler.assembleLong( rowProcessingState ) == ( (Number) version ).longValue();
+		}
+		final BasicType<?> versionType = concreteDescriptor.getVersionType();
+		return versionType.isEqual( version, versionAssembler.assemble( rowProcessingState ) );
+	}
+
+	private static boolean isIntegral(Object version) {
+		return version instanceof Long
+				|| version instanceof Integer
+				|| version instanceof Short
+				|| version instanceof Byte;
+	}
+
 	protected Object getProxy(PersistenceContext persistenceContext) {
 		return persistenceContext.getProxy( entityKey );
 	}
@@ -0,0 +1,107 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.results.internal;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.sql.results.jdbc.internal.JdbcValuesSourceProcessingStateStandardImpl;
+import org.hibernate.sql.results.jdbc.spi.JdbcValues;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingOptions;
+import org.hibernate.sql.results.spi.RowReader;
+
+/**
+ * Spliterator pushing rows straight from the {@link JdbcValues} through the
+ * {@link RowReader}, one row at a time.
+ * <p/>
+ * Only usable for results which do not need any {@link org.hibernate.sql.results.graph.Initializer}
+ * (scalars, tuples and dynamic-instantiations of those): no state is registered with the
+ * persistence-context's {@link org.hibernate.sql.results.spi.LoadContexts} and nothing is
+ * retained between rows, so arbitrarily large results can be consumed in constant memory.
+ * <p/>
+ * The underlying JDBC resources are released as soon as the results are exhausted, or
+ * when {@link #close()} is called.
+ */
+public class JdbcValuesSpliterator<R> implements Spliterator<R>, AutoCloseable {
+	private final JdbcValues jdbcValues;
+	private final JdbcValuesSourceProcessingOptions processingOptions;
+	private final JdbcValuesSourceProcessingStateStandardImpl jdbcValuesSourceProcessingState;
+	private final RowProcessingStateStandardImpl rowProcessingState;
+	private final RowReader<R> rowReader;
+	private final SharedSessionContractImplementor session;
+
+	private boolean closed;
+
+	public JdbcValuesSpliterator(
+			JdbcValues jdbcValues,
+			JdbcValuesSourceProcessingOptions processingOptions,
+			JdbcValuesSourceProcessingStateStandardImpl jdbcValuesSourceProcessingState,
+			RowProcessingStateStandardImpl rowProcessingState,
+			RowReader<R> rowReader,
+			SharedSessionContractImplementor session) {
+		assert rowReader.getInitializers().isEmpty();
+		this.jdbcValues = jdbcValues;
+		this.processingOptions = processingOptions;
+		this.jdbcValuesSourceProcessingState = jdbcValuesSourceProcessingState;
+		this.rowProcessingState = rowProcessingState;
+		this.rowReader = rowReader;
+		this.session = session;
+	}
+
+	@Override
+	public boolean tryAdvance(Consumer<? super R> action) {
+		if ( closed ) {
+			return false;
+		}
+
+		if ( !rowProcessingState.next() ) {
+			close();
+			return false;
+		}
+
+		final R row = rowReader.readRow( rowProcessingState, processingOptions );
+		rowProcessingState.finishRowProcessing();
+		action.accept( row );
+		return true;
+	}
+
+	@Override
+	public void forEachRemaining(Consumer<? super R> action) {
+		//noinspection StatementWithEmptyBody
+		while ( tryAdvance( action ) ) {
+		}
+	}
+
+	@Override
+	public Spliterator<R> trySplit() {
+		// rows have to be read sequentially from the ResultSet
+		return null;
+	}
+
+	@Override
+	public long estimateSize() {
+		return Long.MAX_VALUE;
+	}
+
+	@Override
+	public int characteristics() {
+		return ORDERED;
+	}
+
+	@Override
+	public void close() {
+		if ( closed ) {
+			return;
+		}
+		closed = true;
+
+		rowReader.finishUp( jdbcValuesSourceProcessingState );
+		jdbcValues.finishUp( session );
+		session.getJdbcCoordinator().afterStatementExecution();
+	}
+}
@@ -139,7 +139,17 @@ public class RowProcessingStateStandardImpl implements RowProcessingState {
 
 	@Override
 	public Object getJdbcValue(int position) {
-		return jdbcValues.getCurrentRowValuesArray()[ position ];
+		return jdbcValues.getCurrentRowValue( position );
+	}
+
+	@Override
+	public boolean isJdbcValueNull(int position) {
+		return jdbcValues.isCurrentRowValueNull( position );
+	}
+
+	@Override
+	public long getJdbcLongValue(int position) {
+		return jdbcValues.getCurrentRowLongValue( position );
 	}
 
 	@Override
@@ -27,7 +27,8 @@ public abstract class AbstractJdbcValues implements JdbcValues {
 	@Override
 	public final boolean next(RowProcessingState rowProcessingState) {
 		final boolean hadRow = processNext( rowProcessingState );
-		if ( hadRow ) {
+		// the whole row is only materialized when it is put into the query cache
+		if ( hadRow && queryCachePutManager.isEnabled() ) {
 			queryCachePutManager.registerJdbcRow( getCurrentRowValuesArray() );
 		}
 		return hadRow;
@@ -6,6 +6,7 @@
  */
 package org.hibernate.sql.results.jdbc.internal;
 
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Arrays;
 
@@ -13,6 +14,7 @@ import org.hibernate.HibernateException;
 import org.hibernate.cache.spi.QueryKey;
 import org.hibernate.cache.spi.QueryResultsCache;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.sql.ast.spi.SqlSelection;
 import org.hibernate.sql.exec.ExecutionException;
@@ -23,6 +25,8 @@ import org.hibernate.sql.results.caching.internal.QueryCachePutManagerEnabledImp
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMetadata;
 import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
+import org.hibernate.type.descriptor.JdbcExtractingLogging;
+import org.hibernate.type.descriptor.PrimitiveValueExtractor;
 
 /**
  * JdbcValuesSource implementation for a JDBC ResultSet as the source
@@ -38,6 +42,14 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 	private final SqlSelection[] sqlSelections;
 	private final Object[] currentRowJdbcValues;
 
+	// Values read through a PrimitiveValueExtractor are kept in the primitive
+	// arrays and only wrapped into `currentRowJdbcValues` when requested as Object
+	private final PrimitiveValueExtractor<?>[] primitiveExtractors;
+	private final int[] primitivePositions;
+	private final long[] currentRowLongValues;
+	private final double[] currentRowDoubleValues;
+	private final boolean[] currentRowUnwrapped;
+
 	public JdbcValuesResultSetImpl(
 			ResultSetAccess resultSetAccess,
 			QueryKey queryCacheKey,
@@ -52,7 +64,32 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 		this.executionContext = executionContext;
 
 		this.sqlSelections = valuesMapping.getSqlSelections().toArray( new SqlSelection[0] );
-		this.currentRowJdbcValues = new Object[ valuesMapping.getRowSize() ];
+		final int rowSize = valuesMapping.getRowSize();
+		this.currentRowJdbcValues = new Object[ rowSize ];
+
+		this.primitiveExtractors = new PrimitiveValueExtractor<?>[ rowSize ];
+		int primitiveCount = 0;
+		// when tracing, stick to the regular extraction which logs the extracted values
+		if ( !JdbcExtractingLogging.TRACE_ENABLED ) {
+			for ( SqlSelection sqlSelection : sqlSelections ) {
+				if ( sqlSelection.getJdbcValueExtractor() instanceof PrimitiveValueExtractor ) {
+					final int position = sqlSelection.getValuesArrayPosition();
+					if ( primitiveExtractors[ position ] == null ) {
+						primitiveExtractors[ position ] = (PrimitiveValueExtractor<?>) sqlSelection.getJdbcValueExtractor();
+						primitiveCount++;
+					}
+				}
+			}
+		}
+		this.primitivePositions = new int[ primitiveCount ];
+		for ( int i = 0, p = 0; i < rowSize; i++ ) {
+			if ( primitiveExtractors[ i ] != null ) {
+				primitivePositions[ p++ ] = i;
+			}
+		}
+		this.currentRowLongValues = primitiveCount == 0 ? null : new long[ rowSize ];
+		this.currentRowDoubleValues = primitiveCount == 0 ? null : new double[ rowSize ];
+		this.currentRowUnwrapped = new boolean[ rowSize ];
 	}
 
 	private static QueryCachePutManager resolveQueryCachePutManager(
@@ -178,6 +215,7 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 		try {
 			resultSetAccess.getResultSet().beforeFirst();
 			Arrays.fill( currentRowJdbcValues, null );
+			Arrays.fill( currentRowUnwrapped, false );
 		}
 		catch (SQLException e) {
 			throw makeExecutionException( "Error calling ResultSet#beforeFirst()", e );
@@ -228,6 +266,7 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 		try {
 			resultSetAccess.getResultSet().afterLast();
 			Arrays.fill( currentRowJdbcValues, null );
+			Arrays.fill( currentRowUnwrapped, false );
 		}
 		catch (SQLException e) {
 			throw makeExecutionException( "Error calling ResultSet#afterLast()", e );
@@ -294,13 +333,37 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 	}
 
 	private void readCurrentRowValues() throws SQLException {
+		final ResultSet resultSet = resultSetAccess.getResultSet();
+		final SharedSessionContractImplementor session = executionContext.getSession();
 		for ( final SqlSelection sqlSelection : sqlSelections ) {
+			final int position = sqlSelection.getValuesArrayPosition();
 			try {
-				currentRowJdbcValues[ sqlSelection.getValuesArrayPosition() ] = sqlSelection.getJdbcValueExtractor().extract(
-						resultSetAccess.getResultSet(),
-						sqlSelection.getJdbcResultSetIndex(),
-						executionContext.getSession()
-				);
+				final PrimitiveValueExtractor<?> primitiveExtractor = primitiveExtractors[ position ];
+				if ( primitiveExtractor == null ) {
+					currentRowJdbcValues[ position ] = sqlSelection.getJdbcValueExtractor().extract(
+							resultSet,
+							sqlSelection.getJdbcResultSetIndex(),
+							session
+					);
+				}
+				else {
+					if ( primitiveExtractor.isFloatingPoint() ) {
+						currentRowDoubleValues[ position ] = primitiveExtractor.extractDouble(
+								resultSet,
+								sqlSelection.getJdbcResultSetIndex(),
+								session
+						);
+					}
+					else {
+						currentRowLongValues[ position ] = primitiveExtractor.extractLong(
+								resultSet,
+								sqlSelection.getJdbcResultSetIndex(),
+								session
+						);
+					}
+					currentRowJdbcValues[ position ] = null;
+					currentRowUnwrapped[ position ] = !resultSet.wasNull();
+				}
 			}
 			catch (Exception e) {
 				throw new HibernateException(
@@ -323,6 +386,42 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 
 	@Override
 	public Object[] getCurrentRowValuesArray() {
+		for ( int position : primitivePositions ) {
+			wrapIfNecessary( position );
+		}
 		return currentRowJdbcValues;
 	}
+
+	@Override
+	public Object getCurrentRowValue(int position) {
+		wrapIfNecessary( position );
+		return currentRowJdbcValues[ position ];
+	}
+
+	@Override
+	public boolean isCurrentRowValueNull(int position) {
+		return currentRowJdbcValues[ position ] == null && !currentRowUnwrapped[ position ];
+	}
+
+	@Override
+	public long getCurrentRowLongValue(int position) {
+		final PrimitiveValueExtractor<?> primitiveExtractor = primitiveExtractors[ position ];
+		if ( primitiveExtractor == null ) {
+			return super.getCurrentRowLongValue( position );
+		}
+		// per JDBC, a null is read as 0
+		return primitiveExtractor.isFloatingPoint()
+				? (long) currentRowDoubleValues[ position ]
+				: currentRowLongValues[ position ];
+	}
+
+	private void wrapIfNecessary(int position) {
+		if ( currentRowUnwrapped[ position ] ) {
+			final PrimitiveValueExtractor<?> primitiveExtractor = primitiveExtractors[ position ];
+			currentRowJdbcValues[ position ] = primitiveExtractor.isFloatingPoint()
+					? primitiveExtractor.wrapDouble( currentRowDoubleValues[ position ], executionContext.getSession() )
+					: primitiveExtractor.wrapLong( currentRowLongValues[ position ], executionContext.getSession() );
+			currentRowUnwrapped[ position ] = false;
+		}
+	}
 }
@@ -74,6 +74,36 @@ public interface JdbcValues {
 	 */
 	Object[] getCurrentRowValuesArray();
 
+	/**
+	 * Get the JDBC value at the given position of the current row.
+	 *
+	 * @see #getCurrentRowValuesArray()
+	 */
+	default Object getCurrentRowValue(int position) {
+		return getCurrentRowValuesArray()[ position ];
+	}
+
+	/**
+	 * Whether the JDBC value at the given position of the current row is null.
+	 * Unlike {@link #getCurrentRowValue}, implementations should be able to
+	 * answer this without creating the value.
+	 */
+	default boolean isCurrentRowValueNull(int position) {
+		return getCurrentRowValue( position ) == null;
+	}
+
+	/**
+	 * Get the numeric JDBC value at the given position of the current row
+	 * as a primitive {@code long}, or {@code 0} if the value is null.
+	 * Implementations should avoid boxing the value where possible.
+	 *
+	 * @see org.hibernate.type.descriptor.PrimitiveValueExtractor
+	 */
+	default long getCurrentRowLongValue(int position) {
+		final Object value = getCurrentRowValue( position );
+		return value == null ? 0L : ( (Number) value ).longValue();
+	}
+
 	/**
 	 * Give implementations a chance to finish processing
 	 */
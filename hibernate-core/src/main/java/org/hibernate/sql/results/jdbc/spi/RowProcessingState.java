@@ -51,6 +51,24 @@ public interface RowProcessingState extends ExecutionContext {
 	 */
 	Object getJdbcValue(int position);
 
+	/**
+	 * Whether the value corresponding to the given index as part of the
+	 * "current JDBC row" is null, without creating the value.
+	 */
+	default boolean isJdbcValueNull(int position) {
+		return getJdbcValue( position ) == null;
+	}
+
+	/**
+	 * Retrieve the numeric value corresponding to the given index as part
+	 * of the "current JDBC row" as a primitive {@code long}, or {@code 0}
+	 * if the value is null.
+	 */
+	default long getJdbcLongValue(int position) {
+		final Object value = getJdbcValue( position );
+		return value == null ? 0L : ( (Number) value ).longValue();
+	}
+
 	void registerNonExists(EntityFetch fetch);
 
 	boolean isQueryCacheHit();
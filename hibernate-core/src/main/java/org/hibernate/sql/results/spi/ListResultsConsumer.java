@@ -7,7 +7,10 @@
 package org.hibernate.sql.results.spi;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
 
 import org.hibernate.HibernateException;
 import org.hibernate.engine.spi.PersistenceContext;
@@ -18,6 +21,7 @@ import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.sql.results.jdbc.internal.JdbcValuesSourceProcessingStateStandardImpl;
 import org.hibernate.sql.results.internal.RowProcessingStateStandardImpl;
 import org.hibernate.type.descriptor.java.JavaType;
+import org.hibernate.type.descriptor.java.spi.EntityJavaTypeDescriptor;
 
 /**
  * @author Steve Ebersole
@@ -47,6 +51,9 @@ public class ListResultsConsumer<R> implements ResultsConsumer<List<R>, R> {
 		ASSERT;
 	}
 
+	private static final int DEFAULT_INITIAL_CAPACITY = 10;
+	private static final int MAX_INITIAL_CAPACITY = 1024;
+
 	private final UniqueSemantic uniqueSemantic;
 
 	public ListResultsConsumer(UniqueSemantic uniqueSemantic) {
@@ -66,7 +73,8 @@ public class ListResultsConsumer<R> implements ResultsConsumer<List<R>, R> {
 		try {
 			persistenceContext.getLoadContexts().register( jdbcValuesSourceProcessingState );
 
-			final List<R> results = new ArrayList<>();
+			final int initialCapacity = determineInitialCapacity( session, jdbcValuesSourceProcessingState );
+			final List<R> results = new ArrayList<>( initialCapacity );
 
 			boolean uniqueRows = false;
 
@@ -85,27 +93,28 @@ public class ListResultsConsumer<R> implements ResultsConsumer<List<R>, R> {
 				final List<JavaType> resultJavaTypeDescriptors = rowReader.getResultJavaTypeDescriptors();
 				assert resultJavaTypeDescriptors.size() == 1;
 				final JavaType<R> resultJavaTypeDescriptor = resultJavaTypeDescriptors.get( 0 );
+				// entity instances are unique within the persistence context, so they can be
+				// de-duplicated by identity, rather than by comparing each row with all results
+				final Set<R> uniqueResults = resultJavaTypeDescriptor instanceof EntityJavaTypeDescriptor
+						? Collections.newSetFromMap( new IdentityHashMap<>( initialCapacity ) )
+						: null;
 				while ( rowProcessingState.next() ) {
 					final R row = rowReader.readRow( rowProcessingState, processingOptions );
-					boolean add = true;
-					for ( R existingRow : results ) {
-						if ( resultJavaTypeDescriptor.areEqual( existingRow, row ) ) {
-							if ( uniqueSemantic == UniqueSemantic.ASSERT && !rowProcessingState.hasCollectionInitializers() ) {
-								throw new HibernateException(
-										"More than one row with the given identifier was found: " +
-												jdbcValuesSourceProcessingState.getExecutionContext()
-														.getEntityId() +
-												", for class: " +
-												rowReader.getResultJavaType().getName()
-								);
-							}
-							add = false;
-							break;
-						}
-					}
+					final boolean add = uniqueResults == null
+							? !containsEqualRow( results, row, resultJavaTypeDescriptor )
+							: uniqueResults.add( row );
 					if ( add ) {
 						results.add( row );
 					}
+					else if ( uniqueSemantic == UniqueSemantic.ASSERT && !rowProcessingState.hasCollectionInitializers() ) {
+						throw new HibernateException(
+								"More than one row with the given identifier was found: " +
+										jdbcValuesSourceProcessingState.getExecutionContext()
+												.getEntityId() +
+										", for class: " +
+										rowReader.getResultJavaType().getName()
+						);
+					}
 					rowProcessingState.finishRowProcessing();
 				}
 			}
@@ -150,6 +159,31 @@ public class ListResultsConsumer<R> implements ResultsConsumer<List<R>, R> {
 		throw new IllegalStateException( "Should not reach this!" );
 	}
 
+	private static <R> boolean containsEqualRow(List<R> results, R row, JavaType<R> resultJavaTypeDescriptor) {
+		for ( R existingRow : results ) {
+			if ( resultJavaTypeDescriptor.areEqual( existingRow, row ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * The results are pre-sized for the rows of the first JDBC round trip, bounded since the
+	 * fetch size may well exceed the number of rows
+	 */
+	private static int determineInitialCapacity(
+			SharedSessionContractImplementor session,
+			JdbcValuesSourceProcessingStateStandardImpl jdbcValuesSourceProcessingState) {
+		Integer fetchSize = jdbcValuesSourceProcessingState.getExecutionContext().getQueryOptions().getFetchSize();
+		if ( fetchSize == null ) {
+			fetchSize = session.getFactory().getSessionFactoryOptions().getJdbcFetchSize();
+		}
+		return fetchSize == null || fetchSize <= 0
+				? DEFAULT_INITIAL_CAPACITY
+				: Math.min( fetchSize, MAX_INITIAL_CAPACITY );
+	}
+
 	@Override
 	public boolean canResultsBeCached() {
 		return true;
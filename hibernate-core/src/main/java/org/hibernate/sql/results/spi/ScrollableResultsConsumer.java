@@ -44,7 +44,11 @@ public class ScrollableResultsConsumer<R> implements ResultsConsumer<ScrollableR
 			JdbcValuesSourceProcessingStateStandardImpl jdbcValuesSourceProcessingState,
 			RowProcessingStateStandardImpl rowProcessingState,
 			RowReader<R> rowReader) {
-		session.getPersistenceContext().getLoadContexts().register( jdbcValuesSourceProcessingState );
+		if ( !rowReader.getInitializers().isEmpty() ) {
+			// only results involving initializers (entities, collections, ...) need the
+			// load-context bookkeeping - avoid retaining the processing state otherwise
+			session.getPersistenceContext().getLoadContexts().register( jdbcValuesSourceProcessingState );
+		}
 		if ( containsCollectionFetches( jdbcValues.getValuesMapping() ) ) {
 			return new FetchingScrollableResultsImpl<>(
 					jdbcValues,
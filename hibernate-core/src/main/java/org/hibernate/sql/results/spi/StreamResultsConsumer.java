@@ -0,0 +1,82 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.results.spi;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.query.internal.ScrollableResultsIterator;
+import org.hibernate.query.spi.ScrollableResultsImplementor;
+import org.hibernate.sql.results.internal.JdbcValuesSpliterator;
+import org.hibernate.sql.results.internal.RowProcessingStateStandardImpl;
+import org.hibernate.sql.results.jdbc.internal.JdbcValuesSourceProcessingStateStandardImpl;
+import org.hibernate.sql.results.jdbc.spi.JdbcValues;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingOptions;
+
+/**
+ * ResultsConsumer for creating a {@link Stream} over the query results.
+ * <p/>
+ * Results which do not involve any {@link org.hibernate.sql.results.graph.Initializer}
+ * (scalars, tuples, dynamic-instantiations of those) are streamed directly from the
+ * JDBC results via {@link JdbcValuesSpliterator}, bypassing the load-context bookkeeping
+ * needed for entity and collection results.  All other results are streamed on top of
+ * the {@link ScrollableResultsConsumer scrollable results}.
+ */
+public class StreamResultsConsumer<R> implements ResultsConsumer<Stream<R>, R> {
+	/**
+	 * Singleton access to the standard stream consumer instance
+	 */
+	public static final StreamResultsConsumer INSTANCE = new StreamResultsConsumer();
+
+	@SuppressWarnings("unchecked")
+	public static <R> StreamResultsConsumer<R> instance() {
+		return INSTANCE;
+	}
+
+	@Override
+	public Stream<R> consume(
+			JdbcValues jdbcValues,
+			SharedSessionContractImplementor session,
+			JdbcValuesSourceProcessingOptions processingOptions,
+			JdbcValuesSourceProcessingStateStandardImpl jdbcValuesSourceProcessingState,
+			RowProcessingStateStandardImpl rowProcessingState,
+			RowReader<R> rowReader) {
+		if ( rowReader.getInitializers().isEmpty() ) {
+			final JdbcValuesSpliterator<R> spliterator = new JdbcValuesSpliterator<>(
+					jdbcValues,
+					processingOptions,
+					jdbcValuesSourceProcessingState,
+					rowProcessingState,
+					rowReader,
+					session
+			);
+			return StreamSupport.stream( spliterator, false ).onClose( spliterator::close );
+		}
+
+		final ScrollableResultsImplementor<R> scrollableResults = ScrollableResultsConsumer.<R>instance().consume(
+				jdbcValues,
+				session,
+				processingOptions,
+				jdbcValuesSourceProcessingState,
+				rowProcessingState,
+				rowReader
+		);
+		final ScrollableResultsIterator<R> iterator = new ScrollableResultsIterator<>( scrollableResults );
+		final Spliterator<R> spliterator = Spliterators.spliteratorUnknownSize( iterator, Spliterator.NONNULL );
+
+		final Stream<R> stream = StreamSupport.stream( spliterator, false );
+		return stream.onClose( scrollableResults::close );
+	}
+
+	@Override
+	public boolean canResultsBeCached() {
+		return false;
+	}
+}
@@ -50,4 +50,15 @@ public interface EntityStatistics extends CacheableDataStatistics, Serializable
 	 * has experienced an optimistic lock failure.
 	 */
 	long getOptimisticFailureCount();
+
+	/**
+	 * The batch size last chosen for batch fetching this entity when adaptive batch
+	 * fetching is enabled, or {@code 0} if no such batch was fetched (since last
+	 * Statistics clearing)
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#BATCH_FETCH_ADAPTIVE_MAX_SIZE
+	 */
+	default int getBatchFetchSize() {
+		return 0;
+	}
 }
@@ -386,4 +386,13 @@ public interface Statistics {
 		//For backward compatibility
 		return 0;
 	}
+
+	/**
+	 * Get the global number of entries evicted from the query plan cache
+	 * to respect its maximum size
+	 */
+	default long getQueryPlanCacheEvictionCount() {
+		//For backward compatibility
+		return 0;
+	}
 }
@@ -26,6 +26,7 @@ public class EntityStatisticsImpl extends AbstractCacheableDataStatistics implem
 	private final LongAdder deleteCount = new LongAdder();
 	private final LongAdder fetchCount = new LongAdder();
 	private final LongAdder optimisticFailureCount = new LongAdder();
+	private volatile int batchFetchSize;
 
 	EntityStatisticsImpl(EntityPersister rootEntityDescriptor) {
 		super(
@@ -60,6 +61,11 @@ public class EntityStatisticsImpl extends AbstractCacheableDataStatistics implem
 		return optimisticFailureCount.sum();
 	}
 
+	@Override
+	public int getBatchFetchSize() {
+		return batchFetchSize;
+	}
+
 	void incrementLoadCount() {
 		loadCount.increment();
 	}
@@ -84,6 +90,10 @@ public class EntityStatisticsImpl extends AbstractCacheableDataStatistics implem
 		optimisticFailureCount.increment();
 	}
 
+	void setBatchFetchSize(int batchFetchSize) {
+		this.batchFetchSize = batchFetchSize;
+	}
+
 	public String toString() {
 		final StringBuilder buffer = new StringBuilder()
 				.append( "EntityStatistics" )
@@ -93,7 +103,8 @@ public class EntityStatisticsImpl extends AbstractCacheableDataStatistics implem
 				.append( ",insertCount=" ).append( this.insertCount )
 				.append( ",deleteCount=" ).append( this.deleteCount )
 				.append( ",fetchCount=" ).append( this.fetchCount )
-				.append( ",optimisticLockFailureCount=" ).append( this.optimisticFailureCount );
+				.append( ",optimisticLockFailureCount=" ).append( this.optimisticFailureCount )
+				.append( ",batchFetchSize=" ).append( this.batchFetchSize );
 		appendCacheStats( buffer );
 		return buffer.append( ']' ).toString();
 	}
@@ -86,6 +86,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 	private final LongAdder queryPlanCacheHitCount = new LongAdder();
 	private final LongAdder queryPlanCacheMissCount = new LongAdder();
+	private final LongAdder queryPlanCacheEvictionCount = new LongAdder();
 
 	private final LongAdder updateTimestampsCacheHitCount = new LongAdder();
 	private final LongAdder updateTimestampsCacheMissCount = new LongAdder();
@@ -190,6 +191,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 		queryPlanCacheHitCount.reset();
 		queryPlanCacheMissCount.reset();
+		queryPlanCacheEvictionCount.reset();
 
 		resetStartTime();
 	}
@@ -273,6 +275,11 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		getEntityStatistics( entityName ).incrementFetchCount();
 	}
 
+	@Override
+	public void adaptiveBatchFetchEntity(String entityName, int batchSize) {
+		getEntityStatistics( entityName ).setBatchFetchSize( batchSize );
+	}
+
 	@Override
 	public void updateEntity(String entityName) {
 		entityUpdateCount.increment();
@@ -757,6 +764,11 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		return queryPlanCacheMissCount.sum();
 	}
 
+	@Override
+	public long getQueryPlanCacheEvictionCount() {
+		return queryPlanCacheEvictionCount.sum();
+	}
+
 	@Override
 	public void queryCompiled(String hql, long microseconds) {
 		queryPlanCacheMissCount.increment();
@@ -775,6 +787,11 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		}
 	}
 
+	@Override
+	public void queryPlanCacheEviction() {
+		queryPlanCacheEvictionCount.increment();
+	}
+
 	private CacheRegionStatisticsImpl getQueryRegionStats(String regionName) {
 		return l2CacheStatsMap.getOrCompute(
 				regionName,
@@ -948,6 +965,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 				.append( ",max query time=" ).append( queryExecutionMaxTime )
 				.append( ",query plan cache hits=" ).append( queryPlanCacheHitCount )
 				.append( ",query plan cache misses=" ).append( queryPlanCacheMissCount )
+				.append( ",query plan cache evictions=" ).append( queryPlanCacheEvictionCount )
 				.append( ']' )
 				.toString();
 	}
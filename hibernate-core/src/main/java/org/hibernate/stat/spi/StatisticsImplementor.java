@@ -70,6 +70,17 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	void fetchEntity(String entityName);
 
+	/**
+	 * Callback about an entity being batch fetched with a batch size chosen by
+	 * adaptive batch fetching.
+	 *
+	 * @param entityName The name of the entity fetched.
+	 * @param batchSize The batch size used.
+	 */
+	default void adaptiveBatchFetchEntity(String entityName, int batchSize) {
+		//For backward compatibility
+	}
+
 	/**
 	 * Callback about an entity being updated.
 	 *
@@ -257,6 +268,14 @@ public interface StatisticsImplementor extends Statistics, Service {
 		//For backward compatibility
 	}
 
+	/**
+	 * Callback indicating an entry was evicted from the query plan cache
+	 * to respect its maximum size.
+	 */
+	default void queryPlanCacheEviction() {
+		//For backward compatibility
+	}
+
 	/**
 	 * Callback indicating compilation of a sql/hql query
 	 *
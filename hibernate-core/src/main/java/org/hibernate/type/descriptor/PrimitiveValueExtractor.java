@@ -0,0 +1,56 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.type.descriptor;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.hibernate.Incubating;
+
+/**
+ * Specialization of {@link ValueExtractor} for values which are read from the
+ * {@link ResultSet} as a primitive number.  Allows callers to read the raw value
+ * without boxing and to defer (or avoid entirely) the creation of the wrapped
+ * domain value.
+ * <p/>
+ * The primitive extraction methods follow the JDBC conventions for SQL null: a
+ * {@code 0} is returned and the caller is expected to consult {@link ResultSet#wasNull()}.
+ */
+@Incubating
+public interface PrimitiveValueExtractor<X> extends ValueExtractor<X> {
+	/**
+	 * Whether the values are natively read as {@code double}, rather than
+	 * {@code long}
+	 */
+	boolean isFloatingPoint();
+
+	/**
+	 * Extract the value from the result set as a {@code long}
+	 *
+	 * @throws SQLException Indicates a JDBC error occurred.
+	 */
+	long extractLong(ResultSet rs, int paramIndex, WrapperOptions options) throws SQLException;
+
+	/**
+	 * Extract the value from the result set as a {@code double}
+	 *
+	 * @throws SQLException Indicates a JDBC error occurred.
+	 */
+	double extractDouble(ResultSet rs, int paramIndex, WrapperOptions options) throws SQLException;
+
+	/**
+	 * Create the (boxed) value which {@link #extract(ResultSet, int, WrapperOptions)}
+	 * would have returned for a value previously read using {@link #extractLong}
+	 */
+	X wrapLong(long value, WrapperOptions options);
+
+	/**
+	 * Create the (boxed) value which {@link #extract(ResultSet, int, WrapperOptions)}
+	 * would have returned for a value previously read using {@link #extractDouble}
+	 */
+	X wrapDouble(double value, WrapperOptions options);
+}
@@ -0,0 +1,44 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.type.descriptor.jdbc;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.hibernate.type.descriptor.PrimitiveValueExtractor;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.JavaType;
+
+/**
+ * Convenience base implementation of {@link PrimitiveValueExtractor} for
+ * floating point values ({@code DOUBLE}, {@code FLOAT}, ...)
+ */
+public abstract class BasicDoubleExtractor<J> extends BasicExtractor<J> implements PrimitiveValueExtractor<J> {
+	public BasicDoubleExtractor(JavaType<J> javaTypeDescriptor, JdbcType jdbcType) {
+		super( javaTypeDescriptor, jdbcType );
+	}
+
+	@Override
+	public boolean isFloatingPoint() {
+		return true;
+	}
+
+	@Override
+	protected J doExtract(ResultSet rs, int paramIndex, WrapperOptions options) throws SQLException {
+		return wrapDouble( extractDouble( rs, paramIndex, options ), options );
+	}
+
+	@Override
+	public long extractLong(ResultSet rs, int paramIndex, WrapperOptions options) throws SQLException {
+		return (long) extractDouble( rs, paramIndex, options );
+	}
+
+	@Override
+	public J wrapLong(long value, WrapperOptions options) {
+		return wrapDouble( value, options );
+	}
+}
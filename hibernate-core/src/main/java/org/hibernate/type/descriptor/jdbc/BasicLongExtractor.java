@@ -0,0 +1,44 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.type.descriptor.jdbc;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.hibernate.type.descriptor.PrimitiveValueExtractor;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.JavaType;
+
+/**
+ * Convenience base implementation of {@link PrimitiveValueExtractor} for
+ * integral values ({@code BIGINT}, {@code INTEGER}, {@code SMALLINT}, ...)
+ */
+public abstract class BasicLongExtractor<J> extends BasicExtractor<J> implements PrimitiveValueExtractor<J> {
+	public BasicLongExtractor(JavaType<J> javaTypeDescriptor, JdbcType jdbcType) {
+		super( javaTypeDescriptor, jdbcType );
+	}
+
+	@Override
+	public boolean isFloatingPoint() {
+		return false;
+	}
+
+	@Override
+	protected J doExtract(ResultSet rs, int paramIndex, WrapperOptions options) throws SQLException {
+		return wrapLong( extractLong( rs, paramIndex, options ), options );
+	}
+
+	@Override
+	public double extractDouble(ResultSet rs, int paramIndex, WrapperOptions options) throws SQLException {
+		return extractLong( rs, paramIndex, options );
+	}
+
+	@Override
+	public J wrapDouble(double value, WrapperOptions options) {
+		return wrapLong( (long) value, options );
+	}
+}
@@ -69,10 +69,15 @@ public class BigIntJdbcType implements JdbcType {
 
 	@Override
 	public <X> ValueExtractor<X> getExtractor(final JavaType<X> javaTypeDescriptor) {
-		return new BasicExtractor<X>( javaTypeDescriptor, this ) {
+		return new BasicLongExtractor<X>( javaTypeDescriptor, this ) {
 			@Override
-			protected X doExtract(ResultSet rs, int paramIndex, WrapperOptions options) throws SQLException {
-				return javaTypeDescriptor.wrap( rs.getLong( paramIndex ), options );
+			public long extractLong(ResultSet rs, int paramIndex, WrapperOptions options) throws SQLException {
+				return rs.getLong( paramIndex );
+			}
+
+			@Override
+			public X wrapLong(long value, WrapperOptions options) {
+				return javaTypeDescriptor.wrap( value, options );
 			}
 
 			@Override
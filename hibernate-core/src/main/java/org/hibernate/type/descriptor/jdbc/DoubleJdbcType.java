@@ -89,10 +89,15 @@ public class DoubleJdbcType implements JdbcType {
 
 	@Override
 	public <X> ValueExtractor<X> getExtractor(final JavaType<X> javaTypeDescriptor) {
-		return new BasicExtractor<X>( javaTypeDescriptor, this ) {
+		return new BasicDoubleExtractor<X>( javaTypeDescriptor, this ) {
 			@Override
-			protected X doExtract(ResultSet rs, int paramIndex, WrapperOptions options) throws SQLException {
-				return javaTypeDescriptor.wrap( rs.getDouble( paramIndex ), options );
+			public double extractDouble(ResultSet rs, int paramIndex, WrapperOptions options) throws SQLException {
+				return rs.getDouble( paramIndex );
+			}
+
+			@Override
+			public X wrapDouble(double value, WrapperOptions options) {
+				return javaTypeDescriptor.wrap( value, options );
 			}
 
 			@Override
@@ -78,10 +78,15 @@ public class SmallIntJdbcType implements JdbcType {
 
 	@Override
 	public <X> ValueExtractor<X> getExtractor(final JavaType<X> javaTypeDescriptor) {
-		return new BasicExtractor<X>( javaTypeDescriptor, this ) {
+		return new BasicLongExtractor<X>( javaTypeDescriptor, this ) {
 			@Override
-			protected X doExtract(ResultSet rs, int paramIndex, WrapperOptions options) throws SQLException {
-				return javaTypeDescriptor.wrap( rs.getShort( paramIndex ), options );
+			public long extractLong(ResultSet rs, int paramIndex, WrapperOptions options) throws SQLException {
+				return rs.getShort( paramIndex );
+			}
+
+			@Override
+			public X wrapLong(long value, WrapperOptions options) {
+				return javaTypeDescriptor.wrap( (short) value, options );
 			}
 
 			@Override
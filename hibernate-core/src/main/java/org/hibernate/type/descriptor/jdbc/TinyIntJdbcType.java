@@ -81,10 +81,15 @@ public class TinyIntJdbcType implements JdbcType {
 
 	@Override
 	public <X> ValueExtractor<X> getExtractor(final JavaType<X> javaTypeDescriptor) {
-		return new BasicExtractor<X>( javaTypeDescriptor, this ) {
+		return new BasicLongExtractor<X>( javaTypeDescriptor, this ) {
 			@Override
-			protected X doExtract(ResultSet rs, int paramIndex, WrapperOptions options) throws SQLException {
-				return javaTypeDescriptor.wrap( rs.getByte( paramIndex ), options );
+			public long extractLong(ResultSet rs, int paramIndex, WrapperOptions options) throws SQLException {
+				return rs.getByte( paramIndex );
+			}
+
+			@Override
+			public X wrapLong(long value, WrapperOptions options) {
+				return javaTypeDescriptor.wrap( (byte) value, options );
 			}
 
 			@Override
@@ -0,0 +1,206 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.batch;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+
+import org.hibernate.testing.orm.jdbc.PreparedStatementSpyConnectionProvider;
+import org.hibernate.testing.orm.junit.BaseSessionFactoryFunctionalTest;
+import org.hibernate.testing.orm.junit.DialectFeatureChecks;
+import org.hibernate.testing.orm.junit.RequiresDialectFeature;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests for {@link AvailableSettings#BATCH_INTERLEAVED_STATEMENTS}
+ */
+@RequiresDialectFeature(feature = DialectFeatureChecks.SupportsJdbcDriverProxying.class)
+public class InterleavedBatchingTest extends BaseSessionFactoryFunctionalTest {
+
+	private final PreparedStatementSpyConnectionProvider connectionProvider = new PreparedStatementSpyConnectionProvider(
+			true,
+			false
+	);
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Parent.class, Child.class, Author.class, Book.class };
+	}
+
+	@Override
+	protected void applySettings(StandardServiceRegistryBuilder builder) {
+		builder.applySetting( AvailableSettings.BATCH_INTERLEAVED_STATEMENTS, "true" );
+		builder.applySetting( AvailableSettings.STATEMENT_BATCH_SIZE, "10" );
+		ConnectionProvider connectionProvider = (ConnectionProvider) builder.getSettings()
+				.get( AvailableSettings.CONNECTION_PROVIDER );
+		this.connectionProvider.setConnectionProvider( connectionProvider );
+		builder.applySetting( AvailableSettings.CONNECTION_PROVIDER, this.connectionProvider );
+	}
+
+	@AfterAll
+	public void releaseResources() {
+		connectionProvider.stop();
+	}
+
+	@AfterEach
+	public void cleanupTestData() {
+		sessionFactoryScope().inTransaction( session -> {
+			session.createQuery( "delete from Child" ).executeUpdate();
+			session.createQuery( "delete from Parent" ).executeUpdate();
+			session.createQuery( "update Author set favoriteBook = null" ).executeUpdate();
+			session.createQuery( "delete from Book" ).executeUpdate();
+			session.createQuery( "delete from Author" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testInterleavedInsertsAreBatched() throws SQLException {
+		sessionFactoryScope().inTransaction( session -> {
+			for ( int i = 1; i <= 3; i++ ) {
+				final Parent parent = new Parent( i );
+				session.persist( parent );
+				session.persist( new Child( 2 * i, parent ) );
+				session.persist( new Child( 2 * i + 1, parent ) );
+			}
+			connectionProvider.clear();
+		} );
+
+		final PreparedStatement parentInsert = getPreparedStatement( "insert into Parent" );
+		verify( parentInsert, times( 3 ) ).addBatch();
+		verify( parentInsert, times( 1 ) ).executeBatch();
+
+		final PreparedStatement childInsert = getPreparedStatement( "insert into Child" );
+		verify( childInsert, times( 6 ) ).addBatch();
+		verify( childInsert, times( 1 ) ).executeBatch();
+
+		sessionFactoryScope().inTransaction( session -> assertEquals(
+				6L,
+				session.createQuery( "select count(c) from Child c where c.parent is not null" ).uniqueResult()
+		) );
+	}
+
+	@Test
+	public void testDependentInsertExecutesOpenBatches() throws SQLException {
+		sessionFactoryScope().inTransaction( session -> {
+			final Author first = new Author( 1, null );
+			final Book book = new Book( 1, first );
+			final Author second = new Author( 2, book );
+			session.persist( first );
+			session.persist( book );
+			// references the pending book, so the open batches have to be executed first
+			session.persist( second );
+			connectionProvider.clear();
+		} );
+
+		final List<PreparedStatement> authorInserts = getPreparedStatements( "insert into Author" );
+		assertEquals( 2, authorInserts.size() );
+		for ( PreparedStatement authorInsert : authorInserts ) {
+			verify( authorInsert, times( 1 ) ).addBatch();
+			verify( authorInsert, times( 1 ) ).executeBatch();
+		}
+
+		sessionFactoryScope().inTransaction( session -> assertEquals(
+				Integer.valueOf( 1 ),
+				session.get( Author.class, 2 ).favoriteBook.id
+		) );
+	}
+
+	private PreparedStatement getPreparedStatement(String sqlPrefix) {
+		final List<PreparedStatement> preparedStatements = getPreparedStatements( sqlPrefix );
+		assertEquals( 1, preparedStatements.size() );
+		return preparedStatements.get( 0 );
+	}
+
+	private List<PreparedStatement> getPreparedStatements(String sqlPrefix) {
+		return connectionProvider.getPreparedSQLStatements()
+				.stream()
+				.filter( sql -> sql.startsWith( sqlPrefix ) )
+				.distinct()
+				.flatMap( sql -> connectionProvider.getPreparedStatements( sql ).stream() )
+				.collect( Collectors.toList() );
+	}
+
+	@Entity(name = "Parent")
+	public static class Parent {
+		@Id
+		private Integer id;
+
+		public Parent() {
+		}
+
+		public Parent(Integer id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Child")
+	public static class Child {
+		@Id
+		private Integer id;
+
+		@ManyToOne
+		private Parent parent;
+
+		public Child() {
+		}
+
+		public Child(Integer id, Parent parent) {
+			this.id = id;
+			this.parent = parent;
+		}
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		private Integer id;
+
+		@ManyToOne
+		private Book favoriteBook;
+
+		public Author() {
+		}
+
+		public Author(Integer id, Book favoriteBook) {
+			this.id = id;
+			this.favoriteBook = favoriteBook;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Integer id;
+
+		@ManyToOne
+		private Author author;
+
+		public Book() {
+		}
+
+		public Book(Integer id, Author author) {
+			this.id = id;
+			this.author = author;
+		}
+	}
+}
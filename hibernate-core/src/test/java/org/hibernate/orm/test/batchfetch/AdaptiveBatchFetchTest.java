@@ -0,0 +1,202 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.batchfetch;
+
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests for {@link AvailableSettings#BATCH_FETCH_ADAPTIVE_MAX_SIZE}
+ */
+@DomainModel(
+		annotatedClasses = {
+				AdaptiveBatchFetchTest.Parent.class,
+				AdaptiveBatchFetchTest.Child.class,
+				AdaptiveBatchFetchTest.Category.class,
+				AdaptiveBatchFetchTest.Item.class
+		}
+)
+@SessionFactory(useCollectingStatementInspector = true)
+@ServiceRegistry(
+		settings = {
+				@Setting(name = AvailableSettings.DEFAULT_BATCH_FETCH_SIZE, value = "4"),
+				@Setting(name = AvailableSettings.BATCH_FETCH_ADAPTIVE_MAX_SIZE, value = "32"),
+				@Setting(name = AvailableSettings.BATCH_FETCH_ADAPTIVE_MIN_SIZE, value = "2"),
+				@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true")
+		}
+)
+public class AdaptiveBatchFetchTest {
+
+	@BeforeEach
+	public void setupData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 100; i++ ) {
+				final Parent parent = new Parent( i, "Parent #" + i );
+				session.persist( parent );
+				session.persist( new Child( i, parent ) );
+			}
+			for ( int i = 1; i <= 12; i++ ) {
+				final Category category = new Category( i, "Category #" + i );
+				session.persist( category );
+				session.persist( new Item( i, category ) );
+			}
+		} );
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	public void cleanupData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createQuery( "delete from Child" ).executeUpdate();
+			session.createQuery( "delete from Parent" ).executeUpdate();
+			session.createQuery( "delete from Item" ).executeUpdate();
+			session.createQuery( "delete from Category" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testBatchSizeGrowsWhenAllEntitiesAreUsed(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final List<Child> children = session.createQuery( "from Child c order by c.id", Child.class )
+					.getResultList();
+			statementInspector.clear();
+
+			for ( Child child : children ) {
+				assertEquals( "Parent #" + child.id, child.getParent().getName() );
+			}
+
+			// batches of 4, 8, 16, 32, 32 and the remaining 8 parents, instead of 25 batches of 4
+			assertEquals( 6, statementInspector.getSqlQueries().size() );
+		} );
+
+		assertEquals(
+				32,
+				scope.getSessionFactory().getStatistics().getEntityStatistics( Parent.class.getName() )
+						.getBatchFetchSize()
+		);
+	}
+
+	@Test
+	public void testBatchSizeShrinksWhenEntitiesAreNotUsed(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Item> items = session.createQuery( "from Item i order by i.id", Item.class )
+					.getResultList();
+
+			// only use every fourth category, so the others loaded by each batch are never used
+			for ( int i = 0; i < items.size(); i += 4 ) {
+				assertEquals( "Category #" + ( i + 1 ), items.get( i ).getCategory().getName() );
+			}
+		} );
+
+		assertEquals(
+				2,
+				scope.getSessionFactory().getStatistics().getEntityStatistics( Category.class.getName() )
+						.getBatchFetchSize()
+		);
+	}
+
+	@Entity(name = "Parent")
+	public static class Parent {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Parent() {
+		}
+
+		public Parent(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+
+	@Entity(name = "Child")
+	public static class Child {
+		@Id
+		private Integer id;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Parent parent;
+
+		public Child() {
+		}
+
+		public Child(Integer id, Parent parent) {
+			this.id = id;
+			this.parent = parent;
+		}
+
+		public Parent getParent() {
+			return parent;
+		}
+	}
+
+	@Entity(name = "Category")
+	public static class Category {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Category() {
+		}
+
+		public Category(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Integer id;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Category category;
+
+		public Item() {
+		}
+
+		public Item(Integer id, Category category) {
+			this.id = id;
+			this.category = category;
+		}
+
+		public Category getCategory() {
+			return category;
+		}
+	}
+}
@@ -0,0 +1,156 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.bytecode.enhancement.dirty;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import org.hibernate.annotations.Persister;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.access.NaturalIdDataAccess;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.mapping.PersistentClass;
+import org.hibernate.persister.entity.SingleTableEntityPersister;
+import org.hibernate.persister.spi.PersisterCreationContext;
+import org.hibernate.stat.Statistics;
+import org.hibernate.type.Type;
+
+import org.hibernate.testing.bytecode.enhancement.BytecodeEnhancerRunner;
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Flushing skips the entities which track their own dirtiness and have no dirty attribute,
+ * make sure the modified ones are still updated
+ */
+@RunWith(BytecodeEnhancerRunner.class)
+public class DirtyTrackingFlushTest extends BaseCoreFunctionalTestCase {
+
+	@Override
+	public Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Item.class };
+	}
+
+	@Override
+	protected void configure(Configuration configuration) {
+		super.configure( configuration );
+		configuration.setProperty( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Before
+	public void prepare() {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( int i = 1; i <= 20; i++ ) {
+				session.persist( new Item( i, "item " + i ) );
+			}
+		} );
+	}
+
+	@Test
+	public void testCleanEntitiesNotFlushed() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.createQuery( "from Item where id <= 10", Item.class ).list();
+			final int flushedWithTenEntities = countPropertyTypesLookups( session::flush );
+
+			session.createQuery( "from Item where id > 10", Item.class ).list();
+			final int flushedWithTwentyEntities = countPropertyTypesLookups( session::flush );
+
+			// DefaultFlushEntityEventListener looks the property types up for each entity it is called for,
+			// it must not be called for any of the clean entities
+			assertEquals( flushedWithTenEntities, flushedWithTwentyEntities );
+		} );
+	}
+
+	@Test
+	public void testOnlyModifiedEntitiesUpdated() {
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+
+		doInHibernate( this::sessionFactory, session -> {
+			final List<Item> items = session.createQuery( "from Item order by id", Item.class ).list();
+			items.get( 2 ).setName( "changed 3" );
+			items.get( 7 ).setName( "changed 8" );
+
+			// auto flush before the query
+			session.createQuery( "select count(*) from Item where name like 'changed%'", Long.class )
+					.getSingleResult();
+			assertEquals( 2, statistics.getEntityUpdateCount() );
+
+			items.get( 0 ).setName( "changed 1" );
+		} );
+
+		assertEquals( 3, statistics.getEntityUpdateCount() );
+
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( "changed 1", session.get( Item.class, 1 ).getName() );
+			assertEquals( "item 2", session.get( Item.class, 2 ).getName() );
+			assertEquals( "changed 8", session.get( Item.class, 8 ).getName() );
+		} );
+	}
+
+	private static int countPropertyTypesLookups(Runnable action) {
+		final int before = CountingPersister.PROPERTY_TYPES_LOOKUPS.get();
+		action.run();
+		return CountingPersister.PROPERTY_TYPES_LOOKUPS.get() - before;
+	}
+
+	@Entity(name = "Item")
+	@Persister(impl = CountingPersister.class)
+	public static class Item {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+
+	public static class CountingPersister extends SingleTableEntityPersister {
+		static final AtomicInteger PROPERTY_TYPES_LOOKUPS = new AtomicInteger();
+
+		public CountingPersister(
+				PersistentClass persistentClass,
+				EntityDataAccess cacheAccessStrategy,
+				NaturalIdDataAccess naturalIdRegionAccessStrategy,
+				PersisterCreationContext creationContext) {
+			super( persistentClass, cacheAccessStrategy, naturalIdRegionAccessStrategy, creationContext );
+		}
+
+		@Override
+		public Type[] getPropertyTypes() {
+			PROPERTY_TYPES_LOOKUPS.incrementAndGet();
+			return super.getPropertyTypes();
+		}
+	}
+}
@@ -0,0 +1,244 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.cache;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.entry.BinaryCacheEntry;
+import org.hibernate.cache.spi.entry.BinaryCacheEntryCodecFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Version;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Tests for {@link AvailableSettings#CACHE_ENTRY_CODEC_FACTORY}
+ */
+@DomainModel(
+		annotatedClasses = {
+				BinaryCacheEntryTest.Customer.class,
+				BinaryCacheEntryTest.PurchaseOrder.class
+		}
+)
+@ServiceRegistry(
+		settings = {
+				@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+				@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true"),
+				@Setting(
+						name = AvailableSettings.CACHE_ENTRY_CODEC_FACTORY,
+						value = "org.hibernate.cache.spi.entry.BinaryCacheEntryCodecFactory"
+				)
+		}
+)
+@SessionFactory
+public class BinaryCacheEntryTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createQuery( "delete from PurchaseOrder" ).executeUpdate();
+			session.createQuery( "delete from Customer" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testEntriesAreStoredInBinaryForm(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Customer customer = new Customer( 1L, "John Doe" );
+			session.persist( customer );
+			session.persist(
+					new PurchaseOrder(
+							1L,
+							customer,
+							"first order",
+							new BigDecimal( "123.45" ),
+							LocalDate.of( 2021, 1, 31 ),
+							new ShippingAddress( "Main Street", "12345" )
+					)
+			);
+		} );
+
+		final EntityPersister persister = scope.getSessionFactory()
+				.getMetamodel()
+				.entityPersister( PurchaseOrder.class );
+		assertThat( persister.getCacheEntryStructure(), instanceOf( BinaryCacheEntry.class ) );
+
+		scope.inSession( session -> {
+			final EntityDataAccess cacheAccess = persister.getCacheAccessStrategy();
+			final Object cacheKey = cacheAccess.generateCacheKey( 1L, persister, scope.getSessionFactory(), null );
+			assertThat( cacheAccess.get( session, cacheKey ), instanceOf( byte[].class ) );
+		} );
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inSession( session -> {
+			final PurchaseOrder order = session.get( PurchaseOrder.class, 1L );
+			assertEquals( 1, statistics.getSecondLevelCacheHitCount() );
+
+			assertEquals( "first order", order.getDescription() );
+			assertEquals( new BigDecimal( "123.45" ), order.getAmount() );
+			assertEquals( LocalDate.of( 2021, 1, 31 ), order.getOrderDate() );
+			assertNull( order.getNote() );
+			assertEquals( 0, order.getVersion() );
+			assertEquals( "Main Street", order.getShippingAddress().getStreet() );
+			assertEquals( "12345", order.getShippingAddress().getZipCode() );
+			assertEquals( "John Doe", order.getCustomer().getName() );
+		} );
+	}
+
+	@Test
+	public void testFactoryIsUsedForAllCachedEntities(SessionFactoryScope scope) {
+		assertThat(
+				scope.getSessionFactory().getSessionFactoryOptions().getCacheEntryCodecFactory(),
+				instanceOf( BinaryCacheEntryCodecFactory.class )
+		);
+		assertThat(
+				scope.getSessionFactory().getMetamodel().entityPersister( Customer.class ).getCacheEntryStructure(),
+				instanceOf( BinaryCacheEntry.class )
+		);
+	}
+
+	@Entity(name = "Customer")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Customer {
+		@Id
+		private Long id;
+
+		private String name;
+
+		public Customer() {
+		}
+
+		public Customer(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+
+	@Entity(name = "PurchaseOrder")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class PurchaseOrder {
+		@Id
+		private Long id;
+
+		@Version
+		private int version;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Customer customer;
+
+		private String description;
+
+		private String note;
+
+		private BigDecimal amount;
+
+		private LocalDate orderDate;
+
+		private ShippingAddress shippingAddress;
+
+		public PurchaseOrder() {
+		}
+
+		public PurchaseOrder(
+				Long id,
+				Customer customer,
+				String description,
+				BigDecimal amount,
+				LocalDate orderDate,
+				ShippingAddress shippingAddress) {
+			this.id = id;
+			this.customer = customer;
+			this.description = description;
+			this.amount = amount;
+			this.orderDate = orderDate;
+			this.shippingAddress = shippingAddress;
+		}
+
+		public int getVersion() {
+			return version;
+		}
+
+		public Customer getCustomer() {
+			return customer;
+		}
+
+		public String getDescription() {
+			return description;
+		}
+
+		public String getNote() {
+			return note;
+		}
+
+		public BigDecimal getAmount() {
+			return amount;
+		}
+
+		public LocalDate getOrderDate() {
+			return orderDate;
+		}
+
+		public ShippingAddress getShippingAddress() {
+			return shippingAddress;
+		}
+	}
+
+	@Embeddable
+	public static class ShippingAddress {
+		private String street;
+
+		private String zipCode;
+
+		public ShippingAddress() {
+		}
+
+		public ShippingAddress(String street, String zipCode) {
+			this.street = street;
+			this.zipCode = zipCode;
+		}
+
+		public String getStreet() {
+			return street;
+		}
+
+		public String getZipCode() {
+			return zipCode;
+		}
+	}
+}
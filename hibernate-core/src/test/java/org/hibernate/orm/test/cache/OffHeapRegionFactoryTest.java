@@ -0,0 +1,133 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.cache;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.internal.OffHeapStorageAccessImpl;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link org.hibernate.cache.internal.OffHeapRegionFactory}
+ */
+@DomainModel(annotatedClasses = OffHeapRegionFactoryTest.Country.class)
+@ServiceRegistry(
+		settings = {
+				@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+				@Setting(name = AvailableSettings.USE_QUERY_CACHE, value = "true"),
+				@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true"),
+				@Setting(
+						name = AvailableSettings.CACHE_REGION_FACTORY,
+						value = "org.hibernate.cache.internal.OffHeapRegionFactory"
+				)
+		}
+)
+@SessionFactory
+public class OffHeapRegionFactoryTest {
+
+	@Test
+	public void testEntitiesAreCachedOffHeap(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.persist( new Country( 1, "Netherlands" ) ) );
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inSession( session -> {
+			final Country country = session.get( Country.class, 1 );
+			assertEquals( "Netherlands", country.name );
+		} );
+		assertEquals( 1, statistics.getSecondLevelCacheHitCount() );
+
+		final EntityPersister persister = scope.getSessionFactory()
+				.getMetamodel()
+				.entityPersister( Country.class );
+		final CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics(
+				persister.getCacheAccessStrategy().getRegion().getName()
+		);
+		assertEquals( 1, regionStatistics.getElementCountInMemory() );
+		assertTrue( regionStatistics.getSizeInMemory() > 0 );
+	}
+
+	@Test
+	public void testValuesRoundTrip() {
+		final OffHeapStorageAccessImpl storageAccess = new OffHeapStorageAccessImpl( "test", 4096, 1024 );
+
+		storageAccess.putIntoCache( "string", "value", null );
+		storageAccess.putIntoCache( "bytes", new byte[] { 1, 2, 3 }, null );
+		assertEquals( "value", storageAccess.getFromCache( "string", null ) );
+		assertArrayEquals( new byte[] { 1, 2, 3 }, (byte[]) storageAccess.getFromCache( "bytes", null ) );
+
+		storageAccess.putIntoCache( "string", "other value", null );
+		assertEquals( "other value", storageAccess.getFromCache( "string", null ) );
+		assertEquals( 2, storageAccess.getElementCount() );
+
+		storageAccess.evictData( "string" );
+		assertNull( storageAccess.getFromCache( "string", null ) );
+		assertEquals( 3, storageAccess.getUsedBytes() );
+
+		storageAccess.putIntoCache( "too large", new byte[2048], null );
+		assertNull( storageAccess.getFromCache( "too large", null ) );
+
+		storageAccess.release();
+	}
+
+	@Test
+	public void testOldestSegmentIsEvictedWhenFull() {
+		final OffHeapStorageAccessImpl storageAccess = new OffHeapStorageAccessImpl( "test", 4096, 1024 );
+
+		// 10 entries per segment, 4 segments
+		for ( int i = 0; i < 100; i++ ) {
+			storageAccess.putIntoCache( i, new byte[100], null );
+		}
+
+		assertEquals( 4096, storageAccess.getAllocatedBytes() );
+		assertTrue( storageAccess.getElementCount() <= 40 );
+		assertEquals( 100 - storageAccess.getElementCount(), storageAccess.getEvictionCount() );
+		assertNull( storageAccess.getFromCache( 0, null ) );
+		assertNotNull( storageAccess.getFromCache( 99, null ) );
+
+		storageAccess.release();
+	}
+
+	@Entity(name = "Country")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Country {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Country() {
+		}
+
+		public Country(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,81 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.cache;
+
+import org.hibernate.cache.internal.TimestampsCacheNearCacheImpl;
+import org.hibernate.cache.spi.TimestampsCache;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link AvailableSettings#QUERY_CACHE_TIMESTAMPS_NEAR_CACHE_TTL}
+ */
+@DomainModel(annotatedClasses = TimestampsNearCacheTest.Item.class)
+@ServiceRegistry(
+		settings = {
+				@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+				@Setting(name = AvailableSettings.USE_QUERY_CACHE, value = "true"),
+				@Setting(name = AvailableSettings.QUERY_CACHE_TIMESTAMPS_NEAR_CACHE_TTL, value = "60000")
+		}
+)
+@SessionFactory
+public class TimestampsNearCacheTest {
+
+	@Test
+	public void testLocalInvalidationIsAppliedImmediately(SessionFactoryScope scope) {
+		final TimestampsCache timestampsCache = scope.getSessionFactory().getCache().getTimestampsCache();
+		assertThat( timestampsCache, instanceOf( TimestampsCacheNearCacheImpl.class ) );
+
+		final String[] spaces = { "local_space" };
+		scope.inSession( session -> {
+			final Long timestamp = scope.getSessionFactory().getCache().getRegionFactory().nextTimestamp();
+			assertTrue( timestampsCache.isUpToDate( spaces, timestamp, session ) );
+
+			timestampsCache.preInvalidate( spaces, session );
+			assertFalse( timestampsCache.isUpToDate( spaces, timestamp, session ) );
+		} );
+	}
+
+	@Test
+	public void testRegionIsOnlyReadOnMiss(SessionFactoryScope scope) {
+		final TimestampsCache timestampsCache = scope.getSessionFactory().getCache().getTimestampsCache();
+
+		final String[] spaces = { "remote_space" };
+		scope.inSession( session -> {
+			final Long timestamp = scope.getSessionFactory().getCache().getRegionFactory().nextTimestamp();
+			assertTrue( timestampsCache.isUpToDate( spaces, timestamp, session ) );
+
+			// simulates an invalidation by another node, which is not noticed before the entry expires
+			timestampsCache.getRegion().putIntoCache( spaces[0], Long.MAX_VALUE, session );
+			assertTrue( timestampsCache.isUpToDate( spaces, timestamp, session ) );
+
+			timestampsCache.clear();
+			timestampsCache.getRegion().putIntoCache( spaces[0], Long.MAX_VALUE, session );
+			assertFalse( timestampsCache.isUpToDate( spaces, timestamp, session ) );
+		} );
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Integer id;
+	}
+}
@@ -0,0 +1,209 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.collection;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.Hibernate;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.CollectionEntry;
+import org.hibernate.engine.spi.SessionImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link AvailableSettings#COPY_ON_WRITE_COLLECTION_SNAPSHOTS}
+ */
+@DomainModel(
+		annotatedClasses = {
+				CopyOnWriteSnapshotTest.Library.class,
+				CopyOnWriteSnapshotTest.Book.class
+		}
+)
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.COPY_ON_WRITE_COLLECTION_SNAPSHOTS, value = "true"))
+@SessionFactory
+public class CopyOnWriteSnapshotTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Library library = new Library( 1 );
+			library.tags.add( "public" );
+			library.tags.add( "central" );
+			library.addresses.add( new Address( "Main Street" ) );
+			session.persist( library );
+
+			for ( int i = 1; i <= 3; i++ ) {
+				final Book book = new Book( i, "Book " + i );
+				book.library = library;
+				library.books.add( book );
+				session.persist( book );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.remove( session.get( Library.class, 1 ) ) );
+	}
+
+	@Test
+	public void testUnmodifiedCollectionsAreNotCopied(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Library library = session.get( Library.class, 1 );
+			Hibernate.initialize( library.books );
+			Hibernate.initialize( library.tags );
+			Hibernate.initialize( library.addresses );
+
+			assertUncopied( session, library.books );
+			assertUncopied( session, library.tags );
+			// embeddables may be modified in place, so they are copied when loaded
+			assertFalse( entry( session, library.addresses ).isSnapshotUncopied() );
+			assertThat( entry( session, library.addresses ).getSnapshot(), instanceOf( Map.class ) );
+
+			session.flush();
+
+			assertUncopied( session, library.books );
+			assertUncopied( session, library.tags );
+		} );
+	}
+
+	@Test
+	public void testModificationsAreFlushed(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Library library = session.get( Library.class, 1 );
+			library.tags.remove( "central" );
+			library.tags.add( "research" );
+			// the copy was taken before the first modification
+			assertFalse( entry( session, library.tags ).isSnapshotUncopied() );
+			final List<?> tagsSnapshot = (List<?>) entry( session, library.tags ).getSnapshot();
+			assertEquals( 2, tagsSnapshot.size() );
+			assertTrue( tagsSnapshot.contains( "central" ) );
+
+			// an orphan, which is removed on flush
+			library.books.removeIf( book -> book.id == 1 );
+
+			session.flush();
+
+			// the collections were snapshot again after the update
+			assertUncopied( session, library.tags );
+			assertUncopied( session, library.books );
+		} );
+
+		scope.inTransaction( session -> {
+			final Library library = session.get( Library.class, 1 );
+			assertEquals( 2, library.tags.size() );
+			assertTrue( library.tags.contains( "public" ) );
+			assertTrue( library.tags.contains( "research" ) );
+			assertEquals( 2, library.books.size() );
+			assertNull( session.get( Book.class, 1 ) );
+		} );
+	}
+
+	@Test
+	public void testSnapshotIsResolvedWhenRead(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Library library = session.get( Library.class, 1 );
+			Hibernate.initialize( library.tags );
+			assertUncopied( session, library.tags );
+
+			// readers of the snapshot, such as collection event listeners, get the copy
+			final Serializable snapshot = session.getPersistenceContextInternal().getSnapshot( (PersistentCollection) library.tags );
+			assertThat( snapshot, instanceOf( List.class ) );
+			assertEquals( 2, ( (List<?>) snapshot ).size() );
+		} );
+	}
+
+	private static CollectionEntry entry(SessionImplementor session, Object collection) {
+		return session.getPersistenceContextInternal().getCollectionEntry( (PersistentCollection) collection );
+	}
+
+	private static void assertUncopied(SessionImplementor session, Object collection) {
+		assertTrue( entry( session, collection ).isSnapshotUncopied() );
+	}
+
+	@Entity(name = "Library")
+	public static class Library {
+		@Id
+		private Integer id;
+
+		@OneToMany(mappedBy = "library", cascade = CascadeType.ALL, orphanRemoval = true)
+		private Set<Book> books = new HashSet<>();
+
+		@ElementCollection
+		private List<String> tags = new ArrayList<>();
+
+		@ElementCollection
+		private Set<Address> addresses = new HashSet<>();
+
+		public Library() {
+		}
+
+		public Library(Integer id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Integer id;
+
+		private String title;
+
+		@ManyToOne
+		private Library library;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+
+	@Embeddable
+	public static class Address {
+		private String street;
+
+		public Address() {
+		}
+
+		public Address(String street) {
+			this.street = street;
+		}
+	}
+}
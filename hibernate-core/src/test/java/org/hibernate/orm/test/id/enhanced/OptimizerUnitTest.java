@@ -6,6 +6,14 @@
  */
 package org.hibernate.orm.test.id.enhanced;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import org.hibernate.id.IdentifierGeneratorHelper;
 import org.hibernate.id.IntegralDataTypeHolder;
 import org.hibernate.id.enhanced.AccessCallback;
@@ -17,6 +25,7 @@ import org.hibernate.testing.orm.junit.BaseUnitTest;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * {@inheritDoc}
@@ -299,6 +308,74 @@ public class OptimizerUnitTest {
 
 	}
 
+	@Test
+	public void testBasicPooledLoConcurrentOptimizerUsage() {
+		final SourceMock sequence = new SourceMock( 1, 4 );
+		final Optimizer optimizer = buildPooledLoConcurrentOptimizer( 1, 4 );
+
+		assertEquals( 0, sequence.getTimesCalled() );
+		assertEquals( -1, sequence.getCurrentValue() );
+
+		Long next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 1, next.intValue() );
+		assertEquals( 1, sequence.getTimesCalled() );
+		assertEquals( 1, sequence.getCurrentValue() );
+
+		next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 2, next.intValue() );
+		assertEquals( 1, sequence.getTimesCalled() );
+
+		// the value in the middle of the range triggers obtaining the next range
+		next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 3, next.intValue() );
+		assertEquals( 2, sequence.getTimesCalled() );
+		assertEquals( (1+4), sequence.getCurrentValue() );
+
+		next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 4, next.intValue() );
+		assertEquals( 2, sequence.getTimesCalled() );
+
+		// "clock over" to the range obtained ahead of time
+		next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 5, next.intValue() );
+		assertEquals( 2, sequence.getTimesCalled() );
+		assertEquals( (1+4), optimizer.getLastSourceValue().makeValue().intValue() );
+	}
+
+	@Test
+	public void testConcurrentPooledLoConcurrentOptimizerUsage() throws Exception {
+		final int threads = 8;
+		final int valuesPerThread = 10_000;
+		final SourceMock sequence = new SourceMock( 1, 50 );
+		final Optimizer optimizer = buildPooledLoConcurrentOptimizer( 1, 50 );
+
+		final Set<Long> values = ConcurrentHashMap.newKeySet();
+		final ExecutorService executor = Executors.newFixedThreadPool( threads );
+		try {
+			final List<Future<?>> futures = new ArrayList<>();
+			for ( int i = 0; i < threads; i++ ) {
+				futures.add(
+						executor.submit( () -> {
+							for ( int j = 0; j < valuesPerThread; j++ ) {
+								values.add( (Long) optimizer.generate( sequence ) );
+							}
+						} )
+				);
+			}
+			for ( Future<?> future : futures ) {
+				future.get();
+			}
+		}
+		finally {
+			executor.shutdown();
+		}
+
+		// no value handed out twice, and at most one range obtained ahead of time
+		assertEquals( threads * valuesPerThread, values.size() );
+		assertTrue( sequence.getTimesCalled() >= threads * valuesPerThread / 50 );
+		assertTrue( sequence.getTimesCalled() <= threads * valuesPerThread / 50 + 1 );
+	}
+
 	private static Optimizer buildNoneOptimizer(long initial, int increment) {
 		return buildOptimizer( StandardOptimizerDescriptor.NONE, initial, increment );
 	}
@@ -319,6 +396,10 @@ public class OptimizerUnitTest {
 		return buildOptimizer( StandardOptimizerDescriptor.POOLED_LOTL, initial, increment );
 	}
 
+	private static Optimizer buildPooledLoConcurrentOptimizer(long initial, int increment) {
+		return buildOptimizer( StandardOptimizerDescriptor.POOLED_LO_CONCURRENT, initial, increment );
+	}
+
 	private static Optimizer buildOptimizer(
 			StandardOptimizerDescriptor descriptor,
 			long initial,
@@ -0,0 +1,107 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.insertordering;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * The insertions of entities depending on each other keep their original order,
+ * while the insertions of the entities depending on them are still grouped.
+ */
+public class InsertOrderingWithCyclicDependency extends BaseInsertOrderingTest {
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] {
+				Department.class,
+				Employee.class,
+				Badge.class,
+		};
+	}
+
+	@Test
+	public void testBatching() {
+		sessionFactoryScope().inTransaction( session -> {
+			Employee previous = null;
+			for ( int i = 1; i <= 3; i++ ) {
+				// managed by the employee of the previous department
+				final Department department = new Department( i, previous );
+				final Employee employee = new Employee( i, department );
+				session.persist( department );
+				session.persist( employee );
+				session.persist( new Badge( i, employee ) );
+				previous = employee;
+			}
+
+			clearBatches();
+		} );
+
+		verifyContainsBatches( new Batch( "insert into Badge (employee_id, id) values (?, ?)", 3 ) );
+
+		sessionFactoryScope().inTransaction( session -> assertEquals(
+				Integer.valueOf( 2 ),
+				session.get( Badge.class, 2 ).employee.department.id
+		) );
+	}
+
+	@Entity(name = "Department")
+	public static class Department {
+		@Id
+		private Integer id;
+
+		@ManyToOne
+		private Employee manager;
+
+		public Department() {
+		}
+
+		public Department(Integer id, Employee manager) {
+			this.id = id;
+			this.manager = manager;
+		}
+	}
+
+	@Entity(name = "Employee")
+	public static class Employee {
+		@Id
+		private Integer id;
+
+		@ManyToOne
+		private Department department;
+
+		public Employee() {
+		}
+
+		public Employee(Integer id, Department department) {
+			this.id = id;
+			this.department = department;
+		}
+	}
+
+	@Entity(name = "Badge")
+	public static class Badge {
+		@Id
+		private Integer id;
+
+		@ManyToOne
+		private Employee employee;
+
+		public Badge() {
+		}
+
+		public Badge(Integer id, Employee employee) {
+			this.id = id;
+			this.employee = employee;
+		}
+	}
+}
@@ -39,4 +39,18 @@ public class MathHelperTest {
 		assertThat( MathHelper.ceilingPowerOfTwo( 16 ) ).isEqualTo( 16 );
 	}
 
+	@Test
+	public void ceilingBucket() {
+		final int[] buckets = { 4, 10, 50 };
+		assertThat( MathHelper.ceilingBucket( 1, buckets ) ).isEqualTo( 4 );
+		assertThat( MathHelper.ceilingBucket( 4, buckets ) ).isEqualTo( 4 );
+		assertThat( MathHelper.ceilingBucket( 5, buckets ) ).isEqualTo( 10 );
+		assertThat( MathHelper.ceilingBucket( 50, buckets ) ).isEqualTo( 50 );
+		// capped at the largest bucket
+		assertThat( MathHelper.ceilingBucket( 51, buckets ) ).isEqualTo( 50 );
+		assertThat( MathHelper.ceilingBucket( 1000, buckets ) ).isEqualTo( 50 );
+
+		assertThat( MathHelper.ceilingBucket( 5, null ) ).isEqualTo( 8 );
+	}
+
 }
\ No newline at end of file
@@ -0,0 +1,136 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.jdbc.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+
+import org.hibernate.testing.orm.jdbc.PreparedStatementSpyConnectionProvider;
+import org.hibernate.testing.orm.junit.BaseSessionFactoryFunctionalTest;
+import org.hibernate.testing.orm.junit.DialectFeatureChecks;
+import org.hibernate.testing.orm.junit.RequiresDialectFeature;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests for {@link AvailableSettings#STATEMENT_CACHE_SIZE}
+ */
+@RequiresDialectFeature(feature = DialectFeatureChecks.SupportsJdbcDriverProxying.class)
+public class PreparedStatementCacheTest extends BaseSessionFactoryFunctionalTest {
+
+	private final PreparedStatementSpyConnectionProvider connectionProvider = new PreparedStatementSpyConnectionProvider(
+			true,
+			false
+	);
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Person.class };
+	}
+
+	@Override
+	protected void applySettings(StandardServiceRegistryBuilder builder) {
+		builder.applySetting( AvailableSettings.STATEMENT_CACHE_SIZE, "10" );
+		ConnectionProvider connectionProvider = (ConnectionProvider) builder.getSettings()
+				.get( AvailableSettings.CONNECTION_PROVIDER );
+		this.connectionProvider.setConnectionProvider( connectionProvider );
+		builder.applySetting( AvailableSettings.CONNECTION_PROVIDER, this.connectionProvider );
+	}
+
+	@AfterAll
+	public void releaseResources() {
+		connectionProvider.stop();
+	}
+
+	@BeforeEach
+	public void setUp() {
+		sessionFactoryScope().inTransaction( session -> {
+			if ( session.get( Person.class, 1 ) == null ) {
+				session.persist( new Person( 1, "John Doe" ) );
+			}
+		} );
+	}
+
+	@Test
+	public void testStatementIsReusedWithinConnection() throws SQLException {
+		connectionProvider.clear();
+		sessionFactoryScope().inTransaction( session -> {
+			for ( int i = 0; i < 3; i++ ) {
+				assertNotNull( session.get( Person.class, 1 ) );
+				session.clear();
+			}
+
+			final PreparedStatement select = getSelectStatement();
+			try {
+				verify( select, times( 3 ) ).executeQuery();
+				verify( select, never() ).close();
+			}
+			catch (SQLException e) {
+				throw new RuntimeException( e );
+			}
+		} );
+
+		// the cached statement is closed when the connection is released
+		verify( getSelectStatement(), times( 1 ) ).close();
+	}
+
+	@Test
+	public void testStatementIsNotSharedAcrossConnections() {
+		connectionProvider.clear();
+		sessionFactoryScope().inTransaction( session -> assertNotNull( session.get( Person.class, 1 ) ) );
+		sessionFactoryScope().inTransaction( session -> assertNotNull( session.get( Person.class, 1 ) ) );
+
+		assertEquals( 2, getSelectStatements().size() );
+	}
+
+	private PreparedStatement getSelectStatement() {
+		final List<PreparedStatement> preparedStatements = getSelectStatements();
+		assertEquals( 1, preparedStatements.size() );
+		return preparedStatements.get( 0 );
+	}
+
+	private List<PreparedStatement> getSelectStatements() {
+		return connectionProvider.getPreparedSQLStatements()
+				.stream()
+				.filter( sql -> sql.startsWith( "select" ) )
+				.distinct()
+				.flatMap( sql -> connectionProvider.getPreparedStatements( sql ).stream() )
+				.collect( Collectors.toList() );
+	}
+
+	@Entity(name = "Person")
+	public static class Person {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Person() {
+		}
+
+		public Person(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,158 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.loading.multiLoad;
+
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.internal.util.StringHelper;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.hibernate.testing.orm.junit.SettingProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests multi-id loading with {@link AvailableSettings#IN_CLAUSE_ARRAY_BINDING_THRESHOLD}
+ */
+@DomainModel(annotatedClasses = MultiLoadArrayBindingTest.SimpleEntity.class)
+@ServiceRegistry(
+		settings = @Setting(name = AvailableSettings.IN_CLAUSE_ARRAY_BINDING_THRESHOLD, value = "10"),
+		settingProviders = @SettingProvider(
+				provider = MultiLoadArrayBindingTest.TestSettingProvider.class,
+				settingName = AvailableSettings.DIALECT
+		)
+)
+@SessionFactory(useCollectingStatementInspector = true)
+@RequiresDialect(PostgreSQLDialect.class)
+public class MultiLoadArrayBindingTest {
+
+	public static class TestSettingProvider implements SettingProvider.Provider<String> {
+
+		@Override
+		public String getSetting() {
+			return TestDialect.class.getName();
+		}
+	}
+
+	public static class TestDialect extends PostgreSQLDialect {
+		@Override
+		public int getInExpressionCountLimit() {
+			return 50;
+		}
+	}
+
+	@BeforeEach
+	public void before(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 120; i++ ) {
+				session.persist( new SimpleEntity( i, "Entity #" + i ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void after(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createQuery( "delete SimpleEntity" ).executeUpdate() );
+	}
+
+	@Test
+	public void testUnorderedMultiLoad(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			statementInspector.clear();
+
+			final List<SimpleEntity> list = session.byMultipleIds( SimpleEntity.class )
+					.enableOrderedReturn( false )
+					.multiLoad( ids( 100 ) );
+			assertEquals( 100, list.size() );
+
+			// loaded with a single statement, even though the IN list limit of the dialect is 50
+			assertEquals( 1, statementInspector.getSqlQueries().size() );
+			final String sql = statementInspector.getSqlQueries().get( 0 );
+			assertTrue( sql.contains( "=any(?)" ) );
+			assertEquals( 1, StringHelper.countUnquoted( sql, '?' ) );
+		} );
+	}
+
+	@Test
+	public void testOrderedMultiLoad(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			statementInspector.clear();
+
+			final List<SimpleEntity> list = session.byMultipleIds( SimpleEntity.class ).multiLoad( ids( 100 ) );
+			assertEquals( 100, list.size() );
+			for ( int i = 0; i < list.size(); i++ ) {
+				assertEquals( Integer.valueOf( i + 1 ), list.get( i ).getId() );
+			}
+
+			assertEquals( 1, statementInspector.getSqlQueries().size() );
+			assertTrue( statementInspector.getSqlQueries().get( 0 ).contains( "=any(?)" ) );
+		} );
+	}
+
+	@Test
+	public void testBelowThreshold(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			statementInspector.clear();
+
+			final List<SimpleEntity> list = session.byMultipleIds( SimpleEntity.class ).multiLoad( ids( 5 ) );
+			assertEquals( 5, list.size() );
+
+			assertEquals( 1, statementInspector.getSqlQueries().size() );
+			assertEquals( 5, StringHelper.countUnquoted( statementInspector.getSqlQueries().get( 0 ), '?' ) );
+		} );
+	}
+
+	private Integer[] ids(int count) {
+		Integer[] ids = new Integer[count];
+		for ( int i = 1; i <= count; i++ ) {
+			ids[i - 1] = i;
+		}
+		return ids;
+	}
+
+	@Entity(name = "SimpleEntity")
+	public static class SimpleEntity {
+		@Id
+		private Integer id;
+
+		private String text;
+
+		public SimpleEntity() {
+		}
+
+		public SimpleEntity(Integer id, String text) {
+			this.id = id;
+			this.text = text;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getText() {
+			return text;
+		}
+	}
+}
@@ -0,0 +1,207 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.property;
+
+import org.hibernate.PropertyAccessException;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.property.access.internal.PropertyAccessStrategyFieldImpl;
+import org.hibernate.property.access.internal.PropertyAccessStrategyMethodHandleImpl;
+import org.hibernate.property.access.spi.Getter;
+import org.hibernate.property.access.spi.GetterFieldImpl;
+import org.hibernate.property.access.spi.GetterMethodHandleImpl;
+import org.hibernate.property.access.spi.PropertyAccess;
+import org.hibernate.property.access.spi.SetterFieldImpl;
+import org.hibernate.property.access.spi.SetterMethodHandleImpl;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for {@link AvailableSettings#USE_METHOD_HANDLE_PROPERTY_ACCESS}
+ */
+@DomainModel(
+		annotatedClasses = {
+				MethodHandlePropertyAccessTest.FieldAccessEntity.class,
+				MethodHandlePropertyAccessTest.PropertyAccessEntity.class
+		}
+)
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.USE_METHOD_HANDLE_PROPERTY_ACCESS, value = "true"))
+@SessionFactory
+public class MethodHandlePropertyAccessTest {
+
+	@Test
+	public void testAttributesUseMethodHandles(SessionFactoryScope scope) {
+		final EntityPersister propertyAccessPersister = scope.getSessionFactory()
+				.getMetamodel()
+				.entityPersister( PropertyAccessEntity.class );
+		final PropertyAccess propertyAccess = propertyAccessPersister.findAttributeMapping( "name" ).getPropertyAccess();
+		assertEquals( PropertyAccessStrategyMethodHandleImpl.INSTANCE, propertyAccess.getPropertyAccessStrategy() );
+		assertThat( propertyAccess.getGetter(), instanceOf( GetterMethodHandleImpl.class ) );
+		assertThat( propertyAccess.getSetter(), instanceOf( SetterMethodHandleImpl.class ) );
+	}
+
+	@Test
+	public void testFieldsUseReflection(SessionFactoryScope scope) {
+		final EntityPersister fieldAccessPersister = scope.getSessionFactory()
+				.getMetamodel()
+				.entityPersister( FieldAccessEntity.class );
+		final PropertyAccess fieldAccess = fieldAccessPersister.findAttributeMapping( "quantity" ).getPropertyAccess();
+		assertEquals( PropertyAccessStrategyFieldImpl.INSTANCE, fieldAccess.getPropertyAccessStrategy() );
+		assertThat( fieldAccess.getGetter(), instanceOf( GetterFieldImpl.class ) );
+		assertThat( fieldAccess.getSetter(), instanceOf( SetterFieldImpl.class ) );
+	}
+
+	@Test
+	public void testPersistAndLoad(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new FieldAccessEntity( 1, "field", 5 ) );
+			final PropertyAccessEntity entity = new PropertyAccessEntity();
+			entity.setId( 1 );
+			entity.setName( "property" );
+			entity.setQuantity( 7 );
+			session.persist( entity );
+		} );
+
+		scope.inTransaction( session -> {
+			final FieldAccessEntity fieldAccessEntity = session.get( FieldAccessEntity.class, 1 );
+			assertEquals( "field", fieldAccessEntity.name );
+			assertEquals( 5, fieldAccessEntity.quantity );
+			fieldAccessEntity.quantity = 6;
+
+			final PropertyAccessEntity propertyAccessEntity = session.get( PropertyAccessEntity.class, 1 );
+			assertEquals( "property", propertyAccessEntity.getName() );
+			assertEquals( 7, propertyAccessEntity.getQuantity() );
+		} );
+
+		scope.inTransaction( session -> {
+			// the change was detected by dirty checking
+			assertEquals( 6, session.get( FieldAccessEntity.class, 1 ).quantity );
+			session.createQuery( "delete from FieldAccessEntity" ).executeUpdate();
+			session.createQuery( "delete from PropertyAccessEntity" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testNullAssignedToPrimitive() {
+		final PropertyAccess propertyAccess = PropertyAccessStrategyMethodHandleImpl.INSTANCE
+				.buildPropertyAccess( PropertyAccessEntity.class, "quantity", true );
+		assertThrows(
+				PropertyAccessException.class,
+				() -> propertyAccess.getSetter().set( new PropertyAccessEntity(), null )
+		);
+	}
+
+	@Test
+	public void testCheckedExceptionsWrapped() {
+		final PropertyAccess propertyAccess = PropertyAccessStrategyMethodHandleImpl.INSTANCE
+				.buildPropertyAccess( CheckedExceptionBean.class, "value", true );
+		assertThat( propertyAccess.getGetter(), instanceOf( GetterMethodHandleImpl.class ) );
+		assertThat( propertyAccess.getSetter(), instanceOf( SetterMethodHandleImpl.class ) );
+
+		final PropertyAccessException getterException = assertThrows(
+				PropertyAccessException.class,
+				() -> propertyAccess.getGetter().get( new CheckedExceptionBean() )
+		);
+		assertThat( getterException.getCause(), instanceOf( CheckedException.class ) );
+
+		final PropertyAccessException setterException = assertThrows(
+				PropertyAccessException.class,
+				() -> propertyAccess.getSetter().set( new CheckedExceptionBean(), "value" )
+		);
+		assertThat( setterException.getCause(), instanceOf( CheckedException.class ) );
+	}
+
+	@Test
+	public void testSerialization() {
+		final PropertyAccess propertyAccess = PropertyAccessStrategyMethodHandleImpl.INSTANCE
+				.buildPropertyAccess( PropertyAccessEntity.class, "name", true );
+		final Getter getter = (Getter) SerializationHelper.clone( propertyAccess.getGetter() );
+		assertThat( getter, instanceOf( GetterMethodHandleImpl.class ) );
+
+		final PropertyAccessEntity entity = new PropertyAccessEntity();
+		entity.setName( "serialized" );
+		assertEquals( "serialized", getter.get( entity ) );
+	}
+
+	public static class CheckedException extends Exception {
+	}
+
+	public static class CheckedExceptionBean {
+		public String getValue() throws CheckedException {
+			throw new CheckedException();
+		}
+
+		public void setValue(String value) throws CheckedException {
+			throw new CheckedException();
+		}
+	}
+
+	@Entity(name = "FieldAccessEntity")
+	public static class FieldAccessEntity {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		private int quantity;
+
+		public FieldAccessEntity() {
+		}
+
+		public FieldAccessEntity(Integer id, String name, int quantity) {
+			this.id = id;
+			this.name = name;
+			this.quantity = quantity;
+		}
+	}
+
+	@Entity(name = "PropertyAccessEntity")
+	public static class PropertyAccessEntity {
+		private Integer id;
+		private String name;
+		private int quantity;
+
+		@Id
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		protected void setName(String name) {
+			this.name = name;
+		}
+
+		public int getQuantity() {
+			return quantity;
+		}
+
+		private void setQuantity(int quantity) {
+			this.quantity = quantity;
+		}
+	}
+}
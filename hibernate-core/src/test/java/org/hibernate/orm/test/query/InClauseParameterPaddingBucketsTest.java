@@ -0,0 +1,151 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.jdbc.DefaultSQLStatementInspectorSettingProvider;
+import org.hibernate.testing.orm.junit.EntityManagerFactoryScope;
+import org.hibernate.testing.orm.junit.Jpa;
+import org.hibernate.testing.orm.junit.Setting;
+import org.hibernate.testing.orm.junit.SettingProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link AvailableSettings#IN_CLAUSE_PARAMETER_PADDING_BUCKETS}
+ */
+@Jpa(
+		annotatedClasses = { InClauseParameterPaddingBucketsTest.Person.class },
+		integrationSettings = {
+				@Setting(name = AvailableSettings.IN_CLAUSE_PARAMETER_PADDING, value = "true"),
+				@Setting(name = AvailableSettings.IN_CLAUSE_PARAMETER_PADDING_BUCKETS, value = "4, 10")
+		},
+		settingProviders = {
+				@SettingProvider(
+						settingName = AvailableSettings.STATEMENT_INSPECTOR,
+						provider = DefaultSQLStatementInspectorSettingProvider.class
+				)
+		}
+)
+public class InClauseParameterPaddingBucketsTest {
+
+	@BeforeEach
+	protected void createTestData(EntityManagerFactoryScope scope) {
+		scope.inTransaction( entityManager -> {
+			for ( int i = 1; i < 12; i++ ) {
+				Person person = new Person();
+				person.setId( i );
+				person.setName( String.format( "Person nr %d", i ) );
+
+				entityManager.persist( person );
+			}
+		} );
+	}
+
+	@AfterEach
+	protected void dropTestData(EntityManagerFactoryScope scope) {
+		scope.inTransaction( entityManager -> entityManager.createQuery( "delete from Person" ).executeUpdate() );
+	}
+
+	@Test
+	public void testInClauseParameterPaddingBuckets(EntityManagerFactoryScope scope) {
+		validateHqlPadding( scope, "in(?,?)", 1, 2 );
+		validateHqlPadding( scope, "in(?,?,?,?)", 1, 2, 3 );
+		validateHqlPadding( scope, "in(?,?,?,?,?,?,?,?,?,?)", 1, 2, 3, 4, 5 );
+		validateHqlPadding( scope, "in(?,?,?,?,?,?,?,?,?,?)", 1, 2, 3, 4, 5, 6, 7, 8, 9, 10 );
+		// the interpretation for the same bucket is reused
+		validateHqlPadding( scope, "in(?,?,?,?,?,?,?,?,?,?)", 4, 5, 6, 7, 8, 9 );
+		validateHqlPadding( scope, "in(?,?,?,?)", 9, 10, 11 );
+		// larger than the last bucket - not padded
+		validateHqlPadding( scope, "in(?,?,?,?,?,?,?,?,?,?,?)", 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11 );
+	}
+
+	@Test
+	public void testNativeQueryInClauseParameterPaddingBuckets(EntityManagerFactoryScope scope) {
+		validateNativePadding( scope, "in (?,?,?,?)", 1, 2, 3 );
+		validateNativePadding( scope, "in (?,?,?,?,?,?,?,?,?,?)", 1, 2, 3, 4, 5 );
+		// the plan for the same expansion is reused
+		validateNativePadding( scope, "in (?,?,?,?,?,?,?,?,?,?)", 4, 5, 6, 7, 8, 9 );
+		validateNativePadding( scope, "in (?,?,?,?)", 9, 10, 11 );
+	}
+
+	private void validateHqlPadding(
+			EntityManagerFactoryScope scope,
+			String expectedInClause,
+			Integer... ids) {
+		final SQLStatementInspector sqlStatementInterceptor = scope.getStatementInspector( SQLStatementInspector.class );
+		sqlStatementInterceptor.clear();
+
+		scope.inTransaction( entityManager -> {
+			final List<?> results = entityManager.createQuery(
+							"select p " +
+									"from Person p " +
+									"where p.id in :ids" )
+					.setParameter( "ids", Arrays.asList( ids ) )
+					.getResultList();
+			assertEquals( ids.length, results.size() );
+		} );
+
+		assertTrue( sqlStatementInterceptor.getSqlQueries().get( 0 ).endsWith( expectedInClause ) );
+	}
+
+	private void validateNativePadding(
+			EntityManagerFactoryScope scope,
+			String expectedInClause,
+			Integer... ids) {
+		final SQLStatementInspector sqlStatementInterceptor = scope.getStatementInspector( SQLStatementInspector.class );
+		sqlStatementInterceptor.clear();
+
+		scope.inTransaction( entityManager -> {
+			final List<?> results = entityManager.createNativeQuery(
+							"select p.id from Person p where p.id in :ids" )
+					.setParameter( "ids", Arrays.asList( ids ) )
+					.getResultList();
+			assertEquals( ids.length, results.size() );
+		} );
+
+		assertTrue( sqlStatementInterceptor.getSqlQueries().get( 0 ).endsWith( expectedInClause ) );
+	}
+
+	@Entity(name = "Person")
+	public static class Person {
+
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+
+}
@@ -0,0 +1,185 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.internal.util.StringHelper;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests IN predicates of queries rendered as a comparison with a single array parameter
+ * because of {@link AvailableSettings#IN_CLAUSE_ARRAY_BINDING_THRESHOLD}
+ */
+@DomainModel(annotatedClasses = InListArrayBindingTest.SimpleEntity.class)
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.IN_CLAUSE_ARRAY_BINDING_THRESHOLD, value = "10"))
+@SessionFactory(useCollectingStatementInspector = true)
+@RequiresDialect(PostgreSQLDialect.class)
+public class InListArrayBindingTest {
+
+	@BeforeEach
+	public void before(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 120; i++ ) {
+				session.persist( new SimpleEntity( i, "Entity #" + i ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void after(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createQuery( "delete SimpleEntity" ).executeUpdate() );
+	}
+
+	@Test
+	public void testInList(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			statementInspector.clear();
+
+			final List<Integer> list = session.createQuery(
+							"select e.id from SimpleEntity e where e.id in :ids order by e.id",
+							Integer.class
+					)
+					.setParameter( "ids", ids( 2, 100 ) )
+					.list();
+			assertEquals( ids( 2, 100 ), list );
+
+			assertEquals( 1, statementInspector.getSqlQueries().size() );
+			final String sql = statementInspector.getSqlQueries().get( 0 );
+			assertTrue( sql.contains( "=any(?)" ) );
+			assertEquals( 1, StringHelper.countUnquoted( sql, '?' ) );
+
+			// the bound array was freed along with the statement
+			assertNoRegisteredResources( session );
+		} );
+	}
+
+	@Test
+	public void testNotInList(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			statementInspector.clear();
+
+			final List<Integer> list = session.createQuery(
+							"select e.id from SimpleEntity e where e.id not in :ids order by e.id",
+							Integer.class
+					)
+					.setParameter( "ids", ids( 1, 110 ) )
+					.list();
+			assertEquals( ids( 111, 120 ), list );
+
+			assertEquals( 1, statementInspector.getSqlQueries().size() );
+			final String sql = statementInspector.getSqlQueries().get( 0 );
+			assertTrue( sql.contains( "<>all(?)" ) );
+			assertEquals( 1, StringHelper.countUnquoted( sql, '?' ) );
+
+			assertNoRegisteredResources( session );
+		} );
+	}
+
+	@Test
+	public void testMutation(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			statementInspector.clear();
+
+			final int updated = session.createQuery( "update SimpleEntity e set e.text = 'updated' where e.id in :ids" )
+					.setParameter( "ids", ids( 1, 50 ) )
+					.executeUpdate();
+			assertEquals( 50, updated );
+
+			assertEquals( 1, statementInspector.getSqlQueries().size() );
+			assertTrue( statementInspector.getSqlQueries().get( 0 ).contains( "=any(?)" ) );
+
+			assertNoRegisteredResources( session );
+		} );
+	}
+
+	@Test
+	public void testBelowThreshold(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			statementInspector.clear();
+
+			final List<Integer> list = session.createQuery(
+							"select e.id from SimpleEntity e where e.id in :ids order by e.id",
+							Integer.class
+					)
+					.setParameter( "ids", ids( 1, 5 ) )
+					.list();
+			assertEquals( ids( 1, 5 ), list );
+
+			assertEquals( 1, statementInspector.getSqlQueries().size() );
+			final String sql = statementInspector.getSqlQueries().get( 0 );
+			assertFalse( sql.contains( "=any(?)" ) );
+			assertEquals( 5, StringHelper.countUnquoted( sql, '?' ) );
+		} );
+	}
+
+	private static void assertNoRegisteredResources(SessionImplementor session) {
+		assertFalse(
+				session.getJdbcCoordinator()
+						.getLogicalConnection()
+						.getResourceRegistry()
+						.hasRegisteredResources()
+		);
+	}
+
+	private static List<Integer> ids(int first, int last) {
+		final List<Integer> ids = new ArrayList<>( last - first + 1 );
+		for ( int i = first; i <= last; i++ ) {
+			ids.add( i );
+		}
+		return ids;
+	}
+
+	@Entity(name = "SimpleEntity")
+	public static class SimpleEntity {
+		@Id
+		private Integer id;
+
+		private String text;
+
+		public SimpleEntity() {
+		}
+
+		public SimpleEntity(Integer id, String text) {
+			this.id = id;
+			this.text = text;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getText() {
+			return text;
+		}
+	}
+}
@@ -0,0 +1,218 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.sql.ast.SqlAstTranslator;
+import org.hibernate.sql.ast.SqlAstTranslatorFactory;
+import org.hibernate.sql.ast.tree.delete.DeleteStatement;
+import org.hibernate.sql.ast.tree.insert.InsertStatement;
+import org.hibernate.sql.ast.tree.select.SelectStatement;
+import org.hibernate.sql.ast.tree.update.UpdateStatement;
+import org.hibernate.sql.exec.spi.JdbcDelete;
+import org.hibernate.sql.exec.spi.JdbcInsert;
+import org.hibernate.sql.exec.spi.JdbcSelect;
+import org.hibernate.sql.exec.spi.JdbcUpdate;
+
+import org.hibernate.testing.orm.junit.EntityManagerFactoryScope;
+import org.hibernate.testing.orm.junit.Jpa;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.SettingProvider;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Id;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.TypedQuery;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests that repeated executions of a cached query plan, which alternate between the
+ * execution shapes (number of values bound to a parameter list, presence of limit/offset,
+ * lock mode), do not translate the SQL AST again
+ */
+@RequiresDialect(H2Dialect.class)
+@Jpa(
+		annotatedClasses = InterpretationShapeCachingTest.Person.class,
+		settingProviders = @SettingProvider(
+				settingName = AvailableSettings.DIALECT,
+				provider = InterpretationShapeCachingTest.DialectProvider.class
+		)
+)
+public class InterpretationShapeCachingTest {
+
+	private static final String QUERY = "select p from Person p where p.name like :name order by p.id";
+	private static final String IN_LIST_QUERY = "select p from Person p where p.id in :ids";
+
+	public static class DialectProvider implements SettingProvider.Provider<String> {
+		@Override
+		public String getSetting() {
+			return TranslationCountingH2Dialect.class.getName();
+		}
+	}
+
+	@BeforeAll
+	public void createTestData(EntityManagerFactoryScope scope) {
+		scope.inTransaction( entityManager -> {
+			for ( int i = 0; i < 10; i++ ) {
+				entityManager.persist( new Person( i, "Person nr " + i ) );
+			}
+		} );
+	}
+
+	@Test
+	public void testPaginatedExecutionsSkipTranslation(EntityManagerFactoryScope scope) {
+		scope.inTransaction( entityManager -> {
+			// warm up both shapes
+			assertEquals( 10, list( entityManager, null, null ) );
+			assertEquals( 3, list( entityManager, 2, 3 ) );
+
+			final int translations = TranslationCountingH2Dialect.SELECT_TRANSLATIONS.get();
+			for ( int i = 0; i < 5; i++ ) {
+				assertEquals( 10, list( entityManager, null, null ) );
+				assertEquals( 2, list( entityManager, i, 2 ) );
+			}
+			assertEquals( translations, TranslationCountingH2Dialect.SELECT_TRANSLATIONS.get() );
+		} );
+	}
+
+	@Test
+	public void testLockedExecutionsSkipTranslation(EntityManagerFactoryScope scope) {
+		scope.inTransaction( entityManager -> {
+			// warm up both shapes
+			assertEquals( 10, listLocked( entityManager, null ) );
+			assertEquals( 4, listLocked( entityManager, 4 ) );
+
+			final int translations = TranslationCountingH2Dialect.SELECT_TRANSLATIONS.get();
+			for ( int i = 1; i < 5; i++ ) {
+				assertEquals( 10, listLocked( entityManager, null ) );
+				assertEquals( i, listLocked( entityManager, i ) );
+			}
+			assertEquals( translations, TranslationCountingH2Dialect.SELECT_TRANSLATIONS.get() );
+		} );
+	}
+
+	@Test
+	public void testParameterListExecutionsSkipTranslation(EntityManagerFactoryScope scope) {
+		scope.inTransaction( entityManager -> {
+			// warm up both shapes
+			assertEquals( 3, listIn( entityManager, 3 ) );
+			assertEquals( 5, listIn( entityManager, 5 ) );
+
+			final int translations = TranslationCountingH2Dialect.SELECT_TRANSLATIONS.get();
+			for ( int i = 0; i < 5; i++ ) {
+				assertEquals( 3, listIn( entityManager, 3 ) );
+				assertEquals( 5, listIn( entityManager, 5 ) );
+			}
+			assertEquals( translations, TranslationCountingH2Dialect.SELECT_TRANSLATIONS.get() );
+
+			// a different number of values needs its own translation
+			assertEquals( 4, listIn( entityManager, 4 ) );
+			assertEquals( translations + 1, TranslationCountingH2Dialect.SELECT_TRANSLATIONS.get() );
+		} );
+	}
+
+	private static int listIn(EntityManager entityManager, int count) {
+		final List<Integer> ids = new ArrayList<>( count );
+		for ( int i = 0; i < count; i++ ) {
+			ids.add( i );
+		}
+		return entityManager.createQuery( IN_LIST_QUERY, Person.class )
+				.setParameter( "ids", ids )
+				.getResultList()
+				.size();
+	}
+
+	private static int list(EntityManager entityManager, Integer firstResult, Integer maxResults) {
+		final TypedQuery<Person> query = entityManager.createQuery( QUERY, Person.class )
+				.setParameter( "name", "Person%" );
+		if ( firstResult != null ) {
+			query.setFirstResult( firstResult );
+		}
+		if ( maxResults != null ) {
+			query.setMaxResults( maxResults );
+		}
+		return query.getResultList().size();
+	}
+
+	private static int listLocked(EntityManager entityManager, Integer maxResults) {
+		final TypedQuery<Person> query = entityManager.createQuery( QUERY, Person.class )
+				.setParameter( "name", "Person%" )
+				.setLockMode( LockModeType.PESSIMISTIC_WRITE );
+		if ( maxResults != null ) {
+			query.setMaxResults( maxResults );
+		}
+		return query.getResultList().size();
+	}
+
+	@Entity(name = "Person")
+	public static class Person {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Person() {
+		}
+
+		public Person(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	public static class TranslationCountingH2Dialect extends H2Dialect {
+		static final AtomicInteger SELECT_TRANSLATIONS = new AtomicInteger();
+
+		public TranslationCountingH2Dialect() {
+		}
+
+		@Override
+		public SqlAstTranslatorFactory getSqlAstTranslatorFactory() {
+			final SqlAstTranslatorFactory delegate = super.getSqlAstTranslatorFactory();
+			return new SqlAstTranslatorFactory() {
+				@Override
+				public SqlAstTranslator<JdbcSelect> buildSelectTranslator(
+						SessionFactoryImplementor sessionFactory,
+						SelectStatement statement) {
+					SELECT_TRANSLATIONS.incrementAndGet();
+					return delegate.buildSelectTranslator( sessionFactory, statement );
+				}
+
+				@Override
+				public SqlAstTranslator<JdbcDelete> buildDeleteTranslator(
+						SessionFactoryImplementor sessionFactory,
+						DeleteStatement statement) {
+					return delegate.buildDeleteTranslator( sessionFactory, statement );
+				}
+
+				@Override
+				public SqlAstTranslator<JdbcInsert> buildInsertTranslator(
+						SessionFactoryImplementor sessionFactory,
+						InsertStatement statement) {
+					return delegate.buildInsertTranslator( sessionFactory, statement );
+				}
+
+				@Override
+				public SqlAstTranslator<JdbcUpdate> buildUpdateTranslator(
+						SessionFactoryImplementor sessionFactory,
+						UpdateStatement statement) {
+					return delegate.buildUpdateTranslator( sessionFactory, statement );
+				}
+			};
+		}
+	}
+}
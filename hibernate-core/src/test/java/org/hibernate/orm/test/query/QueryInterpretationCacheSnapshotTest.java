@@ -0,0 +1,135 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.query;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.spi.QueryInterpretationCache;
+
+import org.hibernate.testing.orm.junit.BaseUnitTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link AvailableSettings#QUERY_PLAN_CACHE_SNAPSHOT_FILE}
+ */
+@BaseUnitTest
+public class QueryInterpretationCacheSnapshotTest {
+	private static final String QUERY = "select p.name from Person p where p.id = :id";
+
+	@Test
+	public void testSnapshotRestoredAtStartup(@TempDir Path directory) {
+		final Path snapshotFile = directory.resolve( "hql.snapshot" );
+
+		try ( SessionFactoryImplementor sessionFactory = buildSessionFactory( snapshotFile, Person.class ) ) {
+			assertThat( sessionFactory.getQueryEngine().getInterpretationCache().getNumberOfCachedHqlInterpretations() )
+					.isEqualTo( 0 );
+			sessionFactory.inSession( session -> session.createQuery( QUERY ) );
+		}
+		assertThat( Files.exists( snapshotFile ) ).isTrue();
+
+		try ( SessionFactoryImplementor sessionFactory = buildSessionFactory( snapshotFile, Person.class ) ) {
+			final QueryInterpretationCache interpretationCache = sessionFactory.getQueryEngine().getInterpretationCache();
+			assertThat( interpretationCache.getCachedHqlQueryStrings() ).containsExactly( QUERY );
+		}
+	}
+
+	@Test
+	public void testSnapshotIgnoredForDifferentDomainModel(@TempDir Path directory) {
+		final Path snapshotFile = directory.resolve( "hql.snapshot" );
+
+		try ( SessionFactoryImplementor sessionFactory = buildSessionFactory( snapshotFile, Person.class ) ) {
+			sessionFactory.inSession( session -> session.createQuery( QUERY ) );
+		}
+
+		try ( SessionFactoryImplementor sessionFactory = buildSessionFactory( snapshotFile, Person.class, Address.class ) ) {
+			assertThat( sessionFactory.getQueryEngine().getInterpretationCache().getNumberOfCachedHqlInterpretations() )
+					.isEqualTo( 0 );
+		}
+	}
+
+	@Test
+	public void testCorruptSnapshotDiscarded(@TempDir Path directory) throws IOException {
+		final Path snapshotFile = directory.resolve( "hql.snapshot" );
+
+		try ( SessionFactoryImplementor sessionFactory = buildSessionFactory( snapshotFile, Person.class ) ) {
+			sessionFactory.inSession( session -> session.createQuery( QUERY ) );
+		}
+
+		// magic, format version, the hash (2 bytes length + 64 hex digits) and the query string count
+		// precede the length of the first query string
+		final byte[] bytes = Files.readAllBytes( snapshotFile );
+		ByteBuffer.wrap( bytes ).putInt( 4 + 4 + 2 + 64 + 4, Integer.MAX_VALUE );
+		Files.write( snapshotFile, bytes );
+
+		try ( SessionFactoryImplementor sessionFactory = buildSessionFactory( snapshotFile, Person.class ) ) {
+			assertThat( sessionFactory.getQueryEngine().getInterpretationCache().getNumberOfCachedHqlInterpretations() )
+					.isEqualTo( 0 );
+		}
+	}
+
+	@Test
+	public void testTruncatedSnapshotDiscarded(@TempDir Path directory) throws IOException {
+		final Path snapshotFile = directory.resolve( "hql.snapshot" );
+
+		try ( SessionFactoryImplementor sessionFactory = buildSessionFactory( snapshotFile, Person.class ) ) {
+			sessionFactory.inSession( session -> session.createQuery( QUERY ) );
+		}
+
+		final byte[] bytes = Files.readAllBytes( snapshotFile );
+		Files.write( snapshotFile, Arrays.copyOf( bytes, bytes.length - 3 ) );
+
+		try ( SessionFactoryImplementor sessionFactory = buildSessionFactory( snapshotFile, Person.class ) ) {
+			assertThat( sessionFactory.getQueryEngine().getInterpretationCache().getNumberOfCachedHqlInterpretations() )
+					.isEqualTo( 0 );
+		}
+	}
+
+	private static SessionFactoryImplementor buildSessionFactory(Path snapshotFile, Class<?>... annotatedClasses) {
+		final StandardServiceRegistry ssr = new StandardServiceRegistryBuilder()
+				.applySetting( AvailableSettings.QUERY_PLAN_CACHE_SNAPSHOT_FILE, snapshotFile.toString() )
+				.build();
+		try {
+			final MetadataSources metadataSources = new MetadataSources( ssr );
+			for ( Class<?> annotatedClass : annotatedClasses ) {
+				metadataSources.addAnnotatedClass( annotatedClass );
+			}
+			return (SessionFactoryImplementor) metadataSources.buildMetadata().buildSessionFactory();
+		}
+		catch (RuntimeException e) {
+			StandardServiceRegistryBuilder.destroy( ssr );
+			throw e;
+		}
+	}
+
+	@Entity(name = "Person")
+	public static class Person {
+		@Id
+		private Integer id;
+		private String name;
+	}
+
+	@Entity(name = "Address")
+	public static class Address {
+		@Id
+		private Integer id;
+		private String street;
+	}
+}
@@ -0,0 +1,94 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.query.named;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.NamedQueries;
+import jakarta.persistence.NamedQuery;
+
+import org.hibernate.HibernateException;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import org.hibernate.testing.orm.junit.BaseUnitTest;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for {@link AvailableSettings#QUERY_STARTUP_CHECKING_PARALLELISM}
+ */
+@BaseUnitTest
+public class ParallelNamedQueryCheckingTest {
+
+	@Test
+	public void testValidNamedQueries() {
+		try ( SessionFactoryImplementor sessionFactory = buildSessionFactory( Person.class ) ) {
+			assertThat( sessionFactory.getSessionFactoryOptions().getNamedQueryStartupCheckingParallelism() )
+					.isEqualTo( 4 );
+			assertThat( sessionFactory.getQueryEngine().getInterpretationCache().getNumberOfCachedHqlInterpretations() )
+					.isEqualTo( 4 );
+		}
+	}
+
+	@Test
+	public void testInvalidNamedQueries() {
+		final HibernateException exception = assertThrows(
+				HibernateException.class,
+				() -> buildSessionFactory( Person.class, Broken.class ).close()
+		);
+		// errors are reported in query name order, whatever order the queries were checked in
+		assertThat( exception.getMessage() ).isEqualTo( "Errors in named queries: Broken.a, Broken.b" );
+		assertThat( exception.getSuppressed() ).hasSize( 2 );
+	}
+
+	private static SessionFactoryImplementor buildSessionFactory(Class<?>... annotatedClasses) {
+		final StandardServiceRegistry ssr = new StandardServiceRegistryBuilder()
+				.applySetting( AvailableSettings.QUERY_STARTUP_CHECKING_PARALLELISM, "4" )
+				.build();
+		try {
+			final MetadataSources metadataSources = new MetadataSources( ssr );
+			for ( Class<?> annotatedClass : annotatedClasses ) {
+				metadataSources.addAnnotatedClass( annotatedClass );
+			}
+			return (SessionFactoryImplementor) metadataSources.buildMetadata().buildSessionFactory();
+		}
+		catch (RuntimeException e) {
+			StandardServiceRegistryBuilder.destroy( ssr );
+			throw e;
+		}
+	}
+
+	@Entity(name = "Person")
+	@NamedQueries({
+			@NamedQuery(name = "Person.all", query = "from Person"),
+			@NamedQuery(name = "Person.byId", query = "from Person p where p.id = :id"),
+			@NamedQuery(name = "Person.byName", query = "from Person p where p.name = :name"),
+			@NamedQuery(name = "Person.names", query = "select p.name from Person p order by p.name")
+	})
+	public static class Person {
+		@Id
+		private Integer id;
+		private String name;
+	}
+
+	@Entity(name = "Broken")
+	@NamedQueries({
+			@NamedQuery(name = "Broken.b", query = "from Broken b where b.unknown = 1"),
+			@NamedQuery(name = "Broken.a", query = "from Unknown"),
+			@NamedQuery(name = "Broken.ok", query = "from Broken")
+	})
+	public static class Broken {
+		@Id
+		private Integer id;
+	}
+}
@@ -0,0 +1,111 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.query.results;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import jakarta.persistence.Tuple;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link org.hibernate.query.Query#stream()}, which streams non-entity
+ * results directly from the JDBC results
+ */
+@DomainModel( annotatedClasses = SimpleEntity.class )
+@SessionFactory
+public class StreamingResultsTests {
+	@BeforeEach
+	public void prepareTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			for ( int i = 1; i <= 20; i++ ) {
+				session.save( new SimpleEntity( i, "name " + i, new SimpleComposite( "a" + i, "b" + i ) ) );
+			}
+		});
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			session.createQuery( "delete SimpleEntity" ).executeUpdate();
+		});
+	}
+
+	@Test
+	public void testStreamScalars(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			try ( Stream<Integer> stream = session.createQuery( "select id from SimpleEntity order by id", Integer.class ).stream() ) {
+				final List<Integer> ids = stream.collect( Collectors.toList() );
+				assertThat( ids ).hasSize( 20 );
+				assertThat( ids.get( 0 ) ).isEqualTo( 1 );
+				assertThat( ids.get( 19 ) ).isEqualTo( 20 );
+			}
+			assertThat( session.getPersistenceContext().getNumberOfManagedEntities() ).isEqualTo( 0 );
+		});
+	}
+
+	@Test
+	public void testStreamTuples(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final String qry = "select id as id, name as name, composite as composite from SimpleEntity order by id";
+			try ( Stream<Tuple> stream = session.createQuery( qry, Tuple.class ).getResultStream() ) {
+				final List<Tuple> tuples = stream.collect( Collectors.toList() );
+				assertThat( tuples ).hasSize( 20 );
+
+				final Tuple first = tuples.get( 0 );
+				assertThat( first.get( "id" ) ).isEqualTo( 1 );
+				assertThat( first.get( "name" ) ).isEqualTo( "name 1" );
+				assertThat( first.get( "composite", SimpleComposite.class ).value1 ).isEqualTo( "a1" );
+			}
+			assertThat( session.getPersistenceContext().getNumberOfManagedEntities() ).isEqualTo( 0 );
+		});
+	}
+
+	@Test
+	public void testPartiallyConsumedStream(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			try ( Stream<String> stream = session.createQuery( "select name from SimpleEntity order by id", String.class ).stream() ) {
+				assertThat( stream.limit( 5 ).count() ).isEqualTo( 5L );
+			}
+
+			// the session must still be usable after closing the partially consumed stream
+			assertThat( session.createQuery( "select count(*) from SimpleEntity", Long.class ).getSingleResult() )
+					.isEqualTo( 20L );
+		});
+	}
+
+	@Test
+	public void testStreamEntities(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			try ( Stream<SimpleEntity> stream = session.createQuery( "from SimpleEntity order by id", SimpleEntity.class ).stream() ) {
+				final List<SimpleEntity> entities = stream.collect( Collectors.toList() );
+				assertThat( entities ).hasSize( 20 );
+				assertThat( entities.get( 0 ).name ).isEqualTo( "name 1" );
+				assertThat( session.contains( entities.get( 0 ) ) ).isTrue();
+			}
+		});
+	}
+
+	@Test
+	public void testStreamWithZeroMaxResults(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			try ( Stream<Integer> stream = session.createQuery( "select id from SimpleEntity", Integer.class )
+					.setMaxResults( 0 )
+					.stream() ) {
+				assertThat( stream.count() ).isEqualTo( 0L );
+			}
+		});
+	}
+}
@@ -0,0 +1,145 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.querycache;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import org.hibernate.cache.internal.ColumnarQueryResults;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link AvailableSettings#QUERY_CACHE_COLUMNAR_ENTRIES}
+ */
+@DomainModel(annotatedClasses = ColumnarQueryCacheTest.Product.class)
+@ServiceRegistry(
+		settings = {
+				@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+				@Setting(name = AvailableSettings.USE_QUERY_CACHE, value = "true"),
+				@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true"),
+				@Setting(name = AvailableSettings.QUERY_CACHE_COLUMNAR_ENTRIES, value = "true"),
+				@Setting(name = AvailableSettings.QUERY_CACHE_COMPRESS_ENTRIES, value = "true")
+		}
+)
+@SessionFactory
+public class ColumnarQueryCacheTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createQuery( "delete from Product" ).executeUpdate() );
+	}
+
+	@Test
+	public void testCachedResultsAreDecoded(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 20; i++ ) {
+				session.persist( new Product( (long) i, "category" + ( i % 3 ), i % 5 == 0 ? null : i * 1.5, i % 2 == 0 ) );
+			}
+		} );
+
+		final String hql = "select p.id, p.category, p.price, p.available from Product p order by p.id";
+		final List<Object[]> results = scope.fromSession(
+				session -> session.createQuery( hql, Object[].class ).setCacheable( true ).list()
+		);
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		final List<Object[]> cachedResults = scope.fromSession(
+				session -> session.createQuery( hql, Object[].class ).setCacheable( true ).list()
+		);
+		assertEquals( 1, statistics.getQueryCacheHitCount() );
+		assertEquals( results.size(), cachedResults.size() );
+		for ( int i = 0; i < results.size(); i++ ) {
+			assertArrayEquals( results.get( i ), cachedResults.get( i ) );
+		}
+	}
+
+	@Test
+	public void testEncodingRoundTrip() {
+		final List<Object> results = new ArrayList<>();
+		results.add( "metadata" );
+		for ( int i = 0; i < 1000; i++ ) {
+			results.add(
+					new Object[] {
+							(long) i,
+							i % 7 == 0 ? null : i,
+							"status" + ( i % 4 ),
+							i % 3 == 0,
+							i * 0.25,
+							BigDecimal.valueOf( i )
+					}
+			);
+		}
+
+		final ColumnarQueryResults columnarResults = ColumnarQueryResults.encode( results, true );
+		final ColumnarQueryResults deserialized = (ColumnarQueryResults) SerializationHelper.deserialize(
+				SerializationHelper.serialize( columnarResults )
+		);
+
+		final List<Object> decoded = deserialized.decode();
+		assertEquals( results.size(), decoded.size() );
+		assertEquals( "metadata", decoded.get( 0 ) );
+		for ( int i = 1; i < results.size(); i++ ) {
+			assertArrayEquals( (Object[]) results.get( i ), (Object[]) decoded.get( i ) );
+		}
+
+		assertTrue(
+				SerializationHelper.serialize( columnarResults ).length
+						< SerializationHelper.serialize( (Serializable) results ).length / 2
+		);
+	}
+
+	@Test
+	public void testResultsWithUnexpectedLayoutAreNotEncoded() {
+		final List<Object> results = new ArrayList<>();
+		results.add( new Object[] { 1L } );
+		results.add( new Object[] { 1L, 2L } );
+		assertNull( ColumnarQueryResults.encode( results, false ) );
+	}
+
+	@Entity(name = "Product")
+	public static class Product {
+		@Id
+		private Long id;
+
+		private String category;
+
+		private Double price;
+
+		private boolean available;
+
+		public Product() {
+		}
+
+		public Product(Long id, String category, Double price, boolean available) {
+			this.id = id;
+			this.category = category;
+			this.price = price;
+			this.available = available;
+		}
+	}
+}
@@ -0,0 +1,260 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.sql.results;
+
+import java.sql.CallableStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+
+import org.hibernate.annotations.JdbcType;
+import org.hibernate.type.descriptor.ValueExtractor;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.JavaType;
+import org.hibernate.type.descriptor.jdbc.BasicLongExtractor;
+import org.hibernate.type.descriptor.jdbc.BigIntJdbcType;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests for values read through a {@link org.hibernate.type.descriptor.PrimitiveValueExtractor},
+ * which are only wrapped once they are requested as Object
+ */
+@DomainModel(
+		annotatedClasses = {
+				PrimitiveExtractionTests.NumericEntity.class,
+				PrimitiveExtractionTests.VersionedEntity.class
+		}
+)
+@SessionFactory
+public class PrimitiveExtractionTests {
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.persist( new NumericEntity( 1, 10_000_000_000L, 42, (short) 7, (byte) 3, 1.5D, 2.25F ) );
+					session.persist( new NumericEntity( 2, null, null, null, null, null, null ) );
+					for ( int i = 1; i <= 3; i++ ) {
+						session.persist( new VersionedEntity( i, i * 100L ) );
+					}
+				}
+		);
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.createQuery( "delete NumericEntity" ).executeUpdate();
+					session.createQuery( "delete VersionedEntity" ).executeUpdate();
+				}
+		);
+	}
+
+	@Test
+	public void testScalarValues(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final Object[] row = session.createQuery(
+							"select e.theLong, e.theInteger, e.theShort, e.theByte, e.theDouble, e.theFloat from NumericEntity e where e.id = 1",
+							Object[].class
+					).getSingleResult();
+
+					assertThat( row[0], instanceOf( Long.class ) );
+					assertThat( row[0], is( 10_000_000_000L ) );
+					assertThat( row[1], instanceOf( Integer.class ) );
+					assertThat( row[1], is( 42 ) );
+					assertThat( row[2], instanceOf( Short.class ) );
+					assertThat( row[2], is( (short) 7 ) );
+					assertThat( row[3], instanceOf( Byte.class ) );
+					assertThat( row[3], is( (byte) 3 ) );
+					assertThat( row[4], instanceOf( Double.class ) );
+					assertThat( row[4], is( 1.5D ) );
+					assertThat( row[5], instanceOf( Float.class ) );
+					assertThat( row[5], is( 2.25F ) );
+				}
+		);
+	}
+
+	@Test
+	public void testNullValues(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final Object[] row = session.createQuery(
+							"select e.theLong, e.theInteger, e.theShort, e.theByte, e.theDouble, e.theFloat from NumericEntity e where e.id = 2",
+							Object[].class
+					).getSingleResult();
+
+					for ( Object value : row ) {
+						assertThat( value, nullValue() );
+					}
+				}
+		);
+	}
+
+	@Test
+	public void testEntityValues(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final List<NumericEntity> results = session.createQuery(
+							"from NumericEntity e order by e.id",
+							NumericEntity.class
+					).list();
+
+					assertThat( results.size(), is( 2 ) );
+					assertThat( results.get( 0 ).theLong, is( 10_000_000_000L ) );
+					assertThat( results.get( 0 ).theInteger, is( 42 ) );
+					assertThat( results.get( 0 ).theDouble, is( 1.5D ) );
+					assertThat( results.get( 1 ).theLong, nullValue() );
+					assertThat( results.get( 1 ).theInteger, nullValue() );
+					assertThat( results.get( 1 ).theDouble, nullValue() );
+				}
+		);
+	}
+
+	@Test
+	public void testUnconsumedValuesAreNotWrapped(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.createQuery( "from VersionedEntity", VersionedEntity.class ).list();
+					CountingBigIntJdbcType.WRAPPED.set( 0 );
+
+					// the entities are already managed, so their values are read, but not consumed,
+					// and the query is not cached, so its rows are not materialized either
+					final List<Object[]> rows = session.createQuery(
+							"select e.id, e from VersionedEntity e order by e.id",
+							Object[].class
+					).list();
+
+					assertThat( rows.size(), is( 3 ) );
+					assertThat( CountingBigIntJdbcType.WRAPPED.get(), is( 0 ) );
+				}
+		);
+	}
+
+	@Test
+	public void testVersionCheckDoesNotWrap(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.createQuery( "from VersionedEntity", VersionedEntity.class ).list();
+					CountingBigIntJdbcType.WRAPPED.set( 0 );
+
+					// upgrading the lock mode checks the versions of the managed entities
+					final List<VersionedEntity> results = session.createQuery(
+							"from VersionedEntity e order by e.id",
+							VersionedEntity.class
+					).setLockMode( LockModeType.PESSIMISTIC_WRITE ).list();
+
+					assertThat( results.size(), is( 3 ) );
+					assertThat( CountingBigIntJdbcType.WRAPPED.get(), is( 0 ) );
+				}
+		);
+	}
+
+	@Entity( name = "NumericEntity" )
+	@Table( name = "numeric_entity" )
+	public static class NumericEntity {
+		@Id
+		private Integer id;
+		private Long theLong;
+		private Integer theInteger;
+		private Short theShort;
+		private Byte theByte;
+		private Double theDouble;
+		private Float theFloat;
+
+		public NumericEntity() {
+		}
+
+		public NumericEntity(
+				Integer id,
+				Long theLong,
+				Integer theInteger,
+				Short theShort,
+				Byte theByte,
+				Double theDouble,
+				Float theFloat) {
+			this.id = id;
+			this.theLong = theLong;
+			this.theInteger = theInteger;
+			this.theShort = theShort;
+			this.theByte = theByte;
+			this.theDouble = theDouble;
+			this.theFloat = theFloat;
+		}
+	}
+
+	@Entity( name = "VersionedEntity" )
+	@Table( name = "versioned_entity" )
+	public static class VersionedEntity {
+		@Id
+		private Integer id;
+		@Version
+		@JdbcType( CountingBigIntJdbcType.class )
+		private Long version;
+		@JdbcType( CountingBigIntJdbcType.class )
+		private Long theLong;
+
+		public VersionedEntity() {
+		}
+
+		public VersionedEntity(Integer id, Long theLong) {
+			this.id = id;
+			this.theLong = theLong;
+		}
+	}
+
+	/**
+	 * A BIGINT descriptor counting how many values its extractor wraps
+	 */
+	public static class CountingBigIntJdbcType extends BigIntJdbcType {
+		static final AtomicInteger WRAPPED = new AtomicInteger();
+
+		@Override
+		public <X> ValueExtractor<X> getExtractor(JavaType<X> javaTypeDescriptor) {
+			return new BasicLongExtractor<X>( javaTypeDescriptor, this ) {
+				@Override
+				public long extractLong(ResultSet rs, int paramIndex, WrapperOptions options) throws SQLException {
+					return rs.getLong( paramIndex );
+				}
+
+				@Override
+				public X wrapLong(long value, WrapperOptions options) {
+					WRAPPED.incrementAndGet();
+					return javaTypeDescriptor.wrap( value, options );
+				}
+
+				@Override
+				protected X doExtract(CallableStatement statement, int index, WrapperOptions options) throws SQLException {
+					return javaTypeDescriptor.wrap( statement.getLong( index ), options );
+				}
+
+				@Override
+				protected X doExtract(CallableStatement statement, String name, WrapperOptions options) throws SQLException {
+					return javaTypeDescriptor.wrap( statement.getLong( name ), options );
+				}
+			};
+		}
+	}
+}
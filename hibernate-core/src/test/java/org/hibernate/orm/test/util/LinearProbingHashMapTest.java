@@ -0,0 +1,115 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.util;
+
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+
+import org.hibernate.internal.util.collections.LinearProbingHashMap;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class LinearProbingHashMapTest {
+
+	@Test
+	public void testBasicOperations() {
+		final LinearProbingHashMap<String, Integer> map = new LinearProbingHashMap<>();
+		assertThat( map.put( "a", 1 ) ).isNull();
+		assertThat( map.put( "b", 2 ) ).isNull();
+		assertThat( map.put( "a", 3 ) ).isEqualTo( 1 );
+
+		assertThat( map ).hasSize( 2 );
+		assertThat( map.get( "a" ) ).isEqualTo( 3 );
+		assertThat( map.containsKey( "b" ) ).isTrue();
+		assertThat( map.containsValue( 2 ) ).isTrue();
+		assertThat( map.get( "c" ) ).isNull();
+		assertThat( map.get( null ) ).isNull();
+
+		assertThat( map.remove( "a" ) ).isEqualTo( 3 );
+		assertThat( map.remove( "a" ) ).isNull();
+		assertThat( map ).containsOnlyKeys( "b" );
+
+		map.clear();
+		assertThat( map.isEmpty() ).isTrue();
+	}
+
+	@Test
+	public void testAgainstHashMap() {
+		final Random random = new Random( 42 );
+		final Map<CollidingKey, Integer> expected = new HashMap<>();
+		final LinearProbingHashMap<CollidingKey, Integer> map = new LinearProbingHashMap<>( 4 );
+
+		for ( int i = 0; i < 100_000; i++ ) {
+			final CollidingKey key = new CollidingKey( random.nextInt( 2_000 ) );
+			final int operation = random.nextInt( 3 );
+			if ( operation == 0 ) {
+				assertThat( map.remove( key ) ).isEqualTo( expected.remove( key ) );
+			}
+			else {
+				assertThat( map.put( key, i ) ).isEqualTo( expected.put( key, i ) );
+			}
+			assertThat( map.size() ).isEqualTo( expected.size() );
+		}
+
+		assertThat( map ).isEqualTo( expected );
+		for ( int i = 0; i < 2_000; i++ ) {
+			final CollidingKey key = new CollidingKey( i );
+			assertThat( map.get( key ) ).isEqualTo( expected.get( key ) );
+		}
+	}
+
+	@Test
+	public void testIteration() {
+		final LinearProbingHashMap<Integer, String> map = new LinearProbingHashMap<>();
+		for ( int i = 0; i < 100; i++ ) {
+			map.put( i, "value " + i );
+		}
+
+		int count = 0;
+		for ( Map.Entry<Integer, String> entry : map.entrySet() ) {
+			assertThat( entry.getValue() ).isEqualTo( "value " + entry.getKey() );
+			entry.setValue( "new " + entry.getKey() );
+			count++;
+		}
+		assertThat( count ).isEqualTo( 100 );
+		assertThat( map.get( 50 ) ).isEqualTo( "new 50" );
+		assertThat( map.keySet() ).hasSize( 100 ).contains( 0, 99 );
+		assertThat( map.values() ).hasSize( 100 ).contains( "new 0", "new 99" );
+
+		final Iterator<Integer> keys = map.keySet().iterator();
+		keys.next();
+		map.put( 1_000, "other" );
+		assertThrows( ConcurrentModificationException.class, keys::next );
+	}
+
+	/**
+	 * Key with many hash collisions, to exercise probing and removal
+	 */
+	private static final class CollidingKey {
+		private final int value;
+
+		private CollidingKey(int value) {
+			this.value = value;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof CollidingKey && ( (CollidingKey) o ).value == value;
+		}
+
+		@Override
+		public int hashCode() {
+			return value / 10;
+		}
+	}
+}
@@ -0,0 +1,144 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.internal.util.collections.TinyLfuCache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TinyLfuCacheTest {
+	@Test
+	public void testMaximumSize() {
+		final AtomicInteger evictions = new AtomicInteger();
+		final TinyLfuCache<Integer, String> cache = new TinyLfuCache<>( 100, key -> evictions.incrementAndGet() );
+
+		for ( int i = 0; i < 1_000; i++ ) {
+			cache.put( i, "value " + i );
+		}
+
+		assertThat( cache.size() ).isEqualTo( 100 );
+		assertThat( evictions.get() ).isEqualTo( 900 );
+	}
+
+	@Test
+	public void testBasicOperations() {
+		final TinyLfuCache<String, String> cache = new TinyLfuCache<>( 10 );
+
+		assertThat( cache.put( "a", "1" ) ).isNull();
+		assertThat( cache.putIfAbsent( "a", "2" ) ).isEqualTo( "1" );
+		assertThat( cache.get( "a" ) ).isEqualTo( "1" );
+		assertThat( cache.put( "a", "3" ) ).isEqualTo( "1" );
+		assertThat( cache.computeIfAbsent( "b", key -> "4" ) ).isEqualTo( "4" );
+		assertThat( cache.size() ).isEqualTo( 2 );
+
+		assertThat( cache.remove( "a" ) ).isEqualTo( "3" );
+		assertThat( cache.get( "a" ) ).isNull();
+
+		cache.clear();
+		assertThat( cache.isEmpty() ).isTrue();
+	}
+
+	@Test
+	public void testFrequentlyUsedEntriesSurviveScan() {
+		final TinyLfuCache<Integer, String> cache = new TinyLfuCache<>( 100 );
+
+		// a "hot" working set, used repeatedly
+		for ( int i = 0; i < 50; i++ ) {
+			cache.put( i, "hot " + i );
+		}
+		for ( int round = 0; round < 5; round++ ) {
+			for ( int i = 0; i < 50; i++ ) {
+				assertThat( cache.get( i ) ).isNotNull();
+			}
+		}
+
+		// followed by a large number of entries used only once
+		for ( int i = 1_000; i < 11_000; i++ ) {
+			cache.put( i, "cold " + i );
+		}
+
+		assertThat( cache.size() ).isLessThanOrEqualTo( 100 );
+		for ( int i = 0; i < 50; i++ ) {
+			assertThat( cache.get( i ) ).isEqualTo( "hot " + i );
+		}
+	}
+
+	@Test
+	public void testConcurrentAccess() throws Exception {
+		final int maximumSize = 100;
+		final int threadCount = 8;
+		final int operationsPerThread = 20_000;
+
+		final AtomicInteger evictions = new AtomicInteger();
+		final TinyLfuCache<Integer, String> cache = new TinyLfuCache<>( maximumSize, key -> evictions.incrementAndGet() );
+		final AtomicInteger insertions = new AtomicInteger();
+		final AtomicInteger removals = new AtomicInteger();
+
+		final ExecutorService executor = Executors.newFixedThreadPool( threadCount );
+		try {
+			final CountDownLatch start = new CountDownLatch( 1 );
+			final List<Future<?>> futures = new ArrayList<>( threadCount );
+			for ( int t = 0; t < threadCount; t++ ) {
+				futures.add( executor.submit( () -> {
+					start.await();
+					final ThreadLocalRandom random = ThreadLocalRandom.current();
+					for ( int i = 0; i < operationsPerThread; i++ ) {
+						// a skewed key distribution, so that some keys are hot
+						final int key = random.nextInt( random.nextBoolean() ? 50 : 1_000 );
+						final int operation = random.nextInt( 10 );
+						if ( operation < 5 ) {
+							final String value = cache.get( key );
+							if ( value != null ) {
+								assertThat( value ).isEqualTo( "value " + key );
+							}
+						}
+						else if ( operation < 9 ) {
+							if ( cache.put( key, "value " + key ) == null ) {
+								insertions.incrementAndGet();
+							}
+						}
+						else if ( cache.remove( key ) != null ) {
+							removals.incrementAndGet();
+						}
+					}
+					return null;
+				} ) );
+			}
+			start.countDown();
+			for ( Future<?> future : futures ) {
+				// propagates any failure of the worker
+				future.get( 1, TimeUnit.MINUTES );
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+
+		assertThat( cache.size() ).isLessThanOrEqualTo( maximumSize );
+		// each inserted entry was either evicted, removed, or is still cached
+		assertThat( insertions.get() ).isEqualTo( evictions.get() + removals.get() + cache.size() );
+		cache.forEach( (key, value) -> assertThat( value ).isEqualTo( "value " + key ) );
+
+		// the cache is still consistent once the threads are done
+		for ( int i = 10_000; i < 10_000 + 2 * maximumSize; i++ ) {
+			cache.put( i, "value " + i );
+		}
+		assertThat( cache.size() ).isEqualTo( maximumSize );
+	}
+}
@@ -72,6 +72,7 @@ public class Configuration {
 	private final boolean modifiedFlagsDefined;
 	private final boolean findByRevisionExactMatch;
 	private final boolean globalLegacyRelationTargetNotFound;
+	private final boolean directAuditWriterEnabled;
 
 	private final boolean trackEntitiesChanged;
 	private boolean trackEntitiesOverride;
@@ -131,6 +132,11 @@ public class Configuration {
 		findByRevisionExactMatch = configProps.getBoolean( EnversSettings.FIND_BY_REVISION_EXACT_MATCH, false );
 		globalLegacyRelationTargetNotFound = configProps.getBoolean( EnversSettings.GLOBAL_RELATION_NOT_FOUND_LEGACY_FLAG, true );
 
+		// other strategies may have to update previously written audit rows, which requires the session
+		// subclasses of the default strategy may override how the audit rows are written
+		directAuditWriterEnabled = configProps.getBoolean( EnversSettings.USE_DIRECT_AUDIT_WRITER, false )
+				&& isDefaultAuditStrategy( auditStrategy );
+
 		auditTablePrefix = configProps.getString( EnversSettings.AUDIT_TABLE_PREFIX, DEFAULT_PREFIX );
 		auditTableSuffix = configProps.getString( EnversSettings.AUDIT_TABLE_SUFFIX, DEFAULT_SUFFIX );
 
@@ -232,6 +238,10 @@ public class Configuration {
 		return globalLegacyRelationTargetNotFound;
 	}
 
+	public boolean isDirectAuditWriterEnabled() {
+		return directAuditWriterEnabled;
+	}
+
 	public boolean isRevisionEndTimestampEnabled() {
 		return revisionEndTimestampEnabled;
 	}
@@ -400,6 +410,13 @@ public class Configuration {
 		);
 	}
 
+	private static boolean isDefaultAuditStrategy(AuditStrategy auditStrategy) {
+		// the deprecated default strategy only extends the internal one, without overriding anything
+		final Class<?> auditStrategyClass = auditStrategy.getClass();
+		return auditStrategyClass == DefaultAuditStrategy.class
+				|| auditStrategyClass == DefaultAuditStrategy.class.getSuperclass();
+	}
+
 	private static AuditStrategy resolveAuditStrategy(ConfigurationProperties configProps, StrategySelector selector) {
 		return selector.resolveDefaultableStrategy(
 				AuditStrategy.class,
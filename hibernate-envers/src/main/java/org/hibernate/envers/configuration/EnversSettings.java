@@ -183,4 +183,19 @@ public interface EnversSettings {
 	 * that the exception is thrown.
 	 */
 	String GLOBAL_RELATION_NOT_FOUND_LEGACY_FLAG = "org.hibernate.envers.global_relation_not_found_legacy_flag";
+
+	/**
+	 * Whether the rows of the audit tables should be written directly through JDBC batches, using the
+	 * insert statements of the audit entities, rather than saved as entities in the session.  This
+	 * bypasses the event listeners, the persistence context and the dirty checking of the session for
+	 * rows which are only ever inserted.  Only applies to the
+	 * {@link org.hibernate.envers.strategy.internal.DefaultAuditStrategy} itself, as the
+	 * {@link org.hibernate.envers.strategy.internal.ValidityAuditStrategy} also updates previous rows,
+	 * and subclasses may override how the rows are written.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * @since 6.0
+	 */
+	String USE_DIRECT_AUDIT_WRITER = "org.hibernate.envers.use_direct_audit_writer";
 }
@@ -7,9 +7,11 @@
 package org.hibernate.envers.internal.synchronization;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.Map;
 import java.util.Queue;
+import java.util.function.Supplier;
 
 import org.hibernate.FlushMode;
 import org.hibernate.Session;
@@ -36,17 +38,28 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
 	private final Queue<AuditWorkUnit> undoQueue;
 	private final Map<Pair<String, Object>, AuditWorkUnit> usedIds;
 	private final Map<Pair<String, Object>, Object[]> entityStateCache;
+	private final Map<Class<?>, BeforeTransactionCompletionProcess> auditStrategyProcesses;
 	private final EntityChangeNotifier entityChangeNotifier;
+	private final boolean directAuditWriterEnabled;
 	private Object revisionData;
 
 	public AuditProcess(RevisionInfoGenerator revisionInfoGenerator, SessionImplementor session) {
+		this( revisionInfoGenerator, session, false );
+	}
+
+	public AuditProcess(
+			RevisionInfoGenerator revisionInfoGenerator,
+			SessionImplementor session,
+			boolean directAuditWriterEnabled) {
 		this.revisionInfoGenerator = revisionInfoGenerator;
 		this.session = session;
+		this.directAuditWriterEnabled = directAuditWriterEnabled;
 
 		workUnits = new LinkedList<>();
 		undoQueue = new LinkedList<>();
 		usedIds = new HashMap<>();
 		entityStateCache = new HashMap<>();
+		auditStrategyProcesses = new LinkedHashMap<>();
 		entityChangeNotifier = new EntityChangeNotifier( revisionInfoGenerator, session );
 	}
 
@@ -67,6 +80,29 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
 		return entityState;
 	}
 
+	/**
+	 * Returns the process of the given type registered for this transaction by the audit strategy, registering
+	 * a new one if there is none yet.  The processes are executed in the session the audit work units were
+	 * performed in, once the audit data written by them has been flushed.
+	 *
+	 * @param type The type of the process.
+	 * @param creator Creates the process if there is none of the given type yet.
+	 * @param <T> The type of the process.
+	 * @return The process registered for this transaction.
+	 */
+	public <T extends BeforeTransactionCompletionProcess> T getOrRegisterAuditStrategyProcess(
+			Class<T> type,
+			Supplier<T> creator) {
+		return type.cast( auditStrategyProcesses.computeIfAbsent( type, key -> creator.get() ) );
+	}
+
+	private void executeAuditStrategyProcesses(SessionImplementor session) {
+		for ( BeforeTransactionCompletionProcess process : auditStrategyProcesses.values() ) {
+			process.doBeforeTransactionCompletion( session );
+		}
+		auditStrategyProcesses.clear();
+	}
+
 	private void removeWorkUnit(AuditWorkUnit vwu) {
 		workUnits.remove( vwu );
 		if ( vwu.isPerformed() ) {
@@ -116,14 +152,33 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
 
 		AuditWorkUnit vwu;
 
-		// First undoing any performed work units
-		while ( (vwu = undoQueue.poll()) != null ) {
-			vwu.undo( session );
+		if ( directAuditWriterEnabled ) {
+			// The revision entity must be written before the audit rows referencing it
+			session.flush();
+
+			final DirectAuditWriter writer = new DirectAuditWriter( (SessionImplementor) session );
+
+			// First undoing any performed work units, whose rows were written through the writer as well
+			while ( (vwu = undoQueue.poll()) != null ) {
+				vwu.undo( writer );
+			}
+
+			while ( (vwu = workUnits.poll()) != null ) {
+				vwu.perform( writer, revisionData );
+				entityChangeNotifier.entityChanged( session, currentRevisionData, vwu );
+			}
+			writer.write();
 		}
+		else {
+			// First undoing any performed work units
+			while ( (vwu = undoQueue.poll()) != null ) {
+				vwu.undo( session );
+			}
 
-		while ( (vwu = workUnits.poll()) != null ) {
-			vwu.perform( session, revisionData );
-			entityChangeNotifier.entityChanged( session, currentRevisionData, vwu );
+			while ( (vwu = workUnits.poll()) != null ) {
+				vwu.perform( session, revisionData );
+				entityChangeNotifier.entityChanged( session, currentRevisionData, vwu );
+			}
 		}
 	}
 
@@ -164,6 +219,7 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
 						.openSession();
 				executeInSession( temporarySession );
 				temporarySession.flush();
+				executeAuditStrategyProcesses( (SessionImplementor) temporarySession );
 			}
 			finally {
 				if ( temporarySession != null ) {
@@ -176,6 +232,7 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
 
 			// Explicitly flushing the session, as the auto-flush may have already happened.
 			session.flush();
+			executeAuditStrategyProcesses( session );
 		}
 	}
 }
@@ -23,11 +23,17 @@ import org.hibernate.event.spi.EventSource;
 public class AuditProcessManager {
 	private final Map<Transaction, AuditProcess> auditProcesses;
 	private final RevisionInfoGenerator revisionInfoGenerator;
+	private final boolean directAuditWriterEnabled;
 
 	public AuditProcessManager(RevisionInfoGenerator revisionInfoGenerator) {
+		this( revisionInfoGenerator, false );
+	}
+
+	public AuditProcessManager(RevisionInfoGenerator revisionInfoGenerator, boolean directAuditWriterEnabled) {
 		auditProcesses = new ConcurrentHashMap<>();
 
 		this.revisionInfoGenerator = revisionInfoGenerator;
+		this.directAuditWriterEnabled = directAuditWriterEnabled;
 	}
 
 	public AuditProcess get(EventSource session) {
@@ -36,7 +42,7 @@ public class AuditProcessManager {
 		AuditProcess auditProcess = auditProcesses.get( transaction );
 		if ( auditProcess == null ) {
 			// No worries about registering a transaction twice - a transaction is single thread
-			auditProcess = new AuditProcess( revisionInfoGenerator, session );
+			auditProcess = new AuditProcess( revisionInfoGenerator, session, directAuditWriterEnabled );
 			auditProcesses.put( transaction, auditProcess );
 
 			session.getActionQueue().registerProcess(
@@ -0,0 +1,73 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.envers.internal.synchronization;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * Writes the rows of the audit tables directly through the insert statements of the audit entities,
+ * rather than saving the audit entities in the session, when
+ * {@value org.hibernate.envers.configuration.EnversSettings#USE_DIRECT_AUDIT_WRITER} is enabled.
+ * <p/>
+ * Audit rows are only ever inserted, so the events, the persistence context and the dirty checking of
+ * the session are of no use for them.  The rows are grouped by audit entity, so that the inserts into
+ * each audit table are added to a single JDBC batch.
+ */
+public class DirectAuditWriter {
+	private final SessionImplementor session;
+	private final Map<String, List<Object>> rowsByAuditEntityName = new LinkedHashMap<>();
+
+	public DirectAuditWriter(SessionImplementor session) {
+		this.session = session;
+	}
+
+	/**
+	 * Schedules the insert of an audit row.
+	 *
+	 * @param auditEntityName The name of the audit entity.
+	 * @param data The data of the audit row.
+	 */
+	public void insert(String auditEntityName, Object data) {
+		rowsByAuditEntityName.computeIfAbsent( auditEntityName, name -> new ArrayList<>() ).add( data );
+	}
+
+	/**
+	 * Deletes an audit row written by a previous call to {@link #write()}, when the work unit which
+	 * wrote it is undone.  The delete is executed before any of the scheduled inserts.
+	 *
+	 * @param auditEntityName The name of the audit entity.
+	 * @param data The data of the audit row.
+	 */
+	public void delete(String auditEntityName, Object data) {
+		final EntityPersister persister = session.getFactory().getMetamodel().entityPersister( auditEntityName );
+		persister.delete( persister.getIdentifier( data, session ), null, data, session );
+	}
+
+	/**
+	 * Inserts all the scheduled audit rows and executes the JDBC batches.  The revision entity
+	 * the rows reference must already have been written.
+	 */
+	public void write() {
+		for ( Map.Entry<String, List<Object>> entry : rowsByAuditEntityName.entrySet() ) {
+			final EntityPersister persister = session.getFactory().getMetamodel().entityPersister( entry.getKey() );
+			for ( Object data : entry.getValue() ) {
+				final Object id = persister.getIdentifier( data, session );
+				final Object[] values = persister.getPropertyValuesToInsert( data, null, session );
+				persister.insert( id, values, data, session );
+			}
+		}
+		rowsByAuditEntityName.clear();
+
+		session.getJdbcCoordinator().executeBatch();
+	}
+}
@@ -15,6 +15,7 @@ import org.hibernate.envers.RevisionType;
 import org.hibernate.envers.boot.internal.EnversService;
 import org.hibernate.envers.configuration.Configuration;
 import org.hibernate.envers.internal.entities.mapper.id.IdMapper;
+import org.hibernate.envers.internal.synchronization.DirectAuditWriter;
 import org.hibernate.envers.strategy.AuditStrategy;
 
 /**
@@ -69,6 +70,15 @@ public abstract class AbstractAuditWorkUnit implements AuditWorkUnit {
 		setPerformed( data );
 	}
 
+	@Override
+	public void perform(DirectAuditWriter writer, Object revisionData) {
+		final Map<String, Object> data = generateData( revisionData );
+
+		writer.insert( enversService.getConfig().getAuditEntityName( getEntityName() ), data );
+
+		setPerformed( data );
+	}
+
 	@Override
 	public Object getEntityId() {
 		return id;
@@ -98,6 +108,13 @@ public abstract class AbstractAuditWorkUnit implements AuditWorkUnit {
 		}
 	}
 
+	@Override
+	public void undo(DirectAuditWriter writer) {
+		if ( isPerformed() ) {
+			writer.delete( enversService.getConfig().getAuditEntityName( getEntityName() ), performedData );
+		}
+	}
+
 	@Override
 	public RevisionType getRevisionType() {
 		return revisionType;
@@ -10,6 +10,7 @@ import java.util.Map;
 
 import org.hibernate.Session;
 import org.hibernate.envers.RevisionType;
+import org.hibernate.envers.internal.synchronization.DirectAuditWriter;
 
 /**
  * TODO: refactor constructors into factory methods
@@ -34,8 +35,24 @@ public interface AuditWorkUnit extends WorkUnitMergeVisitor, WorkUnitMergeDispat
 	 */
 	void perform(Session session, Object revisionData);
 
+	/**
+	 * Perform this work unit by writing its audit rows through the given writer.
+	 *
+	 * @param writer Writer, through which the audit rows should be written.
+	 * @param revisionData The current revision data, which will be used to populate the work unit with the correct
+	 * revision relation.
+	 */
+	void perform(DirectAuditWriter writer, Object revisionData);
+
 	void undo(Session session);
 
+	/**
+	 * Undo this work unit by deleting its audit rows through the given writer.
+	 *
+	 * @param writer Writer, through which the audit rows were written.
+	 */
+	void undo(DirectAuditWriter writer);
+
 	/**
 	 * @param revisionData The current revision data, which will be used to populate the work unit with the correct
 	 * revision relation.
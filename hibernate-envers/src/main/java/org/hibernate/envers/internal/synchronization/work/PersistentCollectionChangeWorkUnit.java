@@ -20,6 +20,7 @@ import org.hibernate.envers.RevisionType;
 import org.hibernate.envers.boot.internal.EnversService;
 import org.hibernate.envers.configuration.Configuration;
 import org.hibernate.envers.internal.entities.mapper.PersistentCollectionChangeData;
+import org.hibernate.envers.internal.synchronization.DirectAuditWriter;
 
 /**
  * @author Adam Warski (adam at warski dot org)
@@ -96,6 +97,20 @@ public class PersistentCollectionChangeWorkUnit extends AbstractAuditWorkUnit im
 		}
 	}
 
+	@Override
+	@SuppressWarnings({"unchecked"})
+	public void perform(DirectAuditWriter writer, Object revisionData) {
+		final Configuration configuration = enversService.getConfig();
+
+		for ( PersistentCollectionChangeData persistentCollectionChangeData : collectionChanges ) {
+			// Setting the revision number
+			( (Map<String, Object>) persistentCollectionChangeData.getData().get( configuration.getOriginalIdPropertyName() ) )
+					.put( configuration.getRevisionFieldName(), revisionData );
+
+			writer.insert( persistentCollectionChangeData.getEntityName(), persistentCollectionChangeData.getData() );
+		}
+	}
+
 	public String getReferencingPropertyName() {
 		return referencingPropertyName;
 	}
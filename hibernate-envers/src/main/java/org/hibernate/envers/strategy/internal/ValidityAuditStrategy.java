@@ -10,16 +10,19 @@ import static org.hibernate.envers.internal.entities.mapper.relation.query.Query
 import static org.hibernate.envers.internal.entities.mapper.relation.query.QueryConstants.REVISION_PARAMETER;
 
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 
 import org.hibernate.LockOptions;
 import org.hibernate.Session;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
@@ -67,7 +70,10 @@ import org.hibernate.type.Type;
  * <p>
  * This has a few important consequences which must be considered:
  * <ul>
- * <li>Persisting audit information is sightly slower due to an extra update required</li>
+ * <li>Persisting audit information is sightly slower due to an extra update required, which is
+ * issued once per audited entity and transaction, for a batch of identifiers.  The previous revisions
+ * of collection rows are still ended one at a time, as they are identified by all the columns of the
+ * middle table rather than by the identifier of an entity</li>
  * <li>Retreiving audit information is considerably faster</li>
  * </ul>
  *
@@ -77,6 +83,11 @@ import org.hibernate.type.Type;
  * @author Chris Cranford
  */
 public class ValidityAuditStrategy implements AuditStrategy {
+	/**
+	 * The maximum number of identifier parameters bound to a single update of the previous revisions.
+	 */
+	private static final int MAX_ID_PARAMETERS_PER_UPDATE = 500;
+
 	/**
 	 * getter for the revision entity field annotated with @RevisionTimestamp
 	 */
@@ -169,48 +180,12 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		// reused, this guarantees correct strategy behavior: exactly one row with
 		// null end date exists for each identifier.
 		final boolean reuseEntityIdentifier = configuration.isAllowIdentifierReuse();
-		if ( reuseEntityIdentifier || getRevisionType( configuration, data ) != RevisionType.ADD ) {
-			// Register transaction completion process to guarantee execution of UPDATE statement after INSERT.
-			( (EventSource) session ).getActionQueue().registerProcess( sessionImplementor -> {
-				// Construct the update contexts
-				final List<UpdateContext> contexts = getUpdateContexts(
-						entityName,
-						auditedEntityName,
-						sessionImplementor,
-						configuration,
-						id,
-						revision
-				);
-
-				if ( contexts.isEmpty() ) {
-					throw new AuditException(
-							String.format(
-									Locale.ENGLISH,
-									"Failed to build update contexts for entity %s and id %s",
-									auditedEntityName,
-									id
-							)
-					);
-				}
-
-				for ( UpdateContext context : contexts ) {
-					final int rows = executeUpdate( sessionImplementor, context );
-					if ( rows != 1 ) {
-						final RevisionType revisionType = getRevisionType( configuration, data );
-						if ( !reuseEntityIdentifier || revisionType != RevisionType.ADD ) {
-							throw new AuditException(
-									String.format(
-											Locale.ENGLISH,
-											"Cannot update previous revision for entity %s and id %s (%s rows modified).",
-											auditedEntityName,
-											id,
-											rows
-									)
-							);
-						}
-					}
-				}
-			} );
+		final RevisionType revisionType = getRevisionType( configuration, data );
+		if ( reuseEntityIdentifier || revisionType != RevisionType.ADD ) {
+			// The identifiers are collected, so that the previous revisions of all the entities of the same
+			// type modified in the transaction are updated by a few set-based statements.
+			getRevisionEndUpdates( (EventSource) session, configuration )
+					.add( entityName, auditedEntityName, id, revision, revisionType != RevisionType.ADD );
 		}
 		sessionCacheCleaner.scheduleAuditDataRemoval( session, data );
 	}
@@ -258,6 +233,8 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		final List<Object> l = qb.toQuery( session ).setLockOptions( LockOptions.UPGRADE ).list();
 
 		// Update the last revision if one exists.
+		// The rows of the middle tables are not covered by the set-based updates of the entities, as they
+		// may be identified by the values of all their columns, see isNonIdentifierWhereConditionsRequired.
 		// HHH-5967: with collections, the same element can be added and removed multiple times. So even if it's an
 		// ADD, we may need to update the last revision.
 		if ( l.size() > 0 ) {
@@ -379,6 +356,106 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		}
 	}
 
+	private RevisionEndUpdates getRevisionEndUpdates(EventSource session, Configuration configuration) {
+		// The updates are held by the audit process of the transaction, which executes them once the
+		// inserted audit rows are flushed
+		return configuration.getEnversService().getAuditProcessManager().get( session ).getOrRegisterAuditStrategyProcess(
+				RevisionEndUpdates.class,
+				() -> new RevisionEndUpdates( configuration )
+		);
+	}
+
+	private void executeRevisionEndUpdates(
+			SessionImplementor session,
+			Configuration configuration,
+			RevisionEndUpdates updates) {
+		for ( RevisionEndUpdate update : updates.getUpdates() ) {
+			final int idsPerUpdate = getIdsPerUpdate( update.getEntityName(), session );
+			executeRevisionEndUpdates( session, configuration, update, update.getIds(), idsPerUpdate, true );
+			// When the identifiers are reused, the previous revision of an added entity may not exist.
+			executeRevisionEndUpdates( session, configuration, update, update.getAddedIds(), idsPerUpdate, false );
+		}
+	}
+
+	private void executeRevisionEndUpdates(
+			SessionImplementor session,
+			Configuration configuration,
+			RevisionEndUpdate update,
+			List<Object> allIds,
+			int idsPerUpdate,
+			boolean previousRevisionRequired) {
+		for ( int start = 0; start < allIds.size(); start += idsPerUpdate ) {
+			final List<Object> ids = allIds.subList( start, Math.min( start + idsPerUpdate, allIds.size() ) );
+
+			// The row count of the updates cannot tell which identifier is missing a previous revision, and
+			// which one has several of them, so the previous revisions are counted for each identifier first.
+			if ( previousRevisionRequired ) {
+				final CountContext countContext = getPreviousRevisionCountContext(
+						update.getEntityName(),
+						update.getAuditEntityName(),
+						session,
+						configuration,
+						ids,
+						update.getRevision()
+				);
+				if ( !hasSinglePreviousRevisionPerId( session, countContext, ids.size() ) ) {
+					throw new AuditException(
+							String.format(
+									Locale.ENGLISH,
+									"Cannot find a single previous revision for entity %s and each of the ids %s.",
+									update.getAuditEntityName(),
+									ids
+							)
+					);
+				}
+			}
+
+			// Construct the update contexts
+			final List<UpdateContext> contexts = getUpdateContexts(
+					update.getEntityName(),
+					update.getAuditEntityName(),
+					session,
+					configuration,
+					ids,
+					update.getRevision()
+			);
+
+			for ( UpdateContext context : contexts ) {
+				final int rows = executeUpdate( session, context );
+				if ( previousRevisionRequired && rows != ids.size() ) {
+					throw new AuditException(
+							String.format(
+									Locale.ENGLISH,
+									"Cannot update previous revision for entity %s and ids %s (%s rows modified).",
+									update.getAuditEntityName(),
+									ids,
+									rows
+							)
+					);
+				}
+			}
+		}
+	}
+
+	/**
+	 * The number of identifiers whose previous revisions are updated by a single statement, limited by
+	 * the number of expressions the database supports in an in-list.
+	 */
+	private int getIdsPerUpdate(String entityName, SessionImplementor session) {
+		final Queryable entity = getQueryable( entityName, session );
+		final Queryable rootEntity = getQueryable( entity.getRootEntityName(), session );
+		final int idColumnSpan = rootEntity.getIdentifierColumnNames().length;
+
+		int idsPerUpdate = Math.max( 1, MAX_ID_PARAMETERS_PER_UPDATE / idColumnSpan );
+		if ( idColumnSpan == 1 ) {
+			final int inExpressionCountLimit = session.getJdbcServices().getDialect().getInExpressionCountLimit();
+			if ( inExpressionCountLimit > 0 ) {
+				idsPerUpdate = Math.min( idsPerUpdate, inExpressionCountLimit );
+			}
+		}
+		return idsPerUpdate;
+	}
+
 	private Date convertRevEndTimestampToDate(Object revEndTimestampObj) {
 		// convert to a java.util.Date
 		if ( revEndTimestampObj instanceof Date ) {
@@ -466,10 +543,7 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		return session.doReturningWork(
 				connection -> {
 					try {
-						int index = 1;
-						for ( QueryParameterBinding binding : context.getBindings() ) {
-							index += binding.bind( index, statement, session );
-						}
+						bind( statement, context.getBindings(), session );
 						int result = jdbcCoordinator.getResultSetReturn().executeUpdate( statement );
 						return result;
 					}
@@ -481,12 +555,103 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		);
 	}
 
+	/**
+	 * Executes the {@link CountContext} within the scope of the specified session, and checks that each
+	 * of the identifiers has exactly one previous revision.
+	 *
+	 * @param session the session
+	 * @param context the count context to be executed
+	 * @param idCount the number of identifiers restricted by the count context
+	 * @return whether each of the identifiers has exactly one previous revision
+	 */
+	private boolean hasSinglePreviousRevisionPerId(SessionImplementor session, CountContext context, int idCount) {
+		final JdbcCoordinator jdbcCoordinator = session.getJdbcCoordinator();
+
+		final PreparedStatement statement = jdbcCoordinator.getStatementPreparer().prepareStatement( context.getSql() );
+		return session.doReturningWork(
+				connection -> {
+					try {
+						bind( statement, context.getBindings(), session );
+						final ResultSet resultSet = jdbcCoordinator.getResultSetReturn().extract( statement );
+						// the identifiers without any previous revision are missing from the groups
+						int groupCount = 0;
+						while ( resultSet.next() ) {
+							if ( resultSet.getLong( 1 ) != 1L ) {
+								return false;
+							}
+							groupCount++;
+						}
+						return groupCount == idCount;
+					}
+					finally {
+						jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( statement );
+						jdbcCoordinator.afterStatementExecution();
+					}
+				}
+		);
+	}
+
+	private static void bind(
+			PreparedStatement statement,
+			List<QueryParameterBinding> bindings,
+			SessionImplementor session) throws SQLException {
+		int index = 1;
+		for ( QueryParameterBinding binding : bindings ) {
+			index += binding.bind( index, statement, session );
+		}
+	}
+
+	/**
+	 * Creates the count context used to check that each of the identifiers has exactly one previous revision,
+	 * before their revision end is updated.
+	 *
+	 * @param entityName the entity name
+	 * @param auditEntityName the audited entity name
+	 * @param session the session
+	 * @param configuration the configuration
+	 * @param ids the entity identifiers
+	 * @param revision the revision entity
+	 * @return the created count context instance, never {@code null}.
+	 */
+	private CountContext getPreviousRevisionCountContext(
+			String entityName,
+			String auditEntityName,
+			SessionImplementor session,
+			Configuration configuration,
+			List<Object> ids,
+			Object revision) {
+
+		final Queryable entity = getQueryable( entityName, session );
+		final Queryable rootEntity = getQueryable( entity.getRootEntityName(), session );
+		final Queryable auditEntity = getQueryable( auditEntityName, session );
+		final Queryable rootAuditEntity = getQueryable( auditEntity.getRootEntityName(), session );
+
+		final String[] idColumnNames = rootEntity.getIdentifierColumnNames();
+		final String path = configuration.getRevisionNumberPath();
+
+		// The expected SQL is a select statement as follows:
+		// SELECT COUNT(*) FROM audited_entity WHERE (entity_id) IN (?, ...) AND REV <> ? AND REVEND is null GROUP BY entity_id
+		final CountContext context = new CountContext(
+				"select count(*) from " + getUpdateTableName( rootEntity, rootAuditEntity, auditEntity )
+						+ " where " + getIdRestriction( idColumnNames, ids.size() )
+						+ " and " + rootAuditEntity.toColumns( path )[ 0 ] + " <> ?"
+						+ " and " + auditEntity.toColumns( configuration.getRevisionEndFieldName() )[ 0 ] + " is null"
+						+ " group by " + String.join( ", ", idColumnNames )
+		);
+		for ( Object id : ids ) {
+			context.bind( id, rootEntity.getIdentifierType() );
+		}
+		context.bind( getRevisionNumber( configuration, revision ), rootAuditEntity.getPropertyType( path ) );
+
+		return context;
+	}
+
 	private List<UpdateContext> getUpdateContexts(
 			String entityName,
 			String auditEntityName,
 			SessionImplementor session,
 			Configuration configuration,
-			Object id,
+			List<Object> ids,
 			Object revision) {
 
 		Queryable entity = getQueryable( entityName, session );
@@ -503,7 +668,7 @@ public class ValidityAuditStrategy implements AuditStrategy {
 									auditEntityName,
 									session,
 									configuration,
-									id,
+									ids,
 									revision
 							)
 					);
@@ -521,7 +686,7 @@ public class ValidityAuditStrategy implements AuditStrategy {
 						auditEntityName,
 						session,
 						configuration,
-						id,
+						ids,
 						revision
 				)
 		);
@@ -534,7 +699,7 @@ public class ValidityAuditStrategy implements AuditStrategy {
 			String auditEntityName,
 			SessionImplementor session,
 			Configuration configuration,
-			Object id,
+			List<Object> ids,
 			Object revision) {
 
 		final Queryable entity = getQueryable( entityName, session );
@@ -547,7 +712,7 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		final Type revisionNumberType = revisionEntity.getIdentifierType();
 
 		// The expected SQL is an update statement as follows:
-		// UPDATE audited_entity SET REVEND = ? [, REVEND_TSTMP = ?] WHERE (entity_id) = ? AND REV <> ? AND REVEND is null
+		// UPDATE audited_entity SET REVEND = ? [, REVEND_TSTMP = ?] WHERE (entity_id) IN (?, ...) AND REV <> ? AND REVEND is null
 		final UpdateContext context = new UpdateContext( session.getFactory() );
 		context.setTableName( getUpdateTableName( rootEntity, rootAuditEntity, auditEntity ) );
 
@@ -565,9 +730,11 @@ public class ValidityAuditStrategy implements AuditStrategy {
 			context.bind( getRevEndTimestampValue( configuration, revisionTimestamp ), revEndTimestampType );
 		}
 
-		// Apply "WHERE (entity_id) = ?"
-		context.addPrimaryKeyColumns( rootEntity.getIdentifierColumnNames() );
-		context.bind( id, rootEntity.getIdentifierType() );
+		// Apply "WHERE (entity_id) IN (?, ...)"
+		context.setWhere( getIdRestriction( rootEntity.getIdentifierColumnNames(), ids.size() ) );
+		for ( Object id : ids ) {
+			context.bind( id, rootEntity.getIdentifierType() );
+		}
 
 		// Apply "AND REV <> ?"
 		final String path = configuration.getRevisionNumberPath();
@@ -588,7 +755,7 @@ public class ValidityAuditStrategy implements AuditStrategy {
 	 * @param auditEntityName the audited entity name
 	 * @param session the session
 	 * @param configuration the configuration
-	 * @param id the entity identifier
+	 * @param ids the entity identifiers
 	 * @param revision the revision entity
 	 * @return the created update context instance, never {@code null}.
 	 */
@@ -597,7 +764,7 @@ public class ValidityAuditStrategy implements AuditStrategy {
 			String auditEntityName,
 			SessionImplementor session,
 			Configuration configuration,
-			Object id,
+			List<Object> ids,
 			Object revision) {
 
 		final Queryable entity = getQueryable( entityName, session );
@@ -607,7 +774,7 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		final Type revEndTimestampType = auditEntity.getPropertyType( revEndTimestampColumnName );
 
 		// The expected SQL is an update statement as follows:
-		// UPDATE audited_entity SET REVEND_TSTMP = ? WHERE (entity_id) = ? AND REV <> ? AND REVEND_TSMTP is null
+		// UPDATE audited_entity SET REVEND_TSTMP = ? WHERE (entity_id) IN (?, ...) AND REV <> ? AND REVEND_TSMTP is null
 		final UpdateContext context = new UpdateContext( session.getFactory() );
 		context.setTableName( getUpdateTableName( entity, auditEntity, auditEntity ) );
 
@@ -616,12 +783,14 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		context.addColumn( auditEntity.toColumns( revEndTimestampColumnName )[ 0 ] );
 		context.bind( getRevEndTimestampValue( configuration, revisionTimestamp ), revEndTimestampType );
 
-		// Apply "WHERE (entity_id) = ? AND REV <> ?" portion of the SQL
+		// Apply "WHERE (entity_id) IN (?, ...) AND REV <> ?" portion of the SQL
 		final Number revisionNumber = getRevisionNumber( configuration, revision );
 
-		// Apply "WHERE (entity_id) = ?"
-		context.addPrimaryKeyColumns( entity.getIdentifierColumnNames() );
-		context.bind( id, entity.getIdentifierType() );
+		// Apply "WHERE (entity_id) IN (?, ...)"
+		context.setWhere( getIdRestriction( entity.getIdentifierColumnNames(), ids.size() ) );
+		for ( Object id : ids ) {
+			context.bind( id, entity.getIdentifierType() );
+		}
 
 		// Apply "AND REV <> ?"
 		context.addWhereColumn( configuration.getRevisionFieldName(), " <> ?" );
@@ -633,6 +802,36 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		return context;
 	}
 
+	/**
+	 * Renders the restriction to the given number of identifiers, as an in-list when the identifier is
+	 * mapped to a single column, and as a disjunction otherwise.
+	 */
+	private static String getIdRestriction(String[] idColumnNames, int idCount) {
+		final StringBuilder buf = new StringBuilder();
+		if ( idColumnNames.length == 1 ) {
+			buf.append( idColumnNames[0] ).append( " in (" );
+			for ( int i = 0; i < idCount; i++ ) {
+				if ( i > 0 ) {
+					buf.append( ", " );
+				}
+				buf.append( '?' );
+			}
+			buf.append( ')' );
+		}
+		else {
+			final String idEqualsExpression = "(" + String.join( "=? and ", idColumnNames ) + "=?)";
+			buf.append( '(' );
+			for ( int i = 0; i < idCount; i++ ) {
+				if ( i > 0 ) {
+					buf.append( " or " );
+				}
+				buf.append( idEqualsExpression );
+			}
+			buf.append( ')' );
+		}
+		return buf.toString();
+	}
+
 	private Number getRevisionNumber(Configuration configuration, Object revisionEntity) {
 		final RevisionInfoNumberReader reader = configuration.getRevisionInfo().getRevisionInfoNumberReader();
 		return reader.getRevisionNumber( revisionEntity );
@@ -650,6 +849,117 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		return rootAuditEntity.getTableName();
 	}
 
+	/**
+	 * The updates of the previous revisions collected during a transaction, for each audited entity.
+	 * Held by the {@link org.hibernate.envers.internal.synchronization.AuditProcess} of the transaction,
+	 * which executes them once the audit rows inserted in the transaction are flushed.
+	 */
+	private class RevisionEndUpdates implements BeforeTransactionCompletionProcess {
+		private final Configuration configuration;
+		private final Map<String, RevisionEndUpdate> updatesByEntityName = new LinkedHashMap<>();
+
+		public RevisionEndUpdates(Configuration configuration) {
+			this.configuration = configuration;
+		}
+
+		public void add(
+				String entityName,
+				String auditEntityName,
+				Object id,
+				Object revision,
+				boolean previousRevisionRequired) {
+			updatesByEntityName.computeIfAbsent(
+					entityName,
+					name -> new RevisionEndUpdate( entityName, auditEntityName, revision )
+			).add( id, previousRevisionRequired );
+		}
+
+		public Iterable<RevisionEndUpdate> getUpdates() {
+			return updatesByEntityName.values();
+		}
+
+		@Override
+		public void doBeforeTransactionCompletion(SessionImplementor session) {
+			executeRevisionEndUpdates( session, configuration, this );
+		}
+	}
+
+	/**
+	 * The identifiers of the entities of a type whose previous revisions must be updated.
+	 */
+	private static class RevisionEndUpdate {
+		private final String entityName;
+		private final String auditEntityName;
+		private final Object revision;
+		private final List<Object> ids = new ArrayList<>();
+		private final List<Object> addedIds = new ArrayList<>();
+
+		public RevisionEndUpdate(String entityName, String auditEntityName, Object revision) {
+			this.entityName = entityName;
+			this.auditEntityName = auditEntityName;
+			this.revision = revision;
+		}
+
+		public void add(Object id, boolean previousRevisionRequired) {
+			if ( previousRevisionRequired ) {
+				ids.add( id );
+			}
+			else {
+				addedIds.add( id );
+			}
+		}
+
+		public String getEntityName() {
+			return entityName;
+		}
+
+		public String getAuditEntityName() {
+			return auditEntityName;
+		}
+
+		public Object getRevision() {
+			return revision;
+		}
+
+		/**
+		 * The identifiers of the modified and removed entities, which must have exactly one previous revision.
+		 */
+		public List<Object> getIds() {
+			return ids;
+		}
+
+		/**
+		 * The identifiers of the added entities, which only have a previous revision when they are reused.
+		 */
+		public List<Object> getAddedIds() {
+			return addedIds;
+		}
+	}
+
+	/**
+	 * A select statement counting the previous revisions, along with its parameter bindings.
+	 */
+	private static class CountContext {
+		private final String sql;
+		private final List<QueryParameterBinding> bindings = new ArrayList<>();
+
+		public CountContext(String sql) {
+			this.sql = sql;
+		}
+
+		public String getSql() {
+			return sql;
+		}
+
+		public List<QueryParameterBinding> getBindings() {
+			return bindings;
+		}
+
+		public void bind(Object value, Type type) {
+			bindings.add( new QueryParameterBinding( value, type ) );
+		}
+	}
+
 	/**
 	 * An {@link Update} that can also track parameter bindings.
 	 */
@@ -0,0 +1,118 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.envers.integration.collection;
+
+import java.util.Arrays;
+import java.util.Map;
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.Hibernate;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+import org.hibernate.orm.test.envers.entities.collection.StringListEntity;
+import org.hibernate.orm.test.envers.entities.collection.StringSetEntity;
+import org.hibernate.orm.test.envers.tools.TestTools;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests the auditing of collections with {@link AvailableSettings#COPY_ON_WRITE_COLLECTION_SNAPSHOTS}
+ * enabled, where the collection listeners read the snapshots of the modified collections
+ */
+public class CopyOnWriteSnapshotCollectionTest extends BaseEnversJPAFunctionalTestCase {
+	private Integer sle_id;
+	private Integer sse_id;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { StringListEntity.class, StringSetEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		options.put( AvailableSettings.COPY_ON_WRITE_COLLECTION_SNAPSHOTS, "true" );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		EntityManager em = getEntityManager();
+
+		// Revision 1
+		em.getTransaction().begin();
+		StringListEntity sle = new StringListEntity();
+		sle.getStrings().add( "a" );
+		sle.getStrings().add( "b" );
+		StringSetEntity sse = new StringSetEntity();
+		sse.getStrings().add( "x" );
+		sse.getStrings().add( "y" );
+		em.persist( sle );
+		em.persist( sse );
+		em.getTransaction().commit();
+
+		// Revision 2
+		em.getTransaction().begin();
+		sle = em.find( StringListEntity.class, sle.getId() );
+		sle.getStrings().set( 0, "c" );
+		sle.getStrings().add( "d" );
+		sse = em.find( StringSetEntity.class, sse.getId() );
+		sse.getStrings().remove( "x" );
+		sse.getStrings().add( "z" );
+		em.getTransaction().commit();
+
+		// Revision 3, the collections are initialized but unmodified when removed
+		em.getTransaction().begin();
+		sle = em.find( StringListEntity.class, sle.getId() );
+		Hibernate.initialize( sle.getStrings() );
+		sse = em.find( StringSetEntity.class, sse.getId() );
+		Hibernate.initialize( sse.getStrings() );
+		em.remove( sle );
+		em.remove( sse );
+		em.getTransaction().commit();
+
+		sle_id = sle.getId();
+		sse_id = sse.getId();
+
+		em.close();
+	}
+
+	@Test
+	public void testRevisionsCounts() {
+		assertEquals( Arrays.asList( 1, 2, 3 ), getAuditReader().getRevisions( StringListEntity.class, sle_id ) );
+		assertEquals( Arrays.asList( 1, 2, 3 ), getAuditReader().getRevisions( StringSetEntity.class, sse_id ) );
+	}
+
+	@Test
+	public void testHistoryOfList() {
+		assertEquals(
+				TestTools.makeList( "a", "b" ),
+				getAuditReader().find( StringListEntity.class, sle_id, 1 ).getStrings()
+		);
+		assertEquals(
+				TestTools.makeList( "c", "b", "d" ),
+				getAuditReader().find( StringListEntity.class, sle_id, 2 ).getStrings()
+		);
+		assertNull( getAuditReader().find( StringListEntity.class, sle_id, 3 ) );
+	}
+
+	@Test
+	public void testHistoryOfSet() {
+		assertEquals(
+				TestTools.makeSet( "x", "y" ),
+				getAuditReader().find( StringSetEntity.class, sse_id, 1 ).getStrings()
+		);
+		assertEquals(
+				TestTools.makeSet( "y", "z" ),
+				getAuditReader().find( StringSetEntity.class, sse_id, 2 ).getStrings()
+		);
+		assertNull( getAuditReader().find( StringSetEntity.class, sse_id, 3 ) );
+	}
+}
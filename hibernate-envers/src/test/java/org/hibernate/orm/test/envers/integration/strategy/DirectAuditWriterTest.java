@@ -0,0 +1,211 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.envers.integration.strategy;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.envers.boot.internal.EnversService;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.internal.synchronization.DirectAuditWriter;
+import org.hibernate.envers.internal.synchronization.work.AddWorkUnit;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+import org.hibernate.orm.test.envers.entities.StrTestEntity;
+import org.hibernate.orm.test.envers.entities.collection.StringSetEntity;
+import org.hibernate.orm.test.envers.tools.TestTools;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link EnversSettings#USE_DIRECT_AUDIT_WRITER}
+ */
+public class DirectAuditWriterTest extends BaseEnversJPAFunctionalTestCase {
+	private final CountingPostInsertListener insertListener = new CountingPostInsertListener();
+
+	private Integer ste1_id;
+	private Integer ste2_id;
+	private Integer sse_id;
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		// the writer only applies to the default strategy
+		options.put( EnversSettings.AUDIT_STRATEGY, "default" );
+		options.put( EnversSettings.USE_DIRECT_AUDIT_WRITER, "true" );
+		options.put( AvailableSettings.STATEMENT_BATCH_SIZE, "10" );
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { StrTestEntity.class, StringSetEntity.class };
+	}
+
+	@Override
+	protected void afterEntityManagerFactoryBuilt() {
+		entityManagerFactory().unwrap( SessionFactoryImplementor.class )
+				.getServiceRegistry()
+				.getService( EventListenerRegistry.class )
+				.appendListeners( EventType.POST_INSERT, insertListener );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		EntityManager em = getEntityManager();
+
+		// Revision 1
+		em.getTransaction().begin();
+		StrTestEntity ste1 = new StrTestEntity( "x" );
+		StrTestEntity ste2 = new StrTestEntity( "y" );
+		StringSetEntity sse = new StringSetEntity();
+		sse.getStrings().add( "a" );
+		sse.getStrings().add( "b" );
+		em.persist( ste1 );
+		em.persist( ste2 );
+		em.persist( sse );
+		em.getTransaction().commit();
+
+		// Revision 2
+		em.getTransaction().begin();
+		ste1 = em.find( StrTestEntity.class, ste1.getId() );
+		ste1.setStr( "x2" );
+		sse = em.find( StringSetEntity.class, sse.getId() );
+		sse.getStrings().remove( "a" );
+		sse.getStrings().add( "c" );
+		em.getTransaction().commit();
+
+		// Revision 3
+		em.getTransaction().begin();
+		em.remove( em.find( StrTestEntity.class, ste2.getId() ) );
+		em.getTransaction().commit();
+
+		ste1_id = ste1.getId();
+		ste2_id = ste2.getId();
+		sse_id = sse.getId();
+	}
+
+	@Test
+	public void testAuditRowsBypassSession() {
+		// the audited entities and the revision entities are saved in the session, but not the audit rows
+		assertEquals( 0, insertListener.getAuditInsertCount() );
+		assertEquals( 6, insertListener.getOtherInsertCount() );
+	}
+
+	@Test
+	public void testUndoThroughWriter() {
+		EntityManager em = getEntityManager();
+		final SessionImplementor session = em.unwrap( SessionImplementor.class );
+		final EnversService enversService = session.getFactory()
+				.getServiceRegistry()
+				.getService( EnversService.class );
+		assertTrue( enversService.getConfig().isDirectAuditWriterEnabled() );
+
+		em.getTransaction().begin();
+		try {
+			final Object revision = session.get( enversService.getConfig().getRevisionInfo().getRevisionInfoEntityName(), 3 );
+			final Map<String, Object> data = new HashMap<>();
+			data.put( "str", "x3" );
+			final AddWorkUnit workUnit = new AddWorkUnit(
+					session,
+					StrTestEntity.class.getName(),
+					enversService,
+					ste1_id,
+					data
+			);
+
+			DirectAuditWriter writer = new DirectAuditWriter( session );
+			workUnit.perform( writer, revision );
+			writer.write();
+			assertEquals( 3, countAuditRows( em, ste1_id ) );
+
+			// the row written through the writer is not in the persistence context, so it is deleted through the writer
+			writer = new DirectAuditWriter( session );
+			workUnit.undo( writer );
+			writer.write();
+			assertEquals( 2, countAuditRows( em, ste1_id ) );
+		}
+		finally {
+			em.getTransaction().rollback();
+		}
+	}
+
+	@Test
+	public void testRevisionsCounts() {
+		assertEquals( Arrays.asList( 1, 2 ), getAuditReader().getRevisions( StrTestEntity.class, ste1_id ) );
+		assertEquals( Arrays.asList( 1, 3 ), getAuditReader().getRevisions( StrTestEntity.class, ste2_id ) );
+		assertEquals( Arrays.asList( 1, 2 ), getAuditReader().getRevisions( StringSetEntity.class, sse_id ) );
+	}
+
+	@Test
+	public void testHistoryOfEntities() {
+		assertEquals( new StrTestEntity( "x", ste1_id ), getAuditReader().find( StrTestEntity.class, ste1_id, 1 ) );
+		assertEquals( new StrTestEntity( "x2", ste1_id ), getAuditReader().find( StrTestEntity.class, ste1_id, 2 ) );
+		assertEquals( new StrTestEntity( "y", ste2_id ), getAuditReader().find( StrTestEntity.class, ste2_id, 2 ) );
+		assertNull( getAuditReader().find( StrTestEntity.class, ste2_id, 3 ) );
+	}
+
+	@Test
+	public void testHistoryOfCollection() {
+		assertEquals(
+				TestTools.makeSet( "a", "b" ),
+				getAuditReader().find( StringSetEntity.class, sse_id, 1 ).getStrings()
+		);
+		assertEquals(
+				TestTools.makeSet( "b", "c" ),
+				getAuditReader().find( StringSetEntity.class, sse_id, 2 ).getStrings()
+		);
+	}
+
+	private static int countAuditRows(EntityManager em, Integer id) {
+		return ( (Number) em.createNativeQuery( "select count(*) from STR_TEST_AUD where id = :id" )
+				.setParameter( "id", id )
+				.getSingleResult() ).intValue();
+	}
+
+	private static class CountingPostInsertListener implements PostInsertEventListener {
+		private final AtomicInteger auditInsertCount = new AtomicInteger();
+		private final AtomicInteger otherInsertCount = new AtomicInteger();
+
+		@Override
+		public void onPostInsert(PostInsertEvent event) {
+			if ( event.getPersister().getEntityName().endsWith( "_AUD" ) ) {
+				auditInsertCount.incrementAndGet();
+			}
+			else {
+				otherInsertCount.incrementAndGet();
+			}
+		}
+
+		@Override
+		public boolean requiresPostCommitHanding(EntityPersister persister) {
+			return false;
+		}
+
+		public int getAuditInsertCount() {
+			return auditInsertCount.get();
+		}
+
+		public int getOtherInsertCount() {
+			return otherInsertCount.get();
+		}
+	}
+}
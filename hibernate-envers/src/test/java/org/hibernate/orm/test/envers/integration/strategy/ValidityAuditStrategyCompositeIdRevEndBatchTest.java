@@ -0,0 +1,117 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.envers.integration.strategy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+import org.hibernate.orm.test.envers.entities.ids.EmbId;
+import org.hibernate.orm.test.envers.entities.ids.EmbIdTestEntity;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests that the previous revisions of entities with a composite identifier, which are restricted
+ * by a disjunction of the identifier columns, are ended by the set-based updates of the
+ * ValidityAuditStrategy.
+ */
+public class ValidityAuditStrategyCompositeIdRevEndBatchTest extends BaseEnversJPAFunctionalTestCase {
+	private static final int ENTITY_COUNT = 5;
+
+	private final List<EmbId> ids = new ArrayList<>();
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { EmbIdTestEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		options.put( EnversSettings.AUDIT_STRATEGY, "org.hibernate.envers.strategy.ValidityAuditStrategy" );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		EntityManager em = getEntityManager();
+
+		// Revision 1
+		em.getTransaction().begin();
+		for ( int i = 0; i < ENTITY_COUNT; i++ ) {
+			// the columns of the identifiers overlap, so that only the conjunction selects a single row
+			final EmbId id = new EmbId( i, ( i + 1 ) % ENTITY_COUNT );
+			em.persist( new EmbIdTestEntity( id, "a" + i ) );
+			ids.add( id );
+		}
+		em.getTransaction().commit();
+
+		// Revision 2
+		em.getTransaction().begin();
+		for ( int i = 0; i < ENTITY_COUNT; i++ ) {
+			em.find( EmbIdTestEntity.class, ids.get( i ) ).setStr1( "b" + i );
+		}
+		em.getTransaction().commit();
+
+		// Revision 3
+		em.getTransaction().begin();
+		for ( int i = 0; i < ENTITY_COUNT; i += 2 ) {
+			em.remove( em.find( EmbIdTestEntity.class, ids.get( i ) ) );
+		}
+		em.getTransaction().commit();
+
+		em.close();
+	}
+
+	@Test
+	public void testRevisionsCounts() {
+		for ( int i = 0; i < ENTITY_COUNT; i++ ) {
+			assertEquals(
+					i % 2 == 0 ? Arrays.asList( 1, 2, 3 ) : Arrays.asList( 1, 2 ),
+					getAuditReader().getRevisions( EmbIdTestEntity.class, ids.get( i ) )
+			);
+		}
+	}
+
+	@Test
+	public void testEntitiesAtRevision() {
+		// a previous revision which was not ended would be returned as well
+		assertEquals( ENTITY_COUNT, entitiesAtRevision( 1 ) );
+		assertEquals( ENTITY_COUNT, entitiesAtRevision( 2 ) );
+		assertEquals( ENTITY_COUNT / 2, entitiesAtRevision( 3 ) );
+	}
+
+	@Test
+	public void testHistory() {
+		for ( int i = 0; i < ENTITY_COUNT; i++ ) {
+			final EmbId id = ids.get( i );
+			assertEquals( new EmbIdTestEntity( id, "a" + i ), getAuditReader().find( EmbIdTestEntity.class, id, 1 ) );
+			assertEquals( new EmbIdTestEntity( id, "b" + i ), getAuditReader().find( EmbIdTestEntity.class, id, 2 ) );
+			if ( i % 2 == 0 ) {
+				assertNull( getAuditReader().find( EmbIdTestEntity.class, id, 3 ) );
+			}
+			else {
+				assertEquals( new EmbIdTestEntity( id, "b" + i ), getAuditReader().find( EmbIdTestEntity.class, id, 3 ) );
+			}
+		}
+	}
+
+	private int entitiesAtRevision(int revision) {
+		return getAuditReader().createQuery()
+				.forEntitiesAtRevision( EmbIdTestEntity.class, revision )
+				.getResultList()
+				.size();
+	}
+}
@@ -0,0 +1,103 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.envers.integration.strategy;
+
+import java.util.Arrays;
+import java.util.Map;
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+import org.hibernate.orm.test.envers.entities.IntNoAutoIdTestEntity;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests that the set-based updates of the ValidityAuditStrategy tolerate added entities without
+ * any previous revision, while ending the previous revisions of the reused identifiers.
+ */
+public class ValidityAuditStrategyIdentifierReuseRevEndBatchTest extends BaseEnversJPAFunctionalTestCase {
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { IntNoAutoIdTestEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		options.put( EnversSettings.AUDIT_STRATEGY, "org.hibernate.envers.strategy.ValidityAuditStrategy" );
+		options.put( EnversSettings.ALLOW_IDENTIFIER_REUSE, "true" );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		EntityManager em = getEntityManager();
+
+		// Revision 1
+		em.getTransaction().begin();
+		for ( int id = 1; id <= 4; id++ ) {
+			em.persist( new IntNoAutoIdTestEntity( 0, id ) );
+		}
+		em.getTransaction().commit();
+
+		// Revision 2
+		em.getTransaction().begin();
+		em.remove( em.find( IntNoAutoIdTestEntity.class, 1 ) );
+		em.remove( em.find( IntNoAutoIdTestEntity.class, 2 ) );
+		em.getTransaction().commit();
+
+		// Revision 3 - reusing the identifiers 1 and 2, and adding the new identifiers 5 and 6
+		em.getTransaction().begin();
+		for ( int id = 1; id <= 6; id++ ) {
+			if ( id == 3 || id == 4 ) {
+				em.find( IntNoAutoIdTestEntity.class, id ).setNumVal( 3 );
+			}
+			else {
+				em.persist( new IntNoAutoIdTestEntity( 3, id ) );
+			}
+		}
+		em.getTransaction().commit();
+
+		em.close();
+	}
+
+	@Test
+	public void testRevisionsCounts() {
+		assertEquals( Arrays.asList( 1, 2, 3 ), getAuditReader().getRevisions( IntNoAutoIdTestEntity.class, 1 ) );
+		assertEquals( Arrays.asList( 1, 2, 3 ), getAuditReader().getRevisions( IntNoAutoIdTestEntity.class, 2 ) );
+		assertEquals( Arrays.asList( 1, 3 ), getAuditReader().getRevisions( IntNoAutoIdTestEntity.class, 3 ) );
+		assertEquals( Arrays.asList( 3 ), getAuditReader().getRevisions( IntNoAutoIdTestEntity.class, 5 ) );
+	}
+
+	@Test
+	public void testPreviousRevisionsEnded() {
+		EntityManager em = getEntityManager();
+		// exactly one revision of each identifier is left without an end revision
+		final Number openRevisions = (Number) em.createNativeQuery(
+				"select count(*) from IntNoAutoIdTestEntity_AUD where REVEND is null"
+		).getSingleResult();
+		em.close();
+		assertEquals( 6, openRevisions.intValue() );
+	}
+
+	@Test
+	public void testEntitiesAtRevision() {
+		assertEquals( 4, entitiesAtRevision( 1 ) );
+		assertEquals( 2, entitiesAtRevision( 2 ) );
+		assertEquals( 6, entitiesAtRevision( 3 ) );
+	}
+
+	private int entitiesAtRevision(int revision) {
+		return getAuditReader().createQuery()
+				.forEntitiesAtRevision( IntNoAutoIdTestEntity.class, revision )
+				.getResultList()
+				.size();
+	}
+}
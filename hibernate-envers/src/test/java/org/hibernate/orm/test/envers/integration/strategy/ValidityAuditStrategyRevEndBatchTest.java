@@ -0,0 +1,129 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.envers.integration.strategy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+import org.hibernate.orm.test.envers.entities.StrIntTestEntity;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests that the previous revisions of many entities modified in the same transaction are all
+ * ended by the set-based updates of the ValidityAuditStrategy, including when the identifiers
+ * are split across several updates.
+ */
+public class ValidityAuditStrategyRevEndBatchTest extends BaseEnversJPAFunctionalTestCase {
+	// more than twice the number of identifiers bound to a single update
+	private static final int ENTITY_COUNT = 1010;
+
+	// the first and last entities, and those around the boundaries of the updates
+	private static final int[] SAMPLE_INDEXES = { 0, 1, 498, 499, 500, 501, 998, 999, 1000, 1001, 1008, 1009 };
+
+	private final List<Integer> ids = new ArrayList<>();
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { StrIntTestEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		options.put( EnversSettings.AUDIT_STRATEGY, "org.hibernate.envers.strategy.ValidityAuditStrategy" );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		EntityManager em = getEntityManager();
+
+		// Revision 1
+		em.getTransaction().begin();
+		for ( int i = 0; i < ENTITY_COUNT; i++ ) {
+			final StrIntTestEntity entity = new StrIntTestEntity( "a" + i, i );
+			em.persist( entity );
+			ids.add( entity.getId() );
+		}
+		em.getTransaction().commit();
+
+		// Revision 2
+		em.getTransaction().begin();
+		for ( Integer id : ids ) {
+			em.find( StrIntTestEntity.class, id ).setStr1( "b" + id );
+		}
+		em.getTransaction().commit();
+
+		// Revision 3
+		em.getTransaction().begin();
+		for ( int i = 0; i < ENTITY_COUNT; i += 2 ) {
+			em.remove( em.find( StrIntTestEntity.class, ids.get( i ) ) );
+		}
+		em.getTransaction().commit();
+
+		em.close();
+	}
+
+	@Test
+	public void testEntitiesAtRevision() {
+		// a previous revision which was not ended would be returned as well
+		assertEquals( ENTITY_COUNT, entitiesAtRevision( 1 ) );
+		assertEquals( ENTITY_COUNT, entitiesAtRevision( 2 ) );
+		assertEquals( ENTITY_COUNT / 2, entitiesAtRevision( 3 ) );
+	}
+
+	@Test
+	public void testRevisionsCounts() {
+		for ( int i : SAMPLE_INDEXES ) {
+			assertEquals(
+					i % 2 == 0 ? Arrays.asList( 1, 2, 3 ) : Arrays.asList( 1, 2 ),
+					getAuditReader().getRevisions( StrIntTestEntity.class, ids.get( i ) )
+			);
+		}
+	}
+
+	@Test
+	public void testHistory() {
+		for ( int i : SAMPLE_INDEXES ) {
+			final Integer id = ids.get( i );
+			// a single row is valid at each revision, as the previous ones were ended
+			assertEquals(
+					new StrIntTestEntity( "a" + i, i, id ),
+					getAuditReader().find( StrIntTestEntity.class, id, 1 )
+			);
+			assertEquals(
+					new StrIntTestEntity( "b" + id, i, id ),
+					getAuditReader().find( StrIntTestEntity.class, id, 2 )
+			);
+			if ( i % 2 == 0 ) {
+				assertNull( getAuditReader().find( StrIntTestEntity.class, id, 3 ) );
+			}
+			else {
+				assertEquals(
+						new StrIntTestEntity( "b" + id, i, id ),
+						getAuditReader().find( StrIntTestEntity.class, id, 3 )
+				);
+			}
+		}
+	}
+
+	private int entitiesAtRevision(int revision) {
+		return getAuditReader().createQuery()
+				.forEntitiesAtRevision( StrIntTestEntity.class, revision )
+				.getResultList()
+				.size();
+	}
+}
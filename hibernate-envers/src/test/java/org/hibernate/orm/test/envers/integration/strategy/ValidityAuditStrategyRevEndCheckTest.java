@@ -0,0 +1,77 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.envers.integration.strategy;
+
+import java.util.Map;
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.exception.AuditException;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.entities.IntNoAutoIdTestEntity;
+
+import org.junit.Test;
+
+import static org.hibernate.testing.junit4.ExtraAssertions.assertTyping;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests that the set-based updates of the ValidityAuditStrategy still require exactly one previous
+ * revision for each of the modified entities, even when the total number of updated rows matches.
+ */
+public class ValidityAuditStrategyRevEndCheckTest extends BaseEnversJPAFunctionalTestCase {
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { IntNoAutoIdTestEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		options.put( EnversSettings.AUDIT_STRATEGY, "org.hibernate.envers.strategy.ValidityAuditStrategy" );
+	}
+
+	@Test
+	public void testMissingAndDuplicatePreviousRevisions() {
+		EntityManager em = getEntityManager();
+
+		em.getTransaction().begin();
+		em.persist( new IntNoAutoIdTestEntity( 0, 1 ) );
+		em.persist( new IntNoAutoIdTestEntity( 0, 2 ) );
+		em.getTransaction().commit();
+
+		em.getTransaction().begin();
+		em.find( IntNoAutoIdTestEntity.class, 1 ).setNumVal( 1 );
+		em.getTransaction().commit();
+
+		// two open revisions for the first entity, and none for the second one
+		em.getTransaction().begin();
+		em.createNativeQuery( "update IntNoAutoIdTestEntity_AUD set REVEND = null where id = 1" ).executeUpdate();
+		em.createNativeQuery( "delete from IntNoAutoIdTestEntity_AUD where id = 2" ).executeUpdate();
+		em.getTransaction().commit();
+
+		em.getTransaction().begin();
+		em.find( IntNoAutoIdTestEntity.class, 1 ).setNumVal( 2 );
+		em.find( IntNoAutoIdTestEntity.class, 2 ).setNumVal( 2 );
+		try {
+			em.getTransaction().commit();
+			fail( "This should have generated an AuditException" );
+		}
+		catch ( Exception e ) {
+			Throwable root = e;
+			while ( root.getCause() != null ) {
+				root = root.getCause();
+			}
+			assertTyping( AuditException.class, root );
+		}
+		finally {
+			if ( em.getTransaction().isActive() ) {
+				em.getTransaction().rollback();
+			}
+			em.close();
+		}
+	}
+}